@@ -0,0 +1,73 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.actionbar.ActionBarHandler;
+import com.wynntils.models.characterstats.actionbar.matchers.HealthBarSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.HealthTextSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.HotbarSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.LevelSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.ManaBarSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.ManaTextSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.MeterBarSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.MeterEdgeAnimationSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.MeterStateAnimationSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.PowderSpecialSegmentMatcher;
+import com.wynntils.models.spells.actionbar.matchers.SpellSegmentMatcher;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Splitting action bars into segments, with the matchers registered by the models.
+ * The action bar is sent a few times every second, and mostly changes in one segment at a time.
+ */
+@State(Scope.Thread)
+public class ActionBarBenchmark {
+    private ActionBarHandler actionBarHandler;
+    private List<StyledText> actionBars;
+    private int nextActionBar = 0;
+
+    @Setup
+    public void setup() {
+        BenchmarkCorpus.bootstrap();
+
+        // In the order of CharacterStatsModel and SpellModel
+        actionBarHandler = new ActionBarHandler();
+        actionBarHandler.registerSegment(new HotbarSegmentMatcher());
+        actionBarHandler.registerSegment(new MeterBarSegmentMatcher());
+        actionBarHandler.registerSegment(new MeterEdgeAnimationSegmentMatcher());
+        actionBarHandler.registerSegment(new MeterStateAnimationSegmentMatcher());
+        actionBarHandler.registerSegment(new LevelSegmentMatcher());
+        actionBarHandler.registerSegment(new ManaBarSegmentMatcher());
+        actionBarHandler.registerSegment(new HealthBarSegmentMatcher());
+        actionBarHandler.registerSegment(new ManaTextSegmentMatcher());
+        actionBarHandler.registerSegment(new HealthTextSegmentMatcher());
+        actionBarHandler.registerSegment(new PowderSpecialSegmentMatcher());
+        actionBarHandler.registerSegment(new SpellSegmentMatcher());
+
+        actionBars = BenchmarkCorpus.load(BenchmarkCorpus.ACTION_BARS).stream()
+                .map(StyledText::fromString)
+                .toList();
+    }
+
+    @Benchmark
+    public void parseChangingActionBar(Blackhole blackhole) {
+        // Every action bar differs from the one before it
+        StyledText actionBar = actionBars.get(nextActionBar);
+        nextActionBar = (nextActionBar + 1) % actionBars.size();
+
+        blackhole.consume(actionBarHandler.parseActionBarSegments(actionBar));
+    }
+
+    @Benchmark
+    public void parseUnchangedActionBar(Blackhole blackhole) {
+        blackhole.consume(actionBarHandler.parseActionBarSegments(actionBars.getFirst()));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * The recorded inputs of the benchmarks, one per line, in {@code src/jmh/resources/corpus}.
+ * <p>
+ * chat_lines are the lines collected in TestRegex. action_bars, encoded_items and item_tooltips are recorded
+ * from packet captures made on Wynncraft with {@link BenchmarkCorpusRecorder}. Item tooltips are separated by a
+ * line of {@value #BLOCK_SEPARATOR}.
+ * <p>
+ * Until a capture is recorded, these three are placeholders: action_bars are put together from the glyphs of the
+ * action bar segment matchers, encoded_items are laid out in blocks like encoded gear items, and item_tooltips are
+ * written in the lore format of WynnItemParser.
+ */
+public final class BenchmarkCorpus {
+    public static final String CHAT_LINES = "chat_lines";
+    public static final String ITEM_TOOLTIPS = "item_tooltips";
+    public static final String ACTION_BARS = "action_bars";
+    public static final String ENCODED_ITEMS = "encoded_items";
+
+    static final String BLOCK_SEPARATOR = "---";
+
+    private BenchmarkCorpus() {}
+
+    public static List<String> load(String name) {
+        return readLines(name).stream().filter(line -> !line.isEmpty()).toList();
+    }
+
+    /**
+     * Loads a corpus of blocks of lines, like item tooltips. Empty lines are kept, as they are a part of the block.
+     */
+    public static List<List<String>> loadBlocks(String name) {
+        List<List<String>> blocks = new ArrayList<>();
+        List<String> block = new ArrayList<>();
+
+        for (String line : readLines(name)) {
+            if (line.equals(BLOCK_SEPARATOR)) {
+                blocks.add(List.copyOf(block));
+                block.clear();
+            } else {
+                block.add(line);
+            }
+        }
+
+        if (!block.isEmpty()) {
+            blocks.add(List.copyOf(block));
+        }
+
+        return blocks;
+    }
+
+    /**
+     * Bootstraps Minecraft, like the unit tests do, so components and styles can be created.
+     */
+    public static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private static List<String> readLines(String name) {
+        try (InputStream inputStream = BenchmarkCorpus.class.getResourceAsStream("/corpus/" + name + ".txt")) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Missing benchmark corpus " + name);
+            }
+
+            return IOUtils.readLines(inputStream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.components.Models;
+import com.wynntils.core.text.StyledText;
+import com.wynntils.models.items.encoding.type.DataTransformerType;
+import com.wynntils.models.wynnitem.parsing.WynnItemParser;
+import com.wynntils.services.packetcapture.HeadlessPacketReplay;
+import com.wynntils.services.packetcapture.PacketCaptureReader;
+import com.wynntils.services.packetcapture.type.ReplayResult;
+import com.wynntils.utils.EncodedByteBuffer;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import net.minecraft.network.protocol.game.ClientboundContainerSetContentPacket;
+import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
+import net.minecraft.network.protocol.game.ClientboundSetActionBarTextPacket;
+import net.minecraft.network.protocol.game.ClientboundSystemChatPacket;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.component.ItemLore;
+
+/**
+ * Records the action_bars, encoded_items and item_tooltips corpora from a packet capture made on Wynncraft with
+ * "/wynntils debug capture". Every distinct action bar, shared item and gear tooltip of the capture is written
+ * once, in the order they were received.
+ * <p>
+ * Run it with "./gradlew :benchmarks:recordCorpus -PcaptureFile=&lt;file&gt;".
+ */
+public final class BenchmarkCorpusRecorder {
+    private final Set<String> actionBars = new LinkedHashSet<>();
+    private final Set<String> encodedItems = new LinkedHashSet<>();
+    private final Set<List<String>> itemTooltips = new LinkedHashSet<>();
+
+    private BenchmarkCorpusRecorder() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2 || args[0].isEmpty()) {
+            throw new IllegalArgumentException("Usage: BenchmarkCorpusRecorder <capture file> <corpus directory>");
+        }
+
+        BenchmarkCorpus.bootstrap();
+
+        HeadlessPacketReplay replay;
+        try (PacketCaptureReader reader =
+                new PacketCaptureReader(new BufferedInputStream(new FileInputStream(args[0])))) {
+            replay = new HeadlessPacketReplay(
+                    reader, RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY));
+        }
+
+        BenchmarkCorpusRecorder recorder = new BenchmarkCorpusRecorder();
+        ReplayResult result = replay.replay(recorder::record, () -> {});
+        if (!result.failures().isEmpty()) {
+            System.err.println(result.failures().size() + " packets could not be read, the first failure was:");
+            result.failures().getFirst().printStackTrace();
+        }
+
+        File corpusDir = new File(args[1]);
+        write(corpusDir, BenchmarkCorpus.ACTION_BARS, List.copyOf(recorder.actionBars));
+        write(corpusDir, BenchmarkCorpus.ENCODED_ITEMS, List.copyOf(recorder.encodedItems));
+
+        List<String> tooltipLines = new ArrayList<>();
+        for (List<String> tooltip : recorder.itemTooltips) {
+            if (!tooltipLines.isEmpty()) {
+                tooltipLines.add(BenchmarkCorpus.BLOCK_SEPARATOR);
+            }
+            tooltipLines.addAll(tooltip);
+        }
+        write(corpusDir, BenchmarkCorpus.ITEM_TOOLTIPS, tooltipLines);
+
+        System.out.println("Recorded " + recorder.actionBars.size() + " action bars, " + recorder.encodedItems.size()
+                + " encoded items and " + recorder.itemTooltips.size() + " item tooltips from "
+                + result.replayedCount() + " packets");
+    }
+
+    private void record(Packet<? super ClientGamePacketListener> packet) {
+        switch (packet) {
+            case ClientboundBundlePacket bundlePacket -> bundlePacket.subPackets().forEach(this::record);
+            case ClientboundSetActionBarTextPacket actionBarPacket -> recordActionBar(actionBarPacket.text());
+            case ClientboundSystemChatPacket chatPacket -> {
+                if (chatPacket.overlay()) {
+                    recordActionBar(chatPacket.content());
+                } else {
+                    recordEncodedItems(chatPacket.content());
+                }
+            }
+            case ClientboundContainerSetContentPacket contentPacket -> {
+                contentPacket.getItems().forEach(this::recordTooltip);
+            }
+            case ClientboundContainerSetSlotPacket slotPacket -> recordTooltip(slotPacket.getItem());
+            default -> {}
+        }
+    }
+
+    private void recordActionBar(Component text) {
+        String actionBar = StyledText.fromComponent(text).getString();
+        if (!actionBar.isEmpty()) {
+            actionBars.add(actionBar);
+        }
+    }
+
+    private void recordEncodedItems(Component message) {
+        Matcher matcher = Models.ItemEncoding.getEncodedDataPattern().matcher(message.getString());
+        while (matcher.find()) {
+            // Other private use characters, like the glyphs of chat badges, are not items
+            String data = matcher.group("data");
+            byte[] bytes = EncodedByteBuffer.fromUtf16String(data).getBytes();
+            if (bytes.length > 0 && bytes[0] == DataTransformerType.START_DATA_TRANSFORMER.getId()) {
+                encodedItems.add(data);
+            }
+        }
+    }
+
+    private void recordTooltip(ItemStack itemStack) {
+        ItemLore lore = itemStack.get(DataComponents.LORE);
+        if (lore == null) return;
+
+        // Like the tooltip lines the parser gets in game, the name and the lore
+        List<Component> tooltip = new ArrayList<>();
+        tooltip.add(itemStack.getHoverName());
+        tooltip.addAll(lore.lines());
+
+        // Only gear tooltips, as those are the ones which are parsed
+        if (WynnItemParser.parseTooltip(tooltip, null).tier() == null) return;
+
+        itemTooltips.add(tooltip.stream()
+                .map(line -> StyledText.fromComponent(line).getString())
+                .toList());
+    }
+
+    private static void write(File corpusDir, String name, List<String> lines) throws IOException {
+        Files.write(new File(corpusDir, name + ".txt").toPath(), lines, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.chat.ChatHandler;
+import com.wynntils.handlers.chat.ChatHandlerAccess;
+import com.wynntils.handlers.chat.type.MessageType;
+import java.util.List;
+import net.minecraft.network.chat.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Classifying incoming chat lines by recipient with {@link ChatHandler#getRecipientType}, as for every chat message.
+ */
+@State(Scope.Thread)
+public class ChatClassificationBenchmark {
+    private List<StyledText> styledLines;
+    private List<Component> components;
+
+    @Setup
+    public void setup() {
+        BenchmarkCorpus.bootstrap();
+
+        styledLines = BenchmarkCorpus.load(BenchmarkCorpus.CHAT_LINES).stream()
+                .map(StyledText::fromString)
+                .toList();
+        components = styledLines.stream().map(StyledText::getComponent).toList();
+    }
+
+    @Benchmark
+    public void classifyForeground(Blackhole blackhole) {
+        for (StyledText line : styledLines) {
+            blackhole.consume(ChatHandlerAccess.getRecipientType(line, MessageType.FOREGROUND));
+        }
+    }
+
+    @Benchmark
+    public void classifyBackground(Blackhole blackhole) {
+        for (StyledText line : styledLines) {
+            blackhole.consume(ChatHandlerAccess.getRecipientType(line, MessageType.BACKGROUND));
+        }
+    }
+
+    @Benchmark
+    public void convertAndClassify(Blackhole blackhole) {
+        // The full path of a new chat message, from the received component to its recipient type
+        for (Component component : components) {
+            StyledText line = StyledText.fromComponent(component.copy());
+            blackhole.consume(ChatHandlerAccess.getRecipientType(line, MessageType.FOREGROUND));
+        }
+    }
+}
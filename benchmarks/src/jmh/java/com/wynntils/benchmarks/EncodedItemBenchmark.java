@@ -0,0 +1,65 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.utils.EncodedByteBuffer;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Converting encoded items between the chat representation (private use area characters), bytes and base64.
+ * Shared items are decoded for every chat line they are in, and encoded when they are shared or saved.
+ */
+@State(Scope.Thread)
+public class EncodedItemBenchmark {
+    private List<String> utf16Items;
+    private List<byte[]> itemBytes;
+    private List<String> base64Items;
+
+    @Setup
+    public void setup() {
+        BenchmarkCorpus.bootstrap();
+
+        utf16Items = BenchmarkCorpus.load(BenchmarkCorpus.ENCODED_ITEMS);
+        itemBytes = utf16Items.stream()
+                .map(item -> EncodedByteBuffer.fromUtf16String(item).getBytes())
+                .toList();
+        base64Items = itemBytes.stream()
+                .map(bytes -> EncodedByteBuffer.fromBytes(bytes).toBase64String())
+                .toList();
+    }
+
+    @Benchmark
+    public void decodeUtf16(Blackhole blackhole) {
+        for (String item : utf16Items) {
+            blackhole.consume(EncodedByteBuffer.fromUtf16String(item).getBytes());
+        }
+    }
+
+    @Benchmark
+    public void encodeUtf16(Blackhole blackhole) {
+        for (byte[] bytes : itemBytes) {
+            blackhole.consume(EncodedByteBuffer.fromBytes(bytes).toUtf16String());
+        }
+    }
+
+    @Benchmark
+    public void decodeBase64(Blackhole blackhole) {
+        for (String item : base64Items) {
+            blackhole.consume(EncodedByteBuffer.fromBase64String(item).getBytes());
+        }
+    }
+
+    @Benchmark
+    public void encodeBase64(Blackhole blackhole) {
+        for (byte[] bytes : itemBytes) {
+            blackhole.consume(EncodedByteBuffer.fromBytes(bytes).toBase64String());
+        }
+    }
+}
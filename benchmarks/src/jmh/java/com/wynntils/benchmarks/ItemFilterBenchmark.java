@@ -0,0 +1,131 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.models.items.items.game.AmplifierItem;
+import com.wynntils.models.items.items.game.GatheringToolItem;
+import com.wynntils.models.profession.type.ToolProfile;
+import com.wynntils.services.itemfilter.ItemFilterService;
+import com.wynntils.services.itemfilter.ItemStatIndex;
+import com.wynntils.services.itemfilter.type.ItemProviderType;
+import com.wynntils.services.itemfilter.type.ItemSearchQuery;
+import com.wynntils.utils.StringUtils;
+import com.wynntils.utils.type.CappedValue;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Searching a list of items, like the item guides, with {@link ItemFilterService#filterAndSort} and with an
+ * {@link ItemStatIndex}. Every operation runs all queries.
+ * <p>
+ * The fixture items are gathering tools and amplifiers, whose stats do not need the gear database. There are no item
+ * annotations without the mod loader, so the Wynncraft items are looked up in a map instead.
+ */
+@State(Scope.Thread)
+public class ItemFilterBenchmark {
+    // Seeded, so every run searches the same items
+    private static final long ITEM_SEED = 20260101L;
+    private static final int ITEM_COUNT = 2000;
+
+    private static final List<String> QUERIES = List.of(
+            "tier:2",
+            "tier:2-3 durability:<50",
+            "pickaxe",
+            "axe tier:>=3",
+            "sort:tier",
+            "tier:1,4 sort:^durability",
+            "sort:tier,^durability");
+
+    private final Map<ItemStack, WynnItem> wynnItems = new IdentityHashMap<>();
+
+    private ItemFilterService itemFilterService;
+    private List<ItemStack> items;
+    private List<ItemSearchQuery> searchQueries;
+    private ItemStatIndex<ItemStack> builtIndex;
+
+    @Setup
+    public void setup() {
+        BenchmarkCorpus.bootstrap();
+
+        // A service of our own, as the registered Services can't be created without the game
+        itemFilterService = new ItemFilterService();
+
+        Random random = new Random(ITEM_SEED);
+        ToolProfile.ToolType[] toolTypes = ToolProfile.ToolType.values();
+        items = new ArrayList<>(ITEM_COUNT);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            if (i % 10 == 0) {
+                int tier = random.nextInt(1, 4);
+                items.add(createItem("Amplifier " + "I".repeat(tier), new AmplifierItem(tier)));
+                continue;
+            }
+
+            ToolProfile.ToolType toolType = toolTypes[random.nextInt(toolTypes.length)];
+            int tier = random.nextInt(1, 14);
+            int durability = random.nextInt(1, 101);
+            String name = StringUtils.capitalized(toolType.name()) + " T" + tier;
+            items.add(createItem(
+                    name, new GatheringToolItem(new ToolProfile(toolType, tier), new CappedValue(durability, 100))));
+        }
+
+        searchQueries = QUERIES.stream()
+                .map(query -> itemFilterService.createSearchQuery(query, true, List.of(ItemProviderType.values())))
+                .toList();
+
+        // An index which already has the columns of all queries, like after the first searches in a guide
+        builtIndex = new ItemStatIndex<>(items, this::getWynnItem);
+        for (ItemSearchQuery searchQuery : searchQueries) {
+            builtIndex.filterAndSort(searchQuery);
+        }
+    }
+
+    @Benchmark
+    public void filterAndSort(Blackhole blackhole) {
+        for (ItemSearchQuery searchQuery : searchQueries) {
+            blackhole.consume(itemFilterService.filterAndSort(searchQuery, items, this::getWynnItem));
+        }
+    }
+
+    @Benchmark
+    public void filterAndSortNewIndex(Blackhole blackhole) {
+        // Every column is built once, by the first query which uses it
+        ItemStatIndex<ItemStack> statIndex = new ItemStatIndex<>(items, this::getWynnItem);
+        for (ItemSearchQuery searchQuery : searchQueries) {
+            blackhole.consume(statIndex.filterAndSort(searchQuery));
+        }
+    }
+
+    @Benchmark
+    public void filterAndSortBuiltIndex(Blackhole blackhole) {
+        for (ItemSearchQuery searchQuery : searchQueries) {
+            blackhole.consume(builtIndex.filterAndSort(searchQuery));
+        }
+    }
+
+    private ItemStack createItem(String name, WynnItem wynnItem) {
+        ItemStack itemStack = new ItemStack(Items.STONE);
+        itemStack.set(DataComponents.CUSTOM_NAME, Component.literal(name));
+        wynnItems.put(itemStack, wynnItem);
+        return itemStack;
+    }
+
+    private Optional<WynnItem> getWynnItem(ItemStack itemStack) {
+        return Optional.ofNullable(wynnItems.get(itemStack));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.text.StyledText;
+import com.wynntils.models.wynnitem.parsing.WynnItemParser;
+import java.util.List;
+import net.minecraft.network.chat.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing gear tooltips with {@link WynnItemParser#parseTooltip}, as for every gear item that is annotated.
+ * <p>
+ * The parser looks up the stats, sets and shiny stats in the Models, which are created on first use. There are
+ * no possible values, like for gear that is not in the gear database.
+ */
+@State(Scope.Thread)
+public class ItemLoreBenchmark {
+    private List<List<Component>> tooltips;
+
+    @Setup
+    public void setup() {
+        BenchmarkCorpus.bootstrap();
+
+        tooltips = BenchmarkCorpus.loadBlocks(BenchmarkCorpus.ITEM_TOOLTIPS).stream()
+                .map(lines -> lines.stream()
+                        .map(line -> StyledText.fromString(line).getComponent())
+                        .toList())
+                .toList();
+
+        // Create the Models outside of the measurements
+        WynnItemParser.parseTooltip(tooltips.getFirst(), null);
+    }
+
+    @Benchmark
+    public void parseTooltip(Blackhole blackhole) {
+        // Tooltips are rebuilt when hovered, so the lines are new components every time
+        for (List<Component> tooltip : tooltips) {
+            List<Component> tooltipLines = tooltip.stream().<Component>map(Component::copy).toList();
+            blackhole.consume(WynnItemParser.parseTooltip(tooltipLines, null));
+        }
+    }
+
+    @Benchmark
+    public void parseCachedTooltip(Blackhole blackhole) {
+        // The same lines again, like an item stack that is parsed again without changes
+        for (List<Component> tooltip : tooltips) {
+            blackhole.consume(WynnItemParser.parseTooltip(tooltip, null));
+        }
+    }
+}
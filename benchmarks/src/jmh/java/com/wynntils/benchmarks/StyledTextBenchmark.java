@@ -0,0 +1,87 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.text.PartStyle;
+import com.wynntils.core.text.StyledText;
+import java.util.List;
+import net.minecraft.network.chat.Component;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Converting chat lines between coded strings, components and styled texts.
+ * Each operation converts the whole corpus.
+ */
+@State(Scope.Thread)
+public class StyledTextBenchmark {
+    private List<String> codedLines;
+    private List<StyledText> styledLines;
+    private List<Component> components;
+
+    @Setup
+    public void setup() {
+        BenchmarkCorpus.bootstrap();
+
+        codedLines = BenchmarkCorpus.load(BenchmarkCorpus.CHAT_LINES);
+        styledLines = codedLines.stream().map(StyledText::fromString).toList();
+        components = styledLines.stream().map(StyledText::getComponent).toList();
+    }
+
+    @Benchmark
+    public void fromString(Blackhole blackhole) {
+        for (String line : codedLines) {
+            blackhole.consume(StyledText.fromString(line));
+        }
+    }
+
+    @Benchmark
+    public void fromComponent(Blackhole blackhole) {
+        // The same components every time, like unchanged lore lines and labels
+        for (Component component : components) {
+            blackhole.consume(StyledText.fromComponent(component));
+        }
+    }
+
+    @Benchmark
+    public void fromNewComponent(Blackhole blackhole) {
+        // New components every time, like incoming chat messages
+        for (Component component : components) {
+            blackhole.consume(StyledText.fromComponent(component.copy()));
+        }
+    }
+
+    @Benchmark
+    public void getComponent(Blackhole blackhole) {
+        for (StyledText line : styledLines) {
+            blackhole.consume(line.getComponent());
+        }
+    }
+
+    @Benchmark
+    public void getStringWithoutFormatting(Blackhole blackhole) {
+        // Fresh texts, as the string representations are cached per text
+        for (String line : codedLines) {
+            blackhole.consume(StyledText.fromString(line).getStringWithoutFormatting());
+        }
+    }
+
+    @Benchmark
+    public void getNormalized(Blackhole blackhole) {
+        for (String line : codedLines) {
+            blackhole.consume(StyledText.fromString(line).getNormalized());
+        }
+    }
+
+    @Benchmark
+    public void getStringDefault(Blackhole blackhole) {
+        for (String line : codedLines) {
+            blackhole.consume(StyledText.fromString(line).getString(PartStyle.StyleType.DEFAULT));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.consumers.functions.FunctionManager;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Formatting templates with {@link FunctionManager#doFormatLines}, as for every info box and custom bar every frame.
+ * <p>
+ * The managers are our own, with all functions registered, as the registered Managers can't be created without the
+ * game. The templates only use generic functions, which don't need the game either.
+ */
+@State(Scope.Thread)
+public class TemplateBenchmark {
+    // Like the templates of the info boxes, with escapes, color codes and nested functions
+    private static final List<String> TEMPLATES = List.of(
+            "&c\\H {str(int(mul(div(1500;3000);100)))}%",
+            "{format_capped(capped(1500;3000))} &7({pct(capped(1500;3000)):0}%)",
+            "{if_str(gt(add(12;30);40);\"&aReady\";\"&cWaiting\")} {leading_zeros(7;3)}",
+            "&6Emeralds: &f{round(div(mul(4096;3);64);1)}\\E\\n&6Blocks: &f{int(div(4096;64))}\\B",
+            "{concat(\"&b\";repeat(\"|\";12);\"&8\";repeat(\"|\";8))}");
+
+    private FunctionManager functionManager;
+
+    @Setup
+    public void setup() {
+        BenchmarkCorpus.bootstrap();
+
+        // Compile every template once, like overlays after their first frame
+        functionManager = createFunctionManager();
+        for (String template : TEMPLATES) {
+            functionManager.doFormatLines(template);
+        }
+    }
+
+    @Benchmark
+    public void formatCompiledTemplates(Blackhole blackhole) {
+        for (String template : TEMPLATES) {
+            blackhole.consume(functionManager.doFormatLines(template));
+        }
+    }
+
+    @Benchmark
+    public void compileTemplates(NewFunctionManager newFunctionManager, Blackhole blackhole) {
+        // Escaping, parsing and calculating every template, like right after the templates were edited
+        for (String template : TEMPLATES) {
+            blackhole.consume(newFunctionManager.functionManager.doFormatLines(template));
+        }
+    }
+
+    private static FunctionManager createFunctionManager() {
+        FunctionManager functionManager = new FunctionManager();
+        functionManager.init();
+        return functionManager;
+    }
+
+    /**
+     * A manager without compiled templates or parsed expressions for every invocation.
+     */
+    @State(Scope.Thread)
+    public static class NewFunctionManager {
+        private FunctionManager functionManager;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            functionManager = createFunctionManager();
+        }
+    }
+}
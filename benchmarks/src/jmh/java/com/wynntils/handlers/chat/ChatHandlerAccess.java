@@ -0,0 +1,20 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.chat;
+
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.chat.type.MessageType;
+import com.wynntils.handlers.chat.type.RecipientType;
+
+/**
+ * Gives the benchmarks access to the package-private parts of {@link ChatHandler}.
+ */
+public final class ChatHandlerAccess {
+    private ChatHandlerAccess() {}
+
+    public static RecipientType getRecipientType(StyledText codedMessage, MessageType messageType) {
+        return ChatHandler.getRecipientType(codedMessage, messageType);
+    }
+}
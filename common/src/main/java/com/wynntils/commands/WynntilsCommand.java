@@ -1,29 +1,46 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.commands;
 
+import com.google.common.cache.CacheStats;
+import com.mojang.brigadier.arguments.FloatArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Services;
 import com.wynntils.core.consumers.commands.Command;
+import com.wynntils.core.events.EventProfiler;
 import com.wynntils.core.net.ApiResponse;
 import com.wynntils.core.net.UrlId;
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.chat.ChatMatcherGroup;
 import com.wynntils.screens.base.WynntilsMenuScreenBase;
 import com.wynntils.screens.downloads.DownloadScreen;
 import com.wynntils.screens.wynntilsmenu.WynntilsMenuScreen;
 import com.wynntils.services.athena.UpdateService;
 import com.wynntils.utils.FileUtils;
 import com.wynntils.utils.mc.McUtils;
+import com.wynntils.utils.type.Pair;
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -34,15 +51,23 @@ import net.minecraft.ChatFormatting;
 import net.minecraft.commands.CommandBuildContext;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
+import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.network.chat.ClickEvent;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.HoverEvent;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.Style;
+import org.apache.commons.lang3.StringUtils;
 
 public class WynntilsCommand extends Command {
     private static final Pattern STATUS_HEADING = Pattern.compile("<h1 class='status-page__title'>(.*)</h1>");
 
+    private static final DateTimeFormatter EXPORT_FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+    private static final SuggestionProvider<CommandSourceStack> CAPTURE_FILE_SUGGESTION_PROVIDER =
+            (context, builder) ->
+                    SharedSuggestionProvider.suggest(Services.PacketCapture.getCaptureFileNames(), builder);
+
     public void registerWithCommands(
             Consumer<LiteralArgumentBuilder<CommandSourceStack>> consumer,
             CommandBuildContext context,
@@ -76,7 +101,30 @@ public class WynntilsCommand extends Command {
                         .then(Commands.literal("profile")
                                 .then(Commands.literal("reset").executes(this::profileReset))
                                 .then(Commands.literal("showAnnotations").executes(this::profileShowAnnotations))
-                                .then(Commands.literal("showOverlays").executes(this::profileShowOverlays))))
+                                .then(Commands.literal("showLabels").executes(this::profileShowLabels))
+                                .then(Commands.literal("showOverlays").executes(this::profileShowOverlays)))
+                        .then(Commands.literal("chatMatchers")
+                                .then(Commands.literal("reset").executes(this::chatMatchersReset))
+                                .executes(this::chatMatchersShow))
+                        .then(Commands.literal("scoreboard").executes(this::debugScoreboard))
+                        .then(Commands.literal("textCache").executes(this::debugTextCache))
+                        .then(Commands.literal("events")
+                                .then(Commands.literal("start").executes(this::eventsStart))
+                                .then(Commands.literal("stop").executes(this::eventsStop))
+                                .then(Commands.literal("reset").executes(this::eventsReset))
+                                .then(Commands.literal("export").executes(this::eventsExport))
+                                .executes(this::eventsShow))
+                        .then(Commands.literal("capture")
+                                .then(Commands.literal("start").executes(this::captureStart))
+                                .then(Commands.literal("stop").executes(this::captureStop)))
+                        .then(Commands.literal("replay")
+                                .then(Commands.literal("stop").executes(this::replayStop))
+                                .then(Commands.argument("file", StringArgumentType.string())
+                                        .suggests(CAPTURE_FILE_SUGGESTION_PROVIDER)
+                                        .executes(context -> replayStart(context, 1f))
+                                        .then(Commands.argument("speed", FloatArgumentType.floatArg(0))
+                                                .executes(context -> replayStart(
+                                                        context, FloatArgumentType.getFloat(context, "speed")))))))
                 .then(Commands.literal("discord").executes(this::discordLink))
                 .then(Commands.literal("donate").executes(this::donateLink))
                 .then(Commands.literal("help").executes(this::help))
@@ -94,6 +142,7 @@ public class WynntilsCommand extends Command {
 
     private int profileReset(CommandContext<CommandSourceStack> context) {
         Handlers.Item.resetProfiling();
+        Handlers.Label.resetProfiling();
         Managers.Overlay.resetProfiling();
         context.getSource()
                 .sendSuccess(
@@ -105,7 +154,7 @@ public class WynntilsCommand extends Command {
     }
 
     private int profileShowAnnotations(CommandContext<CommandSourceStack> context) {
-        Map<Class<?>, Integer> profilingTimes = Handlers.Item.getProfilingTimes();
+        Map<Class<?>, Long> profilingTimes = Handlers.Item.getProfilingTimes();
         Map<Class<?>, Integer> profilingCounts = Handlers.Item.getProfilingCounts();
 
         showProfilingData(context, profilingTimes, profilingCounts);
@@ -113,8 +162,19 @@ public class WynntilsCommand extends Command {
         return 1;
     }
 
+    private int profileShowLabels(CommandContext<CommandSourceStack> context) {
+        Map<Class<?>, Long> profilingTimes = Handlers.Label.getProfilingTimes();
+        Map<Class<?>, Integer> profilingCounts = Handlers.Label.getProfilingCounts();
+
+        showProfilingData(context, profilingTimes, profilingCounts);
+
+        return 1;
+    }
+
     private int profileShowOverlays(CommandContext<CommandSourceStack> context) {
-        Map<Class<?>, Integer> profilingTimes = Managers.Overlay.getProfilingTimes();
+        // Overlays are profiled in milliseconds
+        Map<Class<?>, Long> profilingTimes = new HashMap<>();
+        Managers.Overlay.getProfilingTimes().forEach((clazz, time) -> profilingTimes.put(clazz, time * 1_000_000L));
         Map<Class<?>, Integer> profilingCounts = Managers.Overlay.getProfilingCounts();
 
         showProfilingData(context, profilingTimes, profilingCounts);
@@ -124,37 +184,321 @@ public class WynntilsCommand extends Command {
 
     private void showProfilingData(
             CommandContext<CommandSourceStack> context,
-            Map<Class<?>, Integer> profilingTimes,
+            Map<Class<?>, Long> profilingTimes,
             Map<Class<?>, Integer> profilingCounts) {
         StringBuilder resList = new StringBuilder();
         profilingTimes.entrySet().stream()
-                .sorted(Map.Entry.<Class<?>, Integer>comparingByValue().reversed())
+                .sorted(Map.Entry.<Class<?>, Long>comparingByValue().reversed())
                 .limit(10)
                 .forEach(entry -> {
-                    int time = entry.getValue();
+                    long time = entry.getValue();
                     int count = profilingCounts.get(entry.getKey());
-                    double average = (double) time / count;
-                    resList.append("%7d ms, %7d c, avg: %7.2f ms/c  %s\n"
-                            .formatted(time, count, average, entry.getKey().getSimpleName()));
+                    double average = (double) time / count / 1000;
+                    resList.append("%9.3f ms, %7d c, avg: %9.2f µs/c  %s\n"
+                            .formatted(time / 1_000_000d, count, average, entry.getKey().getSimpleName()));
                 });
 
         context.getSource()
                 .sendSuccess(() -> Component.literal(resList.toString()).withStyle(ChatFormatting.AQUA), false);
 
         int totalCount = profilingCounts.values().stream().reduce(0, Integer::sum);
-        int totalTime = profilingTimes.values().stream().reduce(0, Integer::sum);
-        double average = (double) totalTime / totalCount;
+        long totalTime = profilingTimes.values().stream().reduce(0L, Long::sum);
 
         context.getSource()
                 .sendSuccess(
-                        () -> Component.translatable("command.wynntils.debug.profile.total", totalTime, totalCount)
+                        () -> Component.translatable(
+                                        "command.wynntils.debug.profile.total", totalTime / 1_000_000, totalCount)
                                 .withStyle(ChatFormatting.AQUA),
                         false);
+        // Translated components can't format decimals themselves
+        String average = "%.2f".formatted(totalCount == 0 ? 0d : (double) totalTime / totalCount / 1000);
+        context.getSource()
+                .sendSuccess(
+                        () -> Component.translatable("command.wynntils.debug.profile.avgMicros", average)
+                                .withStyle(ChatFormatting.AQUA),
+                        false);
+    }
+
+    private int chatMatchersReset(CommandContext<CommandSourceStack> context) {
+        Handlers.Chat.resetMatcherStats();
+        context.getSource()
+                .sendSuccess(
+                        () -> Component.translatable("command.wynntils.debug.profile.cleared")
+                                .withStyle(ChatFormatting.GREEN),
+                        false);
+
+        return 1;
+    }
+
+    private int chatMatchersShow(CommandContext<CommandSourceStack> context) {
+        StringBuilder resList = new StringBuilder();
+        List<Pair<String, ChatMatcherGroup.PatternStats>> hottestPatterns = new ArrayList<>();
+
+        for (ChatMatcherGroup group : Handlers.Chat.getMatcherGroups()) {
+            long tried = 0;
+            long matched = 0;
+            long skipped = 0;
+            long nanos = 0;
+            for (ChatMatcherGroup.PatternStats stats : group.getStats()) {
+                tried += stats.tried();
+                matched += stats.matched();
+                skipped += stats.skipped();
+                nanos += stats.nanos();
+                hottestPatterns.add(Pair.of(group.getName(), stats));
+            }
+
+            resList.append("%9.3f ms, %7d tried, %7d matched, %7d skipped  %s\n"
+                    .formatted(nanos / 1_000_000d, tried, matched, skipped, group.getName()));
+        }
+
+        resList.append("\n");
+        hottestPatterns.stream()
+                .sorted(Comparator.comparingLong(
+                                (Pair<String, ChatMatcherGroup.PatternStats> pair) -> pair.b().nanos())
+                        .reversed())
+                .limit(10)
+                .forEach(pair -> resList.append("%9.3f ms, %7d tried  %s: %s\n"
+                        .formatted(
+                                pair.b().nanos() / 1_000_000d,
+                                pair.b().tried(),
+                                pair.a(),
+                                StringUtils.abbreviate(pair.b().pattern(), 50))));
+
+        context.getSource()
+                .sendSuccess(() -> Component.literal(resList.toString()).withStyle(ChatFormatting.AQUA), false);
+
+        return 1;
+    }
+
+    private int debugScoreboard(CommandContext<CommandSourceStack> context) {
+        context.getSource()
+                .sendSuccess(
+                        () -> Component.translatable(
+                                        "command.wynntils.debug.scoreboard.stats",
+                                        Handlers.Scoreboard.getUpdatesPerSecond(),
+                                        Handlers.Scoreboard.getRebuildsPerSecond())
+                                .withStyle(ChatFormatting.AQUA),
+                        false);
+
+        return 1;
+    }
+
+    private int debugTextCache(CommandContext<CommandSourceStack> context) {
+        CacheStats stats = StyledText.getComponentCacheStats();
+
+        context.getSource()
+                .sendSuccess(
+                        () -> Component.translatable(
+                                        "command.wynntils.debug.textCache.stats",
+                                        stats.hitCount(),
+                                        stats.missCount(),
+                                        String.format("%.1f", stats.hitRate() * 100),
+                                        stats.evictionCount())
+                                .withStyle(ChatFormatting.AQUA),
+                        false);
+
+        return 1;
+    }
+
+    private int eventsStart(CommandContext<CommandSourceStack> context) {
+        WynntilsMod.getEventBus().setProfiling(true);
+        context.getSource()
+                .sendSuccess(
+                        () -> Component.translatable(
+                                        "command.wynntils.debug.events.started",
+                                        EventProfiler.WINDOW_COUNT * EventProfiler.WINDOW_MILLIS / 1000)
+                                .withStyle(ChatFormatting.GREEN),
+                        false);
+        return 1;
+    }
+
+    private int eventsStop(CommandContext<CommandSourceStack> context) {
+        WynntilsMod.getEventBus().setProfiling(false);
+        context.getSource()
+                .sendSuccess(
+                        () -> Component.translatable("command.wynntils.debug.events.stopped")
+                                .withStyle(ChatFormatting.GREEN),
+                        false);
+        return 1;
+    }
+
+    private int eventsReset(CommandContext<CommandSourceStack> context) {
+        WynntilsMod.getEventBus().getProfiler().reset();
+        context.getSource()
+                .sendSuccess(
+                        () -> Component.translatable("command.wynntils.debug.profile.cleared")
+                                .withStyle(ChatFormatting.GREEN),
+                        false);
+        return 1;
+    }
+
+    private int eventsShow(CommandContext<CommandSourceStack> context) {
+        List<EventProfiler.ListenerSummary> summaries =
+                WynntilsMod.getEventBus().getProfiler().getSummaries();
+        if (summaries.isEmpty()) {
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.debug.events.noData")
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+
+        StringBuilder resList = new StringBuilder();
+        summaries.stream()
+                .limit(15)
+                .forEach(summary -> resList.append("%9.3f ms, %7d c, max: %8.2f µs, %9.1f KiB  %s: %s\n"
+                        .formatted(
+                                summary.totalNanos() / 1_000_000d,
+                                summary.count(),
+                                summary.maxNanos() / 1000d,
+                                summary.allocatedBytes() / 1024d,
+                                summary.eventName(),
+                                summary.listenerName())));
+
+        context.getSource()
+                .sendSuccess(() -> Component.literal(resList.toString()).withStyle(ChatFormatting.AQUA), false);
+
+        long totalNanos = summaries.stream()
+                .mapToLong(EventProfiler.ListenerSummary::totalNanos)
+                .sum();
+        long totalCount =
+                summaries.stream().mapToLong(EventProfiler.ListenerSummary::count).sum();
         context.getSource()
                 .sendSuccess(
-                        () -> Component.translatable("command.wynntils.debug.profile.avg", average)
+                        () -> Component.translatable(
+                                        "command.wynntils.debug.profile.total", totalNanos / 1_000_000, totalCount)
                                 .withStyle(ChatFormatting.AQUA),
                         false);
+        return 1;
+    }
+
+    private int eventsExport(CommandContext<CommandSourceStack> context) {
+        File exportDir = WynntilsMod.getModStorageDir("debug");
+        FileUtils.mkdir(exportDir);
+        File exportFile = new File(
+                exportDir, "event-profile-" + LocalDateTime.now().format(EXPORT_FILE_DATE_FORMAT) + ".csv");
+
+        try (Writer writer = new BufferedWriter(new FileWriter(exportFile, StandardCharsets.UTF_8))) {
+            WynntilsMod.getEventBus().getProfiler().exportCsv(writer);
+        } catch (IOException e) {
+            WynntilsMod.error("Failed to export event profile", e);
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.debug.events.exportFailed")
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+
+        context.getSource()
+                .sendSuccess(
+                        () -> Component.translatable("command.wynntils.debug.events.exported", exportFile.getName())
+                                .withStyle(ChatFormatting.GREEN),
+                        false);
+        return 1;
+    }
+
+    private int captureStart(CommandContext<CommandSourceStack> context) {
+        if (Services.PacketCapture.isReplaying()) {
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.debug.replay.alreadyReplaying")
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+        if (!Managers.Connection.onServer()) {
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.debug.capture.notOnWynncraft")
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+        if (Services.PacketCapture.isCapturing()) {
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.debug.capture.alreadyCapturing")
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+
+        try {
+            File captureFile = Services.PacketCapture.startCapture();
+            context.getSource()
+                    .sendSuccess(
+                            () -> Component.translatable(
+                                            "command.wynntils.debug.capture.started", captureFile.getName())
+                                    .withStyle(ChatFormatting.GREEN),
+                            false);
+            return 1;
+        } catch (IOException e) {
+            WynntilsMod.error("Failed to start packet capture", e);
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.debug.capture.failed")
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+    }
+
+    private int captureStop(CommandContext<CommandSourceStack> context) {
+        if (!Services.PacketCapture.isCapturing()) {
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.debug.capture.notCapturing")
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+
+        int packetCount = Services.PacketCapture.stopCapture();
+        context.getSource()
+                .sendSuccess(
+                        () -> Component.translatable("command.wynntils.debug.capture.stopped", packetCount)
+                                .withStyle(ChatFormatting.GREEN),
+                        false);
+        return 1;
+    }
+
+    private int replayStart(CommandContext<CommandSourceStack> context, float speed) {
+        // Replaying on a live server would mix the replayed packets with the live ones
+        if (McUtils.player() == null || !McUtils.mc().hasSingleplayerServer()) {
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.debug.replay.notInSingleplayer")
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+        if (Services.PacketCapture.isReplaying() || Services.PacketCapture.isCapturing()) {
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.debug.replay.alreadyReplaying")
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+
+        File captureFile = Services.PacketCapture.getCaptureFile(StringArgumentType.getString(context, "file"));
+        try {
+            Services.PacketCapture.startReplay(captureFile, speed);
+            context.getSource()
+                    .sendSuccess(
+                            () -> Component.translatable(
+                                            "command.wynntils.debug.replay.started", captureFile.getName(), speed)
+                                    .withStyle(ChatFormatting.GREEN),
+                            false);
+            return 1;
+        } catch (IOException e) {
+            WynntilsMod.error("Failed to replay packet capture " + captureFile, e);
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.debug.replay.failed", captureFile.getName())
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+    }
+
+    private int replayStop(CommandContext<CommandSourceStack> context) {
+        if (!Services.PacketCapture.isReplaying()) {
+            context.getSource()
+                    .sendFailure(Component.translatable("command.wynntils.debug.replay.notReplaying")
+                            .withStyle(ChatFormatting.RED));
+            return 0;
+        }
+
+        Services.PacketCapture.stopReplay();
+        context.getSource()
+                .sendSuccess(
+                        () -> Component.translatable("command.wynntils.debug.replay.stopped")
+                                .withStyle(ChatFormatting.GREEN),
+                        false);
+        return 1;
     }
 
     private int reauth(CommandContext<CommandSourceStack> context) {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2021-2025.
+ * Copyright © Wynntils 2021-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core;
@@ -32,7 +32,6 @@ import java.util.function.Consumer;
 import net.minecraft.SharedConstants;
 import net.neoforged.bus.api.Event;
 import net.neoforged.bus.api.ICancellableEvent;
-import net.neoforged.bus.api.IEventBus;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,15 +44,15 @@ public final class WynntilsMod {
     public static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MOD_ID);
-    private static final File MOD_STORAGE_ROOT = new File(McUtils.mc().gameDirectory, MOD_ID);
 
     private static ModLoader modLoader;
     private static String version = "";
     private static boolean developmentBuild = false;
     private static boolean developmentEnvironment;
-    private static IEventBus eventBus;
+    private static EventBusWrapper eventBus;
     private static File modJar;
     private static boolean initCompleted = false;
+    private static long initStartTime;
     private static final Map<Class<? extends CoreComponent>, List<CoreComponent>> componentMap = new HashMap<>();
 
     public static ModLoader getModLoader() {
@@ -68,11 +67,21 @@ public final class WynntilsMod {
         eventBus.register(object);
     }
 
-    public static <T extends Event> void registerListener(Consumer<T> eventConsumer) {
-        eventBus.addListener(eventConsumer);
+    public static <T extends Event> void registerListener(Class<T> eventType, Consumer<T> eventConsumer) {
+        eventBus.addListener(eventType, eventConsumer);
+    }
+
+    public static boolean hasListeners(Class<? extends Event> eventClass) {
+        return eventBus.hasListeners(eventClass);
+    }
+
+    public static EventBusWrapper getEventBus() {
+        return eventBus;
     }
 
     public static <T extends Event> boolean postEvent(T event) {
+        if (!eventBus.hasListeners(event.getClass())) return false;
+
         try {
             eventBus.post(event);
             return event instanceof ICancellableEvent cancellableEvent && cancellableEvent.isCanceled();
@@ -128,12 +137,20 @@ public final class WynntilsMod {
         return developmentBuild;
     }
 
+    /**
+     * Returns the time since {@link #init} was called, in milliseconds.
+     */
+    public static long getMillisSinceInit() {
+        return System.currentTimeMillis() - initStartTime;
+    }
+
     public static boolean isDevelopmentEnvironment() {
         return developmentEnvironment;
     }
 
     public static File getModStorageDir(String dirName) {
-        return new File(MOD_STORAGE_ROOT, dirName);
+        // Resolved on use, so this class can be loaded without a game, like in the benchmarks
+        return new File(new File(McUtils.mc().gameDirectory, MOD_ID), dirName);
     }
 
     public static InputStream getModResourceAsStream(String resourceName) {
@@ -177,6 +194,7 @@ public final class WynntilsMod {
     }
 
     public static void init(ModLoader loader, String modVersion, boolean isDevelopmentEnvironment, File modFile) {
+        initStartTime = System.currentTimeMillis();
         modJar = modFile;
 
         // Note that at this point, no resources (including I18n) are available, so we postpone features until then
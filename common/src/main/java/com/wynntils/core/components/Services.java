@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.components;
@@ -19,6 +19,7 @@ import com.wynntils.services.lootrunpaths.LootrunPathsService;
 import com.wynntils.services.map.MapService;
 import com.wynntils.services.map.PoiService;
 import com.wynntils.services.mapdata.MapDataService;
+import com.wynntils.services.packetcapture.PacketCaptureService;
 import com.wynntils.services.ping.PingService;
 import com.wynntils.services.resourcepack.ResourcePackService;
 import com.wynntils.services.splashes.SplashService;
@@ -39,6 +40,7 @@ public final class Services {
     public static final LootrunPathsService LootrunPaths = new LootrunPathsService();
     public static final MapDataService MapData = new MapDataService();
     public static final MapService Map = new MapService();
+    public static final PacketCaptureService PacketCapture = new PacketCaptureService();
     public static final PingService Ping = new PingService();
     public static final PoiService Poi = new PoiService();
     public static final ResourcePackService ResourcePack = new ResourcePackService();
@@ -1,16 +1,20 @@
 /*
- * Copyright © Wynntils 2022-2023.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.consumers.functions;
 
 import com.google.common.base.CaseFormat;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
+import com.wynntils.core.consumers.functions.type.InvalidationSource;
 import com.wynntils.core.persisted.Translatable;
 import java.lang.reflect.ParameterizedType;
 import java.util.List;
+import java.util.Set;
 
 public abstract class Function<T> implements Translatable {
+    private static final Set<InvalidationSource> TICK_INVALIDATION = Set.of(InvalidationSource.TICK);
+
     private final String name;
 
     private List<String> aliases;
@@ -50,6 +54,17 @@ public abstract class Function<T> implements Translatable {
         return aliases;
     }
 
+    /**
+     * Returns the sources of change the value of this function depends on, besides its arguments.
+     * Calculated values are reused until one of these sources changes.
+     * <p>
+     * Functions reading game state should keep the default, recalculating their value every tick,
+     * unless the state is only ever updated by a more specific source.
+     */
+    public Set<InvalidationSource> getInvalidationSources() {
+        return TICK_INVALIDATION;
+    }
+
     public String getDescription() {
         return getTranslation("description");
     }
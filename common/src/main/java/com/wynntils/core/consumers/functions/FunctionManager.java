@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.consumers.functions;
@@ -12,6 +12,7 @@ import com.wynntils.core.consumers.functions.expressions.Expression;
 import com.wynntils.core.consumers.functions.expressions.parser.ExpressionParser;
 import com.wynntils.core.consumers.functions.templates.Template;
 import com.wynntils.core.consumers.functions.templates.parser.TemplateParser;
+import com.wynntils.core.consumers.functions.type.InvalidationSource;
 import com.wynntils.core.mod.type.CrashType;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.functions.CharacterFunctions;
@@ -40,7 +41,12 @@ import com.wynntils.functions.generic.MathFunctions;
 import com.wynntils.functions.generic.NamedFunctions;
 import com.wynntils.functions.generic.RangedFunctions;
 import com.wynntils.functions.generic.StringFunctions;
+import com.wynntils.handlers.chat.event.ChatMessageReceivedEvent;
+import com.wynntils.mc.event.ContainerSetContentEvent;
+import com.wynntils.mc.event.SetSlotEvent;
+import com.wynntils.mc.event.TickEvent;
 import com.wynntils.models.emeralds.type.EmeraldUnits;
+import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.utils.type.ErrorOr;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
@@ -49,20 +55,28 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
 
 /** Manage all built-in {@link Function}s */
 public final class FunctionManager extends Manager {
     private final List<Function<?>> functions = new ArrayList<>();
+    private final Map<String, Function<?>> functionsByName = new HashMap<>();
     private final Set<Function<?>> crashedFunctions = new HashSet<>();
 
-    // We do not clear this cache, as it is not expected to grow too large
-    private final Map<String, Template> calculatedTemplateCache = new HashMap<>();
+    // We do not clear these caches, as they are not expected to grow too large
+    private final Map<String, CompiledTemplate> compiledTemplateCache = new HashMap<>();
+    private final Map<String, ErrorOr<Expression>> parsedExpressionCache = new HashMap<>();
+
+    // Bumped every time the corresponding source changes, see getInvalidationStamp
+    private final long[] invalidationGenerations = new long[InvalidationSource.values().length];
 
     public FunctionManager() {
         super(List.of());
@@ -86,21 +100,65 @@ public final class FunctionManager extends Manager {
     }
 
     public Optional<Function<?>> forName(String functionName) {
-        for (Function<?> function : getFunctions()) {
-            if (hasName(function, functionName)) {
-                return Optional.of(function);
-            }
+        return Optional.ofNullable(functionsByName.get(functionName.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Parses an expression, reusing the same instance for every occurrence of the same raw expression.
+     * This way, sub-expressions shared between templates are only calculated once per change of their sources.
+     */
+    public ErrorOr<Expression> parseExpression(String rawExpression) {
+        // Parsing recursively parses arguments, so we can't use computeIfAbsent here
+        ErrorOr<Expression> expression = parsedExpressionCache.get(rawExpression);
+        if (expression == null) {
+            expression = ExpressionParser.tryParse(rawExpression, this);
+            parsedExpressionCache.put(rawExpression, expression);
         }
 
-        return Optional.empty();
+        return expression;
     }
 
-    private boolean hasName(Function<?> function, String name) {
-        if (function.getName().equalsIgnoreCase(name)) return true;
-        for (String alias : function.getAliasList()) {
-            if (alias.equalsIgnoreCase(name)) return true;
+    /**
+     * Returns a stamp which changes every time any of the given sources changes.
+     * Expressions compare this stamp to the one of their last calculation to decide if their value is outdated.
+     */
+    public long getInvalidationStamp(InvalidationSource[] sources) {
+        long stamp = 0;
+        for (InvalidationSource source : sources) {
+            stamp += invalidationGenerations[source.ordinal()];
         }
-        return false;
+        return stamp;
+    }
+
+    private void invalidate(InvalidationSource source) {
+        invalidationGenerations[source.ordinal()]++;
+    }
+
+    // Run before anything else ticks, so values calculated during this tick are up to date
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public void onTick(TickEvent event) {
+        invalidate(InvalidationSource.TICK);
+    }
+
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public void onWorldStateChange(WorldStateEvent event) {
+        invalidate(InvalidationSource.WORLD_STATE);
+    }
+
+    // Models parsing chat cancel the messages they consume, so canceled messages must be seen as well
+    @SubscribeEvent(priority = EventPriority.HIGHEST, receiveCanceled = true)
+    public void onChatReceived(ChatMessageReceivedEvent event) {
+        invalidate(InvalidationSource.CHAT);
+    }
+
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public void onContainerSetContent(ContainerSetContentEvent.Post event) {
+        invalidate(InvalidationSource.INVENTORY);
+    }
+
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public void onSetSlot(SetSlotEvent.Post event) {
+        invalidate(InvalidationSource.INVENTORY);
     }
 
     private Optional<Object> getFunctionValueSafely(Function<?> function, FunctionArguments arguments) {
@@ -134,7 +192,7 @@ public final class FunctionManager extends Manager {
                 : Component.literal("");
 
         ErrorOr<List<Expression>> errorOrArgumentExpressions =
-                ArgumentParser.parseArguments(function.getArgumentsBuilder(), rawArguments);
+                ArgumentParser.parseArguments(function.getArgumentsBuilder(), rawArguments, this);
 
         if (errorOrArgumentExpressions.hasError()) {
             return header.append(
@@ -216,7 +274,7 @@ public final class FunctionManager extends Manager {
     }
 
     public <T> ErrorOr<T> tryGetRawValueOfType(String valueTemplate, Class<T> clazz) {
-        ErrorOr<Expression> valueExpression = ExpressionParser.tryParse(valueTemplate);
+        ErrorOr<Expression> valueExpression = parseExpression(valueTemplate);
 
         if (valueExpression.hasError()) {
             return ErrorOr.error(valueExpression.getError());
@@ -241,12 +299,17 @@ public final class FunctionManager extends Manager {
 
     // region Template formatting
 
-    private String doFormat(String templateString) {
-        calculatedTemplateCache.computeIfAbsent(templateString, TemplateParser::getTemplateFromString);
-        return calculatedTemplateCache.get(templateString).getString();
+    public StyledText[] doFormatLines(String templateString) {
+        CompiledTemplate compiledTemplate = compiledTemplateCache.get(templateString);
+        if (compiledTemplate == null) {
+            compiledTemplate = compileTemplate(templateString);
+            compiledTemplateCache.put(templateString, compiledTemplate);
+        }
+
+        return compiledTemplate.getLines();
     }
 
-    public StyledText[] doFormatLines(String templateString) {
+    private CompiledTemplate compileTemplate(String templateString) {
         StringBuilder resultBuilder = new StringBuilder();
 
         // Iterate though the string and escape characters
@@ -271,15 +334,7 @@ public final class FunctionManager extends Manager {
         // Parse color codes before calculating the templates
         String escapedTemplate = parseColorCodes(resultBuilder.toString());
 
-        String calculatedString = doFormat(escapedTemplate);
-
-        // Turn escaped {} (`\[\` and `\]\`) back into real {}
-        calculatedString = calculatedString.replace("\\[\\", "{");
-        calculatedString = calculatedString.replace("\\]\\", "}");
-
-        return Arrays.stream(calculatedString.split("\n"))
-                .map(StyledText::fromString)
-                .toArray(StyledText[]::new);
+        return new CompiledTemplate(TemplateParser.getTemplateFromString(escapedTemplate, this));
     }
 
     private String parseColorCodes(String toProcess) {
@@ -333,6 +388,12 @@ public final class FunctionManager extends Manager {
     private void registerFunction(Function<?> function) {
         functions.add(function);
 
+        // Earlier registrations take precedence on name clashes
+        functionsByName.putIfAbsent(function.getName().toLowerCase(Locale.ROOT), function);
+        for (String alias : function.getAliasList()) {
+            functionsByName.putIfAbsent(alias.toLowerCase(Locale.ROOT), function);
+        }
+
         assert !function.getTranslatedName().startsWith("function.wynntils.")
                 : "Fix i18n name for " + function.getTranslatedName();
         assert !function.getDescription().startsWith("function.wynntils.")
@@ -642,4 +703,35 @@ public final class FunctionManager extends Manager {
         registerFunction(new WynnAlphabetFunctions.TranscribeGavellianFunction());
         registerFunction(new WynnAlphabetFunctions.TranscribeWynnicFunction());
     }
+
+    /**
+     * A template which has already been escaped and parsed. The lines are only rebuilt
+     * if the calculated string has changed since the last call, and must not be modified by callers.
+     */
+    private static final class CompiledTemplate {
+        private final Template template;
+
+        private String calculatedString;
+        private StyledText[] lines;
+
+        private CompiledTemplate(Template template) {
+            this.template = template;
+        }
+
+        private StyledText[] getLines() {
+            // Templates return the same instance as long as none of their parts changed
+            String newString = template.getString();
+            if (newString == calculatedString) return lines;
+
+            calculatedString = newString;
+
+            // Turn escaped {} (`\[\` and `\]\`) back into real {}
+            String unescapedString = newString.replace("\\[\\", "{").replace("\\]\\", "}");
+
+            lines = Arrays.stream(unescapedString.split("\n"))
+                    .map(StyledText::fromString)
+                    .toArray(StyledText[]::new);
+            return lines;
+        }
+    }
 }
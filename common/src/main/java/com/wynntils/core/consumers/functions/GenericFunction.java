@@ -1,16 +1,19 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.consumers.functions;
 
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
+import com.wynntils.core.consumers.functions.type.InvalidationSource;
+import java.util.Set;
 
 /**
  * Generic functions are functions that calculate a value, based on their arguments.
  * They differ from {@link Function} in that they do not have any game-related logic.
  *
  * Generic functions should always have required arguments, and should never have optional arguments.
+ * As their value only depends on their arguments, it is only recalculated when these change.
  */
 public abstract class GenericFunction<T> extends Function<T> {
     protected abstract FunctionArguments.RequiredArgumentBuilder getRequiredArgumentsBuilder();
@@ -20,6 +23,11 @@ public abstract class GenericFunction<T> extends Function<T> {
         return getRequiredArgumentsBuilder();
     }
 
+    @Override
+    public Set<InvalidationSource> getInvalidationSources() {
+        return Set.of();
+    }
+
     @Override
     public String getTranslationKeyName() {
         return "generic." + super.getTranslationKeyName();
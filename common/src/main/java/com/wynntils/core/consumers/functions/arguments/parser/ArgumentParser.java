@@ -1,20 +1,21 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.consumers.functions.arguments.parser;
 
+import com.wynntils.core.consumers.functions.FunctionManager;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
 import com.wynntils.core.consumers.functions.expressions.ConstantExpression;
 import com.wynntils.core.consumers.functions.expressions.Expression;
-import com.wynntils.core.consumers.functions.expressions.parser.ExpressionParser;
 import com.wynntils.utils.type.ErrorOr;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 public final class ArgumentParser {
-    public static ErrorOr<List<Expression>> parseArguments(FunctionArguments.Builder argumentsBuilder, String rawArgs) {
+    public static ErrorOr<List<Expression>> parseArguments(
+            FunctionArguments.Builder argumentsBuilder, String rawArgs, FunctionManager functionManager) {
         if (rawArgs == null || rawArgs.isEmpty()) {
             // 1, If there are no arguments, return early.
             if (argumentsBuilder.getArgumentCount() == 0) {
@@ -36,7 +37,7 @@ public final class ArgumentParser {
         // 1, Split arguments and parse them as expressions
         List<ErrorOr<Expression>> parts = splitArguments(rawArgs).stream()
                 .map(String::trim)
-                .map(ExpressionParser::tryParse)
+                .map(functionManager::parseExpression)
                 .toList();
 
         Optional<ErrorOr<Expression>> optionalError =
@@ -1,13 +1,15 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.consumers.functions.expressions;
 
 import com.google.common.collect.ImmutableMap;
+import com.wynntils.core.consumers.functions.type.InvalidationSource;
 import com.wynntils.utils.type.ErrorOr;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 public final class ConstantExpression extends Expression {
@@ -35,6 +37,11 @@ public final class ConstantExpression extends Expression {
         return ErrorOr.of(value.toString());
     }
 
+    @Override
+    public Set<InvalidationSource> getInvalidationSources() {
+        return Set.of();
+    }
+
     public static ErrorOr<Optional<Expression>> tryParse(String rawExpression) {
         for (Function<String, Optional<Object>> value : CONSTANT_EXPRESSION_PARSERS.values()) {
             Optional<Object> parsedValue = value.apply(rawExpression);
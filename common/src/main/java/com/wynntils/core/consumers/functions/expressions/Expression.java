@@ -1,10 +1,12 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.consumers.functions.expressions;
 
+import com.wynntils.core.consumers.functions.type.InvalidationSource;
 import com.wynntils.utils.type.ErrorOr;
+import java.util.Set;
 
 public abstract class Expression {
     private final String rawExpression;
@@ -16,4 +18,9 @@ public abstract class Expression {
     public abstract ErrorOr<Object> calculate();
 
     public abstract ErrorOr<String> calculateFormattedString();
+
+    /**
+     * Returns the sources of change the value of this expression depends on, including those of any sub-expressions.
+     */
+    public abstract Set<InvalidationSource> getInvalidationSources();
 }
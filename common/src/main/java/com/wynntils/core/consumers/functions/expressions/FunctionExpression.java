@@ -1,16 +1,20 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.consumers.functions.expressions;
 
-import com.wynntils.core.components.Managers;
 import com.wynntils.core.consumers.functions.Function;
+import com.wynntils.core.consumers.functions.FunctionManager;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
 import com.wynntils.core.consumers.functions.arguments.parser.ArgumentParser;
+import com.wynntils.core.consumers.functions.type.InvalidationSource;
 import com.wynntils.utils.type.ErrorOr;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -27,44 +31,95 @@ public final class FunctionExpression extends Expression {
             "(?<function>[a-zA-Z_]+)(\\((?<argument>.*)\\))?(\\:(?<formatted>F)?(?<decimals>[0-9]+)?)?",
             Pattern.DOTALL);
 
+    private final FunctionManager functionManager;
     private final Function<?> function;
     private final List<Expression> argumentExpressions;
     private final boolean formatted;
     private final int decimals;
 
+    // The sources of this function and all its arguments
+    private final Set<InvalidationSource> invalidationSources;
+    private final InvalidationSource[] invalidationSourceArray;
+
+    // Values are reused as long as the invalidation stamp of our sources stays the same
+    private ErrorOr<Object> cachedValue;
+    private long cachedValueStamp;
+    private ErrorOr<String> cachedFormattedString;
+    private long cachedFormattedStringStamp;
+
     private FunctionExpression(
             String rawExpression,
+            FunctionManager functionManager,
             Function<?> function,
             List<Expression> argumentExpressions,
             boolean formatted,
             int decimals) {
         super(rawExpression);
+        this.functionManager = functionManager;
         this.function = function;
         this.argumentExpressions = argumentExpressions;
 
         this.formatted = formatted;
         this.decimals = decimals;
+
+        EnumSet<InvalidationSource> sources = EnumSet.noneOf(InvalidationSource.class);
+        sources.addAll(function.getInvalidationSources());
+        for (Expression argumentExpression : argumentExpressions) {
+            sources.addAll(argumentExpression.getInvalidationSources());
+        }
+        this.invalidationSources = Collections.unmodifiableSet(sources);
+        this.invalidationSourceArray = sources.toArray(new InvalidationSource[0]);
     }
 
     @Override
     public ErrorOr<Object> calculate() {
+        long stamp = functionManager.getInvalidationStamp(invalidationSourceArray);
+        if (cachedValue != null && cachedValueStamp == stamp) {
+            return cachedValue;
+        }
+
         ErrorOr<FunctionArguments> arguments = getArguments();
         if (arguments.hasError()) {
             return ErrorOr.error(arguments.getError());
         }
 
-        return Managers.Function.getRawFunctionValue(function, arguments.getValue());
+        ErrorOr<Object> value = functionManager.getRawFunctionValue(function, arguments.getValue());
+
+        // Failed calculations are not cached, so crashed functions can recover
+        if (!value.hasError()) {
+            cachedValue = value;
+            cachedValueStamp = stamp;
+        }
+
+        return value;
     }
 
     @Override
     public ErrorOr<String> calculateFormattedString() {
+        long stamp = functionManager.getInvalidationStamp(invalidationSourceArray);
+        if (cachedFormattedString != null && cachedFormattedStringStamp == stamp) {
+            return cachedFormattedString;
+        }
+
         ErrorOr<FunctionArguments> arguments = getArguments();
         if (arguments.hasError()) {
             return ErrorOr.error(arguments.getError());
         }
 
-        return ErrorOr.of(
-                Managers.Function.getStringFunctionValue(function, arguments.getValue(), formatted, decimals));
+        ErrorOr<String> formattedString = ErrorOr.of(
+                functionManager.getStringFunctionValue(function, arguments.getValue(), formatted, decimals));
+
+        if (!functionManager.isCrashed(function)) {
+            cachedFormattedString = formattedString;
+            cachedFormattedStringStamp = stamp;
+        }
+
+        return formattedString;
+    }
+
+    @Override
+    public Set<InvalidationSource> getInvalidationSources() {
+        return invalidationSources;
     }
 
     private ErrorOr<FunctionArguments> getArguments() {
@@ -108,14 +163,14 @@ public final class FunctionExpression extends Expression {
     //        2.4. The decimal count can be omitted, in which case it is set to a default of 2.
     //        2.5. The formatting flag can be omitted, in which case the expression is not formatted.
 
-    public static ErrorOr<Optional<Expression>> tryParse(String rawExpression) {
+    public static ErrorOr<Optional<Expression>> tryParse(String rawExpression, FunctionManager functionManager) {
         Matcher matcher = FUNCTION_EXPRESSION_PATTERN.matcher(rawExpression);
 
         if (!matcher.matches()) return ErrorOr.of(Optional.empty());
 
         // Handle function parsing
 
-        Optional<Function<?>> functionOptional = Managers.Function.forName(matcher.group("function"));
+        Optional<Function<?>> functionOptional = functionManager.forName(matcher.group("function"));
 
         if (functionOptional.isEmpty()) {
             return ErrorOr.of(Optional.empty());
@@ -134,11 +189,16 @@ public final class FunctionExpression extends Expression {
         String rawArguments = matcher.group("argument");
 
         ErrorOr<List<Expression>> argumentExpressions =
-                ArgumentParser.parseArguments(function.getArgumentsBuilder(), rawArguments);
+                ArgumentParser.parseArguments(function.getArgumentsBuilder(), rawArguments, functionManager);
 
         return argumentExpressions.hasError()
                 ? ErrorOr.error(argumentExpressions.getError())
                 : ErrorOr.of(Optional.of(new FunctionExpression(
-                        rawExpression, function, argumentExpressions.getValue(), isFormatted, decimals)));
+                        rawExpression,
+                        functionManager,
+                        function,
+                        argumentExpressions.getValue(),
+                        isFormatted,
+                        decimals)));
     }
 }
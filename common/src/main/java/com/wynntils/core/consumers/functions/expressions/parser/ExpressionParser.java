@@ -1,26 +1,29 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.consumers.functions.expressions.parser;
 
+import com.wynntils.core.consumers.functions.FunctionManager;
 import com.wynntils.core.consumers.functions.expressions.ConstantExpression;
 import com.wynntils.core.consumers.functions.expressions.Expression;
 import com.wynntils.core.consumers.functions.expressions.FunctionExpression;
 import com.wynntils.utils.type.ErrorOr;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 
 public final class ExpressionParser {
-    private static final List<Function<String, ErrorOr<Optional<Expression>>>> registeredExpressions =
-            List.of(FunctionExpression::tryParse, ConstantExpression::tryParse);
+    private static final List<BiFunction<String, FunctionManager, ErrorOr<Optional<Expression>>>>
+            registeredExpressions = List.of(
+                    FunctionExpression::tryParse,
+                    (rawExpression, functionManager) -> ConstantExpression.tryParse(rawExpression));
 
     private ExpressionParser() {}
 
-    public static ErrorOr<Expression> tryParse(String rawExpression) {
-        for (Function<String, ErrorOr<Optional<Expression>>> expression : registeredExpressions) {
-            ErrorOr<Optional<Expression>> optionalExpression = expression.apply(rawExpression);
+    public static ErrorOr<Expression> tryParse(String rawExpression, FunctionManager functionManager) {
+        for (BiFunction<String, FunctionManager, ErrorOr<Optional<Expression>>> expression : registeredExpressions) {
+            ErrorOr<Optional<Expression>> optionalExpression = expression.apply(rawExpression, functionManager);
 
             if (optionalExpression.hasError()) {
                 return ErrorOr.error(optionalExpression.getError());
@@ -1,24 +1,24 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.consumers.functions.templates;
 
+import com.wynntils.core.consumers.functions.FunctionManager;
 import com.wynntils.core.consumers.functions.expressions.Expression;
-import com.wynntils.core.consumers.functions.expressions.parser.ExpressionParser;
 import com.wynntils.utils.type.ErrorOr;
 
 public class ExpressionTemplatePart extends TemplatePart {
     private final ErrorOr<Expression> expression;
 
-    public ExpressionTemplatePart(String part) {
+    public ExpressionTemplatePart(String part, FunctionManager functionManager) {
         super(part);
 
         if (!this.part.startsWith("{") || !this.part.endsWith("}")) {
             throw new IllegalArgumentException("Expression was not wrapped in curly braces.");
         }
 
-        this.expression = ExpressionParser.tryParse(this.part.substring(1, this.part.length() - 1));
+        this.expression = functionManager.parseExpression(this.part.substring(1, this.part.length() - 1));
     }
 
     @Override
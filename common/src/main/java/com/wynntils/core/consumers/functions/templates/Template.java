@@ -1,20 +1,39 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.consumers.functions.templates;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class Template {
     private final List<TemplatePart> parts;
 
+    // The part values of the last calculation, and their concatenation
+    private final String[] partValues;
+    private String string;
+
     public Template(List<TemplatePart> parts) {
         this.parts = parts;
+        this.partValues = new String[parts.size()];
     }
 
     public String getString() {
-        return parts.stream().map(TemplatePart::getValue).collect(Collectors.joining());
+        // Only concatenate the parts again if any of them changed,
+        // so unchanged templates return the same string instance
+        boolean changed = string == null;
+        for (int i = 0; i < partValues.length; i++) {
+            String value = parts.get(i).getValue();
+            if (!value.equals(partValues[i])) {
+                partValues[i] = value;
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            string = String.join("", partValues);
+        }
+
+        return string;
     }
 }
@@ -0,0 +1,20 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.consumers.functions.type;
+
+/**
+ * The sources of change a {@link com.wynntils.core.consumers.functions.Function} value can depend on.
+ * A calculated value is reused until any of the sources it depends on changes.
+ */
+public enum InvalidationSource {
+    // Changes every client tick
+    TICK,
+    // Changes when the world state changes (e.g. on world switch or disconnect)
+    WORLD_STATE,
+    // Changes when a chat message is received, even if it is canceled
+    CHAT,
+    // Changes when the content of a container or any slot is set, including the player inventory
+    INVENTORY
+}
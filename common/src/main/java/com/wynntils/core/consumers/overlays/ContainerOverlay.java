@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.consumers.overlays;
@@ -45,7 +45,7 @@ public abstract class ContainerOverlay<T extends Overlay> extends Overlay {
         this.spacing.store(spacing);
         this.horizontalAlignmentOverride.store(horizontalAlignment);
         this.verticalAlignmentOverride.store(verticalAlignment);
-        WynntilsMod.registerListener(this::onResizeEvent);
+        WynntilsMod.registerListener(DisplayResizeEvent.class, this::onResizeEvent);
     }
 
     protected ContainerOverlay(
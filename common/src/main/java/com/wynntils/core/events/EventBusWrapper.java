@@ -1,25 +1,44 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.events;
 
 import com.wynntils.core.WynntilsMod;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import net.neoforged.bus.BusBuilderImpl;
 import net.neoforged.bus.EventBus;
 import net.neoforged.bus.api.BusBuilder;
 import net.neoforged.bus.api.Event;
-import net.neoforged.bus.api.IEventBus;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public class EventBusWrapper extends EventBus {
+    // Registered targets in registration order, so profiling can re-register them without changing their order
+    private final Set<Object> targets = new LinkedHashSet<>();
+    private final Map<Object, List<EventProfiler.ProfiledListener<?>>> profiledListeners = new HashMap<>();
+    private final EventProfiler profiler = new EventProfiler();
+    // The number of listeners of each event class, so events that nobody listens to can be skipped
+    private final Map<Class<?>, Integer> listenerCounts = new ConcurrentHashMap<>();
+    private final Map<Object, Class<?>> consumerEventTypes = new HashMap<>();
+
+    private boolean profiling = false;
+
     private EventBusWrapper(BusBuilderImpl busBuilder) {
         super(busBuilder);
     }
 
-    public static IEventBus createEventBus() {
+    public static EventBusWrapper createEventBus() {
         if (WynntilsMod.isDevelopmentEnvironment()) {
             // In development, we want to catch events posted on the wrong thread,
             // as this can cause issues that are hard to debug
@@ -40,7 +59,141 @@ public class EventBusWrapper extends EventBus {
         // (because they are of a certain class)
         if (!anyEvents) return;
 
-        super.register(target);
+        synchronized (targets) {
+            if (!targets.add(target)) return;
+
+            getListenedEventTypes(target).forEach(eventType -> listenerCounts.merge(eventType, 1, Integer::sum));
+
+            if (profiling) {
+                registerProfiled(target);
+            } else {
+                super.register(target);
+            }
+        }
+    }
+
+    @Override
+    public void unregister(Object target) {
+        synchronized (targets) {
+            if (!targets.remove(target)) {
+                // Not one of our targets, but possibly a consumer listener
+                Class<?> eventType = consumerEventTypes.remove(target);
+                if (eventType != null) {
+                    removeListenerCount(eventType);
+                }
+
+                super.unregister(target);
+                return;
+            }
+
+            getListenedEventTypes(target).forEach(this::removeListenerCount);
+
+            List<EventProfiler.ProfiledListener<?>> listeners = profiledListeners.remove(target);
+            if (listeners == null) {
+                super.unregister(target);
+            } else {
+                listeners.forEach(super::unregister);
+            }
+        }
+    }
+
+    @Override
+    public <T extends Event> void addListener(Class<T> eventType, Consumer<T> consumer) {
+        synchronized (targets) {
+            if (consumerEventTypes.putIfAbsent(consumer, eventType) == null) {
+                listenerCounts.merge(eventType, 1, Integer::sum);
+            }
+
+            super.addListener(eventType, consumer);
+        }
+    }
+
+    /**
+     * Returns whether any listener would receive an event of this class, including listeners of its superclasses.
+     * This is cheap enough to be checked before creating events that are posted very often.
+     */
+    public boolean hasListeners(Class<? extends Event> eventClass) {
+        for (Class<?> clazz = eventClass; clazz != Object.class; clazz = clazz.getSuperclass()) {
+            if (listenerCounts.containsKey(clazz)) return true;
+        }
+
+        return false;
+    }
+
+    public EventProfiler getProfiler() {
+        return profiler;
+    }
+
+    public boolean isProfiling() {
+        return profiling;
+    }
+
+    /**
+     * Starts or stops profiling every listener registered with {@link #register(Object)}.
+     * <p>
+     * To not have any overhead when profiling is disabled, the listeners are re-registered as timed wrappers
+     * when profiling starts, and back as normal listeners when it stops. Events posted on other threads while
+     * the listeners are being swapped might miss some of them.
+     */
+    public void setProfiling(boolean profiling) {
+        synchronized (targets) {
+            if (this.profiling == profiling) return;
+            this.profiling = profiling;
+
+            for (Object target : targets) {
+                if (profiling) {
+                    super.unregister(target);
+                    registerProfiled(target);
+                } else {
+                    profiledListeners.remove(target).forEach(super::unregister);
+                    super.register(target);
+                }
+            }
+        }
+
+        if (profiling) {
+            profiler.reset();
+        }
+    }
+
+    private List<Class<?>> getListenedEventTypes(Object target) {
+        // Like the NeoForge EventBus, a class registers its static listeners and an object its instance listeners
+        boolean isStatic = target instanceof Class<?>;
+        Class<?> targetClass = isStatic ? (Class<?>) target : target.getClass();
+
+        return Arrays.stream(targetClass.getMethods())
+                .filter(method -> method.isAnnotationPresent(SubscribeEvent.class)
+                        && Modifier.isStatic(method.getModifiers()) == isStatic
+                        && method.getParameterCount() == 1)
+                .<Class<?>>map(method -> method.getParameterTypes()[0])
+                .toList();
+    }
+
+    private void removeListenerCount(Class<?> eventType) {
+        listenerCounts.computeIfPresent(eventType, (clazz, count) -> count == 1 ? null : count - 1);
+    }
+
+    private void registerProfiled(Object target) {
+        List<EventProfiler.ProfiledListener<?>> listeners = new ArrayList<>();
+
+        boolean isStatic = target instanceof Class<?>;
+        Class<?> targetClass = isStatic ? (Class<?>) target : target.getClass();
+
+        for (Method method : targetClass.getMethods()) {
+            SubscribeEvent annotation = method.getAnnotation(SubscribeEvent.class);
+            if (annotation == null || Modifier.isStatic(method.getModifiers()) != isStatic) continue;
+
+            EventProfiler.ProfiledListener<?> listener = profiler.createListener(isStatic ? null : target, method);
+            addProfiledListener(annotation, listener);
+            listeners.add(listener);
+        }
+
+        profiledListeners.put(target, listeners);
+    }
+
+    private <T extends Event> void addProfiledListener(
+            SubscribeEvent annotation, EventProfiler.ProfiledListener<T> listener) {
+        super.addListener(annotation.priority(), annotation.receiveCanceled(), listener.getEventType(), listener);
     }
 
     private static final class DevelopmentEnvironment extends EventBusWrapper {
@@ -0,0 +1,267 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.events;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import net.neoforged.bus.api.Event;
+
+/**
+ * Collects how often, and for how long, every listener handles every event type, while
+ * {@link EventBusWrapper#setProfiling(boolean) profiling} is enabled.
+ * <p>
+ * The statistics are kept in rolling windows of {@link #WINDOW_MILLIS}, and only the last {@link #WINDOW_COUNT}
+ * windows are kept. Times and allocations are inclusive, so a listener that posts another event is also
+ * charged for the listeners of that event.
+ */
+public final class EventProfiler {
+    public static final long WINDOW_MILLIS = 5000;
+    public static final int WINDOW_COUNT = 12;
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS);
+
+    private final Set<ListenerStats> stats = ConcurrentHashMap.newKeySet();
+    private final com.sun.management.ThreadMXBean threadBean = getThreadBean();
+
+    private volatile long startNanos = System.nanoTime();
+    private volatile long startMillis = System.currentTimeMillis();
+
+    EventProfiler() {}
+
+    public void reset() {
+        stats.clear();
+        startNanos = System.nanoTime();
+        startMillis = System.currentTimeMillis();
+    }
+
+    public boolean isAllocationTracked() {
+        return threadBean != null;
+    }
+
+    /**
+     * Returns the statistics of every listener and event type, summed over the kept windows.
+     */
+    public List<ListenerSummary> getSummaries() {
+        long currentWindow = currentWindow();
+
+        return stats.stream()
+                .map(listenerStats -> listenerStats.summarize(currentWindow))
+                .filter(summary -> summary.count() > 0)
+                .sorted(Comparator.comparingLong(ListenerSummary::totalNanos).reversed())
+                .toList();
+    }
+
+    /**
+     * Writes one line per window, event type and listener, oldest window first.
+     */
+    public void exportCsv(Writer writer) throws IOException {
+        long currentWindow = currentWindow();
+
+        List<WindowRow> rows = new ArrayList<>();
+        for (ListenerStats listenerStats : stats) {
+            listenerStats.collectWindows(currentWindow, rows);
+        }
+        rows.sort(Comparator.comparingLong(WindowRow::window)
+                .thenComparing(Comparator.comparingLong(WindowRow::totalNanos).reversed()));
+
+        writer.write("window_start,event,listener,count,total_ns,max_ns,allocated_bytes\n");
+        for (WindowRow row : rows) {
+            writer.write((startMillis + row.window() * WINDOW_MILLIS) + "," + row.eventName() + ","
+                    + row.listenerName() + "," + row.count() + "," + row.totalNanos() + "," + row.maxNanos() + ","
+                    + row.allocatedBytes() + "\n");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends Event> ProfiledListener<T> createListener(Object target, Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length != 1 || !Event.class.isAssignableFrom(parameterTypes[0])) {
+            throw new IllegalArgumentException("Method " + method + " has @SubscribeEvent annotation, "
+                    + "but requires " + parameterTypes.length + " arguments instead of a single event");
+        }
+
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (target != null) {
+                handle = handle.bindTo(target);
+            }
+
+            return new ProfiledListener<>(
+                    getShortName(method.getDeclaringClass()) + "." + method.getName(),
+                    (Class<T>) parameterTypes[0],
+                    handle.asType(MethodType.methodType(void.class, Event.class)));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access listener " + method, e);
+        }
+    }
+
+    private long currentWindow() {
+        return (System.nanoTime() - startNanos) / WINDOW_NANOS;
+    }
+
+    private long allocatedBytes() {
+        return threadBean == null ? 0 : threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private static String getShortName(Class<?> clazz) {
+        // Keep the enclosing class of nested events, like ChatMessageEvent$Match
+        return clazz.getName().substring(clazz.getPackageName().length() + 1);
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        // Allocations can only be measured on JVMs that implement the HotSpot extension
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean)) return null;
+        if (!threadBean.isThreadAllocatedMemorySupported()) return null;
+
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        return threadBean;
+    }
+
+    /**
+     * Invokes a listener method and records the time it took, and the memory it allocated.
+     */
+    final class ProfiledListener<T extends Event> implements Consumer<T> {
+        private final String name;
+        private final Class<T> eventType;
+        private final MethodHandle handle;
+        // Listeners of a base event type get events of several types, so they are kept apart
+        private final Map<Class<?>, ListenerStats> statsByEvent = new ConcurrentHashMap<>();
+
+        private ProfiledListener(String name, Class<T> eventType, MethodHandle handle) {
+            this.name = name;
+            this.eventType = eventType;
+            this.handle = handle;
+        }
+
+        Class<T> getEventType() {
+            return eventType;
+        }
+
+        @Override
+        public void accept(T event) {
+            long allocatedBefore = allocatedBytes();
+            long startTime = System.nanoTime();
+
+            try {
+                handle.invokeExact((Event) event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            } finally {
+                long nanos = System.nanoTime() - startTime;
+                long allocated = allocatedBytes() - allocatedBefore;
+
+                ListenerStats listenerStats = statsByEvent.get(event.getClass());
+                if (listenerStats == null || !stats.contains(listenerStats)) {
+                    // The stats are new, or were dropped by a reset
+                    listenerStats = new ListenerStats(getShortName(event.getClass()), name);
+                    statsByEvent.put(event.getClass(), listenerStats);
+                    stats.add(listenerStats);
+                }
+
+                listenerStats.record(currentWindow(), nanos, allocated);
+            }
+        }
+    }
+
+    private static final class ListenerStats {
+        private final String eventName;
+        private final String listenerName;
+
+        private final long[] windows = new long[WINDOW_COUNT];
+        private final long[] counts = new long[WINDOW_COUNT];
+        private final long[] totalNanos = new long[WINDOW_COUNT];
+        private final long[] maxNanos = new long[WINDOW_COUNT];
+        private final long[] allocatedBytes = new long[WINDOW_COUNT];
+
+        private ListenerStats(String eventName, String listenerName) {
+            this.eventName = eventName;
+            this.listenerName = listenerName;
+            Arrays.fill(windows, -1);
+        }
+
+        private synchronized void record(long window, long nanos, long allocated) {
+            int slot = (int) (window % WINDOW_COUNT);
+            if (windows[slot] != window) {
+                // The slot still holds a window that was rolled out
+                windows[slot] = window;
+                counts[slot] = 0;
+                totalNanos[slot] = 0;
+                maxNanos[slot] = 0;
+                allocatedBytes[slot] = 0;
+            }
+
+            counts[slot]++;
+            totalNanos[slot] += nanos;
+            maxNanos[slot] = Math.max(maxNanos[slot], nanos);
+            allocatedBytes[slot] += allocated;
+        }
+
+        private synchronized ListenerSummary summarize(long currentWindow) {
+            long count = 0;
+            long total = 0;
+            long max = 0;
+            long allocated = 0;
+
+            for (int slot = 0; slot < WINDOW_COUNT; slot++) {
+                if (!isKept(slot, currentWindow)) continue;
+
+                count += counts[slot];
+                total += totalNanos[slot];
+                max = Math.max(max, maxNanos[slot]);
+                allocated += allocatedBytes[slot];
+            }
+
+            return new ListenerSummary(eventName, listenerName, count, total, max, allocated);
+        }
+
+        private synchronized void collectWindows(long currentWindow, List<WindowRow> rows) {
+            for (int slot = 0; slot < WINDOW_COUNT; slot++) {
+                if (!isKept(slot, currentWindow)) continue;
+
+                rows.add(new WindowRow(
+                        windows[slot],
+                        eventName,
+                        listenerName,
+                        counts[slot],
+                        totalNanos[slot],
+                        maxNanos[slot],
+                        allocatedBytes[slot]));
+            }
+        }
+
+        private boolean isKept(int slot, long currentWindow) {
+            return windows[slot] >= 0 && currentWindow - windows[slot] < WINDOW_COUNT;
+        }
+    }
+
+    public record ListenerSummary(
+            String eventName, String listenerName, long count, long totalNanos, long maxNanos, long allocatedBytes) {}
+
+    private record WindowRow(
+            long window,
+            String eventName,
+            String listenerName,
+            long count,
+            long totalNanos,
+            long maxNanos,
+            long allocatedBytes) {}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.events;
@@ -14,6 +14,13 @@ public final class MixinHelper {
         return Managers.Connection.onServer();
     }
 
+    /**
+     * Returns false when nothing listens to the event class, so frequently posted events don't need to be created
+     */
+    public static boolean hasListeners(Class<? extends Event> eventClass) {
+        return WynntilsMod.hasListeners(eventClass);
+    }
+
     public static void post(Event event) {
         if (!onWynncraft()) return;
         if (McUtils.player() == null) return;
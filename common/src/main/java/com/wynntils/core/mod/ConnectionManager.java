@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2021-2024.
+ * Copyright © Wynntils 2021-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.mod;
@@ -67,6 +67,23 @@ public final class ConnectionManager extends Manager {
         }
     }
 
+    /**
+     * Treats the current world as Wynncraft until {@link #endReplay()}, so that packets replayed
+     * by the PacketCaptureService are processed like live ones.
+     */
+    public void beginReplay() {
+        if (isConnected) {
+            disconnect();
+        }
+
+        connect("replay");
+    }
+
+    public void endReplay() {
+        if (!isConnected) return;
+        disconnect();
+    }
+
     private void connect(String hostName) {
         isConnected = true;
         WynntilsMod.postEvent(new WynncraftConnectionEvent.Connected(hostName));
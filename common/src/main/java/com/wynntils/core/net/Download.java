@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2023.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.net;
@@ -13,6 +13,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
@@ -61,6 +62,7 @@ public class Download extends NetResult {
         // try to re-download the file next time
         WynntilsMod.warn("Deleting cached file due to handling error: " + localFile);
         FileUtils.deleteQuietly(localFile);
+        Managers.Net.onCachedFileInvalid(localFile);
     }
 
     @Override
@@ -69,14 +71,24 @@ public class Download extends NetResult {
             // File is already in downloaded, just read from the cache
             return CompletableFuture.supplyAsync(this::getFileInputStreamFromCache);
         } else {
-            prepareForDownload();
-            return getDownloadInputStreamFuture().thenApply(response -> getFileInputStreamFromCache());
+            return getDownloadInputStreamFuture().thenApply(response -> {
+                Managers.Net.onDownloadResponse(localFile, response);
+                return getFileInputStreamFromCache();
+            });
         }
     }
 
     private CompletableFuture<HttpResponse<Path>> getDownloadInputStreamFuture() {
-        CompletableFuture<HttpResponse<Path>> future =
-                Managers.Net.HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofFile(localFile.toPath()));
+        Path localPath = localFile.toPath();
+        CompletableFuture<HttpResponse<Path>> future = Managers.Net.HTTP_CLIENT.sendAsync(request, responseInfo -> {
+            // A revalidated file is kept as it is, anything else replaces it
+            if (responseInfo.statusCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return HttpResponse.BodySubscribers.replacing(localPath);
+            }
+
+            prepareForDownload();
+            return HttpResponse.BodySubscribers.ofFile(localPath);
+        });
 
         // We must save the response so we can get the timestamp
         this.httpResponse = future;
@@ -0,0 +1,173 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.net;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Managers;
+import com.wynntils.utils.FileUtils;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Remembers the size, modification time and hash of the files in the download cache, and the validators
+ * the server sent with them. A file whose size and modification time did not change is not hashed again,
+ * and a file that has validators can be revalidated with a conditional request, instead of downloaded again.
+ */
+final class DownloadCacheManifest {
+    private static final String MANIFEST_FILE_NAME = "manifest.json";
+    private static final Type MANIFEST_TYPE = new TypeToken<Map<String, CacheEntry>>() {}.getType();
+    // Downloads finish in bursts, so changes are collected for a while and then saved at once
+    private static final long SAVE_DELAY_MILLIS = 2000;
+
+    private final File cacheDir;
+    private final File manifestFile;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    private Map<String, CacheEntry> entries = null;
+    private boolean scheduledSave = false;
+
+    DownloadCacheManifest(File cacheDir) {
+        this.cacheDir = cacheDir;
+        this.manifestFile = new File(cacheDir, MANIFEST_FILE_NAME);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::saveScheduled));
+    }
+
+    /**
+     * Returns the md5 hash of a cached file, or null if it does not exist or could not be read.
+     */
+    synchronized String getHash(File localFile) {
+        if (!localFile.exists()) return null;
+
+        String key = getKey(localFile);
+        CacheEntry entry = getEntries().get(key);
+        if (entry != null && entry.md5() != null && entry.matches(localFile)) return entry.md5();
+
+        try (InputStream is = Files.newInputStream(localFile.toPath())) {
+            String md5 = DigestUtils.md5Hex(is);
+            CacheEntry updatedEntry = entry != null && entry.matches(localFile)
+                    ? entry.withMd5(md5)
+                    : new CacheEntry(localFile.length(), localFile.lastModified(), md5, null, null);
+            getEntries().put(key, updatedEntry);
+            scheduleSave();
+            return md5;
+        } catch (IOException e) {
+            WynntilsMod.warn("Error when calculating md5 for " + localFile.getPath(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the cache entry of a cached file, if the file has not changed since it was recorded.
+     */
+    synchronized CacheEntry getEntry(File localFile) {
+        if (!localFile.exists()) return null;
+
+        CacheEntry entry = getEntries().get(getKey(localFile));
+        return entry != null && entry.matches(localFile) ? entry : null;
+    }
+
+    /**
+     * Records a freshly downloaded file, with the validators the server sent for it.
+     */
+    synchronized void recordDownload(File localFile, String eTag, String lastModified) {
+        if (!localFile.exists()) {
+            remove(localFile);
+            return;
+        }
+
+        // The hash is calculated when it is first needed
+        CacheEntry entry = new CacheEntry(localFile.length(), localFile.lastModified(), null, eTag, lastModified);
+        getEntries().put(getKey(localFile), entry);
+        scheduleSave();
+    }
+
+    synchronized void remove(File localFile) {
+        if (getEntries().remove(getKey(localFile)) != null) {
+            scheduleSave();
+        }
+    }
+
+    private Map<String, CacheEntry> getEntries() {
+        if (entries == null) {
+            entries = load();
+        }
+        return entries;
+    }
+
+    private Map<String, CacheEntry> load() {
+        if (!manifestFile.exists()) return new HashMap<>();
+
+        try (Reader reader = new InputStreamReader(new FileInputStream(manifestFile), StandardCharsets.UTF_8)) {
+            Map<String, CacheEntry> loaded = Managers.Json.GSON.fromJson(reader, MANIFEST_TYPE);
+            if (loaded != null) return new HashMap<>(loaded);
+        } catch (IOException | JsonParseException e) {
+            // The manifest only saves work, so everything is simply hashed again
+            WynntilsMod.warn("Failed to read download cache manifest, it will be rebuilt", e);
+        }
+
+        return new HashMap<>();
+    }
+
+    private void scheduleSave() {
+        if (scheduledSave) return;
+
+        executor.schedule(this::saveScheduled, SAVE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        scheduledSave = true;
+    }
+
+    private synchronized void saveScheduled() {
+        if (!scheduledSave) return;
+
+        scheduledSave = false;
+        save();
+    }
+
+    private void save() {
+        FileUtils.mkdir(cacheDir);
+
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(manifestFile), StandardCharsets.UTF_8)) {
+            Managers.Json.GSON.toJson(entries, MANIFEST_TYPE, writer);
+        } catch (IOException e) {
+            WynntilsMod.warn("Failed to save download cache manifest", e);
+        }
+    }
+
+    private String getKey(File localFile) {
+        return cacheDir.toPath().relativize(localFile.toPath()).toString().replace(File.separatorChar, '/');
+    }
+
+    /**
+     * @param eTag The ETag header the file was downloaded with, or null
+     * @param lastModified The Last-Modified header the file was downloaded with, or null
+     */
+    record CacheEntry(long size, long modified, String md5, String eTag, String lastModified) {
+        private boolean matches(File localFile) {
+            return localFile.length() == size && localFile.lastModified() == modified;
+        }
+
+        private CacheEntry withMd5(String md5) {
+            return new CacheEntry(size, modified, md5, eTag, lastModified);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.net;
@@ -21,6 +21,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import net.neoforged.bus.api.SubscribeEvent;
 
@@ -57,6 +59,11 @@ public class DownloadManager extends Manager {
 
     private Set<QueuedDownload> currentDownloads;
 
+    // Downloads finish on the download threads, so startup cost can be attributed to the slow ones
+    private final Map<QueuedDownload, Long> downloadStartTimes = new ConcurrentHashMap<>();
+    private final Map<QueuedDownload, Long> downloadTimes = new ConcurrentHashMap<>();
+    private long downloadsStartTime;
+
     public DownloadManager() {
         super(List.of());
     }
@@ -111,6 +118,15 @@ public class DownloadManager extends Manager {
         return graph.getDownloadState(download);
     }
 
+    /**
+     * Returns how long the last attempt of the download took to download and handle, in milliseconds,
+     * or -1 if it has not finished yet.
+     */
+    public long getDownloadTime(QueuedDownload download) {
+        Long nanos = downloadTimes.get(download);
+        return nanos == null ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
     QueuedDownload queueDownload(UrlId urlId, CoreComponent callerComponent, Dependency dependency) {
         if (registrationLock) {
             throw new IllegalStateException("Cannot queue downloads after the download graph is already built.");
@@ -128,6 +144,8 @@ public class DownloadManager extends Manager {
             currentDownloads = new LinkedHashSet<>();
         }
 
+        downloadsStartTime = System.nanoTime();
+
         WynntilsMod.postEventOnMainThread(new DownloadEvent.Started(partialRedownload));
 
         // Start the downloads by filling the parallel download slots
@@ -164,6 +182,9 @@ public class DownloadManager extends Manager {
     }
 
     private Download getDownload(QueuedDownload queuedDownload) {
+        downloadStartTimes.put(queuedDownload, System.nanoTime());
+        downloadTimes.remove(queuedDownload);
+
         Download download = Managers.Net.download(queuedDownload.urlId());
 
         Consumer<Reader> readerHandler = queuedDownload.onCompletionReader();
@@ -222,6 +243,7 @@ public class DownloadManager extends Manager {
         return (T result) -> {
             // Firstly, run the handler
             handler.accept(result);
+            recordDownloadTime(download);
 
             // The handling succeeded, mark the download as completed
             // (if the handling failed, download itself handles the error)
@@ -242,6 +264,8 @@ public class DownloadManager extends Manager {
 
     private Consumer<Throwable> wrapDownloadFailure(QueuedDownload download) {
         return (throwable) -> {
+            recordDownloadTime(download);
+
             // Log the progress if the system property is set
             if (debugLogs.get()) {
                 WynntilsMod.warn("Download failed: "
@@ -256,13 +280,21 @@ public class DownloadManager extends Manager {
         };
     }
 
+    private void recordDownloadTime(QueuedDownload download) {
+        Long startTime = downloadStartTimes.remove(download);
+        if (startTime == null) return;
+
+        downloadTimes.put(download, System.nanoTime() - startTime);
+    }
+
     private void checkDownloadsFinished() {
         if (!graph.isFinished()) return;
         if (!currentDownloads.isEmpty()) return;
 
         // All downloads are finished, and there are no more downloads to start
         // Display statistics from the graph
-        WynntilsMod.info("[DownloadManager] Downloads finished.");
+        WynntilsMod.info("[DownloadManager] Downloads finished in %d ms."
+                .formatted(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - downloadsStartTime)));
 
         if (graph.hasError()) {
             WynntilsMod.postEventOnMainThread(new DownloadEvent.Failed());
@@ -278,6 +310,15 @@ public class DownloadManager extends Manager {
             WynntilsMod.info("  - Successful downloads: %d".formatted(graph.successfulDownloads()));
             WynntilsMod.info("  - Failed downloads: %d".formatted(graph.failedDownloads()));
             WynntilsMod.info("  - Error Rate: %.0f%%".formatted(graph.errorRate() * 100f));
+            WynntilsMod.info("  - Download times:");
+            downloadTimes.entrySet().stream()
+                    .sorted(Map.Entry.<QueuedDownload, Long>comparingByValue().reversed())
+                    .forEach(entry -> WynntilsMod.info("    - %s -> %s: %d ms"
+                            .formatted(
+                                    StringUtils.capitalizeFirst(
+                                            entry.getKey().callerComponent().getJsonName()),
+                                    entry.getKey().urlId(),
+                                    TimeUnit.NANOSECONDS.toMillis(entry.getValue()))));
         }
     }
 }
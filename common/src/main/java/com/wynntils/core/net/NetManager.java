@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.net;
@@ -10,19 +10,18 @@ import com.wynntils.core.components.Manager;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.net.event.NetResultProcessedEvent;
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.nio.file.Files;
+import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import net.minecraft.SharedConstants;
 import net.minecraft.Util;
-import org.apache.commons.codec.digest.DigestUtils;
 
 public final class NetManager extends Manager {
     static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
@@ -36,6 +35,8 @@ public final class NetManager extends Manager {
             WynntilsMod.isDevelopmentEnvironment() ? "dev" : "client",
             WynntilsMod.getModLoader());
 
+    private final DownloadCacheManifest cacheManifest = new DownloadCacheManifest(CACHE_DIR);
+
     public NetManager() {
         super(List.of());
     }
@@ -85,7 +86,21 @@ public final class NetManager extends Manager {
     }
 
     private Download download(URI uri, File localFile, NetResultProcessedEvent processedEvent) {
-        return new Download(localFile.getName(), localFile, createGetRequest(uri, Map.of()), processedEvent);
+        // Without a hash to check the cached file against, ask the server whether it changed
+        DownloadCacheManifest.CacheEntry cacheEntry = cacheManifest.getEntry(localFile);
+        if (cacheEntry == null || (cacheEntry.eTag() == null && cacheEntry.lastModified() == null)) {
+            return new Download(localFile.getName(), localFile, createGetRequest(uri, Map.of()), processedEvent);
+        }
+
+        Map<String, String> headers = new HashMap<>();
+        if (cacheEntry.eTag() != null) {
+            headers.put("If-None-Match", cacheEntry.eTag());
+        }
+        if (cacheEntry.lastModified() != null) {
+            headers.put("If-Modified-Since", cacheEntry.lastModified());
+        }
+
+        return new Download(localFile.getName(), localFile, createGetRequest(uri, headers), processedEvent);
     }
 
     private Download download(URI uri, File localFile, String expectedHash, NetResultProcessedEvent processedEvent) {
@@ -98,7 +113,28 @@ public final class NetManager extends Manager {
             return new Download(localFile.getName(), localFile, processedEvent);
         }
 
-        return download(uri, localFile, processedEvent);
+        // The cached file is known to be outdated or broken, so it must not be revalidated,
+        // or a 304 response would keep it
+        return new Download(localFile.getName(), localFile, createGetRequest(uri, Map.of()), processedEvent);
+    }
+
+    void onDownloadResponse(File localFile, HttpResponse<?> response) {
+        if (response.statusCode() == HttpURLConnection.HTTP_NOT_MODIFIED) return;
+
+        if (response.statusCode() != HttpURLConnection.HTTP_OK) {
+            // Do not revalidate error pages, download them again instead
+            cacheManifest.remove(localFile);
+            return;
+        }
+
+        cacheManifest.recordDownload(
+                localFile,
+                response.headers().firstValue("ETag").orElse(null),
+                response.headers().firstValue("Last-Modified").orElse(null));
+    }
+
+    void onCachedFileInvalid(File localFile) {
+        cacheManifest.remove(localFile);
     }
 
     public File getCacheDir() {
@@ -164,19 +200,15 @@ public final class NetManager extends Manager {
     }
 
     private boolean checkLocalHash(File localFile, String expectedHash) {
-        if (!localFile.exists()) return false;
-
-        try (InputStream is = Files.newInputStream(localFile.toPath())) {
-            String fileHash = DigestUtils.md5Hex(is);
-            boolean hashMatches = fileHash.equalsIgnoreCase(expectedHash);
-            if (WynntilsMod.isDevelopmentEnvironment() && !hashMatches) {
-                WynntilsMod.warn("Hash mismatch for " + localFile.getPath() + ": " + fileHash + " != " + expectedHash
-                        + ". If you see this often, check urls.json, there might be an outdated hash.");
-            }
-            return hashMatches;
-        } catch (IOException e) {
-            WynntilsMod.warn("Error when calculating md5 for " + localFile.getPath(), e);
-            return false;
+        // The manifest only hashes the file again if it changed since it was last hashed
+        String fileHash = cacheManifest.getHash(localFile);
+        if (fileHash == null) return false;
+
+        boolean hashMatches = fileHash.equalsIgnoreCase(expectedHash);
+        if (WynntilsMod.isDevelopmentEnvironment() && !hashMatches) {
+            WynntilsMod.warn("Hash mismatch for " + localFile.getPath() + ": " + fileHash + " != " + expectedHash
+                    + ". If you see this often, check urls.json, there might be an outdated hash.");
         }
+        return hashMatches;
     }
 }
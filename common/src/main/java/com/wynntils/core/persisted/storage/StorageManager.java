@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.persisted.storage;
@@ -18,12 +18,14 @@ import com.wynntils.utils.mc.McUtils;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -35,13 +37,21 @@ public final class StorageManager extends Manager {
 
     private static final File STORAGE_DIR = WynntilsMod.getModStorageDir("storage");
     private static final String FILE_SUFFIX = ".data.json";
-    private final File userStorageFile;
+    // Written last when the storage directory is created, so a directory without it is incomplete
+    private static final String INDEX_FILE_NAME = "index.json";
+
+    // Storage from before it was split by owner, which is migrated on the first launch
+    private final File legacyStorageFile;
+    private final File userStorageDir;
 
     private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(1);
     private final Map<String, Storage<?>> storages = new TreeMap<>();
     private final Map<Storage<?>, Type> storageTypes = new HashMap<>();
     private final Map<Storage<?>, Storageable> storageOwner = new HashMap<>();
 
+    // Every owner has its own file, and only the files of the owners with touched storages are rewritten
+    private final Set<Storageable> dirtyOwners = ConcurrentHashMap.newKeySet();
+
     private JsonObject storageObject;
 
     private long lastPersisted;
@@ -52,8 +62,9 @@ public final class StorageManager extends Manager {
     public StorageManager() {
         super(List.of());
 
-        userStorageFile = new File(
-                STORAGE_DIR, UndashedUuid.toString(McUtils.mc().getUser().getProfileId()) + FILE_SUFFIX);
+        String userId = UndashedUuid.toString(McUtils.mc().getUser().getProfileId());
+        legacyStorageFile = new File(STORAGE_DIR, userId + FILE_SUFFIX);
+        userStorageDir = new File(STORAGE_DIR, userId);
 
         addShutdownHook();
     }
@@ -73,7 +84,9 @@ public final class StorageManager extends Manager {
         storageInitialized = true;
 
         // We might have missed a persist call in between feature init and storage manager init
-        persist();
+        if (!dirtyOwners.isEmpty()) {
+            schedulePersist();
+        }
     }
 
     public void registerStorageable(Storageable owner) {
@@ -82,8 +95,8 @@ public final class StorageManager extends Manager {
         Managers.Persisted.getPersisted(owner, Storage.class).forEach(p -> processStorage(owner, p.a(), p.b()));
     }
 
-    public File getUserStorageFile() {
-        return userStorageFile;
+    public File getUserStorageDir() {
+        return userStorageDir;
     }
 
     private void processStorage(Storageable owner, Field field, Persisted annotation) {
@@ -111,10 +124,20 @@ public final class StorageManager extends Manager {
         writeToJson();
     }
 
-    void persist() {
+    void persist(Storage<?> storage) {
+        Storageable owner = storageOwner.get(storage);
+        // Storages are touched while their owners are constructed, before they are registered
+        if (owner == null) return;
+
+        dirtyOwners.add(owner);
+
         // We cannot persist before the storage is initialized, or we will overwrite our storage
         if (!storageInitialized || scheduledPersist) return;
 
+        schedulePersist();
+    }
+
+    private void schedulePersist() {
         long now = System.currentTimeMillis();
         long delay = Math.max((lastPersisted + SAVE_INTERVAL) - now, 0);
 
@@ -130,20 +153,40 @@ public final class StorageManager extends Manager {
     }
 
     private void runUpfixers() {
-        storageObject = Managers.Json.loadPreciousJson(userStorageFile);
+        boolean migrating = !getIndexFile().exists();
+        storageObject = loadStorageObject();
 
         // Now, we have to apply upfixers, before any storage loading happens
         // FIXME: Solve generics type issue
         Set<PersistedValue<?>> workaround = new HashSet<>(storages.values());
-        if (Managers.Upfixer.runUpfixers(storageObject, workaround, UpfixerType.STORAGE)) {
-            Managers.Json.savePreciousJson(userStorageFile, storageObject);
+        boolean upfixed = Managers.Upfixer.runUpfixers(storageObject, workaround, UpfixerType.STORAGE);
+
+        if (upfixed || migrating) {
+            // The upfixers may have moved data between owners, so split the whole object again
+            Map<Storageable, JsonObject> ownerObjects = new HashMap<>();
+            storages.forEach((jsonName, storage) -> {
+                if (!storageObject.has(jsonName)) return;
+
+                ownerObjects
+                        .computeIfAbsent(storageOwner.get(storage), owner -> new JsonObject())
+                        .add(jsonName, storageObject.get(jsonName));
+            });
+            ownerObjects.forEach(
+                    (owner, ownerObject) -> Managers.Json.savePreciousJson(getOwnerFile(owner), ownerObject));
+
+            saveIndex();
+
+            if (migrating && legacyStorageFile.exists()) {
+                WynntilsMod.info("Migrated storage file " + legacyStorageFile.getName() + " to "
+                        + ownerObjects.size() + " owner files.");
+            }
 
-            // No need to re-read the storage file after upfixing, as we're about to read it anyway
+            // No need to re-read the storage files after upfixing, as we're about to read them anyway
         }
     }
 
     private void readFromJson() {
-        storageObject = Managers.Json.loadPreciousJson(userStorageFile);
+        storageObject = loadStorageObject();
         storages.forEach((jsonName, storage) -> {
             if (!storageObject.has(jsonName)) {
                 // Even though the storage is not present in the file,
@@ -166,22 +209,72 @@ public final class StorageManager extends Manager {
         });
     }
 
+    /**
+     * Merges the files of all owners, and the index, into a single object, as it was stored before the
+     * storage was split. Falls back to the legacy storage file, if the storage has not been migrated yet.
+     */
+    private JsonObject loadStorageObject() {
+        if (!getIndexFile().exists()) {
+            return legacyStorageFile.exists() ? Managers.Json.loadPreciousJson(legacyStorageFile) : new JsonObject();
+        }
+
+        JsonObject mergedObject = Managers.Json.loadPreciousJson(getIndexFile());
+
+        File[] ownerFiles = userStorageDir.listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+        if (ownerFiles == null) return mergedObject;
+
+        for (File ownerFile : ownerFiles) {
+            Managers.Json.loadPreciousJson(ownerFile).asMap().forEach(mergedObject::add);
+        }
+
+        return mergedObject;
+    }
+
     private synchronized void writeToJson() {
-        JsonObject storageJson = new JsonObject();
+        // Nothing has been read yet, so writing would only lose data
+        if (!storageInitialized) return;
 
-        // Save upfixers
-        String upfixerJsonMemberName = Managers.Upfixer.UPFIXER_JSON_MEMBER_NAME;
-        storageJson.add(upfixerJsonMemberName, storageObject.get(upfixerJsonMemberName));
+        // Owners touched while we are writing are written again on the next persist
+        List<Storageable> owners = new ArrayList<>(dirtyOwners);
+        dirtyOwners.removeAll(owners);
+
+        Map<Storageable, JsonObject> ownerObjects = new HashMap<>();
+        for (Storageable owner : owners) {
+            ownerObjects.put(owner, new JsonObject());
+        }
 
         storages.forEach((jsonName, storage) -> {
+            JsonObject ownerObject = ownerObjects.get(storageOwner.get(storage));
+            if (ownerObject == null) return;
+
             try {
                 JsonElement jsonElem = Managers.Json.GSON.toJsonTree(storage.get(), storageTypes.get(storage));
-                storageJson.add(jsonName, jsonElem);
+                ownerObject.add(jsonName, jsonElem);
             } catch (Throwable t) {
                 WynntilsMod.error("Failed to save storage " + jsonName, t);
             }
         });
 
-        Managers.Json.savePreciousJson(userStorageFile, storageJson);
+        ownerObjects.forEach((owner, ownerObject) -> Managers.Json.savePreciousJson(getOwnerFile(owner), ownerObject));
+    }
+
+    private void saveIndex() {
+        JsonObject indexJson = new JsonObject();
+
+        // Save upfixers
+        String upfixerJsonMemberName = Managers.Upfixer.UPFIXER_JSON_MEMBER_NAME;
+        if (storageObject.has(upfixerJsonMemberName)) {
+            indexJson.add(upfixerJsonMemberName, storageObject.get(upfixerJsonMemberName));
+        }
+
+        Managers.Json.savePreciousJson(getIndexFile(), indexJson);
+    }
+
+    private File getOwnerFile(Storageable owner) {
+        return new File(userStorageDir, owner.getStorageJsonName() + FILE_SUFFIX);
+    }
+
+    private File getIndexFile() {
+        return new File(userStorageDir, INDEX_FILE_NAME);
     }
 }
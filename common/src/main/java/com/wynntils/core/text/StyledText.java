@@ -4,6 +4,9 @@
  */
 package com.wynntils.core.text;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.Iterables;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
@@ -13,14 +16,11 @@ import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import com.wynntils.utils.MathUtils;
 import com.wynntils.utils.type.IterationDecision;
-import com.wynntils.utils.type.Pair;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
@@ -34,6 +34,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.HoverEvent;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.Style;
+import net.minecraft.network.chat.contents.PlainTextContents;
 
 public final class StyledText implements Iterable<StyledTextPart> {
     // High surrogate characters for the positive and negative space characters
@@ -43,11 +44,28 @@ public final class StyledText implements Iterable<StyledTextPart> {
 
     public static final StyledText EMPTY = new StyledText(List.of(), List.of(), List.of());
 
+    // Converting the same component multiple times is common (lore lines, unchanged labels, action bars),
+    // so keep the results of recent conversions. Keys are weak, and compared by identity.
+    private static final int COMPONENT_CACHE_SIZE = 4096;
+    private static final Cache<Component, CachedConversion> COMPONENT_CACHE = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(COMPONENT_CACHE_SIZE)
+            .recordStats()
+            .build();
+
     private final List<StyledTextPart> parts;
 
     private final List<ClickEvent> clickEvents;
     private final List<HoverEvent> hoverEvents;
 
+    // StyledText is immutable, so the string representations and the hash code are computed lazily, once.
+    // Like String#hashCode, racy initialization is benign here, as every thread computes the same value.
+    private String defaultString;
+    private String noneString;
+    private String includeEventsString;
+    private int hashCode;
+    private boolean hashCodeIsZero;
+
     /**
      * Note: All callers of this constructor should ensure that the event lists are collected from the parts.
      * Additionally, they should ensure that the events are distinct.
@@ -56,49 +74,87 @@ public final class StyledText implements Iterable<StyledTextPart> {
         this.parts = parts.stream()
                 .filter(styledTextPart -> !styledTextPart.isEmpty())
                 .map(styledTextPart -> new StyledTextPart(styledTextPart, this))
-                .collect(Collectors.toList());
+                .toList();
         this.clickEvents = Collections.unmodifiableList(clickEvents);
         this.hoverEvents = Collections.unmodifiableList(hoverEvents);
     }
 
     public static StyledText fromComponent(Component component) {
+        // Components are looked up by identity, but they are not immutable,
+        // so make sure that the tree has not been changed since it was converted
+        int shape = getComponentShape(component);
+
+        CachedConversion cached = COMPONENT_CACHE.getIfPresent(component);
+        if (cached != null && cached.shape() == shape) {
+            return cached.styledText();
+        }
+
+        StyledText styledText = convertComponent(component);
+        COMPONENT_CACHE.put(component, new CachedConversion(styledText, shape));
+        return styledText;
+    }
+
+    public static CacheStats getComponentCacheStats() {
+        return COMPONENT_CACHE.stats();
+    }
+
+    private static StyledText convertComponent(Component component) {
         List<StyledTextPart> parts = new ArrayList<>();
 
         // Walk the component tree using DFS
         // Component#visit behaves weirdly, so we do it manually
         // Save the style of the parent component so we can inherit it
-        Deque<Pair<Component, Style>> deque = new LinkedList<>();
+        collectParts(component, Style.EMPTY, parts);
+
+        return fromParts(parts);
+    }
 
-        deque.add(new Pair<>(component, Style.EMPTY));
+    private static void collectParts(Component current, Style parentStyle, List<StyledTextPart> parts) {
+        // We use getContents here to get this and only this component's string.
+        String componentString = current.getContents() instanceof PlainTextContents plainTextContents
+                ? plainTextContents.text()
+                : MutableComponent.create(current.getContents()).getString();
 
-        while (!deque.isEmpty()) {
-            Pair<Component, Style> currentPair = deque.pop();
-            Component current = currentPair.key();
-            Style parentStyle = currentPair.value();
+        // Disallow empty parts
+        if (!componentString.isEmpty()) {
+            if (componentString.indexOf(ChatFormatting.PREFIX_CODE) == -1) {
+                // Without formatting codes, the component maps to exactly one part
+                parts.add(new StyledTextPart(componentString, current.getStyle(), null, parentStyle));
+            } else {
+                for (StyledTextPart part :
+                        StyledTextPart.fromCodedString(componentString, current.getStyle(), null, parentStyle)) {
+                    if (!part.isEmpty()) {
+                        parts.add(part);
+                    }
+                }
+            }
+        }
 
-            // We use getContents here to get this and only this component's string.
-            String componentString =
-                    MutableComponent.create(current.getContents()).getString();
+        List<Component> siblings = current.getSiblings();
+        if (siblings.isEmpty()) return;
 
-            List<StyledTextPart> styledTextParts =
-                    StyledTextPart.fromCodedString(componentString, current.getStyle(), null, parentStyle);
+        // Only actual styles are inherited, string formatting codes are not
+        Style styleToFollowForChildren = current.getStyle().applyTo(parentStyle);
 
-            // Only actual styles are inherited, string formatting codes are not
-            Style styleToFollowForChildren = current.getStyle().applyTo(parentStyle);
+        for (Component sibling : siblings) {
+            collectParts(sibling, styleToFollowForChildren, parts);
+        }
+    }
 
-            List<Pair<Component, Style>> siblingPairs = current.getSiblings().stream()
-                    .map(sibling -> new Pair<>(sibling, styleToFollowForChildren))
-                    .collect(Collectors.toList());
+    private static int getComponentShape(Component current) {
+        // Styles and contents are replaced, not modified, when a component is changed,
+        // so their identities and the sibling counts describe the tree well enough
+        List<Component> siblings = current.getSiblings();
 
-            Collections.reverse(siblingPairs);
-            siblingPairs.forEach(deque::addFirst);
+        int shape = System.identityHashCode(current.getContents());
+        shape = 31 * shape + System.identityHashCode(current.getStyle());
+        shape = 31 * shape + siblings.size();
 
-            // Disallow empty parts
-            parts.addAll(
-                    styledTextParts.stream().filter(part -> !part.isEmpty()).toList());
+        for (Component sibling : siblings) {
+            shape = 31 * shape + getComponentShape(sibling);
         }
 
-        return fromParts(parts);
+        return shape;
     }
 
     public static StyledText fromString(String codedString) {
@@ -148,6 +204,35 @@ public final class StyledText implements Iterable<StyledTextPart> {
     // We don't want to expose the actual string to the outside world
     // If you need to do an operation with this string, implement it as a method
     public String getString(PartStyle.StyleType type) {
+        return switch (type) {
+            case DEFAULT -> {
+                String string = defaultString;
+                if (string == null) {
+                    string = buildString(type);
+                    defaultString = string;
+                }
+                yield string;
+            }
+            case NONE -> {
+                String string = noneString;
+                if (string == null) {
+                    string = buildString(type);
+                    noneString = string;
+                }
+                yield string;
+            }
+            case INCLUDE_EVENTS -> {
+                String string = includeEventsString;
+                if (string == null) {
+                    string = buildString(type);
+                    includeEventsString = string;
+                }
+                yield string;
+            }
+        };
+    }
+
+    private String buildString(PartStyle.StyleType type) {
         StringBuilder builder = new StringBuilder();
 
         PartStyle previousStyle = null;
@@ -818,9 +903,20 @@ public final class StyledText implements Iterable<StyledTextPart> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(parts, clickEvents, hoverEvents);
+        int hash = hashCode;
+        if (hash == 0 && !hashCodeIsZero) {
+            hash = Objects.hash(parts, clickEvents, hoverEvents);
+            if (hash == 0) {
+                hashCodeIsZero = true;
+            } else {
+                hashCode = hash;
+            }
+        }
+        return hash;
     }
 
+    private record CachedConversion(StyledText styledText, int shape) {}
+
     public static class StyledTextSerializer implements JsonSerializer<StyledText>, JsonDeserializer<StyledText> {
         @Override
         public StyledText deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
@@ -1,18 +1,18 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.features.inventory;
 
-import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.PoseStack;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.consumers.features.Feature;
 import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.config.Category;
 import com.wynntils.core.persisted.config.Config;
 import com.wynntils.core.persisted.config.ConfigCategory;
+import com.wynntils.mc.event.ContainerSlotsRenderEvent;
 import com.wynntils.mc.event.HotbarSlotRenderEvent;
-import com.wynntils.mc.event.SlotRenderEvent;
 import com.wynntils.models.items.WynnItem;
 import com.wynntils.models.items.WynnItemData;
 import com.wynntils.models.items.items.game.EmeraldPouchItem;
@@ -22,13 +22,12 @@ import com.wynntils.models.items.items.game.PowderItem;
 import com.wynntils.models.items.items.gui.CosmeticItem;
 import com.wynntils.models.items.properties.GearTierItemProperty;
 import com.wynntils.utils.colors.CustomColor;
-import com.wynntils.utils.render.RenderUtils;
 import com.wynntils.utils.render.Texture;
 import com.wynntils.utils.render.buffered.BufferedRenderUtils;
 import java.util.Optional;
 import net.minecraft.ChatFormatting;
+import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
-import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
 
 @ConfigCategory(Category.INVENTORY)
@@ -147,43 +146,59 @@ public class ItemHighlightFeature extends Feature {
     @Persisted
     public final Config<Float> hotbarOpacity = new Config<>(.5f);
 
-    @SubscribeEvent(priority = EventPriority.HIGH)
-    public void onRenderSlot(SlotRenderEvent.CountPre e) {
-        if (!inventoryHighlightEnabled.get()) return;
+    // Bumped on config changes, to invalidate the highlights cached on the items
+    private int configRevision = 0;
 
-        CustomColor color = getHighlightColor(e.getSlot().getItem(), false);
-        if (color == CustomColor.NONE) return;
+    @Override
+    protected void onConfigUpdate(Config<?> config) {
+        configRevision++;
+    }
 
-        RenderSystem.enableDepthTest();
-        RenderUtils.drawTexturedRectWithColor(
-                e.getPoseStack(),
-                Texture.HIGHLIGHT.resource(),
-                color.withAlpha(inventoryOpacity.get()),
-                e.getSlot().x - 1,
-                e.getSlot().y - 1,
-                100,
-                18,
-                18,
-                highlightTexture.get().ordinal() * 18,
-                0,
-                18,
-                18,
-                Texture.HIGHLIGHT.width(),
-                Texture.HIGHLIGHT.height());
-        RenderSystem.disableDepthTest();
+    // Drawn before the slots, so the highlights end up below the items and their decorations
+    @SubscribeEvent
+    public void onRenderSlots(ContainerSlotsRenderEvent.Pre e) {
+        if (!inventoryHighlightEnabled.get()) return;
+
+        PoseStack poseStack = e.getPoseStack();
+        int textureOffset = highlightTexture.get().ordinal() * 18;
+
+        // All highlights go into the same buffer, so they are drawn in a single batch
+        for (Slot slot : e.getSlots()) {
+            if (!slot.isActive()) continue;
+
+            CachedHighlight highlight = getHighlight(slot.getItem());
+            if (highlight == null || highlight.inventoryColor() == CustomColor.NONE) continue;
+
+            BufferedRenderUtils.drawTexturedRectWithColor(
+                    poseStack,
+                    e.getGuiGraphics().bufferSource,
+                    Texture.HIGHLIGHT.resource(),
+                    highlight.inventoryColor(),
+                    slot.x - 1,
+                    slot.y - 1,
+                    100,
+                    18,
+                    18,
+                    textureOffset,
+                    0,
+                    18,
+                    18,
+                    Texture.HIGHLIGHT.width(),
+                    Texture.HIGHLIGHT.height());
+        }
     }
 
     @SubscribeEvent
     public void onRenderHotbarSlot(HotbarSlotRenderEvent.Pre e) {
         if (!hotbarHighlightEnabled.get()) return;
 
-        CustomColor color = getHighlightColor(e.getItemStack(), true);
-        if (color == CustomColor.NONE) return;
+        CachedHighlight highlight = getHighlight(e.getItemStack());
+        if (highlight == null || highlight.hotbarColor() == CustomColor.NONE) return;
 
         BufferedRenderUtils.drawRect(
                 e.getPoseStack(),
                 e.getGuiGraphics().bufferSource,
-                color.withAlpha(hotbarOpacity.get()),
+                highlight.hotbarColor(),
                 e.getX(),
                 e.getY(),
                 0,
@@ -191,18 +206,29 @@ public class ItemHighlightFeature extends Feature {
                 16);
     }
 
-    private CustomColor getHighlightColor(ItemStack itemStack, boolean hotbarHighlight) {
+    private CachedHighlight getHighlight(ItemStack itemStack) {
         Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
-        if (wynnItemOpt.isEmpty()) return CustomColor.NONE;
-
-        WynnItem wynnItem = wynnItemOpt.get();
-        HighlightInfo highlight = wynnItem.getData()
-                .getOrCalculate(WynnItemData.HIGHLIGHT_KEY, () -> calculateHighlightInfo(wynnItemOpt.get()));
-        if (highlight == null) return CustomColor.NONE;
-
-        if (!highlight.isHighlightEnabled()) return CustomColor.NONE;
-
-        return highlight.getHighlightColor();
+        if (wynnItemOpt.isEmpty()) return null;
+
+        WynnItemData data = wynnItemOpt.get().getData();
+        CachedHighlight cached = data.get(WynnItemData.HIGHLIGHT_KEY);
+        if (cached != null && cached.configRevision() == configRevision) return cached;
+
+        // The cache is missing or outdated
+        HighlightInfo highlight = cached == null ? calculateHighlightInfo(wynnItemOpt.get()) : cached.highlight();
+        CustomColor color = highlight == null || !highlight.isHighlightEnabled()
+                ? CustomColor.NONE
+                : highlight.getHighlightColor();
+
+        CachedHighlight newCached = color == CustomColor.NONE
+                ? new CachedHighlight(highlight, configRevision, CustomColor.NONE, CustomColor.NONE)
+                : new CachedHighlight(
+                        highlight,
+                        configRevision,
+                        color.withAlpha(inventoryOpacity.get()),
+                        color.withAlpha(hotbarOpacity.get()));
+        data.store(WynnItemData.HIGHLIGHT_KEY, newCached);
+        return newCached;
     }
 
     private HighlightInfo calculateHighlightInfo(WynnItem wynnItem) {
@@ -228,6 +254,9 @@ public class ItemHighlightFeature extends Feature {
         return null;
     }
 
+    private record CachedHighlight(
+            HighlightInfo highlight, int configRevision, CustomColor inventoryColor, CustomColor hotbarColor) {}
+
     private interface HighlightInfo {
         CustomColor getHighlightColor();
 
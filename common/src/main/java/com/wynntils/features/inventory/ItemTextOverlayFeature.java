@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.features.inventory;
@@ -12,8 +12,8 @@ import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.config.Category;
 import com.wynntils.core.persisted.config.Config;
 import com.wynntils.core.persisted.config.ConfigCategory;
+import com.wynntils.mc.event.ContainerSlotsRenderEvent;
 import com.wynntils.mc.event.HotbarSlotRenderEvent;
-import com.wynntils.mc.event.SlotRenderEvent;
 import com.wynntils.models.dungeon.type.Dungeon;
 import com.wynntils.models.elements.type.Skill;
 import com.wynntils.models.items.WynnItem;
@@ -31,13 +31,15 @@ import com.wynntils.models.items.items.gui.SeaskipperDestinationItem;
 import com.wynntils.models.items.items.gui.SkillPointItem;
 import com.wynntils.utils.MathUtils;
 import com.wynntils.utils.colors.CustomColor;
-import com.wynntils.utils.render.FontRenderer;
 import com.wynntils.utils.render.TextRenderSetting;
 import com.wynntils.utils.render.TextRenderTask;
+import com.wynntils.utils.render.buffered.BufferedFontRenderer;
 import com.wynntils.utils.render.type.TextShadow;
 import java.util.Optional;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.Font;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.bus.api.SubscribeEvent;
 
@@ -121,46 +123,84 @@ public class ItemTextOverlayFeature extends Feature {
     @Persisted
     public final Config<TextShadow> teleportScrollShadow = new Config<>(TextShadow.OUTLINE);
 
+    // Bumped on config changes, to invalidate the overlays cached on the items
+    private int configRevision = 0;
+
+    @Override
+    protected void onConfigUpdate(Config<?> config) {
+        configRevision++;
+    }
+
     @SubscribeEvent
-    public void onRenderSlot(SlotRenderEvent.Post e) {
+    public void onRenderSlots(ContainerSlotsRenderEvent.Post e) {
         if (!inventoryTextOverlayEnabled.get()) return;
 
-        drawTextOverlay(e.getPoseStack(), e.getSlot().getItem(), e.getSlot().x, e.getSlot().y, false);
+        // All overlays go into the same buffer, so they are drawn in a single batch
+        for (Slot slot : e.getSlots()) {
+            if (!slot.isActive()) continue;
+
+            drawTextOverlay(e.getPoseStack(), e.getGuiGraphics().bufferSource, slot.getItem(), slot.x, slot.y);
+        }
     }
 
     @SubscribeEvent
     public void onRenderHotbarSlot(HotbarSlotRenderEvent.Post e) {
         if (!hotbarTextOverlayEnabled.get()) return;
 
-        drawTextOverlay(e.getPoseStack(), e.getItemStack(), e.getX(), e.getY(), true);
+        drawTextOverlay(e.getPoseStack(), e.getGuiGraphics().bufferSource, e.getItemStack(), e.getX(), e.getY());
     }
 
-    private void drawTextOverlay(PoseStack poseStack, ItemStack itemStack, int slotX, int slotY, boolean hotbar) {
-        Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
-        if (wynnItemOpt.isEmpty()) return;
-
-        WynnItem wynnItem = wynnItemOpt.get();
-        TextOverlayInfo overlayProperty =
-                wynnItem.getData().getOrCalculate(WynnItemData.OVERLAY_KEY, () -> calculateOverlay(wynnItem));
-        if (overlayProperty == null) return;
+    private void drawTextOverlay(
+            PoseStack poseStack, MultiBufferSource bufferSource, ItemStack itemStack, int slotX, int slotY) {
+        TextOverlay textOverlay = getTextOverlay(itemStack);
+        if (textOverlay == null) return;
 
-        if (!overlayProperty.isTextOverlayEnabled()) return;
-
-        TextOverlay textOverlay = overlayProperty.getTextOverlay();
-        if (textOverlay == null) {
-            WynntilsMod.error(overlayProperty + "'s textOverlay was null.");
-            return;
-        }
+        TextRenderSetting setting = textOverlay.task().getSetting();
 
         poseStack.pushPose();
         poseStack.translate(0, 0, 300); // items are drawn at z300, so text has to be as well
         poseStack.scale(textOverlay.scale(), textOverlay.scale(), 1f);
         float x = (slotX + textOverlay.xOffset()) / textOverlay.scale();
         float y = (slotY + textOverlay.yOffset()) / textOverlay.scale();
-        FontRenderer.getInstance().renderText(poseStack, x, y, textOverlay.task(), Font.DisplayMode.NORMAL);
+        BufferedFontRenderer.getInstance()
+                .renderText(
+                        poseStack,
+                        bufferSource,
+                        textOverlay.task().getText(),
+                        x,
+                        y,
+                        setting.customColor(),
+                        setting.horizontalAlignment(),
+                        setting.verticalAlignment(),
+                        setting.shadow(),
+                        1f,
+                        Font.DisplayMode.NORMAL);
         poseStack.popPose();
     }
 
+    private TextOverlay getTextOverlay(ItemStack itemStack) {
+        Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
+        if (wynnItemOpt.isEmpty()) return null;
+
+        WynnItemData data = wynnItemOpt.get().getData();
+        CachedOverlay cached = data.get(WynnItemData.OVERLAY_KEY);
+        if (cached != null && cached.configRevision() == configRevision) return cached.textOverlay();
+
+        // The cache is missing or outdated
+        TextOverlayInfo overlayProperty =
+                cached == null ? calculateOverlay(wynnItemOpt.get()) : cached.overlayProperty();
+        TextOverlay textOverlay = null;
+        if (overlayProperty != null && overlayProperty.isTextOverlayEnabled()) {
+            textOverlay = overlayProperty.getTextOverlay();
+            if (textOverlay == null) {
+                WynntilsMod.error(overlayProperty + "'s textOverlay was null.");
+            }
+        }
+
+        data.store(WynnItemData.OVERLAY_KEY, new CachedOverlay(overlayProperty, configRevision, textOverlay));
+        return textOverlay;
+    }
+
     private TextOverlayInfo calculateOverlay(WynnItem wynnItem) {
         if (wynnItem instanceof AmplifierItem amplifierItem) {
             return new AmplifierOverlay(amplifierItem);
@@ -203,6 +243,8 @@ public class ItemTextOverlayFeature extends Feature {
         return useRomanNumerals ? MathUtils.toRoman(value) : String.valueOf(value);
     }
 
+    private record CachedOverlay(TextOverlayInfo overlayProperty, int configRevision, TextOverlay textOverlay) {}
+
     private interface TextOverlayInfo {
         TextOverlay getTextOverlay();
 
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.features.map;
@@ -43,6 +43,10 @@ import org.lwjgl.glfw.GLFW;
 
 @ConfigCategory(Category.MAP)
 public class MainMapFeature extends Feature {
+    // In megabytes, below the minimum the tiles of a single screen of map could be unloaded while panning
+    private static final int MIN_MAP_TEXTURE_MEMORY = 32;
+    private static final int MAX_MAP_TEXTURE_MEMORY = 2048;
+
     @Persisted
     public final HiddenConfig<List<CustomPoi>> customPois = new HiddenConfig<>(new ArrayList<>());
 
@@ -112,6 +116,9 @@ public class MainMapFeature extends Feature {
     @Persisted
     public final Config<Boolean> holdGuildMapOpen = new Config<>(true);
 
+    @Persisted
+    public final Config<Integer> mapTextureMemory = new Config<>(128);
+
     private BlockPos lastChestPos;
 
     @RegisterKeyBind
@@ -196,6 +203,11 @@ public class MainMapFeature extends Feature {
     protected void onConfigUpdate(Config<?> config) {
         if (config == customPois) {
             updateWaypoints();
+        } else if (config == mapTextureMemory) {
+            int clampedMemory = Math.clamp(mapTextureMemory.get(), MIN_MAP_TEXTURE_MEMORY, MAX_MAP_TEXTURE_MEMORY);
+            if (clampedMemory != mapTextureMemory.get()) {
+                mapTextureMemory.setValue(clampedMemory);
+            }
         }
     }
 
@@ -1,9 +1,10 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.features.redirects;
 
+import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.consumers.features.Feature;
 import com.wynntils.core.persisted.Persisted;
@@ -11,12 +12,12 @@ import com.wynntils.core.persisted.config.Category;
 import com.wynntils.core.persisted.config.Config;
 import com.wynntils.core.persisted.config.ConfigCategory;
 import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.chat.ChatMatcherGroup;
 import com.wynntils.handlers.chat.event.ChatMessageReceivedEvent;
 import com.wynntils.handlers.chat.type.MessageType;
 import com.wynntils.models.players.type.PlayerRank;
 import com.wynntils.utils.StringUtils;
 import com.wynntils.utils.mc.StyledTextUtils;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -98,7 +99,7 @@ public class ChatRedirectFeature extends Feature {
     @Persisted
     public final Config<RedirectAction> itemDropped = new Config<>(RedirectAction.REDIRECT);
 
-    private final List<Redirector> redirectors = new ArrayList<>();
+    private final ChatMatcherGroup matchers = Handlers.Chat.createMatcherGroup("ChatRedirectFeature");
 
     public ChatRedirectFeature() {
         register(new BlacksmithRedirector());
@@ -139,31 +140,30 @@ public class ChatRedirectFeature extends Feature {
     }
 
     private void register(Redirector redirector) {
-        redirectors.add(redirector);
+        for (MessageType messageType : MessageType.values()) {
+            Pattern pattern = redirector.getPattern(messageType);
+            if (pattern == null) continue;
+
+            matchers.register(
+                    messageType,
+                    redirector.getLiteral(),
+                    pattern,
+                    () -> redirector.getAction() != RedirectAction.KEEP,
+                    (e, matcher) -> redirect(e, redirector, matcher));
+        }
     }
 
     @SubscribeEvent(priority = EventPriority.HIGH)
     public void onChatMessage(ChatMessageReceivedEvent e) {
-        StyledText message = StyledTextUtils.unwrap(e.getOriginalStyledText()).stripAlignment();
-        MessageType messageType = e.getMessageType();
-
-        for (Redirector redirector : redirectors) {
-            RedirectAction action = redirector.getAction();
-            if (action == RedirectAction.KEEP) continue;
-
-            Pattern pattern = redirector.getPattern(messageType);
-            if (pattern == null) continue;
-
-            Matcher matcher = message.getMatcher(pattern);
+        matchers.dispatch(e, StyledTextUtils.unwrap(e.getOriginalStyledText()).stripAlignment());
+    }
 
-            if (matcher.find()) {
-                e.setCanceled(true);
-                if (redirector.getAction() == RedirectAction.HIDE) continue;
+    private void redirect(ChatMessageReceivedEvent e, Redirector redirector, Matcher matcher) {
+        e.setCanceled(true);
+        if (redirector.getAction() == RedirectAction.HIDE) return;
 
-                for (StyledText notification : redirector.getNotifications(matcher)) {
-                    Managers.Notification.queueMessage(notification);
-                }
-            }
+        for (StyledText notification : redirector.getNotifications(matcher)) {
+            Managers.Notification.queueMessage(notification);
         }
     }
 
@@ -176,6 +176,11 @@ public class ChatRedirectFeature extends Feature {
     protected interface Redirector {
         Pattern getPattern(MessageType messageType);
 
+        /**
+         * Returns a string that occurs in every message matched by the patterns of this redirector.
+         */
+        String getLiteral();
+
         ChatRedirectFeature.RedirectAction getAction();
 
         List<StyledText> getNotifications(Matcher matcher);
@@ -215,6 +220,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "Blacksmith: ";
+        }
+
         @Override
         public RedirectAction getAction() {
             return blacksmith.get();
@@ -238,6 +248,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "enough health to cast";
+        }
+
         @Override
         public RedirectAction getAction() {
             return bloodPactHealth.get();
@@ -260,6 +275,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "Your items are damaged";
+        }
+
         @Override
         public RedirectAction getAction() {
             return craftedDurability.get();
@@ -287,6 +307,11 @@ public class ChatRedirectFeature extends Feature {
             return BACKGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "Your mana bank is empty!";
+        }
+
         @Override
         public RedirectAction getAction() {
             return emptyManaBank.get();
@@ -316,6 +341,11 @@ public class ChatRedirectFeature extends Feature {
             return BACKGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return " has logged into server ";
+        }
+
         @Override
         public RedirectAction getAction() {
             return friendJoin.get();
@@ -348,6 +378,11 @@ public class ChatRedirectFeature extends Feature {
             return BACKGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return " left the game.";
+        }
+
         @Override
         public RedirectAction getAction() {
             return friendJoin.get();
@@ -369,6 +404,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return " ❤]";
+        }
+
         @Override
         public RedirectAction getAction() {
             return heal.get();
@@ -396,6 +436,11 @@ public class ChatRedirectFeature extends Feature {
             return BACKGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return " gave you ";
+        }
+
         @Override
         public RedirectAction getAction() {
             return heal.get();
@@ -418,6 +463,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "your horse has despawned";
+        }
+
         @Override
         public RedirectAction getAction() {
             return horse.get();
@@ -440,6 +490,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "Your horse is scared";
+        }
+
         @Override
         public RedirectAction getAction() {
             return horse.get();
@@ -462,6 +517,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "no room for a horse";
+        }
+
         @Override
         public RedirectAction getAction() {
             return horse.get();
@@ -484,6 +544,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "flown to your housing island";
+        }
+
         @Override
         public RedirectAction getAction() {
             return housingTeleport.get();
@@ -506,6 +571,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "added to your building inventory";
+        }
+
         @Override
         public RedirectAction getAction() {
             return housingMaster.get();
@@ -527,6 +597,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "before joining another house";
+        }
+
         @Override
         public RedirectAction getAction() {
             return housingTeleport.get();
@@ -549,6 +624,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "flown to your original position";
+        }
+
         @Override
         public RedirectAction getAction() {
             return housingTeleport.get();
@@ -571,6 +651,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "before leaving a house";
+        }
+
         @Override
         public RedirectAction getAction() {
             return housingTeleport.get();
@@ -593,6 +678,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "ingredients for a total of";
+        }
+
         @Override
         public RedirectAction getAction() {
             return ingredientPouch.get();
@@ -638,6 +728,11 @@ public class ChatRedirectFeature extends Feature {
             return BACKGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return " has just logged in!";
+        }
+
         @Override
         public RedirectAction getAction() {
             return loginAnnouncements.get();
@@ -663,6 +758,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "you can't teleport";
+        }
+
         @Override
         public RedirectAction getAction() {
             return mageTeleport.get();
@@ -685,6 +785,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "enough mana to cast";
+        }
+
         @Override
         public RedirectAction getAction() {
             return notEnoughMana.get();
@@ -707,6 +812,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "no active totems near you";
+        }
+
         @Override
         public RedirectAction getAction() {
             return shaman.get();
@@ -728,6 +838,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "already have that potion active";
+        }
+
         @Override
         public RedirectAction getAction() {
             return potion.get();
@@ -750,6 +865,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "maximum amount of potions allowed";
+        }
+
         @Override
         public RedirectAction getAction() {
             return potion.get();
@@ -772,6 +892,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "maximum amount of potions allowed";
+        }
+
         @Override
         public RedirectAction getAction() {
             return potion.get();
@@ -794,6 +919,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "One less powerful potion";
+        }
+
         @Override
         public RedirectAction getAction() {
             return potion.get();
@@ -816,6 +946,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "teleport while inside a house";
+        }
+
         @Override
         public RedirectAction getAction() {
             return scrollTeleport.get();
@@ -837,6 +972,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return " speed boost.";
+        }
+
         @Override
         public RedirectAction getAction() {
             return speed.get();
@@ -862,6 +1002,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "Your tool has 0 durability";
+        }
+
         @Override
         public RedirectAction getAction() {
             return toolDurability.get();
@@ -884,6 +1029,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return " unused Ability Point";
+        }
+
         @Override
         public RedirectAction getAction() {
             return unusedPoints.get();
@@ -918,6 +1068,11 @@ public class ChatRedirectFeature extends Feature {
             }
         }
 
+        @Override
+        public String getLiteral() {
+            return " unused Ability Point";
+        }
+
         @Override
         public RedirectAction getAction() {
             return unusedPoints.get();
@@ -943,6 +1098,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return " unused Skill Point";
+        }
+
         @Override
         public RedirectAction getAction() {
             return unusedPoints.get();
@@ -975,6 +1135,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return " the Guild Bank (";
+        }
+
         @Override
         public RedirectAction getAction() {
             return guildBank.get();
@@ -1005,6 +1170,11 @@ public class ChatRedirectFeature extends Feature {
             return FOREGROUND_PATTERN;
         }
 
+        @Override
+        public String getLiteral() {
+            return "Rewards can be claimed in the Member Menu";
+        }
+
         @Override
         public RedirectAction getAction() {
             return guildRewards.get();
@@ -1037,6 +1207,11 @@ public class ChatRedirectFeature extends Feature {
                     .withStyle(ChatFormatting.LIGHT_PURPLE));
         }
 
+        @Override
+        public String getLiteral() {
+            return "Thank you for your business";
+        }
+
         @Override
         public RedirectAction getAction() {
             return merchant.get();
@@ -1059,6 +1234,11 @@ public class ChatRedirectFeature extends Feature {
                             .withStyle(ChatFormatting.GRAY));
         }
 
+        @Override
+        public String getLiteral() {
+            return "enough room in your inventory";
+        }
+
         @Override
         public RedirectAction getAction() {
             return itemDropped.get();
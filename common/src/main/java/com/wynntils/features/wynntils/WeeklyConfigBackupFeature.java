@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.features.wynntils;
@@ -52,24 +52,24 @@ public class WeeklyConfigBackupFeature extends Feature {
 
             WynntilsMod.info("Created backup of user config file: " + configBackupFile.getName());
 
-            File userStorageFile = Managers.Storage.getUserStorageFile();
+            File userStorageDir = Managers.Storage.getUserStorageDir();
 
-            if (userStorageFile == null) {
-                WynntilsMod.warn("Failed to create backup of user storage file: user storage file is null");
+            if (userStorageDir == null) {
+                WynntilsMod.warn("Failed to create backup of user storage: user storage directory is null");
                 return;
             }
 
-            File storageBackupFile =
-                    new File(BACKUPS_DIR, userStorageFile.getName() + "-backup-" + currentTime + ".json");
+            File storageBackupDir = new File(BACKUPS_DIR, userStorageDir.getName() + "-backup-" + currentTime);
 
             try {
-                FileUtils.copyFile(userStorageFile, storageBackupFile);
+                // Skip the previous versions kept by savePreciousJson
+                FileUtils.copyDirectory(userStorageDir, storageBackupDir, file -> file.getName().endsWith(".json"));
             } catch (Exception e) {
-                WynntilsMod.warn("Failed to create backup of user storage file: " + e.getMessage());
+                WynntilsMod.warn("Failed to create backup of user storage: " + e.getMessage());
                 return;
             }
 
-            WynntilsMod.info("Created backup of user storage file: " + storageBackupFile.getName());
+            WynntilsMod.info("Created backup of user storage: " + storageBackupDir.getName());
 
             // Save the time of the backup after we've finished saving the backup
             lastBackup.store(currentTime);
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.functions;
@@ -7,6 +7,7 @@ package com.wynntils.functions;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.consumers.functions.Function;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
+import com.wynntils.core.consumers.functions.type.InvalidationSource;
 import com.wynntils.core.text.PartStyle;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.models.inventory.type.InventoryAccessory;
@@ -20,10 +21,15 @@ import com.wynntils.utils.type.NamedValue;
 import com.wynntils.utils.wynn.InventoryUtils;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import net.minecraft.world.item.ItemStack;
 
 public class InventoryFunctions {
+    // The inventory model only updates its slot counts when a slot is set or the world changes
+    private static final Set<InvalidationSource> INVENTORY_INVALIDATION =
+            Set.of(InvalidationSource.INVENTORY, InvalidationSource.WORLD_STATE);
+
     public static class AccessoryDurabilityFunction extends Function<CappedValue> {
         @Override
         public CappedValue getValue(FunctionArguments arguments) {
@@ -83,6 +89,11 @@ public class InventoryFunctions {
         public CappedValue getValue(FunctionArguments arguments) {
             return Models.Inventory.getInventorySlots();
         }
+
+        @Override
+        public Set<InvalidationSource> getInvalidationSources() {
+            return INVENTORY_INVALIDATION;
+        }
     }
 
     public static class CappedIngredientPouchSlotsFunction extends Function<CappedValue> {
@@ -90,6 +101,11 @@ public class InventoryFunctions {
         public CappedValue getValue(FunctionArguments arguments) {
             return Models.Inventory.getIngredientPouchSlots();
         }
+
+        @Override
+        public Set<InvalidationSource> getInvalidationSources() {
+            return INVENTORY_INVALIDATION;
+        }
     }
 
     public static class CappedHeldItemDurabilityFunction extends Function<CappedValue> {
@@ -175,6 +191,11 @@ public class InventoryFunctions {
             return Models.Inventory.getInventorySlots().getRemaining();
         }
 
+        @Override
+        public Set<InvalidationSource> getInvalidationSources() {
+            return INVENTORY_INVALIDATION;
+        }
+
         @Override
         protected List<String> getAliases() {
             return List.of("inv_free");
@@ -187,6 +208,11 @@ public class InventoryFunctions {
             return Models.Inventory.getInventorySlots().current();
         }
 
+        @Override
+        public Set<InvalidationSource> getInvalidationSources() {
+            return INVENTORY_INVALIDATION;
+        }
+
         @Override
         protected List<String> getAliases() {
             return List.of("inv_used");
@@ -199,6 +225,11 @@ public class InventoryFunctions {
             return Models.Inventory.getIngredientPouchSlots().getRemaining();
         }
 
+        @Override
+        public Set<InvalidationSource> getInvalidationSources() {
+            return INVENTORY_INVALIDATION;
+        }
+
         @Override
         protected List<String> getAliases() {
             return List.of("pouch_open", "pouch_free");
@@ -211,6 +242,11 @@ public class InventoryFunctions {
             return Models.Inventory.getIngredientPouchSlots().current();
         }
 
+        @Override
+        public Set<InvalidationSource> getInvalidationSources() {
+            return INVENTORY_INVALIDATION;
+        }
+
         @Override
         protected List<String> getAliases() {
             return List.of("pouch_used");
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.functions;
@@ -7,7 +7,9 @@ package com.wynntils.functions;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.consumers.functions.Function;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
+import com.wynntils.core.consumers.functions.type.InvalidationSource;
 import java.util.List;
+import java.util.Set;
 
 public class SocialFunctions {
     public static class FriendsFunction extends Function<Integer> {
@@ -15,6 +17,12 @@ public class SocialFunctions {
         public Integer getValue(FunctionArguments arguments) {
             return Models.Friends.getFriends().size();
         }
+
+        @Override
+        public Set<InvalidationSource> getInvalidationSources() {
+            // The friend list is only parsed from chat, and reset on world change
+            return Set.of(InvalidationSource.CHAT, InvalidationSource.WORLD_STATE);
+        }
     }
 
     public static class PartyMembersFunction extends Function<Integer> {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.functions;
@@ -8,6 +8,7 @@ import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Services;
 import com.wynntils.core.consumers.functions.Function;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
+import com.wynntils.core.consumers.functions.type.InvalidationSource;
 import com.wynntils.models.mobtotem.MobTotem;
 import com.wynntils.models.territories.profile.TerritoryProfile;
 import com.wynntils.models.token.type.TokenGatekeeper;
@@ -17,6 +18,7 @@ import com.wynntils.utils.mc.type.Location;
 import com.wynntils.utils.type.CappedValue;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 public class WorldFunctions {
     public static class CurrentWorldFunction extends Function<String> {
@@ -33,6 +35,11 @@ public class WorldFunctions {
             return currentWorldName.isEmpty() ? NO_DATA : currentWorldName;
         }
 
+        @Override
+        public Set<InvalidationSource> getInvalidationSources() {
+            return Set.of(InvalidationSource.WORLD_STATE);
+        }
+
         @Override
         protected List<String> getAliases() {
             return List.of("world");
@@ -98,6 +105,11 @@ public class WorldFunctions {
         public String getValue(FunctionArguments arguments) {
             return Models.WorldState.getCurrentState().toString().toUpperCase(Locale.ROOT);
         }
+
+        @Override
+        public Set<InvalidationSource> getInvalidationSources() {
+            return Set.of(InvalidationSource.WORLD_STATE);
+        }
     }
 
     public static class InStreamFunction extends Function<Boolean> {
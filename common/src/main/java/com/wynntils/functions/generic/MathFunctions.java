@@ -1,12 +1,14 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.functions.generic;
 
 import com.wynntils.core.consumers.functions.GenericFunction;
 import com.wynntils.core.consumers.functions.arguments.FunctionArguments;
+import com.wynntils.core.consumers.functions.type.InvalidationSource;
 import java.util.List;
+import java.util.Set;
 
 public final class MathFunctions {
     public static class AddFunction extends GenericFunction<Double> {
@@ -231,6 +233,12 @@ public final class MathFunctions {
             return (Math.random() * (max - min)) + min;
         }
 
+        @Override
+        public Set<InvalidationSource> getInvalidationSources() {
+            // Unlike other generic functions, this one is not pure, so roll a new value every tick
+            return Set.of(InvalidationSource.TICK);
+        }
+
         @Override
         public FunctionArguments.RequiredArgumentBuilder getRequiredArgumentsBuilder() {
             return new FunctionArguments.RequiredArgumentBuilder(List.of(
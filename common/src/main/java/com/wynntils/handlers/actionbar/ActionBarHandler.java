@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.actionbar;
@@ -8,6 +8,7 @@ import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Handler;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.text.StyledText;
+import com.wynntils.core.text.StyledTextPart;
 import com.wynntils.handlers.actionbar.event.ActionBarRenderEvent;
 import com.wynntils.handlers.actionbar.event.ActionBarUpdatedEvent;
 import com.wynntils.mc.event.ChatPacketReceivedEvent;
@@ -15,8 +16,9 @@ import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.models.worlds.type.WorldState;
 import com.wynntils.utils.type.IterationDecision;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import net.minecraft.resources.ResourceLocation;
 import net.neoforged.bus.api.SubscribeEvent;
 
@@ -32,9 +34,13 @@ public final class ActionBarHandler extends Handler {
 
     private final List<ActionBarSegmentMatcher> segmentMatchers = new ArrayList<>();
 
+    private StyledText lastPacketText = StyledText.EMPTY;
     private StyledText lastParsedActionBarText = StyledText.EMPTY;
     private List<ActionBarSegment> lastMatchedSegments = new ArrayList<>();
 
+    // The last match of each matcher, reused while the matcher is given the same span again
+    private final Map<ActionBarSegmentMatcher, SpanMatch> lastMatchesByMatcher = new IdentityHashMap<>();
+
     public void registerSegment(ActionBarSegmentMatcher segmentMatcher) {
         segmentMatchers.add(segmentMatcher);
     }
@@ -45,22 +51,20 @@ public final class ActionBarHandler extends Handler {
         if (Models.WorldState.onWorld()) {
             StyledText packetText = StyledText.fromComponent(event.getMessage());
 
-            // Separate the action bar text from the coordinates
-            StyledText actionBarText = packetText.iterate((part, changes) -> {
-                if (!ACTION_BAR_FONT.equals(part.getPartStyle().getFont())) {
-                    changes.remove(part);
+            // Separate the action bar text from the coordinates, in a single pass over the parts
+            List<StyledTextPart> actionBarParts = new ArrayList<>();
+            List<StyledTextPart> coordinatesParts = new ArrayList<>();
+            for (StyledTextPart part : packetText) {
+                ResourceLocation font = part.getPartStyle().getFont();
+                if (ACTION_BAR_FONT.equals(font)) {
+                    actionBarParts.add(part);
+                } else if (COORDINATES_FONT.equals(font)) {
+                    coordinatesParts.add(part);
                 }
+            }
 
-                return IterationDecision.CONTINUE;
-            });
-
-            StyledText coordinatesText = packetText.iterate((part, changes) -> {
-                if (!COORDINATES_FONT.equals(part.getPartStyle().getFont())) {
-                    changes.remove(part);
-                }
-
-                return IterationDecision.CONTINUE;
-            });
+            StyledText actionBarText = StyledText.fromParts(actionBarParts);
+            StyledText coordinatesText = StyledText.fromParts(coordinatesParts);
 
             if (actionBarText.isEmpty()) {
                 WynntilsMod.warn("Failed to find action bar text in packet: " + packetText.getString());
@@ -70,18 +74,23 @@ public final class ActionBarHandler extends Handler {
             List<ActionBarSegment> matchedSegments;
 
             // Skip parsing if the action bar text is the same as the last parsed one
-            if (lastParsedActionBarText.equals(packetText)) {
+            // (the coordinates are not parsed, so they are not compared)
+            if (lastParsedActionBarText.equals(actionBarText)) {
                 matchedSegments = lastMatchedSegments;
             } else {
                 matchedSegments = parseActionBarSegments(actionBarText);
 
-                lastParsedActionBarText = packetText;
+                lastParsedActionBarText = actionBarText;
                 lastMatchedSegments = matchedSegments;
 
                 if (WynntilsMod.isDevelopmentBuild() || WynntilsMod.isDevelopmentEnvironment()) {
                     debugChecks(matchedSegments, actionBarText);
                 }
+            }
 
+            // Listeners are still updated when only the coordinates changed
+            if (!lastPacketText.equals(packetText)) {
+                lastPacketText = packetText;
                 WynntilsMod.postEvent(new ActionBarUpdatedEvent(matchedSegments));
             }
 
@@ -126,27 +135,61 @@ public final class ActionBarHandler extends Handler {
 
     @SubscribeEvent
     public void onWorldStateChange(WorldStateEvent event) {
+        lastPacketText = StyledText.EMPTY;
         lastParsedActionBarText = StyledText.EMPTY;
         lastMatchedSegments = new ArrayList<>();
+        lastMatchesByMatcher.clear();
     }
 
     public List<ActionBarSegment> parseActionBarSegments(StyledText actionBarText) {
         List<ActionBarSegment> matchedSegments = new ArrayList<>();
 
-        for (ActionBarSegmentMatcher segmentMatcher : segmentMatchers) {
-            ActionBarSegment parsedSegment =
-                    segmentMatcher.parse(actionBarText.getString().replaceAll("%", ""));
-            if (parsedSegment == null) continue;
+        // The spans of the action bar text which are not matched yet, in order
+        // Each matched segment splits its span, so matchers never see text joined across a matched segment
+        List<String> unmatchedSpans = new ArrayList<>();
+        unmatchedSpans.add(actionBarText.getString());
 
-            matchedSegments.add(parsedSegment);
-            actionBarText = actionBarText.replaceFirst(parsedSegment.getSegmentText(), "%");
+        for (ActionBarSegmentMatcher segmentMatcher : segmentMatchers) {
+            SpanMatch lastMatch = lastMatchesByMatcher.get(segmentMatcher);
+            lastMatchesByMatcher.remove(segmentMatcher);
+
+            for (int i = 0; i < unmatchedSpans.size(); i++) {
+                String span = unmatchedSpans.get(i);
+
+                // Given the same span as last time, the matcher would parse the same segment
+                ActionBarSegment parsedSegment = lastMatch != null && lastMatch.span().equals(span)
+                        ? lastMatch.segment()
+                        : segmentMatcher.parse(span);
+                if (parsedSegment == null) continue;
+
+                lastMatchesByMatcher.put(segmentMatcher, new SpanMatch(span, parsedSegment));
+                matchedSegments.add(parsedSegment);
+
+                String segmentText = parsedSegment.getSegmentText();
+                int segmentStart = span.indexOf(segmentText);
+                if (segmentStart != -1) {
+                    unmatchedSpans.remove(i);
+                    String after = span.substring(segmentStart + segmentText.length());
+                    if (!after.isEmpty()) {
+                        unmatchedSpans.add(i, after);
+                    }
+                    String before = span.substring(0, segmentStart);
+                    if (!before.isEmpty()) {
+                        unmatchedSpans.add(i, before);
+                    }
+                }
+                break;
+            }
         }
 
         // Check if there is any leftover text, add them as separate fallback segments
         // (as we could be missing a segment matcher in separate, not continuous parts of the action bar text)
-        Arrays.stream(actionBarText.split("%"))
-                .filter(text -> !text.isEmpty())
-                .forEach(part -> matchedSegments.add(FALLBACK_SEGMENT_MATCHER.parse(part.getString())));
+        for (String span : unmatchedSpans) {
+            // Formatting left behind by a matched segment is not a segment
+            if (StyledText.fromString(span).getStringWithoutFormatting().isEmpty()) continue;
+
+            matchedSegments.add(FALLBACK_SEGMENT_MATCHER.parse(span));
+        }
 
         return matchedSegments;
     }
@@ -175,6 +218,8 @@ public final class ActionBarHandler extends Handler {
         }
     }
 
+    private record SpanMatch(String span, ActionBarSegment segment) {}
+
     private static final class FallbackSegment extends ActionBarSegment {
         private FallbackSegment(String segmentText) {
             super(segmentText);
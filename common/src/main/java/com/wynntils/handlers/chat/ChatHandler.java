@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.chat;
@@ -101,6 +101,8 @@ public final class ChatHandler extends Handler {
     private long chatScreenTicks = 0;
     private List<StyledText> collectedLines = new ArrayList<>();
 
+    private final ChatMatcherRegistry matcherRegistry = new ChatMatcherRegistry();
+
     @SubscribeEvent
     public void onConnectionChange(WynncraftConnectionEvent.Connected event) {
         // Reset chat handler
@@ -173,6 +175,22 @@ public final class ChatHandler extends Handler {
         }
     }
 
+    /**
+     * Creates a group for the chat patterns of a consumer, which shares a single literal prefilter with all other
+     * groups. The name is only used to show the match statistics.
+     */
+    public ChatMatcherGroup createMatcherGroup(String name) {
+        return matcherRegistry.createGroup(name);
+    }
+
+    public List<ChatMatcherGroup> getMatcherGroups() {
+        return Collections.unmodifiableList(matcherRegistry.getGroups());
+    }
+
+    public void resetMatcherStats() {
+        matcherRegistry.getGroups().forEach(ChatMatcherGroup::resetStats);
+    }
+
     public boolean hasSlowdown() {
         return lastSlowdownApplied != 0;
     }
@@ -583,7 +601,7 @@ public final class ChatHandler extends Handler {
         Models.NpcDialogue.handleDialogue(dialogue, isProtected, type);
     }
 
-    private RecipientType getRecipientType(StyledText codedMessage, MessageType messageType) {
+    static RecipientType getRecipientType(StyledText codedMessage, MessageType messageType) {
         // Check if message match a recipient category
         for (RecipientType recipientType : RecipientType.values()) {
             if (recipientType.matchPattern(codedMessage, messageType)) {
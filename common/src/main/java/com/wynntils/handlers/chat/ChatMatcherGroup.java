@@ -0,0 +1,141 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.chat;
+
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.chat.event.ChatMessageReceivedEvent;
+import com.wynntils.handlers.chat.type.ChatMatchListener;
+import com.wynntils.handlers.chat.type.MessageType;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The chat patterns of a single consumer, created by {@link ChatHandler#createMatcherGroup(String)}.
+ * <p>
+ * Every pattern is registered with a literal that occurs in every message it can match. When a message is
+ * dispatched, the literals of all groups are searched for in one pass, and only the patterns whose literal
+ * was found are run.
+ */
+public final class ChatMatcherGroup {
+    private final ChatMatcherRegistry registry;
+    private final String name;
+    private final List<ChatMatcher> matchers = new ArrayList<>();
+
+    ChatMatcherGroup(ChatMatcherRegistry registry, String name) {
+        this.registry = registry;
+        this.name = name;
+    }
+
+    public ChatMatcherGroup register(
+            MessageType messageType, String literal, Pattern pattern, ChatMatchListener listener) {
+        return register(messageType, literal, pattern, () -> true, listener);
+    }
+
+    /**
+     * Registers a pattern, which is only tried while the condition holds.
+     * @param literal A string that occurs in every message the pattern matches, or null if there is none.
+     */
+    public ChatMatcherGroup register(
+            MessageType messageType,
+            String literal,
+            Pattern pattern,
+            BooleanSupplier condition,
+            ChatMatchListener listener) {
+        int literalId = literal == null ? -1 : registry.getLiteralId(literal);
+        matchers.add(new ChatMatcher(messageType, literalId, pattern, condition, listener));
+        return this;
+    }
+
+    /**
+     * Tries the candidate patterns on the text, in the order they were registered, and notifies the
+     * listeners of those that matched.
+     * @param text The text the patterns are matched against, which is usually derived from the message of the event.
+     * @return Whether any pattern matched.
+     */
+    public boolean dispatch(ChatMessageReceivedEvent event, StyledText text) {
+        String string = text.getString();
+        BitSet literals = registry.findLiterals(string);
+        boolean matched = false;
+
+        for (ChatMatcher chatMatcher : matchers) {
+            if (chatMatcher.messageType != event.getMessageType()) continue;
+            if (!chatMatcher.condition.getAsBoolean()) continue;
+
+            if (chatMatcher.literalId != -1 && !literals.get(chatMatcher.literalId)) {
+                chatMatcher.skipped++;
+                continue;
+            }
+
+            long startTime = System.nanoTime();
+            Matcher matcher = chatMatcher.pattern.matcher(string);
+            boolean found = matcher.find();
+            chatMatcher.tried++;
+            chatMatcher.nanos += System.nanoTime() - startTime;
+            if (!found) continue;
+
+            chatMatcher.matched++;
+            matched = true;
+            chatMatcher.listener.onMatch(event, matcher);
+        }
+
+        return matched;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<PatternStats> getStats() {
+        return matchers.stream()
+                .map(matcher -> new PatternStats(
+                        matcher.pattern.pattern(), matcher.tried, matcher.matched, matcher.skipped, matcher.nanos))
+                .toList();
+    }
+
+    void resetStats() {
+        for (ChatMatcher matcher : matchers) {
+            matcher.tried = 0;
+            matcher.matched = 0;
+            matcher.skipped = 0;
+            matcher.nanos = 0;
+        }
+    }
+
+    /**
+     * @param tried The number of messages the pattern was run on
+     * @param skipped The number of messages the pattern was not run on, because its literal was missing
+     */
+    public record PatternStats(String pattern, long tried, long matched, long skipped, long nanos) {}
+
+    private static final class ChatMatcher {
+        private final MessageType messageType;
+        private final int literalId;
+        private final Pattern pattern;
+        private final BooleanSupplier condition;
+        private final ChatMatchListener listener;
+
+        private long tried = 0;
+        private long matched = 0;
+        private long skipped = 0;
+        private long nanos = 0;
+
+        private ChatMatcher(
+                MessageType messageType,
+                int literalId,
+                Pattern pattern,
+                BooleanSupplier condition,
+                ChatMatchListener listener) {
+            this.messageType = messageType;
+            this.literalId = literalId;
+            this.pattern = pattern;
+            this.condition = condition;
+            this.listener = listener;
+        }
+    }
+}
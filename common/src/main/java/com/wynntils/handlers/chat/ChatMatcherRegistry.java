@@ -0,0 +1,84 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.chat;
+
+import com.wynntils.utils.type.MultiStringMatcher;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The literals of all {@link ChatMatcherGroup}s, and the prefilter that finds them in chat messages.
+ */
+final class ChatMatcherRegistry {
+    // Consumers usually match against one or two variants of every message, so remember the last few searches
+    private static final int CACHED_SEARCHES = 4;
+
+    private final List<ChatMatcherGroup> groups = new ArrayList<>();
+    private final Object2IntMap<String> literalIds = new Object2IntOpenHashMap<>();
+    private final List<String> literals = new ArrayList<>();
+
+    private MultiStringMatcher prefilter = null;
+
+    private final String[] cachedTexts = new String[CACHED_SEARCHES];
+    private final BitSet[] cachedResults = new BitSet[CACHED_SEARCHES];
+    private int nextCacheSlot = 0;
+
+    ChatMatcherRegistry() {
+        literalIds.defaultReturnValue(-1);
+    }
+
+    ChatMatcherGroup createGroup(String name) {
+        ChatMatcherGroup group = new ChatMatcherGroup(this, name);
+        groups.add(group);
+        return group;
+    }
+
+    List<ChatMatcherGroup> getGroups() {
+        return groups;
+    }
+
+    int getLiteralId(String literal) {
+        int id = literalIds.getInt(literal);
+        if (id != -1) return id;
+
+        id = literals.size();
+        literals.add(literal);
+        literalIds.put(literal, id);
+
+        // Rebuilt on the next search
+        prefilter = null;
+        return id;
+    }
+
+    /**
+     * Returns the ids of the registered literals that occur in the text.
+     */
+    BitSet findLiterals(String text) {
+        if (prefilter == null) {
+            prefilter = new MultiStringMatcher(literals);
+            clearCache();
+        }
+
+        for (int i = 0; i < CACHED_SEARCHES; i++) {
+            if (text.equals(cachedTexts[i])) return cachedResults[i];
+        }
+
+        BitSet result = prefilter.findAll(text);
+        cachedTexts[nextCacheSlot] = text;
+        cachedResults[nextCacheSlot] = result;
+        nextCacheSlot = (nextCacheSlot + 1) % CACHED_SEARCHES;
+        return result;
+    }
+
+    private void clearCache() {
+        for (int i = 0; i < CACHED_SEARCHES; i++) {
+            cachedTexts[i] = null;
+            cachedResults[i] = null;
+        }
+    }
+}
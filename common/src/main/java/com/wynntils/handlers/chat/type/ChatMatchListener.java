@@ -0,0 +1,17 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.chat.type;
+
+import com.wynntils.handlers.chat.event.ChatMessageReceivedEvent;
+import java.util.regex.Matcher;
+
+@FunctionalInterface
+public interface ChatMatchListener {
+    /**
+     * Called when a registered pattern matched a chat message.
+     * @param matcher The matcher, positioned on the first match of the pattern.
+     */
+    void onMatch(ChatMessageReceivedEvent event, Matcher matcher);
+}
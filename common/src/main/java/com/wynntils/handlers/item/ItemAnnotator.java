@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2023.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.item;
@@ -10,4 +10,12 @@ import net.minecraft.world.item.ItemStack;
 @FunctionalInterface
 public interface ItemAnnotator {
     ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name);
+
+    /**
+     * Returns the cheap pre-conditions an item has to fulfill for this annotator to be consulted.
+     * Annotators which do not declare any are always consulted.
+     */
+    default ItemAnnotatorFilter getFilter() {
+        return ItemAnnotatorFilter.ANY;
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.item;
+
+import com.wynntils.core.text.StyledText;
+import com.wynntils.utils.mc.LoreUtils;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Cheap pre-conditions an item must fulfill for an {@link ItemAnnotator} to be able to annotate it.
+ * These are used by {@link ItemHandler} to skip annotators that can't possibly match, without running their regexes.
+ * <p>
+ * Filters must never reject an item the annotator would accept. All conditions are checked against
+ * the (simplified) name as passed to {@link ItemAnnotator#getAnnotation}, using its default formatting codes.
+ *
+ * @param items the vanilla item types accepted, or empty for any type
+ * @param namePrefixes the coded strings the name can start with, or empty for any name
+ * @param nameKeyword a coded string the name must contain, or null
+ * @param loreMarkers coded strings, at least one of which must be contained in a lore line, or empty for any lore
+ */
+public record ItemAnnotatorFilter(
+        Set<Item> items, List<String> namePrefixes, String nameKeyword, List<String> loreMarkers) {
+    public static final ItemAnnotatorFilter ANY = new ItemAnnotatorFilter(Set.of(), List.of(), null, List.of());
+
+    public static ItemAnnotatorFilter items(Item... items) {
+        return ANY.withItems(items);
+    }
+
+    public static ItemAnnotatorFilter namePrefixes(String... namePrefixes) {
+        return ANY.withNamePrefixes(namePrefixes);
+    }
+
+    public static ItemAnnotatorFilter nameKeyword(String nameKeyword) {
+        return ANY.withNameKeyword(nameKeyword);
+    }
+
+    public static ItemAnnotatorFilter loreMarkers(String... loreMarkers) {
+        return ANY.withLoreMarkers(loreMarkers);
+    }
+
+    public ItemAnnotatorFilter withItems(Item... items) {
+        return new ItemAnnotatorFilter(Set.copyOf(Arrays.asList(items)), namePrefixes, nameKeyword, loreMarkers);
+    }
+
+    public ItemAnnotatorFilter withNamePrefixes(String... namePrefixes) {
+        return new ItemAnnotatorFilter(items, List.of(namePrefixes), nameKeyword, loreMarkers);
+    }
+
+    public ItemAnnotatorFilter withNameKeyword(String nameKeyword) {
+        return new ItemAnnotatorFilter(items, namePrefixes, nameKeyword, loreMarkers);
+    }
+
+    public ItemAnnotatorFilter withLoreMarkers(String... loreMarkers) {
+        return new ItemAnnotatorFilter(items, namePrefixes, nameKeyword, List.of(loreMarkers));
+    }
+
+    boolean acceptsItem(Item item) {
+        return items.isEmpty() || items.contains(item);
+    }
+
+    /**
+     * Checks if any of the name prefixes is compatible with the given start of a name,
+     * which is used as a dispatch key, and is at most as long as the prefixes.
+     */
+    boolean acceptsNameStart(String nameStart) {
+        if (namePrefixes.isEmpty()) return true;
+
+        for (String namePrefix : namePrefixes) {
+            int length = Math.min(namePrefix.length(), nameStart.length());
+            if (namePrefix.regionMatches(0, nameStart, 0, length)) return true;
+        }
+
+        return false;
+    }
+
+    boolean accepts(ItemStack itemStack, String name) {
+        if (nameKeyword != null && !name.contains(nameKeyword)) return false;
+
+        if (!namePrefixes.isEmpty() && !acceptsNamePrefix(name)) return false;
+
+        return loreMarkers.isEmpty() || hasLoreMarker(itemStack);
+    }
+
+    private boolean acceptsNamePrefix(String name) {
+        for (String namePrefix : namePrefixes) {
+            if (name.startsWith(namePrefix)) return true;
+        }
+
+        return false;
+    }
+
+    private boolean hasLoreMarker(ItemStack itemStack) {
+        for (StyledText line : LoreUtils.getLore(itemStack)) {
+            for (String loreMarker : loreMarkers) {
+                if (line.contains(loreMarker)) return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.item;
@@ -19,6 +19,8 @@ import com.wynntils.models.items.WynnItem;
 import com.wynntils.models.items.WynnItemData;
 import com.wynntils.utils.mc.LoreUtils;
 import com.wynntils.utils.mc.McUtils;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -43,9 +45,14 @@ import net.neoforged.bus.api.SubscribeEvent;
 public class ItemHandler extends Handler {
     private static final List<Item> WILDCARD_ITEMS = List.of(Items.DIAMOND_SHOVEL, Items.DIAMOND_PICKAXE);
 
+    // The length of the name prefix used for dispatching, enough to contain a color code
+    private static final int DISPATCH_NAME_START_LENGTH = 2;
+
     private final List<ItemAnnotator> annotators = new ArrayList<>();
-    private final Map<Class<?>, Integer> profilingTimes = new HashMap<>();
-    private final Map<Class<?>, Integer> profilingCounts = new HashMap<>();
+    // Candidate annotators in registration order, lazily built for each item type and name start
+    private final Map<DispatchKey, List<ItemAnnotator>> dispatchIndex = new HashMap<>();
+    private final Object2LongOpenHashMap<Class<?>> profilingTimes = new Object2LongOpenHashMap<>();
+    private final Object2IntOpenHashMap<Class<?>> profilingCounts = new Object2IntOpenHashMap<>();
     // Keep this as a field just of performance reasons to skip a new allocation in annotate()
     private final List<ItemAnnotator> crashedAnnotators = new ArrayList<>();
     private final List<Pattern> knownMarkerNames = new ArrayList<>();
@@ -68,6 +75,7 @@ public class ItemHandler extends Handler {
 
     public void registerAnnotator(ItemAnnotator annotator) {
         annotators.add(annotator);
+        dispatchIndex.clear();
     }
 
     public void updateItem(ItemStack itemStack, ItemAnnotation annotation, StyledText name) {
@@ -280,18 +288,17 @@ public class ItemHandler extends Handler {
     }
 
     private ItemAnnotation calculateAnnotation(ItemStack itemStack, StyledText name) {
-        long startTime = System.currentTimeMillis();
-
         StyledText simplified = simplifyName(name);
+        String simplifiedString = simplified.getString();
 
         ItemAnnotation annotation = null;
 
-        for (ItemAnnotator annotator : annotators) {
+        for (ItemAnnotator annotator : getCandidateAnnotators(itemStack, simplifiedString)) {
+            if (!annotator.getFilter().accepts(itemStack, simplifiedString)) continue;
+
+            long startTime = System.nanoTime();
             try {
                 annotation = annotator.getAnnotation(itemStack, simplified);
-                if (annotation != null) {
-                    break;
-                }
             } catch (Throwable t) {
                 // We can't disable it right away since that will cause ConcurrentModificationException
                 crashedAnnotators.add(annotator);
@@ -306,13 +313,21 @@ public class ItemHandler extends Handler {
 
                 McUtils.sendErrorToClient("Not all items will be properly parsed.");
             }
+
+            // Measure performance, both for accepted and rejected items
+            logProfilingData(annotator, System.nanoTime() - startTime);
+
+            if (annotation != null) break;
         }
 
         // Hopefully we have none :)
-        for (ItemAnnotator annotator : crashedAnnotators) {
-            annotators.remove(annotator);
+        if (!crashedAnnotators.isEmpty()) {
+            for (ItemAnnotator annotator : crashedAnnotators) {
+                annotators.remove(annotator);
+            }
+            crashedAnnotators.clear();
+            dispatchIndex.clear();
         }
-        crashedAnnotators.clear();
 
         if (annotation == null) return null;
 
@@ -321,12 +336,25 @@ public class ItemHandler extends Handler {
             wynnItem.getData().store(WynnItemData.ITEMSTACK_KEY, itemStack);
         }
 
-        // Measure performance
-        logProfilingData(startTime, annotation);
-
         return annotation;
     }
 
+    private List<ItemAnnotator> getCandidateAnnotators(ItemStack itemStack, String name) {
+        String nameStart = name.substring(0, Math.min(name.length(), DISPATCH_NAME_START_LENGTH));
+        DispatchKey key = new DispatchKey(itemStack.getItem(), nameStart);
+
+        List<ItemAnnotator> candidates = dispatchIndex.get(key);
+        if (candidates == null) {
+            candidates = annotators.stream()
+                    .filter(annotator -> annotator.getFilter().acceptsItem(key.item())
+                            && annotator.getFilter().acceptsNameStart(key.nameStart()))
+                    .toList();
+            dispatchIndex.put(key, candidates);
+        }
+
+        return candidates;
+    }
+
     private StyledText simplifyName(StyledText name) {
         for (Pattern pattern : simplifiablePatterns) {
             Matcher matcher = name.getMatcher(pattern);
@@ -352,17 +380,15 @@ public class ItemHandler extends Handler {
         updateItem(itemStack, annotation, name);
     }
 
-    private void logProfilingData(long startTime, ItemAnnotation annotation) {
-        long endTime = System.currentTimeMillis();
-        int timeSpent = (int) (endTime - startTime);
-        int allTime = profilingTimes.getOrDefault(annotation.getClass(), 0);
-        profilingTimes.put(annotation.getClass(), allTime + timeSpent);
-
-        int allCount = profilingCounts.getOrDefault(annotation.getClass(), 0);
-        profilingCounts.put(annotation.getClass(), allCount + 1);
+    private void logProfilingData(ItemAnnotator annotator, long nanos) {
+        profilingTimes.addTo(annotator.getClass(), nanos);
+        profilingCounts.addTo(annotator.getClass(), 1);
     }
 
-    public Map<Class<?>, Integer> getProfilingTimes() {
+    /**
+     * @return the time spent in each annotator, in nanoseconds
+     */
+    public Map<Class<?>, Long> getProfilingTimes() {
         return profilingTimes;
     }
 
@@ -378,4 +404,6 @@ public class ItemHandler extends Handler {
     public List<ItemAnnotator> getAnnotators() {
         return Collections.unmodifiableList(annotators);
     }
+
+    private record DispatchKey(Item item, String nameStart) {}
 }
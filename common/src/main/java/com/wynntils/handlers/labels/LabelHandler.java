@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.labels;
@@ -18,8 +18,11 @@ import com.wynntils.mc.event.SetEntityDataEvent;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.mc.type.Location;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,39 +33,68 @@ import net.minecraft.world.entity.Display;
 import net.minecraft.world.entity.Entity;
 import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
+import org.apache.commons.lang3.StringUtils;
 
 public class LabelHandler extends Handler {
     private final List<LabelParser> parsers = new ArrayList<>();
 
-    private final Map<Integer, LabelInfo> liveLabels = new HashMap<>();
+    // The parsers that accept labels with a given number of lines
+    private final Int2ObjectMap<List<LabelParser>> parsersByLineCount = new Int2ObjectOpenHashMap<>();
+
+    private final Int2ObjectMap<LabelInfo> liveLabels = new Int2ObjectOpenHashMap<>();
+
+    private final Object2LongOpenHashMap<Class<?>> profilingTimes = new Object2LongOpenHashMap<>();
+    private final Object2IntOpenHashMap<Class<?>> profilingCounts = new Object2IntOpenHashMap<>();
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onEntitySetData(SetEntityDataEvent event) {
+        // Most entity data updates are about other properties, don't look up the entity for them
+        if (!hasLabelData(event)) return;
+
+        Entity entity = McUtils.mc().level.getEntity(event.getId());
+        if (entity == null) return;
+
         // Handle the events regarding the Wynncraft 2.1 TextDisplays
-        handleTextDisplayEvents(event);
+        if (entity instanceof Display.TextDisplay textDisplay) {
+            handleTextDisplayEvents(event, textDisplay);
+        }
 
         // Handle the events regarding the entity labels, which are old (usually armor stands)
-        handleEntityLabelEvents(event);
+        handleEntityLabelEvents(event, entity);
     }
 
-    private void handleTextDisplayEvents(SetEntityDataEvent event) {
-        Entity entity = McUtils.mc().level.getEntity(event.getId());
-        if (!(entity instanceof Display.TextDisplay textDisplay)) return;
+    private static boolean hasLabelData(SetEntityDataEvent event) {
+        for (SynchedEntityData.DataValue<?> packedItem : event.getPackedItems()) {
+            int id = packedItem.id();
+            if (id == Display.TextDisplay.DATA_TEXT_ID.id()
+                    || id == Entity.DATA_CUSTOM_NAME.id()
+                    || id == Entity.DATA_CUSTOM_NAME_VISIBLE.id()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void handleTextDisplayEvents(SetEntityDataEvent event, Display.TextDisplay textDisplay) {
 
         for (SynchedEntityData.DataValue<?> packedItem : event.getPackedItems()) {
             if (packedItem.id() == Display.TextDisplay.DATA_TEXT_ID.id()) {
                 Component oldComponent = textDisplay.getText();
                 Component newComponent = (Component) packedItem.value();
 
+                // Comparing the components is cheaper than converting them
+                if (newComponent.equals(oldComponent)) continue;
+
                 StyledText oldText = StyledText.fromComponent(oldComponent);
                 StyledText newText = StyledText.fromComponent(newComponent);
 
                 // Sometimes there is no actual change; ignore it then
                 if (oldText.equals(newText)) continue;
 
-                LabelInfo labelInfo = tryIdentifyLabel(newText, entity);
+                LabelInfo labelInfo = tryIdentifyLabel(newText, textDisplay);
                 if (labelInfo != null) {
-                    liveLabels.put(entity.getId(), labelInfo);
+                    liveLabels.put(textDisplay.getId(), labelInfo);
                 }
 
                 TextDisplayChangedEvent.Text textChangedEvent =
@@ -88,10 +120,7 @@ public class LabelHandler extends Handler {
         }
     }
 
-    private void handleEntityLabelEvents(SetEntityDataEvent event) {
-        Entity entity = McUtils.mc().level.getEntity(event.getId());
-        if (entity == null) return;
-
+    private void handleEntityLabelEvents(SetEntityDataEvent event, Entity entity) {
         for (SynchedEntityData.DataValue<?> packedItem : event.getPackedItems()) {
             if (packedItem.id() == Entity.DATA_CUSTOM_NAME_VISIBLE.id()) {
                 WynntilsMod.postEvent(new EntityLabelEvent.Visibility(entity, (Boolean) packedItem.value()));
@@ -103,6 +132,8 @@ public class LabelHandler extends Handler {
                 if (value.isEmpty()) continue;
 
                 Component oldNameComponent = entity.getCustomName();
+                if (value.get().equals(oldNameComponent)) continue;
+
                 StyledText oldName =
                         oldNameComponent != null ? StyledText.fromComponent(oldNameComponent) : StyledText.EMPTY;
                 StyledText newName = StyledText.fromComponent(value.get());
@@ -118,11 +149,14 @@ public class LabelHandler extends Handler {
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onEntitiesRemoved(RemoveEntitiesEvent event) {
-        List<LabelInfo> removedLabels = liveLabels.values().stream()
-                .filter(label -> event.getEntityIds().contains(label.getEntity().getId()))
-                .toList();
+        List<LabelInfo> removedLabels = new ArrayList<>();
+        for (int entityId : event.getEntityIds()) {
+            LabelInfo removedLabel = liveLabels.remove(entityId);
+            if (removedLabel != null) {
+                removedLabels.add(removedLabel);
+            }
+        }
 
-        removedLabels.forEach(label -> liveLabels.remove(label.getEntity().getId()));
         WynntilsMod.postEvent(new LabelsRemovedEvent(removedLabels));
     }
 
@@ -135,11 +169,36 @@ public class LabelHandler extends Handler {
 
     public void registerParser(LabelParser labelParser) {
         parsers.add(labelParser);
+        parsersByLineCount.clear();
+    }
+
+    public Map<Class<?>, Long> getProfilingTimes() {
+        return profilingTimes;
+    }
+
+    public Map<Class<?>, Integer> getProfilingCounts() {
+        return profilingCounts;
+    }
+
+    public void resetProfiling() {
+        profilingTimes.clear();
+        profilingCounts.clear();
     }
 
     private LabelInfo tryIdentifyLabel(StyledText name, Entity entity) {
-        for (LabelParser parser : parsers) {
-            LabelInfo info = parser.getInfo(name, Location.containing(entity.position()), entity);
+        int lineCount = StringUtils.countMatches(name.getString(), '\n') + 1;
+        List<LabelParser> candidateParsers = parsersByLineCount.computeIfAbsent(
+                lineCount,
+                count -> parsers.stream()
+                        .filter(parser -> parser.acceptsLineCount(count))
+                        .toList());
+
+        Location location = Location.containing(entity.position());
+        for (LabelParser parser : candidateParsers) {
+            long startTime = System.nanoTime();
+            LabelInfo info = parser.getInfo(name, location, entity);
+            profilingTimes.addTo(parser.getClass(), System.nanoTime() - startTime);
+            profilingCounts.addTo(parser.getClass(), 1);
 
             if (info == null) continue;
 
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.labels.type;
@@ -15,4 +15,12 @@ public interface LabelParser<T extends LabelInfo> {
      * @return The label info, or null if the label is not valid for this parser.
      */
     T getInfo(StyledText label, Location location, Entity entity);
+
+    /**
+     * Returns whether labels with the given number of lines can be parsed by this parser.
+     * Used to skip parsers that can't match a label, without running them.
+     */
+    default boolean acceptsLineCount(int lineCount) {
+        return true;
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.particle;
+
+import com.wynntils.handlers.particle.type.Particle;
+import com.wynntils.handlers.particle.type.ParticlePositions;
+import com.wynntils.handlers.particle.type.ParticleType;
+import com.wynntils.handlers.particle.type.ParticleVerifier;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import net.minecraft.core.particles.ParticleOptions;
+
+/**
+ * Groups incoming particles into candidate shapes, and verifies them with the registered {@link ParticleVerifier}s.
+ * <p>
+ * Candidates are bucketed by their {@link ParticleType}, and by the cell their first particle is in.
+ * A particle is only offered to the candidates of the types compatible with its effect, in the cells around it,
+ * so unrelated particles elsewhere neither cost anything nor break a shape that is being received.
+ * <p>
+ * A particle that none of the candidates around it accept starts a new candidate, even while other candidates are
+ * still being received. Shapes that start while another shape is being received are found this way, while they used
+ * to be missed, as new candidates were only started once no candidates were left.
+ */
+public final class ParticleCandidates {
+    // Verified shapes must fit within a cell, so all candidates a particle can belong to are in the neighbouring cells
+    public static final int CELL_SIZE = 16;
+
+    private final Map<ParticleType, ParticleVerifier> verifiers = new EnumMap<>(ParticleType.class);
+    private final Map<ParticleOptions, List<ParticleType>> typesByEffect = new HashMap<>();
+    private final Map<ParticleType, Long2ObjectMap<List<Candidate>>> candidates = new EnumMap<>(ParticleType.class);
+
+    public void registerVerifier(ParticleType particleType, ParticleVerifier verifier) {
+        if (verifiers.put(particleType, verifier) == null) {
+            typesByEffect
+                    .computeIfAbsent(particleType.getCompatibleParticleEffect(), k -> new ArrayList<>())
+                    .add(particleType);
+            candidates.put(particleType, new Long2ObjectOpenHashMap<>());
+        }
+    }
+
+    public ParticleVerifier getVerifier(ParticleType particleType) {
+        return verifiers.get(particleType);
+    }
+
+    /**
+     * Offers a particle to the candidates around it, or starts a new candidate if none of them accepted it.
+     * @param tick The current tick, used to expire candidates that stopped receiving particles
+     * @param verifiedConsumer Receives the shapes that were completed by this particle
+     */
+    public void addParticle(
+            ParticleOptions effect, double x, double y, double z, long tick, Consumer<Particle> verifiedConsumer) {
+        List<ParticleType> particleTypes = typesByEffect.get(effect);
+        if (particleTypes == null) return;
+
+        int cellX = toCell(x);
+        int cellZ = toCell(z);
+
+        for (ParticleType particleType : particleTypes) {
+            ParticleVerifier verifier = verifiers.get(particleType);
+            Long2ObjectMap<List<Candidate>> cells = candidates.get(particleType);
+
+            boolean accepted = false;
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    long cellKey = toCellKey(cellX + dx, cellZ + dz);
+                    List<Candidate> cell = cells.get(cellKey);
+                    if (cell == null) continue;
+
+                    for (int i = cell.size() - 1; i >= 0; i--) {
+                        Candidate candidate = cell.get(i);
+
+                        // A particle the shape cannot continue with means the shape was not what we are looking for
+                        if (!verifier.verifyNewPosition(candidate.positions, x, y, z)) {
+                            cell.remove(i);
+                            continue;
+                        }
+
+                        candidate.positions.add(x, y, z);
+                        candidate.lastTick = tick;
+                        accepted = true;
+
+                        switch (verifier.verifyCompleteness(candidate.positions)) {
+                            case VERIFIED -> {
+                                verifiedConsumer.accept(verifier.getParticle(candidate.positions));
+
+                                // The other candidates around were made of the same particles, so they are done too
+                                clearNeighbours(cells, cellX, cellZ);
+                                return;
+                            }
+                            case UNVERIFIED -> {
+                                // Do nothing, we will wait for more particles
+                            }
+                            case INVALID -> cell.remove(i);
+                        }
+                    }
+
+                    if (cell.isEmpty()) {
+                        cells.remove(cellKey);
+                    }
+                }
+            }
+
+            if (accepted) continue;
+
+            ParticlePositions positions = new ParticlePositions();
+            if (!verifier.verifyNewPosition(positions, x, y, z)) continue;
+
+            positions.add(x, y, z);
+            cells.computeIfAbsent(toCellKey(cellX, cellZ), k -> new ArrayList<>())
+                    .add(new Candidate(positions, tick));
+        }
+    }
+
+    /**
+     * Removes the candidates that have not received a particle since the given tick.
+     */
+    public void expire(long oldestTick) {
+        for (Long2ObjectMap<List<Candidate>> cells : candidates.values()) {
+            if (cells.isEmpty()) continue;
+
+            cells.values().removeIf(cell -> {
+                cell.removeIf(candidate -> candidate.lastTick < oldestTick);
+                return cell.isEmpty();
+            });
+        }
+    }
+
+    public int getCandidateCount() {
+        int count = 0;
+        for (Long2ObjectMap<List<Candidate>> cells : candidates.values()) {
+            for (List<Candidate> cell : cells.values()) {
+                count += cell.size();
+            }
+        }
+        return count;
+    }
+
+    public void clear() {
+        for (Long2ObjectMap<List<Candidate>> cells : candidates.values()) {
+            cells.clear();
+        }
+    }
+
+    private static void clearNeighbours(Long2ObjectMap<List<Candidate>> cells, int cellX, int cellZ) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                cells.remove(toCellKey(cellX + dx, cellZ + dz));
+            }
+        }
+    }
+
+    private static int toCell(double coordinate) {
+        return Math.floorDiv((int) Math.floor(coordinate), CELL_SIZE);
+    }
+
+    private static long toCellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static final class Candidate {
+        private final ParticlePositions positions;
+        private long lastTick;
+
+        private Candidate(ParticlePositions positions, long lastTick) {
+            this.positions = positions;
+            this.lastTick = lastTick;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.particle;
@@ -7,87 +7,42 @@ package com.wynntils.handlers.particle;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Handler;
 import com.wynntils.handlers.particle.event.ParticleVerifiedEvent;
-import com.wynntils.handlers.particle.type.Particle;
 import com.wynntils.handlers.particle.type.ParticleType;
 import com.wynntils.handlers.particle.type.ParticleVerifier;
-import com.wynntils.handlers.particle.type.UnverifiedParticle;
 import com.wynntils.mc.event.ParticleAddedEvent;
-import java.util.ArrayList;
-import java.util.EnumMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import net.minecraft.core.Position;
-import net.minecraft.world.phys.Vec3;
+import com.wynntils.mc.event.TickEvent;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public class ParticleHandler extends Handler {
-    private final Map<ParticleType, ParticleVerifier> particleVerifiers = new EnumMap<>(ParticleType.class);
+    // Particle groups are sent in one go, so a candidate that got nothing for a second will not be completed
+    private static final int CANDIDATE_EXPIRY_TICKS = 20;
 
-    private final Set<UnverifiedParticle> unverifiedParticles = new HashSet<>();
+    private final ParticleCandidates candidates = new ParticleCandidates();
+
+    private long tick = 0;
 
     @SubscribeEvent
     public void onParticleAdded(ParticleAddedEvent event) {
-        Position particlePosition = new Vec3(event.getX(), event.getY(), event.getZ());
-
-        // We depend on the fact that particle groups are sent in order:
-        // If we have A and B particle animation, then we will receive all A particles, then all B particles
-        if (unverifiedParticles.isEmpty()) {
-            for (ParticleType particleType : particleVerifiers.keySet()) {
-                // Check if the this type is compatible with the particle effect type
-                if (!particleType.getCompatibleParticleEffect().equals(event.getParticle())) continue;
-
-                UnverifiedParticle unverifiedParticleOfType = new UnverifiedParticle(particleType, event.getParticle());
-
-                // Check if the particle passes the verifier
-                if (unverifiedParticleOfType.addNewParticle(particlePosition, event.getParticle())) {
-                    unverifiedParticles.add(unverifiedParticleOfType);
-                }
-            }
-        } else {
-            List<UnverifiedParticle> invalidParticles = new ArrayList<>();
-
-            for (UnverifiedParticle unverifiedParticle : unverifiedParticles) {
-                // Check if the this type is compatible with the particle effect type
-                if (!unverifiedParticle.getParticleEffect().equals(event.getParticle())) continue;
-
-                // Check if the particle passes the verifier
-                if (unverifiedParticle.addNewParticle(particlePosition, event.getParticle())) {
-                    ParticleVerifier.VerificationResult verificationResult = unverifiedParticle.verifyCompleteness();
-
-                    switch (verificationResult) {
-                        case VERIFIED -> {
-                            Particle particle = unverifiedParticle.getParticle();
-                            WynntilsMod.postEvent(new ParticleVerifiedEvent(particle));
-
-                            // We have verified this particle, so we can reset the unverified particles
-                            unverifiedParticles.clear();
-                            return;
-                        }
-                        case UNVERIFIED -> {
-                            // Do nothing, we will wait for more particles
-                        }
-                        case INVALID -> {
-                            invalidParticles.add(unverifiedParticle);
-                        }
-                    }
-                } else {
-                    // This must mean that either this particle is invalid or this particle type is not what we are
-                    // looking for
-                    invalidParticles.add(unverifiedParticle);
-                }
-            }
+        candidates.addParticle(
+                event.getParticle(),
+                event.getX(),
+                event.getY(),
+                event.getZ(),
+                tick,
+                particle -> WynntilsMod.postEvent(new ParticleVerifiedEvent(particle)));
+    }
 
-            invalidParticles.forEach(unverifiedParticles::remove);
-        }
+    @SubscribeEvent
+    public void onTick(TickEvent event) {
+        tick++;
+        candidates.expire(tick - CANDIDATE_EXPIRY_TICKS);
     }
 
     public void registerParticleVerifier(ParticleType particleType, ParticleVerifier particleVerifier) {
-        particleVerifiers.put(particleType, particleVerifier);
+        candidates.registerVerifier(particleType, particleVerifier);
     }
 
     public ParticleVerifier getParticleVerifier(ParticleType particleType) {
-        return particleVerifiers.get(particleType);
+        return candidates.getVerifier(particleType);
     }
 }
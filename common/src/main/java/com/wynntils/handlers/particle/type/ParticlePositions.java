@@ -0,0 +1,54 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.particle.type;
+
+import java.util.Arrays;
+
+/**
+ * The positions of the particles of a candidate shape, in the order they were received.
+ * The coordinates are stored in a flat array, so adding a particle does not allocate.
+ */
+public final class ParticlePositions {
+    private double[] coordinates = new double[3 * 8];
+    private int size = 0;
+
+    public void add(double x, double y, double z) {
+        if (coordinates.length < (size + 1) * 3) {
+            coordinates = Arrays.copyOf(coordinates, coordinates.length * 2);
+        }
+
+        coordinates[size * 3] = x;
+        coordinates[size * 3 + 1] = y;
+        coordinates[size * 3 + 2] = z;
+        size++;
+    }
+
+    public double x(int index) {
+        return coordinates[checkIndex(index) * 3];
+    }
+
+    public double y(int index) {
+        return coordinates[checkIndex(index) * 3 + 1];
+    }
+
+    public double z(int index) {
+        return coordinates[checkIndex(index) * 3 + 2];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return index;
+    }
+}
@@ -1,18 +1,19 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.particle.type;
 
-import java.util.List;
-import net.minecraft.core.Position;
-
 public interface ParticleVerifier {
-    boolean verifyNewPosition(List<Position> positions, Position addedPosition);
+    /**
+     * Returns whether the particle at the given position can be the next particle of the shape.
+     * The positions are empty for the first particle.
+     */
+    boolean verifyNewPosition(ParticlePositions positions, double x, double y, double z);
 
-    VerificationResult verifyCompleteness(List<Position> positions);
+    VerificationResult verifyCompleteness(ParticlePositions positions);
 
-    Particle getParticle(List<Position> positions);
+    Particle getParticle(ParticlePositions positions);
 
     enum VerificationResult {
         VERIFIED,
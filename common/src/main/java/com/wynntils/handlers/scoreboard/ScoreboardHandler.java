@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.scoreboard;
@@ -15,6 +15,7 @@ import com.wynntils.handlers.scoreboard.type.SegmentMatcher;
 import com.wynntils.mc.event.ScoreboardEvent;
 import com.wynntils.mc.event.ScoreboardSetDisplayObjectiveEvent;
 import com.wynntils.mc.event.ScoreboardSetObjectiveEvent;
+import com.wynntils.mc.event.TickEvent;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.models.worlds.type.WorldState;
 import com.wynntils.utils.mc.McUtils;
@@ -49,6 +50,16 @@ public final class ScoreboardHandler extends Handler {
     private String currentScoreboardName = "";
     private List<Pair<ScoreboardPart, ScoreboardSegment>> scoreboardSegments = new ArrayList<>();
 
+    // Wynncraft updates the scoreboard one line at a time, so changes are collected and processed once per tick
+    private boolean updatePending = false;
+    private List<ScoreboardLine> lastScoreboardState = List.of();
+
+    private int updateCount = 0;
+    private int rebuildCount = 0;
+    private long statsWindowStart = 0;
+    private int updatesPerSecond = 0;
+    private int rebuildsPerSecond = 0;
+
     private final List<ScoreboardPart> scoreboardParts = new ArrayList<>();
 
     public void addPart(ScoreboardPart scoreboardPart) {
@@ -67,21 +78,21 @@ public final class ScoreboardHandler extends Handler {
     public void onSetScore(ScoreboardEvent.Set event) {
         if (!currentScoreboardName.equals(event.getObjectiveName())) return;
 
-        handleUpdate();
+        requestUpdate();
     }
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onSetScore(ScoreboardEvent.Reset event) {
         if (!currentScoreboardName.equals(event.getObjectiveName())) return;
 
-        handleUpdate();
+        requestUpdate();
     }
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onSetObjective(ScoreboardSetObjectiveEvent event) {
         if (!currentScoreboardName.equals(event.getObjectiveName())) return;
 
-        handleUpdate();
+        requestUpdate();
     }
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
@@ -89,7 +100,7 @@ public final class ScoreboardHandler extends Handler {
         if (!isValidScoreboardName(event.getObjectiveName())) return;
 
         currentScoreboardName = event.getObjectiveName();
-        handleUpdate();
+        requestUpdate();
 
         event.setCanceled(true);
     }
@@ -102,21 +113,70 @@ public final class ScoreboardHandler extends Handler {
 
         scoreboardSegments = new ArrayList<>();
         currentScoreboardName = "";
+        lastScoreboardState = List.of();
+        updatePending = false;
+    }
+
+    @SubscribeEvent
+    public void onTick(TickEvent event) {
+        long now = System.currentTimeMillis();
+        if (now - statsWindowStart >= 1000) {
+            updatesPerSecond = updateCount;
+            rebuildsPerSecond = rebuildCount;
+            updateCount = 0;
+            rebuildCount = 0;
+            statsWindowStart = now;
+        }
+
+        if (!updatePending || McUtils.player() == null) return;
+
+        updatePending = false;
+        handleUpdate();
+    }
+
+    /**
+     * Returns the number of scoreboard changes received in the last second.
+     */
+    public int getUpdatesPerSecond() {
+        return updatesPerSecond;
+    }
+
+    /**
+     * Returns the number of times the segments were recalculated in the last second.
+     */
+    public int getRebuildsPerSecond() {
+        return rebuildsPerSecond;
+    }
+
+    private void requestUpdate() {
+        updateCount++;
+        updatePending = true;
     }
 
     private void handleUpdate() {
         // 1. Get a reconstructed scoreboard from the current scoreboard state
         List<ScoreboardLine> reconstructedScoreboard = getCurrentScoreboardState(currentScoreboardName);
 
+        // A burst of changes can leave the scoreboard as it was, e.g. when a line is removed and added again
+        if (reconstructedScoreboard.equals(lastScoreboardState)) return;
+
+        lastScoreboardState = reconstructedScoreboard;
+        rebuildCount++;
+
         // 2. Verify that the scoreboard is in a semi-valid state
         // (in a state where we can make sense of it, even if the actual data is still being updated)
         List<ScoreboardPart> validParts = getValidScoreboardParts(reconstructedScoreboard);
 
         // 3. Calculate the scoreboard segments, do segment updates
+        List<ScoreboardSegment> oldSegments =
+                scoreboardSegments.stream().map(Pair::value).toList();
         calculateScoreboardSegments(reconstructedScoreboard, validParts);
 
-        // 4. Create our own scoreboard to hide specific segments
-        createScoreboardFromSegments();
+        // 4. Create our own scoreboard to hide specific segments, unless the visible segments are the same
+        if (!oldSegments.equals(scoreboardSegments.stream().map(Pair::value).toList())
+                || McUtils.player().getScoreboard().getObjective(SCOREBOARD_KEY) == null) {
+            createScoreboardFromSegments();
+        }
     }
 
     private List<ScoreboardLine> getCurrentScoreboardState(String currentScoreboardName) {
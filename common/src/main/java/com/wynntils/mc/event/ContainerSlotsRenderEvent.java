@@ -0,0 +1,58 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.mc.event;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import java.util.List;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.screens.inventory.AbstractContainerScreen;
+import net.minecraft.world.inventory.Slot;
+import net.neoforged.bus.api.Event;
+
+/**
+ * Fired once before and once after all slots of a container are rendered, so slot decorations can be drawn for
+ * the whole container in a single batch, instead of once per {@link SlotRenderEvent}.
+ * The pose stack is translated to the container, like for {@link SlotRenderEvent}.
+ */
+public abstract class ContainerSlotsRenderEvent extends Event {
+    private final AbstractContainerScreen<?> screen;
+    private final GuiGraphics guiGraphics;
+
+    protected ContainerSlotsRenderEvent(AbstractContainerScreen<?> screen, GuiGraphics guiGraphics) {
+        this.screen = screen;
+        this.guiGraphics = guiGraphics;
+    }
+
+    public AbstractContainerScreen<?> getScreen() {
+        return screen;
+    }
+
+    public GuiGraphics getGuiGraphics() {
+        return guiGraphics;
+    }
+
+    public PoseStack getPoseStack() {
+        return guiGraphics.pose();
+    }
+
+    /**
+     * Returns all slots of the container. Like the container itself, skip the slots that are not active.
+     */
+    public List<Slot> getSlots() {
+        return screen.getMenu().slots;
+    }
+
+    public static class Pre extends ContainerSlotsRenderEvent {
+        public Pre(AbstractContainerScreen<?> screen, GuiGraphics guiGraphics) {
+            super(screen, guiGraphics);
+        }
+    }
+
+    public static class Post extends ContainerSlotsRenderEvent {
+        public Post(AbstractContainerScreen<?> screen, GuiGraphics guiGraphics) {
+            super(screen, guiGraphics);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 /*
- * Copyright © Wynntils 2022-2023.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.extension;
 
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.ItemAnnotation;
+import java.util.List;
+import net.minecraft.world.item.component.ItemLore;
 
 public interface ItemStackExtension {
     ItemAnnotation getAnnotation();
@@ -15,4 +17,11 @@ public interface ItemStackExtension {
     StyledText getOriginalName();
 
     void setOriginalName(StyledText name);
+
+    /**
+     * @return the parsed lore, if it was parsed from the given lore component, otherwise null
+     */
+    List<StyledText> getParsedLore(ItemLore itemLore);
+
+    void setParsedLore(ItemLore itemLore, List<StyledText> parsedLore);
 }
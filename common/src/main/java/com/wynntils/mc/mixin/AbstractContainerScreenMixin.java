@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2021-2024.
+ * Copyright © Wynntils 2021-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.mixin;
@@ -10,6 +10,7 @@ import com.wynntils.core.events.MixinHelper;
 import com.wynntils.mc.event.ContainerCloseEvent;
 import com.wynntils.mc.event.ContainerLabelRenderEvent;
 import com.wynntils.mc.event.ContainerRenderEvent;
+import com.wynntils.mc.event.ContainerSlotsRenderEvent;
 import com.wynntils.mc.event.InventoryKeyPressEvent;
 import com.wynntils.mc.event.InventoryMouseClickedEvent;
 import com.wynntils.mc.event.SlotRenderEvent;
@@ -99,10 +100,26 @@ public abstract class AbstractContainerScreenMixin {
         return original.call(instance, font, event.getInventoryLabel(), x, y, event.getColor(), dropShadow);
     }
 
+    @Inject(method = "renderSlots(Lnet/minecraft/client/gui/GuiGraphics;)V", at = @At("HEAD"))
+    private void renderSlotsPre(GuiGraphics guiGraphics, CallbackInfo info) {
+        if (!MixinHelper.hasListeners(ContainerSlotsRenderEvent.Pre.class)) return;
+
+        MixinHelper.post(new ContainerSlotsRenderEvent.Pre((AbstractContainerScreen<?>) (Object) this, guiGraphics));
+    }
+
+    @Inject(method = "renderSlots(Lnet/minecraft/client/gui/GuiGraphics;)V", at = @At("RETURN"))
+    private void renderSlotsPost(GuiGraphics guiGraphics, CallbackInfo info) {
+        if (!MixinHelper.hasListeners(ContainerSlotsRenderEvent.Post.class)) return;
+
+        MixinHelper.post(new ContainerSlotsRenderEvent.Post((AbstractContainerScreen<?>) (Object) this, guiGraphics));
+    }
+
     @Inject(
             method = "renderSlot(Lnet/minecraft/client/gui/GuiGraphics;Lnet/minecraft/world/inventory/Slot;)V",
             at = @At("HEAD"))
     private void renderSlotPre(GuiGraphics guiGraphics, Slot slot, CallbackInfo info) {
+        if (!MixinHelper.hasListeners(SlotRenderEvent.Pre.class)) return;
+
         MixinHelper.post(new SlotRenderEvent.Pre(guiGraphics, (Screen) (Object) this, slot));
     }
 
@@ -110,6 +127,8 @@ public abstract class AbstractContainerScreenMixin {
             method = "renderSlot(Lnet/minecraft/client/gui/GuiGraphics;Lnet/minecraft/world/inventory/Slot;)V",
             at = @At("RETURN"))
     private void renderSlotPost(GuiGraphics guiGraphics, Slot slot, CallbackInfo info) {
+        if (!MixinHelper.hasListeners(SlotRenderEvent.Post.class)) return;
+
         MixinHelper.post(new SlotRenderEvent.Post(guiGraphics, (Screen) (Object) this, slot));
     }
 
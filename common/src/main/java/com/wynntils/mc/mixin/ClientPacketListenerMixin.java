@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2021-2025.
+ * Copyright © Wynntils 2021-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.mixin;
@@ -612,6 +612,7 @@ public abstract class ClientPacketListenerMixin extends ClientCommonPacketListen
             List<SynchedEntityData.DataValue<?>> packedItems,
             @Local(argsOnly = true) ClientboundSetEntityDataPacket packet) {
         if (!isRenderThread()) return packedItems;
+        if (!MixinHelper.hasListeners(SetEntityDataEvent.class)) return packedItems;
 
         SetEntityDataEvent event = new SetEntityDataEvent(packet);
         MixinHelper.post(event);
@@ -648,6 +649,7 @@ public abstract class ClientPacketListenerMixin extends ClientCommonPacketListen
             at = @At("HEAD"))
     private void handleParticles(ClientboundLevelParticlesPacket packet, CallbackInfo ci) {
         if (!isRenderThread()) return;
+        if (!MixinHelper.hasListeners(ParticleAddedEvent.class)) return;
 
         MixinHelper.post(new ParticleAddedEvent(packet));
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2021-2023.
+ * Copyright © Wynntils 2021-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.mixin;
@@ -22,6 +22,8 @@ public abstract class ConnectionMixin {
             at = @At("HEAD"),
             cancellable = true)
     private void channelRead0Pre(ChannelHandlerContext channelHandlerContext, Packet<?> packet, CallbackInfo ci) {
+        if (!MixinHelper.hasListeners(PacketEvent.PacketReceivedEvent.class)) return;
+
         PacketEvent.PacketReceivedEvent<? extends Packet<?>> event = new PacketEvent.PacketReceivedEvent<>(packet);
         MixinHelper.postAlways(event);
         if (event.isCanceled()) {
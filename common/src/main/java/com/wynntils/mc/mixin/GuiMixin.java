@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.mixin;
@@ -40,6 +40,8 @@ public abstract class GuiMixin {
             ItemStack itemStack,
             int i,
             CallbackInfo info) {
+        if (!MixinHelper.hasListeners(HotbarSlotRenderEvent.Pre.class)) return;
+
         MixinHelper.post(new HotbarSlotRenderEvent.Pre(guiGraphics, itemStack, x, y));
     }
 
@@ -60,6 +62,8 @@ public abstract class GuiMixin {
             ItemStack itemStack,
             int i,
             CallbackInfo info) {
+        if (!MixinHelper.hasListeners(HotbarSlotRenderEvent.CountPre.class)) return;
+
         MixinHelper.post(new HotbarSlotRenderEvent.CountPre(guiGraphics, itemStack, x, y));
     }
 
@@ -76,6 +80,8 @@ public abstract class GuiMixin {
             ItemStack itemStack,
             int i,
             CallbackInfo info) {
+        if (!MixinHelper.hasListeners(HotbarSlotRenderEvent.Post.class)) return;
+
         MixinHelper.post(new HotbarSlotRenderEvent.Post(guiGraphics, itemStack, x, y));
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.mixin;
@@ -10,8 +10,11 @@ import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.ItemAnnotation;
 import com.wynntils.mc.event.ItemTooltipFlagsEvent;
 import com.wynntils.mc.extension.ItemStackExtension;
+import com.wynntils.utils.type.Pair;
+import java.util.List;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
+import net.minecraft.world.item.component.ItemLore;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
@@ -25,6 +28,10 @@ public abstract class ItemStackMixin implements ItemStackExtension {
     @Unique
     private StyledText wynntilsOriginalName;
 
+    // Stored together with the lore component it was parsed from, so a changed LORE component invalidates it
+    @Unique
+    private Pair<ItemLore, List<StyledText>> wynntilsParsedLore;
+
     // Note: If this mixin method is causing compatibility issues, we have a few options:
     // 1. Remove the mixin method. It's barely used in Wynntils.
     // 2. Set the hide additional tooltip flag for the item itself. This is a bit more invasive.
@@ -83,4 +90,19 @@ public abstract class ItemStackMixin implements ItemStackExtension {
     public void setOriginalName(StyledText name) {
         this.wynntilsOriginalName = name;
     }
+
+    @Override
+    @Unique
+    public List<StyledText> getParsedLore(ItemLore itemLore) {
+        Pair<ItemLore, List<StyledText>> parsedLore = this.wynntilsParsedLore;
+        if (parsedLore == null || parsedLore.key() != itemLore) return null;
+
+        return parsedLore.value();
+    }
+
+    @Override
+    @Unique
+    public void setParsedLore(ItemLore itemLore, List<StyledText> parsedLore) {
+        this.wynntilsParsedLore = Pair.of(itemLore, parsedLore);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.mixin;
@@ -46,6 +46,8 @@ public abstract class LevelRendererMixin {
             Matrix4f viewMatrix,
             Matrix4f projectionMatrix,
             CallbackInfo ci) {
+        if (!MixinHelper.hasListeners(RenderLevelEvent.Post.class)) return;
+
         // No PoseStack is provided here, as it'd be just an empty stack.
         MixinHelper.post(
                 new RenderLevelEvent.Post(this.minecraft.levelRenderer, deltaTracker, projectionMatrix, camera));
@@ -64,6 +66,8 @@ public abstract class LevelRendererMixin {
             Matrix4f viewMatrix,
             Matrix4f projectionMatrix,
             CallbackInfo ci) {
+        if (!MixinHelper.hasListeners(RenderLevelEvent.Pre.class)) return;
+
         MixinHelper.post(
                 new RenderLevelEvent.Pre(this.minecraft.levelRenderer, deltaTracker, projectionMatrix, camera));
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.activities;
@@ -47,6 +47,7 @@ import com.wynntils.utils.type.CappedValue;
 import com.wynntils.utils.type.Pair;
 import java.util.ArrayList;
 import java.util.Deque;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -172,7 +173,7 @@ public final class ActivityModel extends Model {
     }
 
     public ActivityInfo parseItem(String name, ActivityType type, ItemStack itemStack) {
-        Deque<StyledText> lore = LoreUtils.getLore(itemStack);
+        Deque<StyledText> lore = new LinkedList<>(LoreUtils.getLore(itemStack));
 
         StyledText statusLine = lore.pop();
 
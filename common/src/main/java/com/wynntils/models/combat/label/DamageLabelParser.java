@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.combat.label;
@@ -21,6 +21,11 @@ public class DamageLabelParser implements LabelParser<DamageLabelInfo> {
     // Test in DamageLabelParser_DAMAGE_LABEL_PATTERN
     private static final Pattern DAMAGE_LABEL_PATTERN = Pattern.compile("(?:§[245bcef](?:§l)?-(\\d+) ([❤✦✤❉❋✹☠]) )+");
 
+    @Override
+    public boolean acceptsLineCount(int lineCount) {
+        return lineCount == 1;
+    }
+
     @Override
     public DamageLabelInfo getInfo(StyledText label, Location location, Entity entity) {
         Matcher matcher = label.getMatcher(DAMAGE_LABEL_PATTERN);
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.combat.label;
@@ -17,6 +17,11 @@ public class KillLabelParser implements LabelParser<KillLabelInfo> {
     private static final Pattern KILL_LABEL_PATTERN = Pattern.compile(
             "(?:§dx\\d )?§7\\[§f\\+(?:§d)?(?<combatXp>\\d+)(?:§f)? Combat XP§7\\](\n(?:§dx\\d )?(?:§bx\\d\\.\\d )?(?:§7)?\\[§f\\+(?:§(?:b|d))?(?<guildXp>\\d+)(?:§f)? Guild XP§7\\])?\n\\[(?<killCredit>.*)\\]");
 
+    @Override
+    public boolean acceptsLineCount(int lineCount) {
+        return lineCount >= 2;
+    }
+
     @Override
     public KillLabelInfo getInfo(StyledText label, Location location, Entity entity) {
         Matcher matcher = label.getMatcher(KILL_LABEL_PATTERN);
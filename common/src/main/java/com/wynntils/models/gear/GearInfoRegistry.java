@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.gear;
@@ -10,21 +10,34 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.net.Dependency;
 import com.wynntils.core.net.DownloadRegistry;
 import com.wynntils.core.net.UrlId;
+import com.wynntils.models.character.type.ClassType;
+import com.wynntils.models.elements.type.Element;
+import com.wynntils.models.elements.type.Skill;
+import com.wynntils.models.gear.type.GearAttackSpeed;
 import com.wynntils.models.gear.type.GearInfo;
+import com.wynntils.models.gear.type.GearMajorId;
 import com.wynntils.models.gear.type.GearMetaInfo;
 import com.wynntils.models.gear.type.GearRequirements;
 import com.wynntils.models.gear.type.GearTier;
 import com.wynntils.models.gear.type.GearType;
+import com.wynntils.models.stats.type.DamageType;
 import com.wynntils.models.stats.type.FixedStats;
 import com.wynntils.models.stats.type.StatPossibleValues;
 import com.wynntils.models.stats.type.StatType;
 import com.wynntils.models.wynnitem.AbstractItemInfoDeserializer;
+import com.wynntils.models.wynnitem.snapshot.RegistrySnapshot;
+import com.wynntils.models.wynnitem.snapshot.SnapshotReader;
+import com.wynntils.models.wynnitem.snapshot.SnapshotWriter;
 import com.wynntils.utils.JsonUtils;
 import com.wynntils.utils.type.Pair;
+import com.wynntils.utils.type.RangedValue;
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -34,13 +47,16 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 public class GearInfoRegistry {
+    private static final RegistrySnapshot<GearInfo> SNAPSHOT =
+            new RegistrySnapshot<>("gear", GearInfoRegistry::writeGearInfo, GearInfoRegistry::readGearInfo);
+
     private List<GearInfo> gearInfoRegistry = List.of();
     private Map<String, GearInfo> gearInfoLookup = Map.of();
     private Map<String, GearInfo> gearInfoLookupApiName = Map.of();
 
     public void registerDownloads(DownloadRegistry registry) {
         registry.registerDownload(UrlId.DATA_STATIC_GEAR, Dependency.simple(Models.Set, UrlId.DATA_STATIC_ITEM_SETS))
-                .handleJsonObject(this::handleGearInfo);
+                .handleReader(this::handleGearInfo);
     }
 
     public GearInfo getFromDisplayName(String gearName) {
@@ -60,13 +76,33 @@ public class GearInfoRegistry {
         return gearInfoRegistry.stream();
     }
 
-    private void handleGearInfo(JsonObject json) {
+    private void handleGearInfo(Reader reader) {
+        List<GearInfo> gearRegistry = SNAPSHOT.load(reader, GearInfoRegistry::parseGearInfo);
+
+        // Create fast lookup maps
+        Map<String, GearInfo> lookupMap = new HashMap<>();
+        Map<String, GearInfo> altLookupMap = new HashMap<>();
+        for (GearInfo gearInfo : gearRegistry) {
+            lookupMap.put(gearInfo.name(), gearInfo);
+            if (gearInfo.metaInfo().apiName().isPresent()) {
+                altLookupMap.put(gearInfo.metaInfo().apiName().get(), gearInfo);
+            }
+        }
+
+        // Make the result visisble to the world
+        gearInfoRegistry = gearRegistry;
+        gearInfoLookup = lookupMap;
+        gearInfoLookupApiName = altLookupMap;
+    }
+
+    private static List<GearInfo> parseGearInfo(Reader reader) {
         Gson gson = new GsonBuilder()
                 .registerTypeHierarchyAdapter(GearInfo.class, new GearInfoDeserializer())
                 .create();
 
         List<GearInfo> gearRegistry = new ArrayList<>();
 
+        JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
         for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
             JsonObject itemObject = entry.getValue().getAsJsonObject();
 
@@ -80,20 +116,88 @@ public class GearInfoRegistry {
             gearRegistry.add(gearInfo);
         }
 
-        // Create fast lookup maps
-        Map<String, GearInfo> lookupMap = new HashMap<>();
-        Map<String, GearInfo> altLookupMap = new HashMap<>();
-        for (GearInfo gearInfo : gearRegistry) {
-            lookupMap.put(gearInfo.name(), gearInfo);
-            if (gearInfo.metaInfo().apiName().isPresent()) {
-                altLookupMap.put(gearInfo.metaInfo().apiName().get(), gearInfo);
-            }
+        return gearRegistry;
+    }
+
+    private static void writeGearInfo(SnapshotWriter writer, GearInfo gearInfo) throws IOException {
+        writer.writeString(gearInfo.name());
+        writer.writeEnum(gearInfo.type());
+        writer.writeEnum(gearInfo.tier());
+        writer.writeInt(gearInfo.powderSlots());
+        writer.writeMetaInfo(gearInfo.metaInfo());
+
+        GearRequirements requirements = gearInfo.requirements();
+        writer.writeInt(requirements.level());
+        writer.writeEnum(requirements.classType().orElse(null));
+        writer.writeSkills(requirements.skills());
+        writer.writeOptionalString(requirements.quest());
+
+        FixedStats fixedStats = gearInfo.fixedStats();
+        writer.writeInt(fixedStats.healthBuff());
+        writer.writeEnum(fixedStats.attackSpeed().orElse(null));
+        writer.writeBoolean(fixedStats.majorIds().isPresent());
+        if (fixedStats.majorIds().isPresent()) {
+            writer.writeString(fixedStats.majorIds().get().name());
+            writer.writeStyledText(fixedStats.majorIds().get().lore());
+        }
+        writer.writeInt(fixedStats.damages().size());
+        for (Pair<DamageType, RangedValue> damage : fixedStats.damages()) {
+            writer.writeEnum(damage.key());
+            writer.writeRangedValue(damage.value());
+        }
+        writer.writeInt(fixedStats.defences().size());
+        for (Pair<Element, Integer> defence : fixedStats.defences()) {
+            writer.writeEnum(defence.key());
+            writer.writeInt(defence.value());
         }
 
-        // Make the result visisble to the world
-        gearInfoRegistry = gearRegistry;
-        gearInfoLookup = lookupMap;
-        gearInfoLookupApiName = altLookupMap;
+        writer.writePossibleValues(gearInfo.variableStats());
+    }
+
+    private static GearInfo readGearInfo(SnapshotReader reader) throws IOException {
+        String name = reader.readString();
+        GearType type = reader.readEnum(GearType.class);
+        GearTier tier = reader.readEnum(GearTier.class);
+        int powderSlots = reader.readInt();
+        GearMetaInfo metaInfo = reader.readMetaInfo();
+
+        int level = reader.readInt();
+        Optional<ClassType> classType = Optional.ofNullable(reader.readEnum(ClassType.class));
+        List<Pair<Skill, Integer>> skills = reader.readSkills();
+        Optional<String> quest = reader.readOptionalString();
+        GearRequirements requirements = new GearRequirements(level, classType, skills, quest);
+
+        int healthBuff = reader.readInt();
+        Optional<GearAttackSpeed> attackSpeed = Optional.ofNullable(reader.readEnum(GearAttackSpeed.class));
+        Optional<GearMajorId> majorIds = reader.readBoolean()
+                ? Optional.of(new GearMajorId(reader.readString(), reader.readStyledText()))
+                : Optional.empty();
+        int damageCount = reader.readInt();
+        List<Pair<DamageType, RangedValue>> damages = new ArrayList<>(damageCount);
+        for (int i = 0; i < damageCount; i++) {
+            damages.add(Pair.of(reader.readEnum(DamageType.class), reader.readRangedValue()));
+        }
+        int defenceCount = reader.readInt();
+        List<Pair<Element, Integer>> defences = new ArrayList<>(defenceCount);
+        for (int i = 0; i < defenceCount; i++) {
+            defences.add(Pair.of(reader.readEnum(Element.class), reader.readInt()));
+        }
+        FixedStats fixedStats =
+                new FixedStats(healthBuff, attackSpeed, majorIds, List.copyOf(damages), List.copyOf(defences));
+
+        List<Pair<StatType, StatPossibleValues>> variableStats = reader.readPossibleValues();
+
+        // The set data is not part of the snapshot, but it is always downloaded before the gear
+        return new GearInfo(
+                name,
+                type,
+                tier,
+                powderSlots,
+                metaInfo,
+                requirements,
+                fixedStats,
+                variableStats,
+                Optional.ofNullable(Models.Set.getSetInfoForItem(name)));
     }
 
     private static final class GearInfoDeserializer extends AbstractItemInfoDeserializer<GearInfo> {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.gear;
@@ -16,7 +16,12 @@ import com.wynntils.models.gear.type.SetInfo;
 import com.wynntils.models.items.items.game.GearItem;
 import com.wynntils.models.items.properties.SetItemProperty;
 import com.wynntils.models.stats.type.StatType;
+import com.wynntils.models.wynnitem.snapshot.RegistrySnapshot;
+import com.wynntils.models.wynnitem.snapshot.SnapshotReader;
+import com.wynntils.models.wynnitem.snapshot.SnapshotWriter;
+import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -26,6 +31,9 @@ import java.util.Set;
 import net.minecraft.world.item.ItemStack;
 
 public class SetModel extends Model {
+    private static final RegistrySnapshot<SetInfo> SNAPSHOT =
+            new RegistrySnapshot<>("sets", SetModel::writeSetInfo, SetModel::readSetInfo);
+
     // Stored as a map for quick lookup <name, SetInfo>
     private final Map<String, SetInfo> setData = new HashMap<>();
 
@@ -98,6 +106,13 @@ public class SetModel extends Model {
     }
 
     private void handleSetData(Reader reader) {
+        List<SetInfo> sets = SNAPSHOT.load(reader, SetModel::parseSetData);
+        sets.forEach(setInfo -> setData.put(setInfo.name(), setInfo));
+    }
+
+    private static List<SetInfo> parseSetData(Reader reader) {
+        List<SetInfo> sets = new ArrayList<>();
+
         TypeToken<Map<String, RawSetInfo>> type = new TypeToken<>() {};
         Map<String, RawSetInfo> rawSets = Managers.Json.GSON.fromJson(reader, type.getType());
         rawSets.forEach((setName, rawSetInfo) -> {
@@ -116,8 +131,44 @@ public class SetModel extends Model {
                     })
                     .toList();
 
-            setData.put(setName, new SetInfo(setName, bonuses, rawSetInfo.items));
+            sets.add(new SetInfo(setName, bonuses, rawSetInfo.items));
         });
+
+        return sets;
+    }
+
+    private static void writeSetInfo(SnapshotWriter writer, SetInfo setInfo) throws IOException {
+        writer.writeString(setInfo.name());
+
+        writer.writeInt(setInfo.bonuses().size());
+        for (Map<StatType, Integer> bonus : setInfo.bonuses()) {
+            writer.writeInt(bonus.size());
+            for (Map.Entry<StatType, Integer> entry : bonus.entrySet()) {
+                writer.writeStatType(entry.getKey());
+                writer.writeInt(entry.getValue());
+            }
+        }
+
+        writer.writeStringList(setInfo.items());
+    }
+
+    private static SetInfo readSetInfo(SnapshotReader reader) throws IOException {
+        String name = reader.readString();
+
+        int bonusCount = reader.readInt();
+        List<Map<StatType, Integer>> bonuses = new ArrayList<>(bonusCount);
+        for (int i = 0; i < bonusCount; i++) {
+            int statCount = reader.readInt();
+            Map<StatType, Integer> bonusMap = new HashMap<>();
+            for (int j = 0; j < statCount; j++) {
+                bonusMap.put(reader.readStatType(), reader.readInt());
+            }
+            bonuses.add(bonusMap);
+        }
+
+        List<String> items = reader.readStringList();
+
+        return new SetInfo(name, List.copyOf(bonuses), items);
     }
 
     private static class RawSetInfo {
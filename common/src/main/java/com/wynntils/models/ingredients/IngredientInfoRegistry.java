@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.ingredients;
@@ -11,6 +11,7 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.net.Dependency;
@@ -22,10 +23,15 @@ import com.wynntils.models.ingredients.type.IngredientPosition;
 import com.wynntils.models.profession.type.ProfessionType;
 import com.wynntils.models.stats.type.StatType;
 import com.wynntils.models.wynnitem.AbstractItemInfoDeserializer;
+import com.wynntils.models.wynnitem.snapshot.RegistrySnapshot;
+import com.wynntils.models.wynnitem.snapshot.SnapshotReader;
+import com.wynntils.models.wynnitem.snapshot.SnapshotWriter;
 import com.wynntils.models.wynnitem.type.ItemMaterial;
 import com.wynntils.utils.JsonUtils;
 import com.wynntils.utils.type.Pair;
 import com.wynntils.utils.type.RangedValue;
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -40,6 +46,8 @@ public class IngredientInfoRegistry {
     private static final Gson GSON = new GsonBuilder()
             .registerTypeHierarchyAdapter(IngredientInfo.class, new IngredientInfoDeserializer())
             .create();
+    private static final RegistrySnapshot<IngredientInfo> SNAPSHOT = new RegistrySnapshot<>(
+            "ingredients", IngredientInfoRegistry::writeIngredientInfo, IngredientInfoRegistry::readIngredientInfo);
 
     private List<IngredientInfo> ingredientInfoRegistry = List.of();
     private Map<String, IngredientInfo> ingredientInfoLookup = Map.of();
@@ -51,7 +59,7 @@ public class IngredientInfoRegistry {
                         Dependency.multi(
                                 Models.WynnItem,
                                 Set.of(UrlId.DATA_STATIC_ITEM_OBTAIN, UrlId.DATA_STATIC_MATERIAL_CONVERSION)))
-                .handleJsonObject(this::handleIngredients);
+                .handleReader(this::handleIngredients);
     }
 
     public IngredientInfo getFromDisplayName(String ingredientName) {
@@ -66,10 +74,29 @@ public class IngredientInfoRegistry {
         return ingredientInfoRegistry.stream();
     }
 
-    private void handleIngredients(JsonObject json) {
+    private void handleIngredients(Reader reader) {
+        List<IngredientInfo> registry = SNAPSHOT.load(reader, IngredientInfoRegistry::parseIngredients);
+
         // Create fast lookup maps
+        Map<String, IngredientInfo> lookupMap = new HashMap<>();
+        Map<String, IngredientInfo> altLookupMap = new HashMap<>();
+        for (IngredientInfo ingredientInfo : registry) {
+            lookupMap.put(ingredientInfo.name(), ingredientInfo);
+            if (ingredientInfo.apiName().isPresent()) {
+                altLookupMap.put(ingredientInfo.apiName().get(), ingredientInfo);
+            }
+        }
+
+        // Make the result visisble to the world
+        ingredientInfoRegistry = registry;
+        ingredientInfoLookup = lookupMap;
+        ingredientInfoLookupApiName = altLookupMap;
+    }
+
+    private static List<IngredientInfo> parseIngredients(Reader reader) {
         List<IngredientInfo> registry = new ArrayList<>();
 
+        JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
         for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
             JsonObject ingredientObject = entry.getValue().getAsJsonObject();
 
@@ -83,19 +110,86 @@ public class IngredientInfoRegistry {
             registry.add(ingredientInfo);
         }
 
-        Map<String, IngredientInfo> lookupMap = new HashMap<>();
-        Map<String, IngredientInfo> altLookupMap = new HashMap<>();
-        for (IngredientInfo ingredientInfo : registry) {
-            lookupMap.put(ingredientInfo.name(), ingredientInfo);
-            if (ingredientInfo.apiName().isPresent()) {
-                altLookupMap.put(ingredientInfo.apiName().get(), ingredientInfo);
-            }
+        return registry;
+    }
+
+    private static void writeIngredientInfo(SnapshotWriter writer, IngredientInfo ingredientInfo)
+            throws IOException {
+        writer.writeString(ingredientInfo.name());
+        writer.writeInt(ingredientInfo.tier());
+        writer.writeInt(ingredientInfo.level());
+        writer.writeOptionalString(ingredientInfo.apiName());
+        writer.writeMaterial(ingredientInfo.material());
+
+        writer.writeInt(ingredientInfo.professions().size());
+        for (ProfessionType profession : ingredientInfo.professions()) {
+            writer.writeEnum(profession);
         }
 
-        // Make the result visisble to the world
-        ingredientInfoRegistry = registry;
-        ingredientInfoLookup = lookupMap;
-        ingredientInfoLookupApiName = altLookupMap;
+        writer.writeSkills(ingredientInfo.skillRequirements());
+
+        writer.writeInt(ingredientInfo.positionModifiers().size());
+        for (Map.Entry<IngredientPosition, Integer> modifier :
+                ingredientInfo.positionModifiers().entrySet()) {
+            writer.writeEnum(modifier.getKey());
+            writer.writeInt(modifier.getValue());
+        }
+
+        writer.writeInt(ingredientInfo.duration());
+        writer.writeInt(ingredientInfo.charges());
+        writer.writeInt(ingredientInfo.durabilityModifier());
+
+        writer.writeInt(ingredientInfo.variableStats().size());
+        for (Pair<StatType, RangedValue> stat : ingredientInfo.variableStats()) {
+            writer.writeStatType(stat.key());
+            writer.writeRangedValue(stat.value());
+        }
+    }
+
+    private static IngredientInfo readIngredientInfo(SnapshotReader reader) throws IOException {
+        String name = reader.readString();
+        int tier = reader.readInt();
+        int level = reader.readInt();
+        Optional<String> apiName = reader.readOptionalString();
+        ItemMaterial material = reader.readMaterial();
+
+        int professionCount = reader.readInt();
+        List<ProfessionType> professions = new ArrayList<>(professionCount);
+        for (int i = 0; i < professionCount; i++) {
+            professions.add(reader.readEnum(ProfessionType.class));
+        }
+
+        List<Pair<Skill, Integer>> skillRequirements = reader.readSkills();
+
+        int modifierCount = reader.readInt();
+        Map<IngredientPosition, Integer> positionModifiers = new HashMap<>();
+        for (int i = 0; i < modifierCount; i++) {
+            positionModifiers.put(reader.readEnum(IngredientPosition.class), reader.readInt());
+        }
+
+        int duration = reader.readInt();
+        int charges = reader.readInt();
+        int durabilityModifier = reader.readInt();
+
+        int statCount = reader.readInt();
+        List<Pair<StatType, RangedValue>> variableStats = new ArrayList<>(statCount);
+        for (int i = 0; i < statCount; i++) {
+            variableStats.add(Pair.of(reader.readStatType(), reader.readRangedValue()));
+        }
+
+        return new IngredientInfo(
+                name,
+                tier,
+                level,
+                apiName,
+                material,
+                List.copyOf(professions),
+                skillRequirements,
+                Map.copyOf(positionModifiers),
+                duration,
+                charges,
+                durabilityModifier,
+                List.copyOf(variableStats));
     }
 
     private static final class IngredientInfoDeserializer extends AbstractItemInfoDeserializer<IngredientInfo> {
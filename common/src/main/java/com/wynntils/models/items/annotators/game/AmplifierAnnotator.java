@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.game;
@@ -7,6 +7,7 @@ package com.wynntils.models.items.annotators.game;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GameItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.items.items.game.AmplifierItem;
 import com.wynntils.utils.MathUtils;
 import java.util.regex.Matcher;
@@ -15,6 +16,12 @@ import net.minecraft.world.item.ItemStack;
 
 public final class AmplifierAnnotator implements GameItemAnnotator {
     private static final Pattern AMPLIFIER_PATTERN = Pattern.compile("^§bCorkian Amplifier (I{1,3})$");
+    private static final ItemAnnotatorFilter FILTER = ItemAnnotatorFilter.namePrefixes("§bCorkian Amplifier ");
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return FILTER;
+    }
 
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.game;
@@ -8,6 +8,7 @@ import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GameItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.character.type.ClassType;
 import com.wynntils.models.gear.type.GearTier;
 import com.wynntils.models.items.items.game.AspectItem;
@@ -22,6 +23,12 @@ public class AspectAnnotator implements GameItemAnnotator {
     private static final Pattern ASPECT_PATTERN = Pattern.compile("^§(.)(?:(?:(.+) Embodiment)|(?:Aspect)) of .*$");
     private static final Pattern CLASS_PATTERN = Pattern.compile("^§(?:c✖|a✔) §7Class Req: §f(?<name>.+)/.+$");
     private static final Pattern TIER_PATTERN = Pattern.compile("§.Tier ([IV]+).*");
+    private static final ItemAnnotatorFilter FILTER = ItemAnnotatorFilter.nameKeyword(" of ");
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return FILTER;
+    }
 
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
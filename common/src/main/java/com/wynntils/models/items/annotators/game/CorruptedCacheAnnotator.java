@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.game;
@@ -7,6 +7,7 @@ package com.wynntils.models.items.annotators.game;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GameItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.gear.type.GearTier;
 import com.wynntils.models.items.items.game.CorruptedCacheItem;
 import java.util.regex.Matcher;
@@ -16,6 +17,12 @@ import net.minecraft.world.item.ItemStack;
 
 public class CorruptedCacheAnnotator implements GameItemAnnotator {
     private static final Pattern CACHE_PATTERN = Pattern.compile("^§(.)Corrupted Cache$");
+    private static final ItemAnnotatorFilter FILTER = ItemAnnotatorFilter.nameKeyword("Corrupted Cache");
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return FILTER;
+    }
 
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.game;
@@ -7,6 +7,7 @@ package com.wynntils.models.items.annotators.game;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GameItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.gear.type.ConsumableType;
 import com.wynntils.models.items.items.game.CraftedConsumableItem;
 import com.wynntils.models.wynnitem.parsing.CraftedItemParseResults;
@@ -16,6 +17,13 @@ import java.util.regex.Matcher;
 import net.minecraft.world.item.ItemStack;
 
 public final class CraftedConsumableAnnotator implements GameItemAnnotator {
+    private static final ItemAnnotatorFilter FILTER = ItemAnnotatorFilter.namePrefixes("§3");
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return FILTER;
+    }
+
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
         Matcher matcher = name.getMatcher(WynnItemParser.CRAFTED_ITEM_NAME_PATTERN);
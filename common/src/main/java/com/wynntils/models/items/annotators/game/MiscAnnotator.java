@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.game;
@@ -7,6 +7,7 @@ package com.wynntils.models.items.annotators.game;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.ItemAnnotation;
 import com.wynntils.handlers.item.ItemAnnotator;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.items.items.game.MiscItem;
 import com.wynntils.utils.mc.LoreUtils;
 import java.util.List;
@@ -15,6 +16,13 @@ import net.minecraft.world.item.ItemStack;
 public final class MiscAnnotator implements ItemAnnotator {
     private static final StyledText UNTRADABLE = StyledText.fromString("§cUntradable Item");
     private static final StyledText QUEST_ITEM = StyledText.fromString("§cQuest Item");
+    private static final ItemAnnotatorFilter FILTER =
+            ItemAnnotatorFilter.loreMarkers(UNTRADABLE.getString(), QUEST_ITEM.getString());
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return FILTER;
+    }
 
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.game;
@@ -7,6 +7,7 @@ package com.wynntils.models.items.annotators.game;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GameItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.gear.type.GearTier;
 import com.wynntils.models.items.items.game.OuterVoidItem;
 import com.wynntils.utils.mc.LoreUtils;
@@ -17,6 +18,12 @@ import net.minecraft.world.item.ItemStack;
 public class OuterVoidItemAnnotator implements GameItemAnnotator {
     private static final Pattern OUTER_VOID_TAG = Pattern.compile(
             "§#cc66bbff\uE060\uDAFF\uDFFF\uE043\uDAFF\uDFFF\uE037\uDAFF\uDFFF\uE034\uDAFF\uDFFF\uE061\uDAFF\uDFFF\uE03E\uDAFF\uDFFF\uE044\uDAFF\uDFFF\uE043\uDAFF\uDFFF\uE034\uDAFF\uDFFF\uE041\uDAFF\uDFFF\uE061\uDAFF\uDFFF\uE045\uDAFF\uDFFF\uE03E\uDAFF\uDFFF\uE038\uDAFF\uDFFF\uE033\uDAFF\uDFFF\uE062\uDAFF\uDFB0§f\uE013\uE007\uE004 \uE00E\uE014\uE013\uE004\uE011 \uE015\uE00E\uE008\uE003\uDB00\uDC02");
+    private static final ItemAnnotatorFilter FILTER = ItemAnnotatorFilter.loreMarkers(OUTER_VOID_TAG.pattern());
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return FILTER;
+    }
 
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.game;
@@ -8,6 +8,7 @@ import com.wynntils.core.components.Models;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GameItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.minecraft.world.item.ItemStack;
@@ -16,6 +17,14 @@ import net.minecraft.world.item.Items;
 public final class TomeAnnotator implements GameItemAnnotator {
     private static final Pattern TOME_PATTERN = Pattern.compile(
             "^§[5abcdef](?<unid>Unidentified )?(?<tomename>((?<variant>[\\w']+)? ?Tome of (?<type>\\w+))( (?<subtype>.+)( (?<tier>[IVX]{1,4}))?)?)$");
+    private static final ItemAnnotatorFilter FILTER = ItemAnnotatorFilter.items(Items.IRON_HORSE_ARMOR)
+            .withNamePrefixes("§5", "§a", "§b", "§c", "§d", "§e", "§f")
+            .withNameKeyword("Tome of ");
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return FILTER;
+    }
 
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.gui;
@@ -8,6 +8,7 @@ import com.wynntils.core.components.Models;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GuiItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.activities.type.ActivityInfo;
 import com.wynntils.models.activities.type.ActivityType;
 import com.wynntils.models.items.items.gui.ActivityItem;
@@ -20,6 +21,12 @@ import net.minecraft.world.item.Items;
 public final class ActivityAnnotator implements GuiItemAnnotator {
     private static final Pattern ACTIVITY_PATTERN =
             Pattern.compile("^§(?<color>#.{8}|.)(?<name>.+) §7\\[(?<type>.+)\\]$");
+    private static final ItemAnnotatorFilter FILTER = ItemAnnotatorFilter.items(Items.POTION);
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return FILTER;
+    }
 
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
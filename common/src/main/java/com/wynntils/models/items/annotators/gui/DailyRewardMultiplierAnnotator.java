@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.gui;
@@ -7,6 +7,7 @@ package com.wynntils.models.items.annotators.gui;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GuiItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.items.items.gui.DailyRewardItem;
 import com.wynntils.utils.mc.LoreUtils;
 import java.util.regex.Matcher;
@@ -16,6 +17,12 @@ import net.minecraft.world.item.ItemStack;
 public final class DailyRewardMultiplierAnnotator implements GuiItemAnnotator {
     private static final StyledText DAILY_REWARD_NAME = StyledText.fromString("§6§lDaily Reward");
     private static final Pattern STREAK_PATTERN = Pattern.compile("^§e✦ Streak Multiplier: §f(\\d+)x$");
+    private static final ItemAnnotatorFilter FILTER = ItemAnnotatorFilter.namePrefixes(DAILY_REWARD_NAME.getString());
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return FILTER;
+    }
 
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
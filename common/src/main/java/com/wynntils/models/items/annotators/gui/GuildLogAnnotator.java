@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2025.
+ * Copyright © Wynntils 2025-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.gui;
@@ -7,6 +7,7 @@ package com.wynntils.models.items.annotators.gui;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GuiItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.items.items.gui.GuildLogItem;
 import com.wynntils.utils.mc.LoreUtils;
 import java.time.LocalDateTime;
@@ -26,6 +27,12 @@ public class GuildLogAnnotator implements GuiItemAnnotator {
     private static final DateTimeFormatter DATE_FORMATTER =
             DateTimeFormatter.ofPattern("MM/dd/yy hh:mm a", Locale.ROOT);
     private static final ZoneId LOG_ZONE = ZoneId.of("America/New_York");
+    private static final ItemAnnotatorFilter FILTER = ItemAnnotatorFilter.items(Items.PAPER).withNamePrefixes("§3");
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return FILTER;
+    }
 
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
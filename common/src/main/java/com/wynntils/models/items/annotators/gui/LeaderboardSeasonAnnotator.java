@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.gui;
@@ -7,6 +7,7 @@ package com.wynntils.models.items.annotators.gui;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GuiItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.items.items.gui.LeaderboardSeasonItem;
 import com.wynntils.utils.mc.LoreUtils;
 import java.util.regex.Matcher;
@@ -17,6 +18,12 @@ public class LeaderboardSeasonAnnotator implements GuiItemAnnotator {
     // Test in LeaderboardSeasonAnnotator_SEASON_PATTERN
     private static final Pattern SEASON_PATTERN = Pattern.compile("^§d§lSeason (\\d+)$");
     private static final Pattern LORE_PATTERN = Pattern.compile("^§7Current Season$");
+    private static final ItemAnnotatorFilter FILTER = ItemAnnotatorFilter.namePrefixes("§d§lSeason ");
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return FILTER;
+    }
 
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
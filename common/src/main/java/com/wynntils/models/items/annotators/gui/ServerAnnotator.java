@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.gui;
@@ -7,6 +7,7 @@ package com.wynntils.models.items.annotators.gui;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GuiItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.items.items.gui.ServerItem;
 import com.wynntils.models.worlds.type.ServerRegion;
 import java.util.regex.Matcher;
@@ -16,6 +17,13 @@ import net.minecraft.world.item.ItemStack;
 public final class ServerAnnotator implements GuiItemAnnotator {
     private static final Pattern SERVER_ITEM_PATTERN =
             Pattern.compile("§[baec](?:§l)?(.{2}) \\| World (\\d+)(§3 Recommended)?");
+    private static final ItemAnnotatorFilter FILTER = ItemAnnotatorFilter.namePrefixes("§b", "§a", "§e", "§c")
+            .withNameKeyword(" | World ");
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return FILTER;
+    }
 
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
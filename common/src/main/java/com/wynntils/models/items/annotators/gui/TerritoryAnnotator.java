@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.gui;
@@ -14,7 +14,6 @@ import com.wynntils.utils.mc.LoreUtils;
 import com.wynntils.utils.type.CappedValue;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -41,7 +40,7 @@ public class TerritoryAnnotator implements GuiItemAnnotator {
         Matcher matcher = name.getMatcher(NAME_PATTERN);
         if (!matcher.matches()) return null;
 
-        Deque<StyledText> lore = LoreUtils.getLore(itemStack);
+        List<StyledText> lore = LoreUtils.getLore(itemStack);
 
         // Check if the last line is the view territory line,
         // otherwise it's not a territory item
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.gui;
@@ -7,6 +7,7 @@ package com.wynntils.models.items.annotators.gui;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GuiItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.items.items.gui.TerritoryUpgradeItem;
 import com.wynntils.models.territories.type.TerritoryUpgrade;
 import java.util.regex.Matcher;
@@ -17,6 +18,13 @@ public class TerritoryUpgradeAnnotator implements GuiItemAnnotator {
     // Test in TerritoryUpgradeAnnotator_TERRITORY_UPGRADE_PATTERN
     private static final Pattern TERRITORY_UPGRADE_PATTERN =
             Pattern.compile("^§[6abcd]§l(?<upgrade>.+) §7\\[Lv\\. (?<level>[0-9]+)\\](§8 \\(Max\\))?$");
+    private static final ItemAnnotatorFilter FILTER =
+            ItemAnnotatorFilter.namePrefixes("§6§l", "§a§l", "§b§l", "§c§l", "§d§l").withNameKeyword(" §7[Lv. ");
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return FILTER;
+    }
 
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -13,17 +13,17 @@ import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.models.stats.type.StatPossibleValues;
 import com.wynntils.models.stats.type.StatType;
 import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
 import com.wynntils.utils.type.RangedValue;
-import com.wynntils.utils.type.UnsignedByte;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 public class CustomIdentificationDataTransformer extends DataTransformer<CustomIdentificationsData> {
     @Override
-    protected ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, CustomIdentificationsData data) {
+    protected ErrorOr<byte[]> encodeData(ItemTransformingVersion version, CustomIdentificationsData data) {
         return switch (version) {
             case VERSION_1 -> encodeCustomIdentificationData(data);
         };
@@ -31,7 +31,7 @@ public class CustomIdentificationDataTransformer extends DataTransformer<CustomI
 
     @Override
     public ErrorOr<CustomIdentificationsData> decodeData(
-            ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+            ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1 -> decodeCustomIdentificationData(byteReader);
         };
@@ -42,11 +42,11 @@ public class CustomIdentificationDataTransformer extends DataTransformer<CustomI
         return DataTransformerType.CUSTOM_IDENTIFICATION_DATA_TRANSFORMER.getId();
     }
 
-    private ErrorOr<UnsignedByte[]> encodeCustomIdentificationData(CustomIdentificationsData data) {
-        List<UnsignedByte> bytes = new ArrayList<>();
+    private ErrorOr<byte[]> encodeCustomIdentificationData(CustomIdentificationsData data) {
+        ByteWriter bytes = new ByteWriter();
 
         // The first byte is the number of identifications.
-        bytes.add(UnsignedByte.of((byte) data.possibleValues().size()));
+        bytes.write(data.possibleValues().size());
 
         // The identifications are encoded the following way:
         for (StatPossibleValues statPossibleValues : data.possibleValues()) {
@@ -59,25 +59,25 @@ public class CustomIdentificationDataTransformer extends DataTransformer<CustomI
                         + statPossibleValues.statType().getDisplayName());
             }
             int id = idOpt.get();
-            bytes.add(UnsignedByte.of((byte) id));
+            bytes.write(id);
 
             // The next bytes are the identification's max value bytes, which are assembled into an integer.
-            UnsignedByte[] unsignedBytes = UnsignedByteUtils.encodeVariableSizedInteger(
+            byte[] unsignedBytes = UnsignedByteUtils.encodeVariableSizedInteger(
                     statPossibleValues.range().high());
-            bytes.addAll(List.of(unsignedBytes));
+            bytes.write(unsignedBytes);
         }
 
-        return ErrorOr.of(bytes.toArray(new UnsignedByte[0]));
+        return ErrorOr.of(bytes.toByteArray());
     }
 
-    private ErrorOr<CustomIdentificationsData> decodeCustomIdentificationData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<CustomIdentificationsData> decodeCustomIdentificationData(ByteReader byteReader) {
         // The first byte is the number of identifications.
-        int numIdentifications = byteReader.read().value();
+        int numIdentifications = byteReader.read();
         List<StatPossibleValues> possibleValues = new ArrayList<>();
 
         for (int i = 0; i < numIdentifications; i++) {
             // The first byte is the id of the identification.
-            int id = byteReader.read().value();
+            int id = byteReader.read();
             Optional<StatType> statTypeOpt = Models.Stat.getStatTypeForId(id);
             if (statTypeOpt.isEmpty()) {
                 WynntilsMod.warn("No stat found for id " + id);
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -9,23 +9,21 @@ import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.CappedValue;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
-import java.util.ArrayList;
-import java.util.List;
 
 public class DurablityDataTransformer extends DataTransformer<DurabilityData> {
     @Override
-    protected ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, DurabilityData data) {
+    protected ErrorOr<byte[]> encodeData(ItemTransformingVersion version, DurabilityData data) {
         return switch (version) {
             case VERSION_1 -> encodeDurablityData(data);
         };
     }
 
     @Override
-    public ErrorOr<DurabilityData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<DurabilityData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1 -> decodeDurabilityData(byteReader);
         };
@@ -36,33 +34,33 @@ public class DurablityDataTransformer extends DataTransformer<DurabilityData> {
         return DataTransformerType.DURABILITY_DATA_TRANSFORMER.getId();
     }
 
-    private ErrorOr<UnsignedByte[]> encodeDurablityData(DurabilityData data) {
-        List<UnsignedByte> bytes = new ArrayList<>();
+    private ErrorOr<byte[]> encodeDurablityData(DurabilityData data) {
+        ByteWriter bytes = new ByteWriter();
 
         // The first byte is the overall effectiveness of the identifications (the percentage next to the name for
         // crafted items).
         if (data.effectStrength() > 100 || data.effectStrength() < 0) {
             return ErrorOr.error("Effect strength was not a percentage.");
         }
-        bytes.add(UnsignedByte.of((byte) data.effectStrength()));
+        bytes.write(data.effectStrength());
 
         // The next bytes are the maximum durability bytes, which are assembled into an integer.
         int max = data.durability().max();
-        UnsignedByte[] unsignedBytes = UnsignedByteUtils.encodeVariableSizedInteger(max);
-        bytes.addAll(List.of(unsignedBytes));
+        byte[] unsignedBytes = UnsignedByteUtils.encodeVariableSizedInteger(max);
+        bytes.write(unsignedBytes);
 
         // The next bytes are the current durability bytes, which are assembled into an integer.
         int current = data.durability().current();
         unsignedBytes = UnsignedByteUtils.encodeVariableSizedInteger(current);
-        bytes.addAll(List.of(unsignedBytes));
+        bytes.write(unsignedBytes);
 
-        return ErrorOr.of(bytes.toArray(new UnsignedByte[0]));
+        return ErrorOr.of(bytes.toByteArray());
     }
 
-    private ErrorOr<DurabilityData> decodeDurabilityData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<DurabilityData> decodeDurabilityData(ByteReader byteReader) {
         // The first byte is the overall effectiveness of the identifications (the percentage next to the name for
         // crafted items).
-        int effectStrength = byteReader.read().value();
+        int effectStrength = byteReader.read();
 
         // The next bytes are the maximum durability bytes, which are assembled into an integer.
         int max = (int) UnsignedByteUtils.decodeVariableSizedInteger(byteReader);
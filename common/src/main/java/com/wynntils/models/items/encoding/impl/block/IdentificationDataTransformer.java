@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -15,10 +15,10 @@ import com.wynntils.models.stats.type.StatActualValue;
 import com.wynntils.models.stats.type.StatPossibleValues;
 import com.wynntils.models.stats.type.StatType;
 import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
 import com.wynntils.utils.type.RangedValue;
-import com.wynntils.utils.type.UnsignedByte;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -27,7 +27,7 @@ import java.util.Optional;
 
 public class IdentificationDataTransformer extends DataTransformer<IdentificationData> {
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, IdentificationData data) {
+    public ErrorOr<byte[]> encodeData(ItemTransformingVersion version, IdentificationData data) {
         return switch (version) {
             case VERSION_1 -> encodeIdentifications(data, data.extendedEncoding());
         };
@@ -51,7 +51,7 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
     }
 
     public ErrorOr<IdentificationData> decodeData(
-            ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+            ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1 -> decodeIdentifications(byteReader);
         };
@@ -62,8 +62,8 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
         return DataTransformerType.IDENTIFICATION_DATA_TRANSFORMER.getId();
     }
 
-    private ErrorOr<UnsignedByte[]> encodeIdentifications(IdentificationData data, boolean extendedEncoding) {
-        List<UnsignedByte> bytes = new ArrayList<>();
+    private ErrorOr<byte[]> encodeIdentifications(IdentificationData data, boolean extendedEncoding) {
+        ByteWriter bytes = new ByteWriter();
 
         if (data.identifications().size() > 255) {
             WynntilsMod.warn("Item has more than 255 identifications!");
@@ -77,21 +77,21 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
                     return possibleValues == null || !possibleValues.isPreIdentified();
                 })
                 .count();
-        bytes.add(UnsignedByte.of(encodedSize));
-        bytes.add(UnsignedByte.of((byte) (extendedEncoding ? 1 : 0)));
+        bytes.write(encodedSize);
+        bytes.write(extendedEncoding ? 1 : 0);
 
-        ErrorOr<List<UnsignedByte>> errorOrData;
+        ErrorOr<ByteWriter> errorOrData;
         errorOrData = encodeIdentifications(data, bytes, extendedEncoding);
 
         if (errorOrData.hasError()) {
             return ErrorOr.error(errorOrData.getError());
         }
 
-        return ErrorOr.of(bytes.toArray(new UnsignedByte[0]));
+        return ErrorOr.of(bytes.toByteArray());
     }
 
-    private ErrorOr<List<UnsignedByte>> encodeIdentifications(
-            IdentificationData data, List<UnsignedByte> bytes, boolean encodeExtendedData) {
+    private ErrorOr<ByteWriter> encodeIdentifications(
+            IdentificationData data, ByteWriter bytes, boolean encodeExtendedData) {
         // Encoding simple data:
         // Encoding an identification:
         // Each identification takes 2 bytes to encode.
@@ -116,7 +116,7 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
                     })
                     .toList();
 
-            bytes.add(UnsignedByte.of((byte) preIdentifiedStats.size()));
+            bytes.write(preIdentifiedStats.size());
 
             for (StatActualValue identification : preIdentifiedStats) {
                 StatPossibleValues possibleValues = data.possibleValues().get(identification.statType());
@@ -133,15 +133,15 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
                 int id = idOpt.get();
 
                 // The first byte is the numerical key of the ID.
-                bytes.add(UnsignedByte.of((byte) id));
+                bytes.write(id);
 
                 // The base value is the value of the stat as of sharing.
                 int baseValue = possibleValues.baseValue();
-                UnsignedByte[] baseValueBytes = UnsignedByteUtils.encodeVariableSizedInteger(baseValue);
+                byte[] baseValueBytes = UnsignedByteUtils.encodeVariableSizedInteger(baseValue);
 
                 // The following bytes is are assembled into an integer,
                 // representing the base value of the id, as of sharing.
-                bytes.addAll(List.of(baseValueBytes));
+                bytes.write(baseValueBytes);
             }
         }
 
@@ -171,55 +171,54 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
             int id = idOpt.get();
 
             // The first byte is the numerical key of the ID.
-            bytes.add(UnsignedByte.of((byte) id));
+            bytes.write(id);
 
             if (encodeExtendedData) {
                 // The base value is the value of the stat as of sharing.
                 int baseValue = possibleValues.baseValue();
-                UnsignedByte[] baseValueBytes = UnsignedByteUtils.encodeVariableSizedInteger(baseValue);
+                byte[] baseValueBytes = UnsignedByteUtils.encodeVariableSizedInteger(baseValue);
 
                 // The following bytes is are assembled into an integer,
                 // representing the base value of the id, as of sharing.
-                bytes.addAll(List.of(baseValueBytes));
+                bytes.write(baseValueBytes);
             }
 
             int internalRoll = identification.internalRoll().low();
-            UnsignedByte internalRollByte = UnsignedByte.of((byte) internalRoll);
 
             // Check if the internal roll fits a byte.
-            if (internalRoll != internalRollByte.value()) {
+            if (internalRoll != (internalRoll & 0xFF)) {
                 WynntilsMod.warn("Internal roll " + internalRoll + " does not fit a byte!");
                 return ErrorOr.error("Unable to encode stat type, invalid internal roll: "
                         + identification.statType().getDisplayName());
             }
 
             // The last byte is the calculated internal roll of the item.
-            bytes.add(internalRollByte);
+            bytes.write(internalRoll);
         }
 
         return ErrorOr.of(bytes);
     }
 
-    private ErrorOr<IdentificationData> decodeIdentifications(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<IdentificationData> decodeIdentifications(ByteReader byteReader) {
         List<StatActualValue> identifications = new ArrayList<>();
         List<StatPossibleValues> possibleValues = new ArrayList<>();
         Map<StatType, Integer> pendingCalculations = new HashMap<>();
 
         // The first byte is the number of identifications
-        int identificationCount = byteReader.read().value();
+        int identificationCount = byteReader.read();
 
         // The second byte is whether extended data is encoded
-        boolean extendedData = byteReader.read().value() == 1;
+        boolean extendedData = byteReader.read() == 1;
 
         // If extended data is encoded, the next byte is the number of pre-identified stats
         int preIdentifiedCount = 0;
         if (extendedData) {
-            preIdentifiedCount = byteReader.read().value();
+            preIdentifiedCount = byteReader.read();
         }
 
         for (int i = 0; i < preIdentifiedCount + identificationCount; i++) {
             // The first byte is the numerical key of the ID.
-            int id = byteReader.read().value();
+            int id = byteReader.read();
 
             Optional<StatType> statTypeOpt = Models.Stat.getStatTypeForId(id);
 
@@ -246,7 +245,7 @@ public class IdentificationDataTransformer extends DataTransformer<Identificatio
             }
 
             // The next byte is the calculated internal roll of the item.
-            int internalRoll = byteReader.read().value();
+            int internalRoll = byteReader.read();
 
             // We might not know the possible values yet, so we store the internal roll for later
             pendingCalculations.put(statType, internalRoll);
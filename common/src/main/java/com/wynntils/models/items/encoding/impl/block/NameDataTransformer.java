@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -9,28 +9,26 @@ import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
+import com.wynntils.utils.type.ByteWriter;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
-import java.util.ArrayList;
-import java.util.List;
 
 public class NameDataTransformer extends DataTransformer<NameData> {
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, NameData data) {
+    public ErrorOr<byte[]> encodeData(ItemTransformingVersion version, NameData data) {
         return switch (version) {
             case VERSION_1 -> encodeName(data.name().orElse(""));
         };
     }
 
     @Override
-    public ErrorOr<NameData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<NameData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1 -> decodeName(byteReader);
         };
     }
 
-    private ErrorOr<UnsignedByte[]> encodeName(String name) {
+    private ErrorOr<byte[]> encodeName(String name) {
         try {
             return ErrorOr.of(UnsignedByteUtils.encodeString(name));
         } catch (IllegalArgumentException e) {
@@ -38,21 +36,21 @@ public class NameDataTransformer extends DataTransformer<NameData> {
         }
     }
 
-    private ErrorOr<NameData> decodeName(ArrayReader<UnsignedByte> byteReader) {
-        List<UnsignedByte> bytes = new ArrayList<>();
+    private ErrorOr<NameData> decodeName(ByteReader byteReader) {
+        ByteWriter bytes = new ByteWriter();
 
         // Read until we find a null byte
         do {
-            bytes.add(byteReader.read());
-        } while (byteReader.hasRemaining() && byteReader.peek().value() != 0);
+            bytes.write(byteReader.read());
+        } while (byteReader.hasRemaining() && byteReader.peek() != 0);
 
         // If this is the case, the byte reader ended, and we didn't find a null byte
-        UnsignedByte nullByte = byteReader.read();
-        if (nullByte.value() != 0) {
+        int nullByte = byteReader.read();
+        if (nullByte != 0) {
             return ErrorOr.error("Name data is not null terminated");
         }
 
-        return ErrorOr.of(NameData.sanitized(UnsignedByteUtils.decodeString(bytes)));
+        return ErrorOr.of(NameData.sanitized(UnsignedByteUtils.decodeString(bytes.toByteArray())));
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -11,13 +11,12 @@ import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.models.stats.type.ShinyStat;
 import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
 
 public class ShinyDataTransformer extends DataTransformer<ShinyData> {
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, ShinyData data) {
+    public ErrorOr<byte[]> encodeData(ItemTransformingVersion version, ShinyData data) {
         return switch (version) {
             case VERSION_1 -> ErrorOr.of(encodeShinyData(data));
         };
@@ -29,7 +28,7 @@ public class ShinyDataTransformer extends DataTransformer<ShinyData> {
     }
 
     @Override
-    public ErrorOr<ShinyData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<ShinyData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         return switch (version) {
             case VERSION_1 -> decodeShinyData(byteReader);
         };
@@ -40,14 +39,14 @@ public class ShinyDataTransformer extends DataTransformer<ShinyData> {
         return DataTransformerType.SHINY_DATA_TRANSFORMER.getId();
     }
 
-    private static UnsignedByte[] encodeShinyData(ShinyData data) {
-        UnsignedByte[] shinyStatValueBytes =
+    private static byte[] encodeShinyData(ShinyData data) {
+        byte[] shinyStatValueBytes =
                 UnsignedByteUtils.encodeVariableSizedInteger(data.shinyStat().value());
 
-        UnsignedByte[] bytes = new UnsignedByte[shinyStatValueBytes.length + 1];
+        byte[] bytes = new byte[shinyStatValueBytes.length + 1];
 
         // The first byte is the id of the shiny stat.
-        bytes[0] = UnsignedByte.of((byte) data.shinyStat().statType().id());
+        bytes[0] = (byte) data.shinyStat().statType().id();
 
         // The following bytes is are assembled into an integer representing the shiny value.
         System.arraycopy(shinyStatValueBytes, 0, bytes, 1, shinyStatValueBytes.length);
@@ -55,13 +54,13 @@ public class ShinyDataTransformer extends DataTransformer<ShinyData> {
         return bytes;
     }
 
-    private ErrorOr<ShinyData> decodeShinyData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<ShinyData> decodeShinyData(ByteReader byteReader) {
         // The first byte is the id of the shiny stat.
-        UnsignedByte statTypeId = byteReader.read();
+        int statTypeId = byteReader.read();
 
         // The following bytes is are assembled into an integer representing the shiny value.
         long statValue = UnsignedByteUtils.decodeVariableSizedInteger(byteReader);
 
-        return ErrorOr.of(new ShinyData(new ShinyStat(Models.Shiny.getShinyStatType(statTypeId.value()), statValue)));
+        return ErrorOr.of(new ShinyData(new ShinyStat(Models.Shiny.getShinyStatType(statTypeId), statValue)));
     }
 }
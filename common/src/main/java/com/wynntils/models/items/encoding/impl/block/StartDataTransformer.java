@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -8,9 +8,8 @@ import com.wynntils.models.items.encoding.data.StartData;
 import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
-import com.wynntils.utils.type.ArrayReader;
+import com.wynntils.utils.type.ByteReader;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
 
 public class StartDataTransformer extends DataTransformer<StartData> {
     /**
@@ -18,13 +17,13 @@ public class StartDataTransformer extends DataTransformer<StartData> {
      * @param byteReader The byte reader to read the data from.
      * @return The decoded start data.
      */
-    public static ErrorOr<StartData> decodeData(ArrayReader<UnsignedByte> byteReader) {
-        UnsignedByte idByte = byteReader.read();
-        if (idByte.value() != DataTransformerType.START_DATA_TRANSFORMER.getId()) {
+    public static ErrorOr<StartData> decodeData(ByteReader byteReader) {
+        byte idByte = (byte) byteReader.read();
+        if (idByte != DataTransformerType.START_DATA_TRANSFORMER.getId()) {
             return ErrorOr.error("Encoded data does not start with a start data block.");
         }
 
-        UnsignedByte versionByte = byteReader.read();
+        byte versionByte = (byte) byteReader.read();
 
         StartData startData = StartData.fromByte(versionByte);
         if (startData.version() == null) {
@@ -35,16 +34,16 @@ public class StartDataTransformer extends DataTransformer<StartData> {
     }
 
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, StartData data) {
+    public ErrorOr<byte[]> encodeData(ItemTransformingVersion version, StartData data) {
         return switch (version) {
-            case VERSION_1 -> ErrorOr.of(new UnsignedByte[] {
-                UnsignedByte.of(data.version().getId()),
+            case VERSION_1 -> ErrorOr.of(new byte[] {
+                data.version().getId(),
             });
         };
     }
 
     @Override
-    public ErrorOr<StartData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<StartData> decodeData(ItemTransformingVersion version, ByteReader byteReader) {
         // NOOP, should never be called
         throw new IllegalStateException("StartDataTransformer should never be called to decode data");
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.profession.label;
@@ -20,6 +20,11 @@ public class GatheringNodeLabelParser implements LabelParser<ProfessionGathering
     private static final Pattern GATHERING_NODE_LABEL = Pattern.compile(
             "^§(.)(.+?)(?= Roots| Seed| Fish| Eel)?(?: Roots| Seed| Fish| Eel)?\n§(a✔|c✖)§f .§7 .+ Lv\\. Min: §f\\d+(\n\n§8Left-Click for .+\nRight-Click for .+)?$");
 
+    @Override
+    public boolean acceptsLineCount(int lineCount) {
+        return lineCount >= 2;
+    }
+
     @Override
     public ProfessionGatheringNodeLabelInfo getInfo(StyledText label, Location location, Entity entity) {
         if (label.isEmpty()) return null;
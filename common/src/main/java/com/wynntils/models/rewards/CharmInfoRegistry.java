@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.rewards;
@@ -10,6 +10,7 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.net.Dependency;
@@ -23,11 +24,16 @@ import com.wynntils.models.rewards.type.CharmRequirements;
 import com.wynntils.models.stats.type.StatPossibleValues;
 import com.wynntils.models.stats.type.StatType;
 import com.wynntils.models.wynnitem.AbstractItemInfoDeserializer;
+import com.wynntils.models.wynnitem.snapshot.RegistrySnapshot;
+import com.wynntils.models.wynnitem.snapshot.SnapshotReader;
+import com.wynntils.models.wynnitem.snapshot.SnapshotWriter;
 import com.wynntils.models.wynnitem.type.ItemMaterial;
 import com.wynntils.models.wynnitem.type.ItemObtainInfo;
 import com.wynntils.utils.JsonUtils;
 import com.wynntils.utils.type.Pair;
 import com.wynntils.utils.type.RangedValue;
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -41,6 +47,8 @@ public class CharmInfoRegistry {
     private static final Gson GSON = new GsonBuilder()
             .registerTypeHierarchyAdapter(CharmInfo.class, new CharmInfoDeserizalier())
             .create();
+    private static final RegistrySnapshot<CharmInfo> SNAPSHOT =
+            new RegistrySnapshot<>("charms", CharmInfoRegistry::writeCharmInfo, CharmInfoRegistry::readCharmInfo);
 
     private List<CharmInfo> charmInfoRegistry = List.of();
     private Map<String, CharmInfo> charmInfoLookup = Map.of();
@@ -51,7 +59,7 @@ public class CharmInfoRegistry {
                         Dependency.multi(
                                 Models.WynnItem,
                                 Set.of(UrlId.DATA_STATIC_ITEM_OBTAIN, UrlId.DATA_STATIC_MATERIAL_CONVERSION)))
-                .handleJsonObject(this::handleCharmInfoRegistry);
+                .handleReader(this::handleCharmInfoRegistry);
     }
 
     public CharmInfo getFromDisplayName(String gearName) {
@@ -62,9 +70,22 @@ public class CharmInfoRegistry {
         return charmInfoRegistry.stream();
     }
 
-    private void handleCharmInfoRegistry(JsonObject json) {
+    private void handleCharmInfoRegistry(Reader reader) {
+        List<CharmInfo> registry = SNAPSHOT.load(reader, CharmInfoRegistry::parseCharmInfoRegistry);
+
+        // Create fast lookup maps
+        Map<String, CharmInfo> lookupMap = registry.stream()
+                .collect(HashMap::new, (map, charmInfo) -> map.put(charmInfo.name(), charmInfo), HashMap::putAll);
+
+        // Make the result visisble to the world
+        charmInfoRegistry = registry;
+        charmInfoLookup = lookupMap;
+    }
+
+    private static List<CharmInfo> parseCharmInfoRegistry(Reader reader) {
         List<CharmInfo> registry = new ArrayList<>();
 
+        JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
         for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
             JsonObject itemObject = entry.getValue().getAsJsonObject();
 
@@ -78,13 +99,26 @@ public class CharmInfoRegistry {
             registry.add(charmInfo);
         }
 
-        // Create fast lookup maps
-        Map<String, CharmInfo> lookupMap = registry.stream()
-                .collect(HashMap::new, (map, charmInfo) -> map.put(charmInfo.name(), charmInfo), HashMap::putAll);
+        return registry;
+    }
 
-        // Make the result visisble to the world
-        charmInfoRegistry = registry;
-        charmInfoLookup = lookupMap;
+    private static void writeCharmInfo(SnapshotWriter writer, CharmInfo charmInfo) throws IOException {
+        writer.writeString(charmInfo.name());
+        writer.writeEnum(charmInfo.tier());
+        writer.writeMetaInfo(charmInfo.metaInfo());
+        writer.writeInt(charmInfo.requirements().level());
+        writer.writeRangedValue(charmInfo.requirements().workingLevelRange());
+        writer.writePossibleValues(charmInfo.variableStats());
+    }
+
+    private static CharmInfo readCharmInfo(SnapshotReader reader) throws IOException {
+        String name = reader.readString();
+        GearTier tier = reader.readEnum(GearTier.class);
+        GearMetaInfo metaInfo = reader.readMetaInfo();
+        CharmRequirements requirements = new CharmRequirements(reader.readInt(), reader.readRangedValue());
+        List<Pair<StatType, StatPossibleValues>> variableStats = reader.readPossibleValues();
+
+        return new CharmInfo(name, tier, metaInfo, requirements, variableStats);
     }
 
     private static final class CharmInfoDeserizalier extends AbstractItemInfoDeserializer<CharmInfo> {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.rewards;
@@ -10,6 +10,7 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.net.Dependency;
@@ -23,10 +24,15 @@ import com.wynntils.models.rewards.type.TomeRequirements;
 import com.wynntils.models.stats.type.StatPossibleValues;
 import com.wynntils.models.stats.type.StatType;
 import com.wynntils.models.wynnitem.AbstractItemInfoDeserializer;
+import com.wynntils.models.wynnitem.snapshot.RegistrySnapshot;
+import com.wynntils.models.wynnitem.snapshot.SnapshotReader;
+import com.wynntils.models.wynnitem.snapshot.SnapshotWriter;
 import com.wynntils.models.wynnitem.type.ItemMaterial;
 import com.wynntils.models.wynnitem.type.ItemObtainInfo;
 import com.wynntils.utils.JsonUtils;
 import com.wynntils.utils.type.Pair;
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -40,6 +46,8 @@ public class TomeInfoRegistry {
     private static final Gson GSON = new GsonBuilder()
             .registerTypeHierarchyAdapter(TomeInfo.class, new TomeInfoDeserizalier())
             .create();
+    private static final RegistrySnapshot<TomeInfo> SNAPSHOT =
+            new RegistrySnapshot<>("tomes", TomeInfoRegistry::writeTomeInfo, TomeInfoRegistry::readTomeInfo);
 
     private List<TomeInfo> tomeInfoRegistry = List.of();
     private Map<String, TomeInfo> tomeInfoLookup = Map.of();
@@ -50,7 +58,7 @@ public class TomeInfoRegistry {
                         Dependency.multi(
                                 Models.WynnItem,
                                 Set.of(UrlId.DATA_STATIC_ITEM_OBTAIN, UrlId.DATA_STATIC_MATERIAL_CONVERSION)))
-                .handleJsonObject(this::loadTomeInfoRegistry);
+                .handleReader(this::loadTomeInfoRegistry);
     }
 
     public TomeInfo getFromDisplayName(String gearName) {
@@ -61,9 +69,22 @@ public class TomeInfoRegistry {
         return tomeInfoRegistry.stream();
     }
 
-    private void loadTomeInfoRegistry(JsonObject json) {
+    private void loadTomeInfoRegistry(Reader reader) {
+        List<TomeInfo> registry = SNAPSHOT.load(reader, TomeInfoRegistry::parseTomeInfoRegistry);
+
+        // Create fast lookup maps
+        Map<String, TomeInfo> lookupMap = registry.stream()
+                .collect(HashMap::new, (map, tomeInfo) -> map.put(tomeInfo.name(), tomeInfo), HashMap::putAll);
+
+        // Make the result visisble to the world
+        tomeInfoRegistry = registry;
+        tomeInfoLookup = lookupMap;
+    }
+
+    private static List<TomeInfo> parseTomeInfoRegistry(Reader reader) {
         List<TomeInfo> registry = new ArrayList<>();
 
+        JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
         for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
             JsonObject itemObject = entry.getValue().getAsJsonObject();
 
@@ -77,13 +98,28 @@ public class TomeInfoRegistry {
             registry.add(tomeInfo);
         }
 
-        // Create fast lookup maps
-        Map<String, TomeInfo> lookupMap = registry.stream()
-                .collect(HashMap::new, (map, tomeInfo) -> map.put(tomeInfo.name(), tomeInfo), HashMap::putAll);
+        return registry;
+    }
 
-        // Make the result visisble to the world
-        tomeInfoRegistry = registry;
-        tomeInfoLookup = lookupMap;
+    private static void writeTomeInfo(SnapshotWriter writer, TomeInfo tomeInfo) throws IOException {
+        writer.writeString(tomeInfo.name());
+        writer.writeEnum(tomeInfo.type());
+        writer.writeEnum(tomeInfo.tier());
+        writer.writeMetaInfo(tomeInfo.metaInfo());
+        writer.writeInt(tomeInfo.requirements().level());
+        writer.writeBoolean(tomeInfo.requirements().tomeSeeking());
+        writer.writePossibleValues(tomeInfo.variableStats());
+    }
+
+    private static TomeInfo readTomeInfo(SnapshotReader reader) throws IOException {
+        String name = reader.readString();
+        TomeType type = reader.readEnum(TomeType.class);
+        GearTier tier = reader.readEnum(GearTier.class);
+        GearMetaInfo metaInfo = reader.readMetaInfo();
+        TomeRequirements requirements = new TomeRequirements(reader.readInt(), reader.readBoolean());
+        List<Pair<StatType, StatPossibleValues>> variableStats = reader.readPossibleValues();
+
+        return new TomeInfo(name, type, tier, metaInfo, requirements, variableStats);
     }
 
     private static final class TomeInfoDeserizalier extends AbstractItemInfoDeserializer<TomeInfo> {
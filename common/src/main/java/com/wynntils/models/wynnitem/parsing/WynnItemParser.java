@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.wynnitem.parsing;
@@ -116,6 +116,14 @@ public final class WynnItemParser {
 
     public static WynnItemParseResult parseItemStack(
             ItemStack itemStack, Map<StatType, StatPossibleValues> possibleValuesMap) {
+        return parseTooltip(LoreUtils.getTooltipLines(itemStack), possibleValuesMap);
+    }
+
+    /**
+     * Parses the tooltip lines of an item, starting with its name, the same way as {@link #parseItemStack}.
+     */
+    public static WynnItemParseResult parseTooltip(
+            List<Component> tooltipLines, Map<StatType, StatPossibleValues> possibleValuesMap) {
         List<StatActualValue> identifications = new ArrayList<>();
         List<NamedItemEffect> namedEffects = new ArrayList<>();
         List<ItemEffect> effects = new ArrayList<>();
@@ -144,8 +152,8 @@ public final class WynnItemParser {
         Map<StatType, Integer> wynnBonuses = new HashMap<>();
 
         // Parse lore for identifications, powders and rerolls
-        List<Component> lore = ComponentUtils.stripDuplicateBlank(LoreUtils.getTooltipLines(itemStack));
-        lore.removeFirst(); // remove item name
+        List<Component> lore = ComponentUtils.stripDuplicateBlank(tooltipLines);
+        String hoverName = lore.removeFirst().getString(); // remove item name
 
         for (Component loreLine : lore) {
             StyledText coded = StyledText.fromComponent(loreLine);
@@ -160,8 +168,7 @@ public final class WynnItemParser {
 
                 Matcher setBonusIdentificationMatcher = normalizedCoded.getMatcher(SET_BONUS_IDENTIFICATION_PATTERN);
                 if (!setBonusIdentificationMatcher.matches()) {
-                    WynntilsMod.warn("Item " + itemStack.getHoverName().getString()
-                            + " has unknown set bonus stat line: " + loreLine);
+                    WynntilsMod.warn("Item " + hoverName + " has unknown set bonus stat line: " + loreLine);
                     continue;
                 }
                 int value = Integer.parseInt(setBonusIdentificationMatcher.group(1));
@@ -170,8 +177,7 @@ public final class WynnItemParser {
 
                 StatType statType = Models.Stat.fromDisplayName(statDisplayName, unit);
                 if (statType == null) {
-                    WynntilsMod.warn("Item " + itemStack.getHoverName().getString()
-                            + " has unknown identified set bonus stat " + statDisplayName);
+                    WynntilsMod.warn("Item " + hoverName + " has unknown identified set bonus stat " + statDisplayName);
                     continue;
                 }
                 wynnBonuses.put(statType, value);
@@ -188,7 +194,7 @@ public final class WynnItemParser {
                 String powderString = POWDER_MARKERS.matcher(codedPowders).replaceAll("");
                 if (powderString.length() != usedSlots) {
                     WynntilsMod.warn("Mismatch between powder slot count " + usedSlots + " and actual powder symbols: "
-                            + codedPowders + " for " + itemStack.getHoverName().getString());
+                            + codedPowders + " for " + hoverName);
                     // Fall through and use codedPowders nevertheless
                 }
 
@@ -389,8 +395,7 @@ public final class WynnItemParser {
 
                 StatType statType = Models.Stat.fromDisplayName(statDisplayName, unit);
                 if (statType == null) {
-                    WynntilsMod.warn(
-                            "Item " + itemStack.getHoverName() + " has unknown identified stat " + statDisplayName);
+                    WynntilsMod.warn("Item " + hoverName + " has unknown identified stat " + statDisplayName);
                     continue;
                 }
                 if (statType.calculateAsInverted()) {
@@ -0,0 +1,135 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.wynnitem.snapshot;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Managers;
+import com.wynntils.utils.FileUtils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * A binary copy of a parsed registry, which is loaded instead of parsing the downloaded json again,
+ * as long as the json did not change. The snapshot is keyed by the hash of the json, and also by the
+ * mod version, since the parsing (or the encoding of the snapshot) might have changed between versions.
+ */
+public final class RegistrySnapshot<T> {
+    // Bump this when the encoding of any registry changes, the mod version is the same in development
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAGIC = 0x57594E53;
+    private static final String SNAPSHOT_DIR = "snapshots";
+
+    private final String name;
+    private final Encoder<T> encoder;
+    private final Decoder<T> decoder;
+
+    public RegistrySnapshot(String name, Encoder<T> encoder, Decoder<T> decoder) {
+        this.name = name;
+        this.encoder = encoder;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Reads the registry from the snapshot, if it was made from the same json. Otherwise, the json is parsed
+     * by the parser, and a new snapshot is written from the result.
+     */
+    public List<T> load(Reader reader, Function<Reader, List<T>> parser) {
+        long startTime = System.currentTimeMillis();
+
+        String source;
+        try {
+            source = IOUtils.toString(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String sourceHash = DigestUtils.md5Hex(source);
+
+        File snapshotFile = Managers.Net.getCacheFile(SNAPSHOT_DIR + "/" + name + ".bin");
+        List<T> values = readSnapshot(snapshotFile, sourceHash);
+        boolean fromSnapshot = values != null;
+
+        if (!fromSnapshot) {
+            values = parser.apply(new StringReader(source));
+            writeSnapshot(snapshotFile, sourceHash, values);
+        }
+
+        WynntilsMod.info("Loaded " + values.size() + " " + name + " from " + (fromSnapshot ? "snapshot" : "json")
+                + " in " + (System.currentTimeMillis() - startTime) + " ms (" + WynntilsMod.getMillisSinceInit()
+                + " ms after init)");
+        return values;
+    }
+
+    private List<T> readSnapshot(File snapshotFile, String sourceHash) {
+        if (!snapshotFile.exists()) return null;
+
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(snapshotFile))) {
+            SnapshotReader snapshotReader = new SnapshotReader(inputStream);
+
+            if (snapshotReader.readInt() != MAGIC
+                    || snapshotReader.readInt() != FORMAT_VERSION
+                    || !snapshotReader.readString().equals(WynntilsMod.getVersion())
+                    || !snapshotReader.readString().equals(sourceHash)) {
+                return null;
+            }
+
+            int size = snapshotReader.readInt();
+            List<T> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(decoder.decode(snapshotReader));
+            }
+            return values;
+        } catch (IOException | RuntimeException e) {
+            // The snapshot only saves time, so just parse the json again
+            WynntilsMod.warn("Failed to read " + name + " snapshot, parsing json instead", e);
+            return null;
+        }
+    }
+
+    private void writeSnapshot(File snapshotFile, String sourceHash, List<T> values) {
+        FileUtils.mkdir(snapshotFile.getParentFile());
+
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(snapshotFile))) {
+            SnapshotWriter snapshotWriter = new SnapshotWriter(outputStream);
+
+            snapshotWriter.writeInt(MAGIC);
+            snapshotWriter.writeInt(FORMAT_VERSION);
+            snapshotWriter.writeString(WynntilsMod.getVersion());
+            snapshotWriter.writeString(sourceHash);
+
+            snapshotWriter.writeInt(values.size());
+            for (T value : values) {
+                encoder.encode(snapshotWriter, value);
+            }
+            snapshotWriter.flush();
+        } catch (IOException | RuntimeException e) {
+            WynntilsMod.warn("Failed to write " + name + " snapshot", e);
+            FileUtils.deleteFile(snapshotFile);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Encoder<T> {
+        void encode(SnapshotWriter writer, T value) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface Decoder<T> {
+        T decode(SnapshotReader reader) throws IOException;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.wynnitem.snapshot;
+
+import com.wynntils.core.components.Models;
+import com.wynntils.core.text.StyledText;
+import com.wynntils.models.elements.type.Skill;
+import com.wynntils.models.gear.type.GearMetaInfo;
+import com.wynntils.models.gear.type.GearRestrictions;
+import com.wynntils.models.stats.type.StatPossibleValues;
+import com.wynntils.models.stats.type.StatType;
+import com.wynntils.models.wynnitem.type.ItemMaterial;
+import com.wynntils.models.wynnitem.type.ItemObtainInfo;
+import com.wynntils.models.wynnitem.type.ItemObtainType;
+import com.wynntils.utils.type.Pair;
+import com.wynntils.utils.type.RangedValue;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads the parts written by {@link SnapshotWriter}. Anything that does not resolve anymore,
+ * like a removed stat type, fails the read with an {@link IOException}, so the snapshot is discarded.
+ */
+public final class SnapshotReader {
+    private final DataInputStream in;
+
+    // StatModel#fromApiName is a linear search, which adds up over thousands of items
+    private Map<String, StatType> statTypesByApiName = null;
+
+    SnapshotReader(InputStream inputStream) {
+        this.in = new DataInputStream(inputStream);
+    }
+
+    public int readInt() throws IOException {
+        return in.readInt();
+    }
+
+    public float readFloat() throws IOException {
+        return in.readFloat();
+    }
+
+    public boolean readBoolean() throws IOException {
+        return in.readBoolean();
+    }
+
+    public String readString() throws IOException {
+        return in.readUTF();
+    }
+
+    public Optional<String> readOptionalString() throws IOException {
+        return in.readBoolean() ? Optional.of(in.readUTF()) : Optional.empty();
+    }
+
+    public List<String> readStringList() throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(in.readUTF());
+        }
+        return List.copyOf(values);
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> enumClass) throws IOException {
+        String name = in.readUTF();
+        if (name.isEmpty()) return null;
+
+        try {
+            return Enum.valueOf(enumClass, name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown " + enumClass.getSimpleName() + " " + name, e);
+        }
+    }
+
+    public StyledText readStyledText() throws IOException {
+        return StyledText.fromString(in.readUTF());
+    }
+
+    public StatType readStatType() throws IOException {
+        if (statTypesByApiName == null) {
+            statTypesByApiName = new HashMap<>();
+            for (StatType statType : Models.Stat.getAllStatTypes()) {
+                // Keep the first match, like StatModel#fromApiName
+                statTypesByApiName.putIfAbsent(statType.getApiName(), statType);
+            }
+        }
+
+        String apiName = in.readUTF();
+        StatType statType = statTypesByApiName.get(apiName);
+        if (statType == null) {
+            throw new IOException("Unknown stat type " + apiName);
+        }
+        return statType;
+    }
+
+    public RangedValue readRangedValue() throws IOException {
+        return RangedValue.of(in.readInt(), in.readInt());
+    }
+
+    public List<Pair<Skill, Integer>> readSkills() throws IOException {
+        int size = in.readInt();
+        List<Pair<Skill, Integer>> skills = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            skills.add(Pair.of(readEnum(Skill.class), in.readInt()));
+        }
+        return List.copyOf(skills);
+    }
+
+    public List<Pair<StatType, StatPossibleValues>> readPossibleValues() throws IOException {
+        int size = in.readInt();
+        List<Pair<StatType, StatPossibleValues>> stats = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            StatType statType = readStatType();
+            RangedValue range = readRangedValue();
+            int baseValue = in.readInt();
+            boolean preIdentified = in.readBoolean();
+
+            stats.add(Pair.of(statType, new StatPossibleValues(statType, range, baseValue, preIdentified)));
+        }
+        return List.copyOf(stats);
+    }
+
+    public ItemMaterial readMaterial() throws IOException {
+        String itemId = in.readUTF();
+        float modelValue = in.readFloat();
+        Optional<Integer> dyedColor = in.readBoolean() ? Optional.of(in.readInt()) : Optional.empty();
+        Optional<String> headTexture = readOptionalString();
+
+        return ItemMaterial.fromParts(new ItemMaterial.Parts(itemId, modelValue, dyedColor, headTexture));
+    }
+
+    public GearMetaInfo readMetaInfo() throws IOException {
+        GearRestrictions restrictions = readEnum(GearRestrictions.class);
+        ItemMaterial material = readMaterial();
+
+        int obtainInfoSize = in.readInt();
+        List<ItemObtainInfo> obtainInfo = new ArrayList<>(obtainInfoSize);
+        for (int i = 0; i < obtainInfoSize; i++) {
+            obtainInfo.add(new ItemObtainInfo(readEnum(ItemObtainType.class), readOptionalString()));
+        }
+
+        Optional<StyledText> lore = in.readBoolean() ? Optional.of(readStyledText()) : Optional.empty();
+        Optional<String> apiName = readOptionalString();
+        boolean allowCraftsman = in.readBoolean();
+        boolean preIdentified = in.readBoolean();
+
+        return new GearMetaInfo(
+                restrictions, material, List.copyOf(obtainInfo), lore, apiName, allowCraftsman, preIdentified);
+    }
+}
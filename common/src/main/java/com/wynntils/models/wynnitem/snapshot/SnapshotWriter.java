@@ -0,0 +1,137 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.wynnitem.snapshot;
+
+import com.wynntils.core.text.StyledText;
+import com.wynntils.models.elements.type.Skill;
+import com.wynntils.models.gear.type.GearMetaInfo;
+import com.wynntils.models.stats.type.StatPossibleValues;
+import com.wynntils.models.stats.type.StatType;
+import com.wynntils.models.wynnitem.type.ItemMaterial;
+import com.wynntils.models.wynnitem.type.ItemObtainInfo;
+import com.wynntils.utils.type.Pair;
+import com.wynntils.utils.type.RangedValue;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes the parts of the parsed item infos, in the format read by {@link SnapshotReader}.
+ */
+public final class SnapshotWriter {
+    private final DataOutputStream out;
+
+    SnapshotWriter(OutputStream outputStream) {
+        this.out = new DataOutputStream(outputStream);
+    }
+
+    public void writeInt(int value) throws IOException {
+        out.writeInt(value);
+    }
+
+    public void writeFloat(float value) throws IOException {
+        out.writeFloat(value);
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        out.writeBoolean(value);
+    }
+
+    public void writeString(String value) throws IOException {
+        out.writeUTF(value);
+    }
+
+    public void writeOptionalString(Optional<String> value) throws IOException {
+        out.writeBoolean(value.isPresent());
+        if (value.isPresent()) {
+            out.writeUTF(value.get());
+        }
+    }
+
+    public void writeStringList(List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    /**
+     * Writes an enum constant by name, so reordering the constants does not break old snapshots.
+     */
+    public void writeEnum(Enum<?> value) throws IOException {
+        out.writeUTF(value == null ? "" : value.name());
+    }
+
+    public void writeStyledText(StyledText text) throws IOException {
+        out.writeUTF(text.getString());
+    }
+
+    public void writeStatType(StatType statType) throws IOException {
+        out.writeUTF(statType.getApiName());
+    }
+
+    public void writeRangedValue(RangedValue value) throws IOException {
+        out.writeInt(value.low());
+        out.writeInt(value.high());
+    }
+
+    public void writeSkills(List<Pair<Skill, Integer>> skills) throws IOException {
+        out.writeInt(skills.size());
+        for (Pair<Skill, Integer> skill : skills) {
+            writeEnum(skill.key());
+            out.writeInt(skill.value());
+        }
+    }
+
+    public void writePossibleValues(List<Pair<StatType, StatPossibleValues>> stats) throws IOException {
+        out.writeInt(stats.size());
+        for (Pair<StatType, StatPossibleValues> stat : stats) {
+            StatPossibleValues possibleValues = stat.value();
+            writeStatType(stat.key());
+            writeRangedValue(possibleValues.range());
+            out.writeInt(possibleValues.baseValue());
+            out.writeBoolean(possibleValues.isPreIdentified());
+        }
+    }
+
+    public void writeMaterial(ItemMaterial material) throws IOException {
+        ItemMaterial.Parts parts = material.getParts();
+        out.writeUTF(parts.itemId());
+        out.writeFloat(parts.modelValue());
+
+        out.writeBoolean(parts.dyedColor().isPresent());
+        if (parts.dyedColor().isPresent()) {
+            out.writeInt(parts.dyedColor().get());
+        }
+
+        writeOptionalString(parts.headTexture());
+    }
+
+    public void writeMetaInfo(GearMetaInfo metaInfo) throws IOException {
+        writeEnum(metaInfo.restrictions());
+        writeMaterial(metaInfo.material());
+
+        out.writeInt(metaInfo.obtainInfo().size());
+        for (ItemObtainInfo obtainInfo : metaInfo.obtainInfo()) {
+            writeEnum(obtainInfo.sourceType());
+            writeOptionalString(obtainInfo.name());
+        }
+
+        out.writeBoolean(metaInfo.lore().isPresent());
+        if (metaInfo.lore().isPresent()) {
+            writeStyledText(metaInfo.lore().get());
+        }
+
+        writeOptionalString(metaInfo.apiName());
+        out.writeBoolean(metaInfo.allowCraftsman());
+        out.writeBoolean(metaInfo.preIdentified());
+    }
+
+    void flush() throws IOException {
+        out.flush();
+    }
+}
@@ -1,9 +1,10 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.wynnitem.type;
 
+import com.mojang.authlib.properties.Property;
 import com.wynntils.core.components.Models;
 import com.wynntils.models.gear.type.GearType;
 import com.wynntils.utils.colors.CustomColor;
@@ -84,6 +85,39 @@ public record ItemMaterial(ItemStack itemStack) {
         return fromItemId(itemId, damageCode);
     }
 
+    /**
+     * Recreates a material from the parts returned by {@link #getParts()}.
+     */
+    public static ItemMaterial fromParts(Parts parts) {
+        ItemStack itemStack = createItemStack(getItem(parts.itemId()), parts.modelValue());
+        parts.dyedColor()
+                .ifPresent(color -> itemStack.set(DataComponents.DYED_COLOR, new DyedItemColor(color, false)));
+        parts.headTexture().ifPresent(texture -> SkinUtils.setPlayerHeadSkin(itemStack, texture));
+
+        return new ItemMaterial(itemStack);
+    }
+
+    /**
+     * Returns the parts of the item stack that the factories of this class set.
+     */
+    public Parts getParts() {
+        String itemId = BuiltInRegistries.ITEM.getKey(itemStack.getItem()).toString();
+
+        CustomModelData customModelData = itemStack.get(DataComponents.CUSTOM_MODEL_DATA);
+        float modelValue = customModelData == null || customModelData.floats().isEmpty()
+                ? 0
+                : customModelData.floats().getFirst();
+
+        Optional<Integer> dyedColor =
+                Optional.ofNullable(itemStack.get(DataComponents.DYED_COLOR)).map(DyedItemColor::rgb);
+
+        Optional<String> headTexture = Optional.ofNullable(itemStack.get(DataComponents.PROFILE))
+                .flatMap(profile -> profile.properties().get("textures").stream().findFirst())
+                .map(Property::value);
+
+        return new Parts(itemId, modelValue, dyedColor, headTexture);
+    }
+
     private static ItemStack createItemStack(Item item, float modelValue) {
         ItemStack itemStack = new ItemStack(item);
 
@@ -96,4 +130,6 @@ public record ItemMaterial(ItemStack itemStack) {
     private static Item getItem(String itemId) {
         return BuiltInRegistries.ITEM.getValue(ResourceLocation.parse(itemId));
     }
+
+    public record Parts(String itemId, float modelValue, Optional<Integer> dyedColor, Optional<String> headTexture) {}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.overlays.gamebars;
@@ -49,7 +49,7 @@ public abstract class BaseBarOverlay extends Overlay {
     protected BaseBarOverlay(OverlayPosition position, OverlaySize size, CustomColor textColor) {
         super(position, size);
         this.textColor.store(textColor);
-        WynntilsMod.registerListener(this::onBossBarAdd);
+        WynntilsMod.registerListener(BossBarAddedEvent.class, this::onBossBarAdd);
     }
 
     protected float textureHeight() {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.overlays.minimap;
@@ -19,6 +19,7 @@ import com.wynntils.core.text.StyledText;
 import com.wynntils.features.map.MainMapFeature;
 import com.wynntils.services.hades.type.PlayerRelation;
 import com.wynntils.services.map.MapTexture;
+import com.wynntils.services.map.pois.LabelPoi;
 import com.wynntils.services.map.pois.PlayerMiniMapPoi;
 import com.wynntils.services.map.pois.Poi;
 import com.wynntils.services.map.pois.WaypointPoi;
@@ -41,6 +42,7 @@ import com.wynntils.utils.render.type.VerticalAlignment;
 import com.wynntils.utils.type.BoundingBox;
 import com.wynntils.utils.type.BoundingCircle;
 import com.wynntils.utils.type.BoundingShape;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 import net.minecraft.client.DeltaTracker;
@@ -258,19 +260,27 @@ public class MinimapOverlay extends Overlay {
 
         float currentZoom = 1f / zoomRenderScale;
 
-        Stream<? extends Poi> poisToRender = Services.Poi.getServicePois();
-        poisToRender = Stream.concat(poisToRender, Services.Poi.getCombatPois());
-        poisToRender = Stream.concat(
-                poisToRender, Managers.Feature.getFeatureInstance(MainMapFeature.class).customPois.get().stream());
-        poisToRender = Stream.concat(poisToRender, Services.Poi.getProvidedCustomPois().stream());
-        poisToRender = Stream.concat(poisToRender, Models.Marker.getAllPois());
-        poisToRender = Stream.concat(
-                poisToRender, getMiniPlayerPois(renderRemotePartyPlayers.get(), renderRemoteFriendPlayers.get()));
+        // Static pois are looked up in the visible area only, the others are few enough to be checked one by one
+        BoundingBox textureBoundingBox = new BoundingBox(
+                textureBoundingCircle.x() - textureBoundingCircle.radius(),
+                textureBoundingCircle.z() - textureBoundingCircle.radius(),
+                textureBoundingCircle.x() + textureBoundingCircle.radius(),
+                textureBoundingCircle.z() + textureBoundingCircle.radius());
+        List<Poi> pois = new ArrayList<>();
+        for (Poi poi : Services.Poi.getStaticPois(textureBoundingBox, poiScale.get())) {
+            // Labels are only shown on the main map
+            if (!(poi instanceof LabelPoi)) {
+                pois.add(poi);
+            }
+        }
+        pois.addAll(Managers.Feature.getFeatureInstance(MainMapFeature.class).customPois.get());
+        Models.Marker.getAllPois().forEach(pois::add);
+        getMiniPlayerPois(renderRemotePartyPlayers.get(), renderRemoteFriendPlayers.get())
+                .forEach(pois::add);
 
         MultiBufferSource.BufferSource bufferSource =
                 McUtils.mc().renderBuffers().bufferSource();
 
-        Poi[] pois = poisToRender.toArray(Poi[]::new);
         for (Poi poi : pois) {
             float dX = (poi.getLocation().getX() - (float) playerX) / zoomRenderScale;
             float dZ = (poi.getLocation().getZ() - (float) playerZ) / zoomRenderScale;
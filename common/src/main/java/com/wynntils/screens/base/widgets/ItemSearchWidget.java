@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.screens.base.widgets;
@@ -8,6 +8,8 @@ import com.mojang.blaze3d.vertex.PoseStack;
 import com.wynntils.core.components.Services;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.screens.base.TextboxScreen;
+import com.wynntils.services.itemfilter.ItemSearchTask;
+import com.wynntils.services.itemfilter.ItemStatIndex;
 import com.wynntils.services.itemfilter.type.ItemProviderType;
 import com.wynntils.services.itemfilter.type.ItemSearchQuery;
 import com.wynntils.utils.colors.CommonColors;
@@ -24,6 +26,7 @@ import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Tooltip;
 import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
 
 public class ItemSearchWidget extends SearchWidget {
     private final List<ItemProviderType> supportedProviderTypes;
@@ -31,6 +34,7 @@ public class ItemSearchWidget extends SearchWidget {
     private final ItemSearchHelperWidget helperWidget;
 
     private ItemSearchQuery searchQuery;
+    private ItemSearchTask<?> searchTask = null;
 
     private final Consumer<ItemSearchQuery> onSearchQueryUpdateConsumer;
 
@@ -205,4 +209,20 @@ public class ItemSearchWidget extends SearchWidget {
     public ItemSearchQuery getSearchQuery() {
         return searchQuery;
     }
+
+    /**
+     * Searches the items of the index with the current search query in the background, and cancels the previous
+     * search. The consumer receives the result once the search is done.
+     */
+    public <T extends ItemStack> void search(ItemStatIndex<T> statIndex, Consumer<List<T>> resultsConsumer) {
+        cancelSearch();
+        searchTask = Services.ItemFilter.filterAndSortAsync(searchQuery, statIndex, resultsConsumer);
+    }
+
+    public void cancelSearch() {
+        if (searchTask == null) return;
+
+        searchTask.cancel();
+        searchTask = null;
+    }
 }
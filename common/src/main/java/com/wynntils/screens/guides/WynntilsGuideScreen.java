@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.screens.guides;
@@ -11,15 +11,25 @@ import com.wynntils.screens.base.widgets.ItemFilterUIButton;
 import com.wynntils.screens.base.widgets.ItemSearchWidget;
 import com.wynntils.screens.base.widgets.PageSelectorButton;
 import com.wynntils.screens.base.widgets.WynntilsButton;
+import com.wynntils.services.itemfilter.ItemStatIndex;
 import com.wynntils.services.itemfilter.type.ItemProviderType;
 import com.wynntils.services.itemfilter.type.ItemSearchQuery;
 import com.wynntils.utils.render.Texture;
 import java.util.List;
 import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
 
-public abstract class WynntilsGuideScreen<E, B extends WynntilsButton> extends WynntilsListScreen<E, B> {
+public abstract class WynntilsGuideScreen<E extends ItemStack, B extends WynntilsButton>
+        extends WynntilsListScreen<E, B> {
     private List<ItemProviderType> supportedProviderTypes;
 
+    // The items do not change while the screen is open, so their stats are only indexed once
+    private ItemStatIndex<E> statIndex = null;
+
+    // The results are kept, so changing the page does not search again
+    private ItemSearchQuery searchedQuery = null;
+    private List<E> searchResults = List.of();
+
     protected WynntilsGuideScreen(Component component, List<ItemProviderType> supportedProviderTypes) {
         super(component);
 
@@ -77,8 +87,33 @@ public abstract class WynntilsGuideScreen<E, B extends WynntilsButton> extends W
             return;
         }
 
-        reloadElementsList(itemSearchWidget.getSearchQuery());
+        ItemSearchQuery searchQuery = itemSearchWidget.getSearchQuery();
+        if (searchQuery != searchedQuery) {
+            searchedQuery = searchQuery;
+            if (statIndex == null) {
+                statIndex = new ItemStatIndex<>(getAllElements());
+            }
+
+            itemSearchWidget.search(statIndex, results -> {
+                searchResults = results;
+                reloadElements();
+            });
+        }
+
+        elements.addAll(searchResults);
+    }
+
+    @Override
+    public void removed() {
+        if (searchWidget instanceof ItemSearchWidget itemSearchWidget) {
+            itemSearchWidget.cancelSearch();
+        }
+
+        // The search might not have finished, so search again if the screen is shown again
+        searchedQuery = null;
+
+        super.removed();
     }
 
-    protected abstract void reloadElementsList(ItemSearchQuery searchQuery);
+    protected abstract List<E> getAllElements();
 }
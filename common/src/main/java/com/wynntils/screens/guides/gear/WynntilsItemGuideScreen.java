@@ -1,16 +1,14 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.screens.guides.gear;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.wynntils.core.components.Models;
-import com.wynntils.core.components.Services;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.screens.guides.WynntilsGuideScreen;
 import com.wynntils.services.itemfilter.type.ItemProviderType;
-import com.wynntils.services.itemfilter.type.ItemSearchQuery;
 import com.wynntils.utils.colors.CommonColors;
 import com.wynntils.utils.render.FontRenderer;
 import com.wynntils.utils.render.Texture;
@@ -108,11 +106,8 @@ public final class WynntilsItemGuideScreen extends WynntilsGuideScreen<GuideGear
                 this);
     }
 
-    protected void reloadElementsList(ItemSearchQuery searchQuery) {
-        elements.addAll(Services.ItemFilter.filterAndSort(searchQuery, getAllGearItems()));
-    }
-
-    private List<GuideGearItemStack> getAllGearItems() {
+    @Override
+    protected List<GuideGearItemStack> getAllElements() {
         if (allGearItems.isEmpty()) {
             // Populate list
             allGearItems =
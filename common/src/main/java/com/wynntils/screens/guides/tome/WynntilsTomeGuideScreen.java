@@ -1,16 +1,14 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.screens.guides.tome;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.wynntils.core.components.Models;
-import com.wynntils.core.components.Services;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.screens.guides.WynntilsGuideScreen;
 import com.wynntils.services.itemfilter.type.ItemProviderType;
-import com.wynntils.services.itemfilter.type.ItemSearchQuery;
 import com.wynntils.utils.colors.CommonColors;
 import com.wynntils.utils.render.FontRenderer;
 import com.wynntils.utils.render.Texture;
@@ -108,11 +106,8 @@ public final class WynntilsTomeGuideScreen extends WynntilsGuideScreen<GuideTome
                 this);
     }
 
-    protected void reloadElementsList(ItemSearchQuery searchQuery) {
-        elements.addAll(Services.ItemFilter.filterAndSort(searchQuery, getAllTomeItems()));
-    }
-
-    private List<GuideTomeItemStack> getAllTomeItems() {
+    @Override
+    protected List<GuideTomeItemStack> getAllElements() {
         if (allTomeItems.isEmpty()) {
             // Populate list
             allTomeItems = Models.Rewards.getAllTomeInfos()
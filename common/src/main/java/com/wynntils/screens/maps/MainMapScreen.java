@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.screens.maps;
@@ -32,8 +32,8 @@ import com.wynntils.utils.render.RenderUtils;
 import com.wynntils.utils.render.Texture;
 import com.wynntils.utils.type.BoundingBox;
 import com.wynntils.utils.wynn.LocationUtils;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.GuiGraphics;
@@ -304,36 +304,30 @@ public final class MainMapScreen extends AbstractMapScreen {
     }
 
     private void renderPois(PoseStack poseStack, int mouseX, int mouseY) {
-        Stream<? extends Poi> pois = Services.Poi.getServicePois();
-
-        pois = Stream.concat(pois, Services.Poi.getCombatPois());
-        pois = Stream.concat(pois, Services.Poi.getLabelPois());
-        pois = Stream.concat(pois, Managers.Feature.getFeatureInstance(MainMapFeature.class).customPois.get().stream());
-        pois = Stream.concat(pois, Services.Poi.getProvidedCustomPois().stream());
-        pois = Stream.concat(pois, Models.Marker.getAllPois());
-        pois = Stream.concat(
-                pois,
-                getPlayerPois(
+        BoundingBox textureBoundingBox =
+                BoundingBox.centered(mapCenterX, mapCenterZ, width / zoomRenderScale, height / zoomRenderScale);
+        float poiScale = Managers.Feature.getFeatureInstance(MainMapFeature.class)
+                .poiScale
+                .get();
+
+        // Static pois are looked up in the visible area only, the others are few enough to be checked one by one
+        List<Poi> pois = new ArrayList<>(Services.Poi.getStaticPois(textureBoundingBox, poiScale));
+        pois.addAll(Managers.Feature.getFeatureInstance(MainMapFeature.class).customPois.get());
+        Models.Marker.getAllPois().forEach(pois::add);
+        getPlayerPois(
                         Managers.Feature.getFeatureInstance(MainMapFeature.class)
                                 .renderRemotePartyPlayers
                                 .get(),
                         Managers.Feature.getFeatureInstance(MainMapFeature.class)
                                 .renderRemoteFriendPlayers
-                                .get()));
+                                .get())
+                .forEach(pois::add);
 
         if (showTerrs) {
-            pois = Stream.concat(pois, Models.Territory.getTerritoryPois().stream());
+            pois.addAll(Models.Territory.getTerritoryPois());
         }
 
-        renderPois(
-                pois.collect(Collectors.toList()),
-                poseStack,
-                BoundingBox.centered(mapCenterX, mapCenterZ, width / zoomRenderScale, height / zoomRenderScale),
-                Managers.Feature.getFeatureInstance(MainMapFeature.class)
-                        .poiScale
-                        .get(),
-                mouseX,
-                mouseY);
+        renderPois(pois, poseStack, textureBoundingBox, poiScale, mouseX, mouseY);
     }
 
     private Stream<PlayerMainMapPoi> getPlayerPois(
@@ -1,9 +1,10 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Service;
 import com.wynntils.core.persisted.Persisted;
@@ -78,7 +79,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.resources.language.I18n;
 import net.minecraft.world.item.ItemStack;
@@ -87,6 +91,7 @@ public class ItemFilterService extends Service {
     private static final String SORT_KEY = "sort";
     private static final String SORT_REVERSE_KEY = "^";
     private static final String LIST_SEPARATOR = ",";
+    private static final Comparable<?>[] NO_SORT_KEYS = new Comparable<?>[0];
 
     @Persisted
     public final Storage<List<Pair<String, String>>> presets = new Storage<>(new ArrayList<>());
@@ -94,6 +99,10 @@ public class ItemFilterService extends Service {
     private final List<ItemStatProvider<?>> itemStatProviders = new ArrayList<>();
     private final List<Pair<Class<?>, StatFilterFactory<? extends StatFilter<?>>>> statFilters = new ArrayList<>();
 
+    // A single thread, so a cancelled search is finished before the next one starts
+    private final ExecutorService searchExecutor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("wynntils-item-search-%d").build());
+
     public ItemFilterService() {
         super(List.of());
 
@@ -282,10 +291,7 @@ public class ItemFilterService extends Service {
         Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
         if (wynnItemOpt.isEmpty()) return false;
 
-        return filterMatches(searchQuery, wynnItemOpt.get())
-                && itemNameMatches(
-                        searchQuery,
-                        StyledText.fromComponent(itemStack.getHoverName()).getStringWithoutFormatting());
+        return matches(searchQuery, itemStack, wynnItemOpt.get());
     }
 
     /**
@@ -296,50 +302,98 @@ public class ItemFilterService extends Service {
      * @return the filtered and sorted list of items
      */
     public <T extends ItemStack> List<T> filterAndSort(ItemSearchQuery searchQuery, List<T> originalList) {
-        Stream<T> filteredList = originalList.stream().filter(itemStack -> matches(searchQuery, itemStack));
-
-        // Sorted stat providers must be filtered as "any" filters
-        filteredList = filteredList.filter(itemStack -> {
-            Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
-
-            WynnItem wynnItem = wynnItemOpt.get();
+        return filterAndSort(searchQuery, originalList, Models.Item::getWynnItem);
+    }
 
-            for (SortInfo sortInfo : searchQuery.sorts()) {
-                ItemStatProvider<?> statProvider = sortInfo.provider();
-                if (statProvider.getValue(wynnItem).isEmpty()) {
-                    return false;
-                }
+    /**
+     * Filters and sorts the given list of items like {@link #filterAndSort(ItemSearchQuery, List)}, but finds the
+     * Wynncraft items with the given lookup instead of the item annotations.
+     *
+     * @param searchQuery    the search query
+     * @param originalList   the list of items to filter and sort
+     * @param wynnItemLookup the lookup of the Wynncraft item of an item
+     * @return the filtered and sorted list of items
+     */
+    public <T extends ItemStack> List<T> filterAndSort(
+            ItemSearchQuery searchQuery, List<T> originalList, Function<? super T, Optional<WynnItem>> wynnItemLookup) {
+        List<SearchMatch<T>> matches = new ArrayList<>();
+        for (T itemStack : originalList) {
+            SearchMatch<T> match = getSearchMatch(searchQuery, itemStack, wynnItemLookup);
+            if (match != null) {
+                matches.add(match);
             }
+        }
 
-            return true;
-        });
-
-        filteredList = filteredList.sorted((itemStack1, itemStack2) -> {
-            Optional<WynnItem> wynnItem1Opt = Models.Item.getWynnItem(itemStack1);
-            Optional<WynnItem> wynnItem2Opt = Models.Item.getWynnItem(itemStack2);
+        return sortMatches(searchQuery, matches);
+    }
 
-            if (wynnItem1Opt.isEmpty() || wynnItem2Opt.isEmpty()) {
-                return 0;
-            }
+    /**
+     * Filters and sorts the items of the index like {@link #filterAndSort(ItemSearchQuery, List)}, but on a
+     * background thread. As the index answers the query at once, the consumer only receives the full result,
+     * on the render thread.
+     *
+     * @param searchQuery     the search query
+     * @param statIndex       the index of the items to filter and sort
+     * @param resultsConsumer the consumer of the result
+     * @return the running search, which can be cancelled
+     */
+    public <T extends ItemStack> ItemSearchTask<T> filterAndSortAsync(
+            ItemSearchQuery searchQuery, ItemStatIndex<T> statIndex, Consumer<List<T>> resultsConsumer) {
+        ItemSearchTask<T> searchTask = new ItemSearchTask<>(searchQuery, statIndex, resultsConsumer);
+        searchExecutor.execute(searchTask::run);
+        return searchTask;
+    }
 
-            WynnItem wynnItem1 = wynnItem1Opt.get();
-            WynnItem wynnItem2 = wynnItem2Opt.get();
+    /**
+     * Returns the item with the values of its sort stats, if it matches the search query, or null otherwise.
+     * Items without a value for any of the sort stats do not match, as sorted stat providers are filtered as "any"
+     * filters.
+     */
+    <T extends ItemStack> SearchMatch<T> getSearchMatch(
+            ItemSearchQuery searchQuery, T itemStack, Function<? super T, Optional<WynnItem>> wynnItemLookup) {
+        List<SortInfo> sorts = searchQuery.sorts();
+        if (searchQuery.isEmpty() && sorts.isEmpty()) return new SearchMatch<>(itemStack, NO_SORT_KEYS);
+        if (itemStack.isEmpty()) return null;
+
+        Optional<WynnItem> wynnItemOpt = wynnItemLookup.apply(itemStack);
+        if (wynnItemOpt.isEmpty()) return null;
+
+        WynnItem wynnItem = wynnItemOpt.get();
+        if (!searchQuery.isEmpty() && !matches(searchQuery, itemStack, wynnItem)) return null;
+
+        // Get each value once here, instead of in every comparison while sorting
+        Comparable<?>[] sortKeys = new Comparable<?>[sorts.size()];
+        for (int i = 0; i < sortKeys.length; i++) {
+            sortKeys[i] = getSortKey(sorts.get(i).provider(), wynnItem);
+            if (sortKeys[i] == null) return null;
+        }
 
-            for (SortInfo sortInfo : searchQuery.sorts()) {
-                int compare = sortInfo.provider().compare(wynnItem1, wynnItem2);
+        return new SearchMatch<>(itemStack, sortKeys);
+    }
 
-                if (compare != 0) {
-                    return switch (sortInfo.direction()) {
-                        case ASCENDING -> -compare;
-                        case DESCENDING -> compare;
-                    };
+    /**
+     * Sorts the matches in place by their sort keys, and returns their items.
+     */
+    <T extends ItemStack> List<T> sortMatches(ItemSearchQuery searchQuery, List<SearchMatch<T>> matches) {
+        List<SortInfo> sorts = searchQuery.sorts();
+        if (!sorts.isEmpty()) {
+            matches.sort((match1, match2) -> {
+                for (int i = 0; i < sorts.size(); i++) {
+                    int compare = ItemStatProvider.compareSortKeys(match1.sortKeys()[i], match2.sortKeys()[i]);
+
+                    if (compare != 0) {
+                        return switch (sorts.get(i).direction()) {
+                            case ASCENDING -> -compare;
+                            case DESCENDING -> compare;
+                        };
+                    }
                 }
-            }
 
-            return 0;
-        });
+                return 0;
+            });
+        }
 
-        return filteredList.toList();
+        return matches.stream().map(SearchMatch::itemStack).toList();
     }
 
     /**
@@ -429,6 +483,24 @@ public class ItemFilterService extends Service {
         }
     }
 
+    private boolean matches(ItemSearchQuery searchQuery, ItemStack itemStack, WynnItem wynnItem) {
+        return filterMatches(searchQuery, wynnItem)
+                && itemNameMatches(
+                        searchQuery,
+                        StyledText.fromComponent(itemStack.getHoverName()).getStringWithoutFormatting());
+    }
+
+    private static <T extends Comparable<T>> Comparable<?> getSortKey(
+            ItemStatProvider<T> statProvider, WynnItem wynnItem) {
+        Optional<T> value = statProvider.getValue(wynnItem);
+        return value.map(statProvider::getSortKey).orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<T>> Comparable<?> getValueSortKey(ItemStatProvider<T> statProvider, Object value) {
+        return statProvider.getSortKey((T) value);
+    }
+
     /**
      * Checks if the given item matches all filters. Tokens that are not filters in the search query are ignored. If no
      * filters are present, this method always returns true.
@@ -588,4 +660,6 @@ public class ItemFilterService extends Service {
     private <T> void registerStatFilter(Class<T> clazz, StatFilterFactory<? extends StatFilter<T>> statFilterFactory) {
         statFilters.add(Pair.of(clazz, statFilterFactory));
     }
+
+    record SearchMatch<T extends ItemStack>(T itemStack, Comparable<?>[] sortKeys) {}
 }
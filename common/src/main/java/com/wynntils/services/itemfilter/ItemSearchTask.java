@@ -0,0 +1,55 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.itemfilter;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.services.itemfilter.type.ItemSearchQuery;
+import java.util.List;
+import java.util.function.Consumer;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * A search started by {@link ItemFilterService#filterAndSortAsync(ItemSearchQuery, ItemStatIndex, Consumer)}.
+ */
+public final class ItemSearchTask<T extends ItemStack> {
+    private final ItemSearchQuery searchQuery;
+    private final ItemStatIndex<T> statIndex;
+    private final Consumer<List<T>> resultsConsumer;
+
+    private volatile boolean cancelled = false;
+
+    ItemSearchTask(ItemSearchQuery searchQuery, ItemStatIndex<T> statIndex, Consumer<List<T>> resultsConsumer) {
+        this.searchQuery = searchQuery;
+        this.statIndex = statIndex;
+        this.resultsConsumer = resultsConsumer;
+    }
+
+    /**
+     * Stops the search. The consumer is not called anymore, even if the result was already found.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    void run() {
+        if (cancelled) return;
+
+        List<T> results;
+        try {
+            results = statIndex.filterAndSort(searchQuery);
+        } catch (RuntimeException e) {
+            WynntilsMod.error("Failed to search items for " + searchQuery.queryString(), e);
+            results = List.of();
+        }
+
+        List<T> finalResults = results;
+        RenderSystem.recordRenderCall(() -> {
+            if (cancelled) return;
+
+            resultsConsumer.accept(finalResults);
+        });
+    }
+}
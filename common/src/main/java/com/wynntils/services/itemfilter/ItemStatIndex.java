@@ -0,0 +1,392 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.itemfilter;
+
+import com.wynntils.core.components.Models;
+import com.wynntils.core.text.StyledText;
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.services.itemfilter.filters.AnyStatFilters;
+import com.wynntils.services.itemfilter.filters.RangedStatFilters;
+import com.wynntils.services.itemfilter.type.ItemSearchQuery;
+import com.wynntils.services.itemfilter.type.ItemStatProvider;
+import com.wynntils.services.itemfilter.type.SortDirection;
+import com.wynntils.services.itemfilter.type.SortInfo;
+import com.wynntils.services.itemfilter.type.StatFilter;
+import com.wynntils.services.itemfilter.type.StatProviderAndFilterPair;
+import com.wynntils.services.itemfilter.type.StatValue;
+import com.wynntils.utils.MathUtils;
+import com.wynntils.utils.type.CappedValue;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * A column based index of the stat values of a list of items that do not change, like the items of the guides.
+ * Each stat provider gets a column the first time a query uses it, holding the values of all items, so every value
+ * is only read once. Queries are then answered with a bit set per filter, and sorts use the ranks of the values.
+ * <br>
+ * The index is not thread safe, so screens only search it on the item search thread,
+ * see {@link ItemFilterService#filterAndSortAsync(ItemSearchQuery, ItemStatIndex, java.util.function.Consumer)}.
+ */
+public final class ItemStatIndex<T extends ItemStack> {
+    private final List<T> items;
+    private final Function<? super T, Optional<WynnItem>> wynnItemLookup;
+    private final Map<ItemStatProvider<?>, StatColumn> columns = new HashMap<>();
+
+    private WynnItem[] wynnItems = null;
+    private BitSet wynnItemBits = null;
+    private String[] itemNames = null;
+
+    public ItemStatIndex(List<T> items) {
+        this(items, Models.Item::getWynnItem);
+    }
+
+    /**
+     * An index which finds the Wynncraft items with the given lookup, instead of the item annotations.
+     */
+    public ItemStatIndex(List<T> items, Function<? super T, Optional<WynnItem>> wynnItemLookup) {
+        this.items = List.copyOf(items);
+        this.wynnItemLookup = wynnItemLookup;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Filters and sorts the items like {@link ItemFilterService#filterAndSort(ItemSearchQuery, List)}.
+     */
+    public List<T> filterAndSort(ItemSearchQuery searchQuery) {
+        List<SortInfo> sorts = searchQuery.sorts();
+        if (searchQuery.isEmpty() && sorts.isEmpty()) return items;
+
+        buildItemColumns();
+
+        BitSet matches = (BitSet) wynnItemBits.clone();
+
+        // All stat providers need at least one matching filter
+        for (Map.Entry<ItemStatProvider<?>, List<StatProviderAndFilterPair>> entry :
+                searchQuery.filters().entries().entrySet()) {
+            StatColumn column = getColumn(entry.getKey());
+
+            BitSet providerMatches = new BitSet(items.size());
+            for (StatProviderAndFilterPair filterPair : entry.getValue()) {
+                providerMatches.or(column.getMatches(filterPair.statFilter()));
+            }
+            matches.and(providerMatches);
+        }
+
+        if (!searchQuery.plainTextTokens().isEmpty()) {
+            String searchText = String.join(" ", searchQuery.plainTextTokens()).toLowerCase(Locale.ROOT);
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                if (!itemNames[i].contains(searchText)) {
+                    matches.clear(i);
+                }
+            }
+        }
+
+        // Sorted stat providers must be filtered as "any" filters
+        for (SortInfo sortInfo : sorts) {
+            matches.and(getColumn(sortInfo.provider()).present);
+        }
+
+        if (sorts.isEmpty()) return collect(matches);
+
+        if (sorts.size() == 1) {
+            // The matches can be taken from the pre-sorted order
+            SortInfo sortInfo = sorts.getFirst();
+            int[] sortedOrder = getColumn(sortInfo.provider()).getSortedOrder(sortInfo.direction());
+
+            List<T> results = new ArrayList<>(matches.cardinality());
+            for (int index : sortedOrder) {
+                if (matches.get(index)) {
+                    results.add(items.get(index));
+                }
+            }
+            return results;
+        }
+
+        int[] matchIndices = matches.stream().toArray();
+        StatColumn[] sortColumns = new StatColumn[sorts.size()];
+        for (int i = 0; i < sortColumns.length; i++) {
+            sortColumns[i] = getColumn(sorts.get(i).provider());
+        }
+
+        // A stable sort, so items with the same values keep their order, like in filterAndSort
+        IntArrays.mergeSort(matchIndices, (index1, index2) -> {
+            for (int i = 0; i < sortColumns.length; i++) {
+                int compare = sortColumns[i].compareRanks(index1, index2, sorts.get(i).direction());
+                if (compare != 0) return compare;
+            }
+
+            return 0;
+        });
+
+        List<T> results = new ArrayList<>(matchIndices.length);
+        for (int index : matchIndices) {
+            results.add(items.get(index));
+        }
+        return results;
+    }
+
+    private List<T> collect(BitSet matches) {
+        List<T> results = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            results.add(items.get(i));
+        }
+        return results;
+    }
+
+    private void buildItemColumns() {
+        if (wynnItems != null) return;
+
+        wynnItems = new WynnItem[items.size()];
+        wynnItemBits = new BitSet(items.size());
+        itemNames = new String[items.size()];
+
+        for (int i = 0; i < items.size(); i++) {
+            T itemStack = items.get(i);
+            if (itemStack.isEmpty()) continue;
+
+            Optional<WynnItem> wynnItemOpt = wynnItemLookup.apply(itemStack);
+            if (wynnItemOpt.isEmpty()) continue;
+
+            wynnItems[i] = wynnItemOpt.get();
+            wynnItemBits.set(i);
+            itemNames[i] = StyledText.fromComponent(itemStack.getHoverName())
+                    .getStringWithoutFormatting()
+                    .toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private StatColumn getColumn(ItemStatProvider<?> statProvider) {
+        return columns.computeIfAbsent(statProvider, this::buildColumn);
+    }
+
+    private StatColumn buildColumn(ItemStatProvider<?> statProvider) {
+        StatColumn column = new StatColumn(statProvider, items.size());
+        for (int i = wynnItemBits.nextSetBit(0); i >= 0; i = wynnItemBits.nextSetBit(i + 1)) {
+            column.setValue(i, statProvider.getValue(wynnItems[i]));
+        }
+        column.finish();
+        return column;
+    }
+
+    private static final class StatColumn {
+        private final ItemStatProvider<?> statProvider;
+        private final Object[] values;
+        private final BitSet present;
+
+        // The values as primitives, for the types of the ranged filters. A stat value uses its actual value if it is
+        // known, and its possible range otherwise.
+        private final int[] intValues;
+        private final int[] highValues;
+        private final BitSet hasActualValue;
+        private ValueKind kind = null;
+
+        // The present items, sorted by their int value, and those values in the same order
+        private int[] intSortedOrder = null;
+        private int[] sortedIntValues = null;
+
+        // The rank of the sort key of each item, and the items in the order of each sort direction
+        private int[] ranks = null;
+        private int[] descendingOrder = null;
+        private int[] ascendingOrder = null;
+
+        private StatColumn(ItemStatProvider<?> statProvider, int size) {
+            this.statProvider = statProvider;
+            this.values = new Object[size];
+            this.present = new BitSet(size);
+            this.intValues = new int[size];
+            this.highValues = new int[size];
+            this.hasActualValue = new BitSet(size);
+        }
+
+        private void setValue(int index, Optional<?> valueOpt) {
+            if (valueOpt.isEmpty()) return;
+
+            Object value = valueOpt.get();
+            values[index] = value;
+            present.set(index);
+
+            ValueKind valueKind = ValueKind.of(value);
+            // A column with mixed types can only use the filters themselves
+            kind = kind == null || kind == valueKind ? valueKind : ValueKind.OBJECT;
+
+            switch (value) {
+                case Integer integer -> intValues[index] = integer;
+                case CappedValue cappedValue -> intValues[index] = cappedValue.current();
+                case StatValue statValue -> {
+                    if (statValue.statActualValue() != null) {
+                        hasActualValue.set(index);
+                        intValues[index] = statValue.statActualValue().value();
+                    } else {
+                        intValues[index] = statValue.possibleValues().range().low();
+                        highValues[index] = statValue.possibleValues().range().high();
+                    }
+                }
+                default -> {}
+            }
+        }
+
+        private void finish() {
+            if (kind != ValueKind.INTEGER && kind != ValueKind.CAPPED_VALUE) return;
+
+            int[] order = present.stream().toArray();
+            IntArrays.mergeSort(order, (index1, index2) -> Integer.compare(intValues[index1], intValues[index2]));
+
+            int[] sortedValues = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedValues[i] = intValues[order[i]];
+            }
+
+            intSortedOrder = order;
+            sortedIntValues = sortedValues;
+        }
+
+        @SuppressWarnings("unchecked")
+        private BitSet getMatches(StatFilter<?> statFilter) {
+            if (statFilter instanceof AnyStatFilters.AbstractAnyStatFilter<?>) {
+                return (BitSet) present.clone();
+            }
+
+            if (intSortedOrder != null
+                    && (statFilter instanceof RangedStatFilters.RangedIntegerStatFilter
+                            || statFilter instanceof RangedStatFilters.RangedCappedValueStatFilter)) {
+                RangedStatFilters.AbstractRangedStatFilter<?> rangedFilter =
+                        (RangedStatFilters.AbstractRangedStatFilter<?>) statFilter;
+                return getSortedRangeMatches(rangedFilter.getMin(), rangedFilter.getMax());
+            }
+
+            BitSet matches = new BitSet(values.length);
+
+            if (kind == ValueKind.STAT_VALUE
+                    && statFilter instanceof RangedStatFilters.RangedStatValueStatFilter rangedFilter) {
+                int min = rangedFilter.getMin();
+                int max = rangedFilter.getMax();
+                for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+                    boolean match = hasActualValue.get(i)
+                            ? intValues[i] >= min && intValues[i] <= max
+                            : MathUtils.rangesIntersect(min, max, intValues[i], highValues[i]);
+                    if (match) {
+                        matches.set(i);
+                    }
+                }
+                return matches;
+            }
+
+            // Any other filter is checked against the stored values
+            StatFilter<Object> objectFilter = (StatFilter<Object>) statFilter;
+            for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+                if (objectFilter.matches(values[i])) {
+                    matches.set(i);
+                }
+            }
+            return matches;
+        }
+
+        private BitSet getSortedRangeMatches(int min, int max) {
+            BitSet matches = new BitSet(values.length);
+
+            for (int i = lowerBound(min); i < sortedIntValues.length && sortedIntValues[i] <= max; i++) {
+                matches.set(intSortedOrder[i]);
+            }
+
+            return matches;
+        }
+
+        private int lowerBound(int value) {
+            int low = 0;
+            int high = sortedIntValues.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (sortedIntValues[middle] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int compareRanks(int index1, int index2, SortDirection direction) {
+            int[] itemRanks = getRanks();
+            return switch (direction) {
+                case ASCENDING -> Integer.compare(itemRanks[index1], itemRanks[index2]);
+                case DESCENDING -> Integer.compare(itemRanks[index2], itemRanks[index1]);
+            };
+        }
+
+        private int[] getSortedOrder(SortDirection direction) {
+            if (direction == SortDirection.ASCENDING) {
+                if (ascendingOrder == null) {
+                    ascendingOrder = sortByRank(SortDirection.ASCENDING);
+                }
+                return ascendingOrder;
+            }
+
+            if (descendingOrder == null) {
+                descendingOrder = sortByRank(SortDirection.DESCENDING);
+            }
+            return descendingOrder;
+        }
+
+        private int[] sortByRank(SortDirection direction) {
+            int[] order = present.stream().toArray();
+            IntArrays.mergeSort(order, (index1, index2) -> compareRanks(index1, index2, direction));
+            return order;
+        }
+
+        private int[] getRanks() {
+            if (ranks != null) return ranks;
+
+            Comparable<?>[] sortKeys = new Comparable<?>[values.length];
+            for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+                sortKeys[i] = ItemFilterService.getValueSortKey(statProvider, values[i]);
+            }
+
+            // compareSortKeys puts higher keys first, so with swapped arguments the keys are in ascending order.
+            // The lowest key gets rank 0, higher keys get higher ranks, and equal keys get the same rank.
+            int[] order = present.stream().toArray();
+            IntArrays.mergeSort(
+                    order, (index1, index2) -> ItemStatProvider.compareSortKeys(sortKeys[index2], sortKeys[index1]));
+
+            int[] newRanks = new int[values.length];
+            int rank = 0;
+            for (int i = 0; i < order.length; i++) {
+                if (i > 0 && ItemStatProvider.compareSortKeys(sortKeys[order[i - 1]], sortKeys[order[i]]) != 0) {
+                    rank++;
+                }
+                newRanks[order[i]] = rank;
+            }
+
+            ranks = newRanks;
+            return ranks;
+        }
+    }
+
+    private enum ValueKind {
+        INTEGER,
+        CAPPED_VALUE,
+        STAT_VALUE,
+        OBJECT;
+
+        private static ValueKind of(Object value) {
+            return switch (value) {
+                case Integer ignored -> INTEGER;
+                case CappedValue ignored -> CAPPED_VALUE;
+                case StatValue ignored -> STAT_VALUE;
+                default -> OBJECT;
+            };
+        }
+    }
+}
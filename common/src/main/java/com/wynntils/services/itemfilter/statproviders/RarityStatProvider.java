@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter.statproviders;
@@ -34,18 +34,8 @@ public class RarityStatProvider extends ItemStatProvider<String> {
     }
 
     @Override
-    public int compare(WynnItem wynnItem1, WynnItem wynnItem2) {
-        Optional<String> itemValue1 = this.getValue(wynnItem1);
-        Optional<String> itemValue2 = this.getValue(wynnItem2);
-
-        if (itemValue1.isEmpty() && itemValue2.isPresent()) return 1;
-        if (itemValue1.isPresent() && itemValue2.isEmpty()) return -1;
-        if (itemValue1.isEmpty() && itemValue2.isEmpty()) return 0;
-
-        // Map the string values to the GearTier enum values
-        GearTier gearTier1 = GearTier.valueOf(itemValue1.get().toUpperCase(Locale.ROOT));
-        GearTier gearTier2 = GearTier.valueOf(itemValue2.get().toUpperCase(Locale.ROOT));
-
-        return -gearTier1.compareTo(gearTier2);
+    public Comparable<?> getSortKey(String value) {
+        // Sort by the GearTier enum values, not by their names
+        return GearTier.valueOf(value.toUpperCase(Locale.ROOT));
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemfilter.type;
@@ -73,6 +73,16 @@ public abstract class ItemStatProvider<T extends Comparable<T>> implements Trans
         return getTranslation("description");
     }
 
+    /**
+     * Returns the key that items with the given value are sorted by. By default, this is the value itself.
+     *
+     * @param value The value of the stat
+     * @return The key to sort by
+     */
+    public Comparable<?> getSortKey(T value) {
+        return value;
+    }
+
     @Override
     public int compare(WynnItem wynnItem1, WynnItem wynnItem2) {
         Optional<T> itemValue1 = this.getValue(wynnItem1);
@@ -82,6 +92,15 @@ public abstract class ItemStatProvider<T extends Comparable<T>> implements Trans
         if (itemValue1.isPresent() && itemValue2.isEmpty()) return -1;
         if (itemValue1.isEmpty() && itemValue2.isEmpty()) return 0;
 
-        return -itemValue1.get().compareTo(itemValue2.get());
+        return compareSortKeys(getSortKey(itemValue1.get()), getSortKey(itemValue2.get()));
+    }
+
+    /**
+     * Compares two keys returned by {@link #getSortKey(Comparable)} of the same stat provider,
+     * in the same order as {@link #compare(WynnItem, WynnItem)}.
+     */
+    @SuppressWarnings("unchecked")
+    public static int compareSortKeys(Comparable<?> sortKey1, Comparable<?> sortKey2) {
+        return -((Comparable<Object>) sortKey1).compareTo(sortKey2);
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.lootrunpaths;
+
+import com.mojang.blaze3d.vertex.VertexBuffer;
+import com.wynntils.features.LootrunFeature;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * The baked vertex buffers of the chunks of a {@link LootrunPathInstance}, for a path type and level.
+ * Chunks are baked when they are first rendered, and released when they are unloaded,
+ * so blocks changed while the chunk was away are picked up when it is baked again.
+ */
+final class LootrunPathBuffers {
+    private final LootrunFeature.PathType pathType;
+    private final Level level;
+
+    // A null buffer means the chunk has been baked, but has no visible points
+    private final Long2ObjectMap<VertexBuffer> chunkBuffers = new Long2ObjectOpenHashMap<>();
+
+    private boolean used = true;
+
+    LootrunPathBuffers(LootrunFeature.PathType pathType, Level level) {
+        this.pathType = pathType;
+        this.level = level;
+    }
+
+    boolean isValidFor(LootrunFeature.PathType pathType, Level level) {
+        return this.pathType == pathType && this.level == level;
+    }
+
+    LootrunFeature.PathType getPathType() {
+        return pathType;
+    }
+
+    boolean isBaked(long chunk) {
+        return chunkBuffers.containsKey(chunk);
+    }
+
+    VertexBuffer getBuffer(long chunk) {
+        return chunkBuffers.get(chunk);
+    }
+
+    void putBuffer(long chunk, VertexBuffer buffer) {
+        chunkBuffers.put(chunk, buffer);
+    }
+
+    void releaseUnloadedChunks() {
+        chunkBuffers.long2ObjectEntrySet().removeIf(entry -> {
+            ChunkPos chunk = new ChunkPos(entry.getLongKey());
+            if (level.hasChunk(chunk.x, chunk.z)) return false;
+
+            if (entry.getValue() != null) {
+                entry.getValue().close();
+            }
+            return true;
+        });
+    }
+
+    void markUsed() {
+        used = true;
+    }
+
+    /**
+     * Returns whether the buffers were used since the last reset.
+     */
+    boolean resetUsed() {
+        boolean wasUsed = used;
+        used = false;
+        return wasUsed;
+    }
+
+    void close() {
+        for (VertexBuffer buffer : chunkBuffers.values()) {
+            if (buffer != null) {
+                buffer.close();
+            }
+        }
+        chunkBuffers.clear();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.lootrunpaths;
@@ -302,6 +302,8 @@ public final class LootrunPathsService extends Service {
                         .recordingPathColor
                         .get()
                         .asInt());
+
+        LootrunRenderer.releaseUnusedBuffers();
     }
 
     @SubscribeEvent
@@ -1,12 +1,16 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.lootrunpaths;
 
+import com.mojang.blaze3d.buffers.BufferUsage;
 import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
 import com.mojang.blaze3d.vertex.ByteBufferBuilder;
+import com.mojang.blaze3d.vertex.MeshData;
 import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexBuffer;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
 import com.wynntils.core.components.Managers;
@@ -19,13 +23,15 @@ import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.mc.PosUtils;
 import com.wynntils.utils.render.buffered.CustomRenderType;
 import com.wynntils.utils.type.Pair;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import net.minecraft.client.Camera;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.CompiledShaderProgram;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.ShapeRenderer;
@@ -45,6 +51,9 @@ import org.joml.Vector3f;
 public final class LootrunRenderer {
     private static final MultiBufferSource.BufferSource BUFFER_SOURCE =
             MultiBufferSource.immediate(new ByteBufferBuilder(256));
+    private static final ByteBufferBuilder BAKE_BUFFER = new ByteBufferBuilder(4096);
+
+    private static final Map<LootrunPathInstance, LootrunPathBuffers> PATH_BUFFERS = new IdentityHashMap<>();
 
     public static void renderLootrun(PoseStack poseStack, LootrunPathInstance lootrun, int color) {
         if (lootrun == null) {
@@ -66,36 +75,35 @@ public final class LootrunRenderer {
 
         poseStack.translate(-camera.getPosition().x, -camera.getPosition().y, -camera.getPosition().z);
 
-        Long2ObjectMap<List<ColoredPath>> points = lootrun.points();
         int renderDistance = McUtils.options().renderDistance().get();
         BlockPos pos = camera.getBlockPosition();
         ChunkPos origin = new ChunkPos(pos);
 
+        List<ChunkPos> chunks = new ArrayList<>();
         for (int i = 0; i <= renderDistance; i++) {
             for (int j = 0; j <= renderDistance; j++) {
                 int x = j + origin.x - (renderDistance / 2);
                 int z = i + origin.z - (renderDistance / 2);
-                ChunkPos chunk = new ChunkPos(x, z);
-                if (!level.hasChunk(chunk.x, chunk.z)) {
-                    continue;
+                if (level.hasChunk(x, z)) {
+                    chunks.add(new ChunkPos(x, z));
                 }
+            }
+        }
 
-                long chunkLong = chunk.toLong();
+        renderPaths(poseStack, lootrun, level, chunks);
 
-                if (points.containsKey(chunkLong)) {
-                    renderPoints(poseStack, points, chunkLong);
-                }
+        boolean showNotes = Managers.Feature.getFeatureInstance(LootrunFeature.class)
+                .showNotes
+                .get();
+        for (ChunkPos chunk : chunks) {
+            long chunkLong = chunk.toLong();
 
-                if (lootrun.chests().containsKey(chunkLong)) {
-                    renderChests(poseStack, lootrun, color, chunkLong);
-                }
+            if (lootrun.chests().containsKey(chunkLong)) {
+                renderChests(poseStack, lootrun, color, chunkLong);
+            }
 
-                if (Managers.Feature.getFeatureInstance(LootrunFeature.class)
-                                .showNotes
-                                .get()
-                        && lootrun.notes().containsKey(chunkLong)) {
-                    renderNotes(poseStack, lootrun, color, chunkLong);
-                }
+            if (showNotes && lootrun.notes().containsKey(chunkLong)) {
+                renderNotes(poseStack, lootrun, color, chunkLong);
             }
         }
 
@@ -154,28 +162,104 @@ public final class LootrunRenderer {
         BUFFER_SOURCE.endBatch();
     }
 
-    private static void renderPoints(PoseStack poseStack, Long2ObjectMap<List<ColoredPath>> points, long chunkLong) {
-        List<ColoredPath> locations = points.get(chunkLong);
+    /**
+     * Releases the buffers of the lootruns that were not rendered since the last call.
+     */
+    public static void releaseUnusedBuffers() {
+        PATH_BUFFERS.values().removeIf(buffers -> {
+            if (buffers.resetUsed()) return false;
 
-        Level level = McUtils.mc().level;
-        if (level == null) return;
+            buffers.close();
+            return true;
+        });
+    }
 
-        switch (Managers.Feature.getFeatureInstance(LootrunFeature.class)
+    private static void renderPaths(
+            PoseStack poseStack, LootrunPathInstance lootrun, ClientLevel level, List<ChunkPos> chunks) {
+        LootrunFeature.PathType pathType = Managers.Feature.getFeatureInstance(LootrunFeature.class)
                 .pathType
-                .get()) {
-            case TEXTURED -> renderTexturedLootrunPoints(poseStack, locations, level, CustomRenderType.LOOTRUN_QUAD);
-            case LINE -> renderNonTexturedLootrunPoints(poseStack, locations, level, CustomRenderType.LOOTRUN_LINE);
+                .get();
+
+        // Lootrun instances are recompiled when the path or its settings change,
+        // so the buffers only need to be rebuilt for a new instance, path type or level
+        LootrunPathBuffers buffers = PATH_BUFFERS.get(lootrun);
+        if (buffers == null || !buffers.isValidFor(pathType, level)) {
+            if (buffers != null) {
+                buffers.close();
+            }
+            buffers = new LootrunPathBuffers(pathType, level);
+            PATH_BUFFERS.put(lootrun, buffers);
         }
+        buffers.markUsed();
+        buffers.releaseUnloadedChunks();
+
+        RenderType renderType = getPathRenderType(pathType);
+        RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, 1.0f);
+        renderType.setupRenderState();
+
+        // The render state can change the model view matrix, so it has to be read after setting it up
+        Matrix4f modelView = new Matrix4f(RenderSystem.getModelViewMatrix()).mul(poseStack.last().pose());
+        CompiledShaderProgram shader = RenderSystem.getShader();
+
+        for (ChunkPos chunk : chunks) {
+            long chunkLong = chunk.toLong();
+            List<ColoredPath> paths = lootrun.points().get(chunkLong);
+            if (paths == null) continue;
+
+            if (!buffers.isBaked(chunkLong)) {
+                buffers.putBuffer(chunkLong, bakeChunk(paths, level, pathType, chunk));
+            }
+
+            VertexBuffer buffer = buffers.getBuffer(chunkLong);
+            if (buffer == null || shader == null) continue;
+
+            buffer.bind();
+            buffer.drawWithShader(
+                    new Matrix4f(modelView).translate(chunk.getMinBlockX(), 0, chunk.getMinBlockZ()),
+                    RenderSystem.getProjectionMatrix(),
+                    shader);
+        }
+
+        VertexBuffer.unbind();
+        renderType.clearRenderState();
+    }
+
+    private static RenderType getPathRenderType(LootrunFeature.PathType pathType) {
+        return switch (pathType) {
+            case TEXTURED -> CustomRenderType.LOOTRUN_QUAD;
+            case LINE -> CustomRenderType.LOOTRUN_LINE;
+        };
+    }
+
+    // Bakes the points of the chunk relative to the chunk's origin, so the vertices keep their precision
+    private static VertexBuffer bakeChunk(
+            List<ColoredPath> paths, Level level, LootrunFeature.PathType pathType, ChunkPos chunk) {
+        RenderType renderType = getPathRenderType(pathType);
+        BufferBuilder builder = new BufferBuilder(BAKE_BUFFER, renderType.mode(), renderType.format());
+        Vector3f origin = new Vector3f(chunk.getMinBlockX(), 0, chunk.getMinBlockZ());
+
+        switch (pathType) {
+            case TEXTURED -> bakeTexturedLootrunPoints(builder, paths, level, origin);
+            case LINE -> bakeNonTexturedLootrunPoints(builder, paths, level, origin);
+        }
+
+        MeshData meshData = builder.build();
+        if (meshData == null) return null;
+
+        VertexBuffer buffer = new VertexBuffer(BufferUsage.STATIC_WRITE);
+        buffer.bind();
+        buffer.upload(meshData);
+        VertexBuffer.unbind();
+        return buffer;
     }
 
-    private static void renderNonTexturedLootrunPoints(
-            PoseStack poseStack, List<ColoredPath> locations, Level level, RenderType renderType) {
+    private static void bakeNonTexturedLootrunPoints(
+            VertexConsumer consumer, List<ColoredPath> locations, Level level, Vector3f origin) {
         for (ColoredPath locationsInRoute : locations) {
-            VertexConsumer consumer = BUFFER_SOURCE.getBuffer(renderType);
-            Matrix4f lastMatrix = poseStack.last().pose();
-            boolean sourceBatchEnded = false;
+            LineWriter writer = new LineWriter(consumer, origin);
+            boolean lineEnded = false;
 
-            ColoredPath toRender = new ColoredPath(new ArrayList<>());
+            List<ColoredPosition> toRender = new ArrayList<>();
 
             boolean pauseDraw = false;
             BlockPos lastBlockPos = null;
@@ -184,26 +268,23 @@ public final class LootrunRenderer {
                 BlockPos blockPos = PosUtils.newBlockPos(point.position());
 
                 if (blockPos.equals(lastBlockPos)) { // Do not recalculate block validness
-                    if (!toRender.points().isEmpty()) {
-                        toRender.points().add(point);
+                    if (!toRender.isEmpty()) {
+                        toRender.add(point);
                     }
                 } else {
                     BlockValidness blockValidness = BlockValidness.checkBlockValidness(level, point);
 
                     if (blockValidness == BlockValidness.VALID) {
                         pauseDraw = false;
-                        if (sourceBatchEnded) {
-                            consumer = BUFFER_SOURCE.getBuffer(renderType);
-                            sourceBatchEnded = false;
-                        }
-                        renderQueuedPoints(consumer, lastMatrix, toRender);
-                        toRender.points().clear();
+                        lineEnded = false;
+                        toRender.forEach(writer::addPoint);
+                        toRender.clear();
                     } else if (blockValidness == BlockValidness.HAS_BARRIER) {
                         pauseDraw = true;
-                        toRender.points().clear();
+                        toRender.clear();
                     } else {
                         pauseDraw = false;
-                        toRender.points().add(point);
+                        toRender.add(point);
                         continue;
                     }
                 }
@@ -211,30 +292,23 @@ public final class LootrunRenderer {
                 lastBlockPos = blockPos;
 
                 if (!pauseDraw) {
-                    renderPoint(consumer, lastMatrix, point);
-                } else if (!sourceBatchEnded) {
-                    BUFFER_SOURCE.endBatch();
-                    sourceBatchEnded = true;
+                    writer.addPoint(point);
+                } else if (!lineEnded) {
+                    writer.endLine();
+                    lineEnded = true;
                 }
             }
-            if (!sourceBatchEnded) {
-                renderQueuedPoints(consumer, lastMatrix, toRender);
-                BUFFER_SOURCE.endBatch();
+            if (!lineEnded) {
+                toRender.forEach(writer::addPoint);
             }
         }
     }
 
-    private static void renderTexturedLootrunPoints(
-            PoseStack poseStack, List<ColoredPath> locations, Level level, RenderType renderType) {
-        Camera camera = McUtils.mc().gameRenderer.getMainCamera();
-        poseStack.pushPose();
-        poseStack.translate(camera.getPosition().x, camera.getPosition().y, camera.getPosition().z);
-        RenderSystem.setShaderColor(1.0f, 1.0f, 1.0f, 1.0f);
-
+    private static void bakeTexturedLootrunPoints(
+            VertexConsumer consumer, List<ColoredPath> locations, Level level, Vector3f origin) {
         for (ColoredPath locationsInRoute : locations) {
-            VertexConsumer consumer = BUFFER_SOURCE.getBuffer(renderType);
             List<Pair<ColoredPosition, ColoredPosition>> toRender = new ArrayList<>();
-            boolean sourceBatchEnded = false;
+            boolean drawEnded = false;
             BlockPos lastBlockPos = null;
 
             boolean pauseDraw = false;
@@ -257,11 +331,8 @@ public final class LootrunRenderer {
 
                     if (blockValidness == BlockValidness.VALID) {
                         pauseDraw = false;
-                        if (sourceBatchEnded) {
-                            consumer = BUFFER_SOURCE.getBuffer(renderType);
-                            sourceBatchEnded = false;
-                        }
-                        renderTexturedQueuedPoints(toRender, poseStack, consumer);
+                        drawEnded = false;
+                        renderTexturedQueuedPoints(toRender, consumer, origin);
                         toRender.clear();
                     } else if (blockValidness == BlockValidness.HAS_BARRIER) {
                         pauseDraw = true;
@@ -276,52 +347,28 @@ public final class LootrunRenderer {
                 lastBlockPos = blockPos;
 
                 if (!pauseDraw) {
-                    renderTexturedPoint(pointPair, poseStack, consumer);
-                } else if (!sourceBatchEnded) {
-                    BUFFER_SOURCE.endBatch();
-                    sourceBatchEnded = true;
+                    renderTexturedPoint(pointPair.a(), pointPair.b(), consumer, origin);
+                } else {
+                    drawEnded = true;
                 }
             }
-            if (!sourceBatchEnded) {
-                renderTexturedQueuedPoints(toRender, poseStack, consumer);
-                BUFFER_SOURCE.endBatch();
+            if (!drawEnded) {
+                renderTexturedQueuedPoints(toRender, consumer, origin);
             }
         }
-        poseStack.popPose();
-    }
-
-    private static void renderQueuedPoints(VertexConsumer consumer, Matrix4f lastMatrix, ColoredPath toRender) {
-        for (ColoredPosition position : toRender.points()) {
-            renderPoint(consumer, lastMatrix, position);
-        }
-    }
-
-    private static void renderPoint(VertexConsumer consumer, Matrix4f lastMatrix, ColoredPosition coloredPosition) {
-        Position position = coloredPosition.position();
-        int pathColor = coloredPosition.color();
-        consumer.addVertex(lastMatrix, (float) position.x(), (float) position.y(), (float) position.z())
-                .setColor(pathColor)
-                .setNormal(0, 0, 1);
     }
 
     private static void renderTexturedQueuedPoints(
             List<Pair<ColoredPosition, ColoredPosition>> pointPairList,
-            PoseStack poseStack,
-            VertexConsumer vertexConsumer) {
+            VertexConsumer vertexConsumer,
+            Vector3f origin) {
         for (Pair<ColoredPosition, ColoredPosition> pointPair : pointPairList) {
-            renderTexturedPoint(pointPair.a(), pointPair.b(), poseStack, vertexConsumer);
+            renderTexturedPoint(pointPair.a(), pointPair.b(), vertexConsumer, origin);
         }
     }
 
     private static void renderTexturedPoint(
-            Pair<ColoredPosition, ColoredPosition> pointPair, PoseStack poseStack, VertexConsumer vertexConsumer) {
-        renderTexturedPoint(pointPair.a(), pointPair.b(), poseStack, vertexConsumer);
-    }
-
-    private static void renderTexturedPoint(
-            ColoredPosition start, ColoredPosition end, PoseStack poseStack, VertexConsumer vertexConsumer) {
-        Vector3f camPos =
-                McUtils.mc().gameRenderer.getMainCamera().getPosition().toVector3f();
+            ColoredPosition start, ColoredPosition end, VertexConsumer vertexConsumer, Vector3f origin) {
         Vector3f startVec = start.position().toVector3f();
         Vector3f endVec = end.position().toVector3f();
         int color = start.color();
@@ -350,27 +397,49 @@ public final class LootrunRenderer {
         pos3.rotate(yRot).rotate(xRot);
         pos4.rotate(yRot).rotate(xRot);
 
-        // transform position back to world space and then to position camera delta
-        pos1 = pos1.add(startVec).sub(camPos);
-        pos2 = pos2.add(startVec).sub(camPos);
-        pos3 = pos3.add(startVec).sub(camPos);
-        pos4 = pos4.add(startVec).sub(camPos);
-
-        vertexConsumer
-                .addVertex(poseStack.last().pose(), pos1.x, pos1.y, pos1.z)
-                .setUv(0, 1)
-                .setColor(color);
-        vertexConsumer
-                .addVertex(poseStack.last().pose(), pos2.x, pos2.y, pos2.z)
-                .setUv(0, 0)
-                .setColor(color);
-        vertexConsumer
-                .addVertex(poseStack.last().pose(), pos3.x, pos3.y, pos3.z)
-                .setUv(1, 0)
-                .setColor(color);
-        vertexConsumer
-                .addVertex(poseStack.last().pose(), pos4.x, pos4.y, pos4.z)
-                .setUv(1, 1)
-                .setColor(color);
+        // transform position back to world space and then to the chunk's origin
+        pos1 = pos1.add(startVec).sub(origin);
+        pos2 = pos2.add(startVec).sub(origin);
+        pos3 = pos3.add(startVec).sub(origin);
+        pos4 = pos4.add(startVec).sub(origin);
+
+        vertexConsumer.addVertex(pos1.x, pos1.y, pos1.z).setUv(0, 1).setColor(color);
+        vertexConsumer.addVertex(pos2.x, pos2.y, pos2.z).setUv(0, 0).setColor(color);
+        vertexConsumer.addVertex(pos3.x, pos3.y, pos3.z).setUv(1, 0).setColor(color);
+        vertexConsumer.addVertex(pos4.x, pos4.y, pos4.z).setUv(1, 1).setColor(color);
+    }
+
+    // Writes consecutive points as line segments, as the buffer can only hold a single draw call
+    private static final class LineWriter {
+        private final VertexConsumer consumer;
+        private final Vector3f origin;
+        private ColoredPosition previous = null;
+
+        private LineWriter(VertexConsumer consumer, Vector3f origin) {
+            this.consumer = consumer;
+            this.origin = origin;
+        }
+
+        private void addPoint(ColoredPosition point) {
+            if (previous != null) {
+                addVertex(previous);
+                addVertex(point);
+            }
+
+            previous = point;
+        }
+
+        private void endLine() {
+            previous = null;
+        }
+
+        private void addVertex(ColoredPosition coloredPosition) {
+            Position position = coloredPosition.position();
+            float x = (float) (position.x() - origin.x);
+            float z = (float) (position.z() - origin.z);
+            consumer.addVertex(x, (float) position.y(), z)
+                    .setColor(coloredPosition.color())
+                    .setNormal(0, 0, 1);
+        }
     }
 }
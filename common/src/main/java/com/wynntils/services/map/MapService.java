@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.map;
@@ -12,19 +12,30 @@ import com.wynntils.core.components.Service;
 import com.wynntils.core.net.Download;
 import com.wynntils.core.net.DownloadRegistry;
 import com.wynntils.core.net.UrlId;
+import com.wynntils.features.map.MainMapFeature;
+import com.wynntils.mc.event.TickEvent;
+import com.wynntils.utils.FileUtils;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.type.BoundingBox;
 import com.wynntils.utils.type.BoundingCircle;
 import com.wynntils.utils.type.BoundingShape;
+import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import net.neoforged.bus.api.SubscribeEvent;
 
 public final class MapService extends Service {
+    private static final String TILES_DIR = "maps/tiles";
+
     private final List<MapTexture> maps = new CopyOnWriteArrayList<>();
+    private final MapTileCache tileCache = new MapTileCache();
 
     public MapService() {
         super(List.of());
@@ -54,26 +65,68 @@ public final class MapService extends Service {
         return !getMapsForBoundingCircle(textureBoundingCircle).isEmpty();
     }
 
+    public MapTileCache getTileCache() {
+        return tileCache;
+    }
+
+    @SubscribeEvent
+    public void onTick(TickEvent event) {
+        // Read from the config every tick, as the minimap renders tiles as well, even while the map is disabled
+        int megabytes = Managers.Feature.getFeatureInstance(MainMapFeature.class).mapTextureMemory.get();
+        tileCache.tick((long) megabytes * 1024 * 1024);
+    }
+
     private void handleMaps(Reader reader) {
         Type type = new TypeToken<List<MapPartProfile>>() {}.getType();
 
         List<MapPartProfile> mapPartList = WynntilsMod.GSON.fromJson(reader, type);
+        Set<String> names = mapPartList.stream()
+                .map(mapPart -> mapPart.md5.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+
+        // Parts which changed have a new md5, so the tiles of the old one are not used anymore
+        maps.removeIf(map -> !names.contains(map.getName()));
+        deleteStaleTiles(names);
+
         for (MapPartProfile mapPart : mapPartList) {
-            String fileName = mapPart.md5 + ".png";
+            String name = mapPart.md5.toLowerCase(Locale.ROOT);
+            if (maps.stream().anyMatch(map -> map.getName().equals(name))) continue;
+
+            MapTexture map = new MapTexture(
+                    name,
+                    Managers.Net.getCacheFile(TILES_DIR + "/" + name),
+                    mapPart.x1,
+                    mapPart.z1,
+                    mapPart.x2,
+                    mapPart.z2);
+
+            // The tiles only need to be built once per part, after that the full image is not needed anymore
+            if (tileCache.hasPyramid(map)) {
+                maps.add(map);
+            } else {
+                loadMapPart(mapPart, map);
+            }
+        }
+    }
+
+    private static void deleteStaleTiles(Set<String> names) {
+        File[] tileDirectories = Managers.Net.getCacheFile(TILES_DIR).listFiles(File::isDirectory);
+        if (tileDirectories == null) return;
 
-            loadMapPart(mapPart, fileName);
+        for (File tileDirectory : tileDirectories) {
+            if (!names.contains(tileDirectory.getName())) {
+                FileUtils.deleteFolder(tileDirectory);
+            }
         }
     }
 
-    private void loadMapPart(MapPartProfile mapPart, String fileName) {
-        Download dl = Managers.Net.download(URI.create(mapPart.url), "maps/" + fileName, mapPart.md5);
+    private void loadMapPart(MapPartProfile mapPart, MapTexture map) {
+        Download dl = Managers.Net.download(URI.create(mapPart.url), "maps/" + mapPart.md5 + ".png", mapPart.md5);
         dl.handleInputStream(
                 inputStream -> {
-                    try {
-                        NativeImage nativeImage = NativeImage.read(inputStream);
-                        MapTexture mapPartImage =
-                                new MapTexture(fileName, nativeImage, mapPart.x1, mapPart.z1, mapPart.x2, mapPart.z2);
-                        maps.add(mapPartImage);
+                    try (NativeImage nativeImage = NativeImage.read(inputStream)) {
+                        tileCache.buildPyramid(map, nativeImage);
+                        maps.add(map);
                     } catch (IOException e) {
                         WynntilsMod.warn("IOException occurred while loading map image of " + mapPart.name, e);
                     }
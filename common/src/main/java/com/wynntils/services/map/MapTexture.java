@@ -1,20 +1,27 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.map;
 
-import com.mojang.blaze3d.platform.NativeImage;
-import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.type.BoundingBox;
-import net.minecraft.client.renderer.texture.DynamicTexture;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import net.minecraft.resources.ResourceLocation;
 
+/**
+ * A part of the world map. The texture itself is split into a pyramid of {@link MapTile}s, with each level
+ * having half the resolution of the previous one, until the whole part fits in a single tile.
+ * The tiles are stored on disk by {@link MapTileCache}, and only loaded when rendered.
+ */
 public class MapTexture {
-    private final NativeImage texture;
-    private final ResourceLocation mapResource;
+    private final String name;
+    private final File tileDirectory;
 
-    private boolean registered = false;
+    // Tiles of each level, in row-major order
+    private final List<List<MapTile>> levels = new ArrayList<>();
+    private final List<Integer> levelColumns = new ArrayList<>();
 
     private final int x1;
     private final int z1;
@@ -24,28 +31,110 @@ public class MapTexture {
     private final int textureWidth;
     private final int textureHeight;
 
-    public MapTexture(String name, NativeImage texture, int x1, int z1, int x2, int z2) {
-        this.texture = texture;
+    public MapTexture(String name, File tileDirectory, int x1, int z1, int x2, int z2) {
+        this.name = name;
+        this.tileDirectory = tileDirectory;
         this.x1 = x1;
         this.z1 = z1;
         this.x2 = x2;
         this.z2 = z2;
-        this.textureWidth = texture.getWidth();
-        this.textureHeight = texture.getHeight();
+        this.textureWidth = x2 - x1 + 1;
+        this.textureHeight = z2 - z1 + 1;
+
+        createTiles();
+    }
+
+    private void createTiles() {
+        int levelWidth = textureWidth;
+        int levelHeight = textureHeight;
+
+        for (int level = 0; ; level++) {
+            int columns = Math.ceilDiv(levelWidth, MapTileCache.TILE_SIZE);
+            int rows = Math.ceilDiv(levelHeight, MapTileCache.TILE_SIZE);
+
+            List<MapTile> tiles = new ArrayList<>(columns * rows);
+            for (int tileZ = 0; tileZ < rows; tileZ++) {
+                for (int tileX = 0; tileX < columns; tileX++) {
+                    String tileName = level + "/" + tileX + "_" + tileZ;
+                    tiles.add(new MapTile(
+                            level,
+                            tileX,
+                            tileZ,
+                            Math.min(MapTileCache.TILE_SIZE, levelWidth - tileX * MapTileCache.TILE_SIZE),
+                            Math.min(MapTileCache.TILE_SIZE, levelHeight - tileZ * MapTileCache.TILE_SIZE),
+                            new File(tileDirectory, tileName + ".png"),
+                            ResourceLocation.fromNamespaceAndPath("wynntils", "maps/" + name + "/" + tileName)));
+                }
+            }
+            levels.add(List.copyOf(tiles));
+            levelColumns.add(columns);
+
+            if (columns == 1 && rows == 1) break;
+
+            levelWidth = Math.ceilDiv(levelWidth, 2);
+            levelHeight = Math.ceilDiv(levelHeight, 2);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
 
-        this.mapResource = ResourceLocation.fromNamespaceAndPath("wynntils", "/maps/" + name);
+    File getTileDirectory() {
+        return tileDirectory;
+    }
+
+    public int getLevelCount() {
+        return levels.size();
+    }
+
+    /**
+     * Returns the level of detail to render with, when every screen pixel covers {@code scale} blocks.
+     */
+    public int getLevelForScale(float scale) {
+        if (scale < 2f) return 0;
 
-        assert (x2 - x1 + 1 == textureWidth);
-        assert (z2 - z1 + 1 == textureHeight);
+        int level = 31 - Integer.numberOfLeadingZeros((int) scale);
+        return Math.min(level, levels.size() - 1);
     }
 
-    public ResourceLocation resource() {
-        if (!registered) {
-            registered = true;
-            McUtils.mc().getTextureManager().register(mapResource, new DynamicTexture(texture));
+    public List<MapTile> getTiles(int level) {
+        return levels.get(level);
+    }
+
+    /**
+     * Returns the tiles of the given level intersecting the given area, in texture coordinates.
+     */
+    public List<MapTile> getTiles(int level, float textureX1, float textureZ1, float textureX2, float textureZ2) {
+        List<MapTile> tiles = levels.get(level);
+        int columns = levelColumns.get(level);
+        int rows = tiles.size() / columns;
+        float tileTextureSize = (float) MapTileCache.TILE_SIZE * (1 << level);
+
+        int minX = Math.max(0, (int) Math.floor(textureX1 / tileTextureSize));
+        int minZ = Math.max(0, (int) Math.floor(textureZ1 / tileTextureSize));
+        int maxX = Math.min(columns - 1, (int) Math.floor(textureX2 / tileTextureSize));
+        int maxZ = Math.min(rows - 1, (int) Math.floor(textureZ2 / tileTextureSize));
+
+        if (minX > maxX || minZ > maxZ) return List.of();
+
+        List<MapTile> result = new ArrayList<>((maxX - minX + 1) * (maxZ - minZ + 1));
+        for (int tileZ = minZ; tileZ <= maxZ; tileZ++) {
+            for (int tileX = minX; tileX <= maxX; tileX++) {
+                result.add(tiles.get(tileZ * columns + tileX));
+            }
         }
+        return result;
+    }
+
+    /**
+     * Returns the tile of the next level covering the given tile, or null if the tile is in the last level.
+     */
+    public MapTile getParentTile(MapTile tile) {
+        int level = tile.getLevel() + 1;
+        if (level >= levels.size()) return null;
 
-        return mapResource;
+        return levels.get(level).get(tile.getTileZ() / 2 * levelColumns.get(level) + tile.getTileX() / 2);
     }
 
     public float getTextureXPosition(double posX) {
@@ -0,0 +1,86 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.map;
+
+import java.io.File;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * A fixed-size piece of a {@link MapTexture}, at a given level of detail.
+ * At level {@code n}, every pixel of the tile covers {@code 2^n} blocks in both directions.
+ */
+public final class MapTile {
+    private final int level;
+    private final int tileX;
+    private final int tileZ;
+    private final int width;
+    private final int height;
+    private final File file;
+    private final ResourceLocation resource;
+
+    MapTile(int level, int tileX, int tileZ, int width, int height, File file, ResourceLocation resource) {
+        this.level = level;
+        this.tileX = tileX;
+        this.tileZ = tileZ;
+        this.width = width;
+        this.height = height;
+        this.file = file;
+        this.resource = resource;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getTileX() {
+        return tileX;
+    }
+
+    public int getTileZ() {
+        return tileZ;
+    }
+
+    // The position of the tile, in texture coordinates of the full resolution map
+    public float getTextureX1() {
+        return (float) tileX * MapTileCache.TILE_SIZE * (1 << level);
+    }
+
+    public float getTextureZ1() {
+        return (float) tileZ * MapTileCache.TILE_SIZE * (1 << level);
+    }
+
+    public float getTextureX2() {
+        return getTextureX1() + (float) width * (1 << level);
+    }
+
+    public float getTextureZ2() {
+        return getTextureZ1() + (float) height * (1 << level);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public long getByteSize() {
+        return (long) width * height * 4;
+    }
+
+    File getFile() {
+        return file;
+    }
+
+    public ResourceLocation getResource() {
+        return resource;
+    }
+
+    @Override
+    public String toString() {
+        return "MapTile{" + resource + "}";
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.map;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mojang.blaze3d.platform.NativeImage;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.utils.mc.McUtils;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Builds the tile pyramids of map parts on disk, and keeps the recently rendered tiles uploaded to the GPU.
+ * <p>
+ * Tiles are loaded on a background thread the first time they are requested, and uploaded on the render thread.
+ * When the uploaded tiles exceed the memory budget, the least recently used ones are released,
+ * except for tiles that were rendered in the last few ticks.
+ */
+public final class MapTileCache {
+    public static final int TILE_SIZE = 256;
+
+    private static final String COMPLETE_MARKER = "complete";
+    private static final int KEEP_TICKS = 2;
+
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("wynntils-map-tile-loader-%d").build());
+
+    // Tiles that are being loaded, or failed to load; accessed from the loader thread as well
+    private final Set<MapTile> pendingTiles = ConcurrentHashMap.newKeySet();
+
+    // Access ordered, so iteration starts at the least recently used tile. Only used on the render thread.
+    private final Map<MapTile, UploadedTile> uploadedTiles = new LinkedHashMap<>(16, 0.75f, true);
+    private long uploadedBytes = 0;
+    // Set from the config every tick
+    private long budgetBytes = Long.MAX_VALUE;
+    private long tick = 0;
+
+    /**
+     * Returns the texture of the tile if it is uploaded, otherwise starts loading it and returns null.
+     * Must be called on the render thread.
+     */
+    public ResourceLocation getTexture(MapTile tile) {
+        ResourceLocation texture = getLoadedTexture(tile);
+        if (texture == null && pendingTiles.add(tile)) {
+            loader.execute(() -> loadTile(tile));
+        }
+
+        return texture;
+    }
+
+    /**
+     * Returns the texture of the tile if it is uploaded, without loading it otherwise.
+     * Must be called on the render thread.
+     */
+    public ResourceLocation getLoadedTexture(MapTile tile) {
+        UploadedTile uploadedTile = uploadedTiles.get(tile);
+        if (uploadedTile == null) return null;
+
+        uploadedTile.lastUsedTick = tick;
+        return tile.getResource();
+    }
+
+    public int getUploadedTileCount() {
+        return uploadedTiles.size();
+    }
+
+    public long getUploadedBytes() {
+        return uploadedBytes;
+    }
+
+    void tick(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+        tick++;
+        evict();
+    }
+
+    boolean hasPyramid(MapTexture map) {
+        return new File(map.getTileDirectory(), COMPLETE_MARKER).exists();
+    }
+
+    /**
+     * Splits the full resolution image of the map part into tiles, for every level of detail.
+     * The image is not closed.
+     */
+    void buildPyramid(MapTexture map, NativeImage image) throws IOException {
+        NativeImage levelImage = image;
+
+        try {
+            for (int level = 0; level < map.getLevelCount(); level++) {
+                if (level > 0) {
+                    NativeImage downsampled = downsample(levelImage);
+                    if (levelImage != image) {
+                        levelImage.close();
+                    }
+                    levelImage = downsampled;
+                }
+
+                for (MapTile tile : map.getTiles(level)) {
+                    writeTile(levelImage, tile);
+                }
+            }
+        } finally {
+            if (levelImage != image) {
+                levelImage.close();
+            }
+        }
+
+        new File(map.getTileDirectory(), COMPLETE_MARKER).createNewFile();
+    }
+
+    private void writeTile(NativeImage levelImage, MapTile tile) throws IOException {
+        File file = tile.getFile();
+        file.getParentFile().mkdirs();
+
+        try (NativeImage tileImage = new NativeImage(tile.getWidth(), tile.getHeight(), false)) {
+            levelImage.copyRect(
+                    tileImage,
+                    tile.getTileX() * TILE_SIZE,
+                    tile.getTileZ() * TILE_SIZE,
+                    0,
+                    0,
+                    tile.getWidth(),
+                    tile.getHeight(),
+                    false,
+                    false);
+            tileImage.writeToFile(file);
+        }
+    }
+
+    // Halves the resolution of the image with a 2x2 box filter, weighted by alpha so transparent pixels don't bleed
+    private static NativeImage downsample(NativeImage source) {
+        int width = Math.ceilDiv(source.getWidth(), 2);
+        int height = Math.ceilDiv(source.getHeight(), 2);
+        NativeImage target = new NativeImage(width, height, false);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int alpha = 0;
+                int red = 0;
+                int green = 0;
+                int blue = 0;
+                int count = 0;
+
+                for (int sy = y * 2; sy < Math.min(y * 2 + 2, source.getHeight()); sy++) {
+                    for (int sx = x * 2; sx < Math.min(x * 2 + 2, source.getWidth()); sx++) {
+                        int argb = source.getPixel(sx, sy);
+                        int a = argb >>> 24;
+                        alpha += a;
+                        red += ((argb >> 16) & 0xFF) * a;
+                        green += ((argb >> 8) & 0xFF) * a;
+                        blue += (argb & 0xFF) * a;
+                        count++;
+                    }
+                }
+
+                if (alpha == 0) {
+                    target.setPixel(x, y, 0);
+                } else {
+                    target.setPixel(
+                            x,
+                            y,
+                            (alpha / count) << 24 | (red / alpha) << 16 | (green / alpha) << 8 | (blue / alpha));
+                }
+            }
+        }
+
+        return target;
+    }
+
+    private void loadTile(MapTile tile) {
+        NativeImage image;
+        try (InputStream inputStream = Files.newInputStream(tile.getFile().toPath())) {
+            image = NativeImage.read(inputStream);
+        } catch (IOException e) {
+            // Keep the tile pending, so it is not retried every frame
+            WynntilsMod.warn("Failed to load map tile " + tile, e);
+            return;
+        }
+
+        RenderSystem.recordRenderCall(() -> {
+            McUtils.mc().getTextureManager().register(tile.getResource(), new DynamicTexture(image));
+            uploadedTiles.put(tile, new UploadedTile(tick));
+            uploadedBytes += tile.getByteSize();
+            pendingTiles.remove(tile);
+
+            evict();
+        });
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<MapTile, UploadedTile>> iterator = uploadedTiles.entrySet().iterator();
+        while (uploadedBytes > budgetBytes && iterator.hasNext()) {
+            Map.Entry<MapTile, UploadedTile> entry = iterator.next();
+            if (tick - entry.getValue().lastUsedTick < KEEP_TICKS) continue;
+
+            MapTile tile = entry.getKey();
+            iterator.remove();
+            uploadedBytes -= tile.getByteSize();
+            McUtils.mc().getTextureManager().release(tile.getResource());
+        }
+    }
+
+    private static final class UploadedTile {
+        private long lastUsedTick;
+
+        private UploadedTile(long lastUsedTick) {
+            this.lastUsedTick = lastUsedTick;
+        }
+    }
+}
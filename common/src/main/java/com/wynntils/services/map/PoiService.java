@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2025.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.map;
@@ -20,6 +20,7 @@ import com.wynntils.core.persisted.storage.Storage;
 import com.wynntils.services.map.pois.CombatPoi;
 import com.wynntils.services.map.pois.CustomPoi;
 import com.wynntils.services.map.pois.LabelPoi;
+import com.wynntils.services.map.pois.Poi;
 import com.wynntils.services.map.pois.ServicePoi;
 import com.wynntils.services.map.type.CombatKind;
 import com.wynntils.services.map.type.CustomPoiProvider;
@@ -30,15 +31,19 @@ import com.wynntils.services.mapdata.providers.builtin.ServiceListProvider;
 import com.wynntils.utils.mc.type.Location;
 import com.wynntils.utils.mc.type.PoiLocation;
 import com.wynntils.utils.render.Texture;
+import com.wynntils.utils.type.BoundingBox;
+import com.wynntils.utils.type.SpatialGrid;
 import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -64,12 +69,20 @@ public class PoiService extends Service {
             Texture.MINING,
             Texture.WOODCUTTING);
 
-    private final Set<LabelPoi> labelPois = new HashSet<>();
-    private final Set<ServicePoi> servicePois = new HashSet<>();
-    private final Set<CombatPoi> combatPois = new HashSet<>();
-    private final Set<CombatPoi> cavePois = new HashSet<>();
+    private static final int STATIC_POI_GRID_CELL_SIZE = 128;
+
+    // Downloads replace these sets instead of changing them, so they can be iterated from any thread
+    private volatile Set<LabelPoi> labelPois = Set.of();
+    private volatile Set<ServicePoi> servicePois = Set.of();
+    private volatile Set<CombatPoi> combatPois = Set.of();
+    private volatile Set<CombatPoi> cavePois = Set.of();
     private final Map<CustomPoiProvider, List<CustomPoi>> providedCustomPois = new ConcurrentHashMap<>();
 
+    // Index over all pois above, lazily rebuilt on the render thread when any of them change.
+    // Each change bumps the generation, so an index built from older pois is never used.
+    private final AtomicInteger staticPoiGeneration = new AtomicInteger();
+    private volatile StaticPoiIndex staticPoiIndex;
+
     @Persisted
     private final Storage<List<CustomPoiProvider>> customPoiProviders = new Storage<>(new ArrayList<>());
 
@@ -102,6 +115,27 @@ public class PoiService extends Service {
         return Stream.concat(combatPois.stream(), cavePois.stream());
     }
 
+    /**
+     * Returns the service, combat, label and provided custom pois which could overlap the given area
+     * with the given poi scale, in this order. Callers still need to check the exact bounds of each poi.
+     */
+    public List<Poi> getStaticPois(BoundingBox area, float poiScale) {
+        List<CustomPoiProvider> enabledProviders = customPoiProviders.get().stream()
+                .filter(CustomPoiProvider::isEnabled)
+                .toList();
+        // The generation is read before building, so changes made during the build invalidate the new index
+        int generation = staticPoiGeneration.get();
+        StaticPoiIndex index = staticPoiIndex;
+        if (index == null || index.generation() != generation || !enabledProviders.equals(index.providers())) {
+            index = buildStaticPoiIndex(enabledProviders, generation);
+            staticPoiIndex = index;
+        }
+
+        // Pois are indexed by their location, so extend the area to include those overlapping it with their size
+        float margin = index.maxSize() * poiScale / 2f + 1;
+        return index.grid().query(area.x1() - margin, area.z1() - margin, area.x2() + margin, area.z2() + margin);
+    }
+
     public List<CustomPoi> getProvidedCustomPois() {
         return customPoiProviders.get().stream()
                 .filter(CustomPoiProvider::isEnabled)
@@ -129,6 +163,7 @@ public class PoiService extends Service {
 
         customPoiProviders.get().remove(provider.get());
         providedCustomPois.remove(provider.get());
+        invalidateStaticPois();
 
         return true;
     }
@@ -139,45 +174,54 @@ public class PoiService extends Service {
 
     private void handlePlaces(Reader reader) {
         PlacesProfile places = GSON.fromJson(reader, PlacesProfile.class);
+        Set<LabelPoi> newLabelPois = new HashSet<>(labelPois);
         for (Label label : places.labels) {
-            labelPois.add(new LabelPoi(label));
+            newLabelPois.add(new LabelPoi(label));
             PlaceListProvider.registerFeature(label);
         }
+        labelPois = Set.copyOf(newLabelPois);
+        invalidateStaticPois();
     }
 
     private void handleServices(Reader reader) {
         Type type = new TypeToken<List<ServiceProfile>>() {}.getType();
 
         List<ServiceProfile> serviceList = GSON.fromJson(reader, type);
+        Set<ServicePoi> newServicePois = new HashSet<>(servicePois);
         for (ServiceProfile service : serviceList) {
             ServiceKind kind = ServiceKind.fromString(service.type);
             if (kind != null) {
                 for (PoiLocation location : service.locations) {
-                    servicePois.add(new ServicePoi(location, kind));
+                    newServicePois.add(new ServicePoi(location, kind));
                     ServiceListProvider.registerFeature(new Location(location), kind);
                 }
             } else {
                 WynntilsMod.warn("Unknown service type in services.json: " + service.type);
             }
         }
+        servicePois = Set.copyOf(newServicePois);
+        invalidateStaticPois();
     }
 
     private void handleCombat(Reader reader) {
         Type type = new TypeToken<List<CombatProfileList>>() {}.getType();
 
         List<CombatProfileList> combatProfileLists = GSON.fromJson(reader, type);
+        Set<CombatPoi> newCombatPois = new HashSet<>(combatPois);
         for (CombatProfileList combatList : combatProfileLists) {
             CombatKind kind = CombatKind.fromString(combatList.type);
             // We load caves separately... until the refactor
             if (kind != null && kind != CombatKind.CAVES) {
                 for (CombatProfile profile : combatList.locations) {
-                    combatPois.add(new CombatPoi(profile.coordinates, profile.name, kind));
+                    newCombatPois.add(new CombatPoi(profile.coordinates, profile.name, kind));
                     CombatListProvider.registerFeature(new Location(profile.coordinates), kind, profile.name);
                 }
             } else {
                 WynntilsMod.warn("Unknown combat type in combat.json: " + combatList.type);
             }
         }
+        combatPois = Set.copyOf(newCombatPois);
+        invalidateStaticPois();
     }
 
     private void handleCaves(Reader reader) {
@@ -185,12 +229,15 @@ public class PoiService extends Service {
 
         List<CaveProfile> profiles = GSON.fromJson(reader, type);
 
-        cavePois.addAll(profiles.stream()
+        Set<CombatPoi> newCavePois = new HashSet<>(cavePois);
+        newCavePois.addAll(profiles.stream()
                 .map(profile -> {
                     CombatListProvider.registerFeature(profile.location, CombatKind.CAVES, profile.name);
                     return new CombatPoi(PoiLocation.fromLocation(profile.location), profile.name, CombatKind.CAVES);
                 })
                 .collect(Collectors.toUnmodifiableSet()));
+        cavePois = Set.copyOf(newCavePois);
+        invalidateStaticPois();
     }
 
     public void loadCustomPoiProviders() {
@@ -206,6 +253,7 @@ public class PoiService extends Service {
                             }
 
                             providedCustomPois.put(poiProvider, ImmutableList.copyOf(pois));
+                            invalidateStaticPois();
                         });
             } catch (IllegalArgumentException exception) {
                 WynntilsMod.warn(
@@ -214,6 +262,42 @@ public class PoiService extends Service {
         }
     }
 
+    private void invalidateStaticPois() {
+        staticPoiGeneration.incrementAndGet();
+    }
+
+    private StaticPoiIndex buildStaticPoiIndex(List<CustomPoiProvider> enabledProviders, int generation) {
+        SpatialGrid<Poi> grid = new SpatialGrid<>(STATIC_POI_GRID_CELL_SIZE);
+        int maxSize = 0;
+
+        maxSize = addToStaticPoiGrid(grid, servicePois, maxSize);
+        maxSize = addToStaticPoiGrid(grid, combatPois, maxSize);
+        maxSize = addToStaticPoiGrid(grid, cavePois, maxSize);
+        maxSize = addToStaticPoiGrid(grid, labelPois, maxSize);
+        for (CustomPoiProvider provider : enabledProviders) {
+            maxSize = addToStaticPoiGrid(grid, providedCustomPois.getOrDefault(provider, List.of()), maxSize);
+        }
+
+        return new StaticPoiIndex(grid, enabledProviders, maxSize, generation);
+    }
+
+    private int addToStaticPoiGrid(SpatialGrid<Poi> grid, Collection<? extends Poi> pois, int maxSize) {
+        for (Poi poi : pois) {
+            PoiLocation location = poi.getLocation();
+            if (location == null) continue;
+
+            grid.add(poi, location.getX(), location.getZ());
+
+            // None of these pois depend on the map zoom for their size
+            maxSize = Math.max(maxSize, Math.max(poi.getWidth(1f, 1f), poi.getHeight(1f, 1f)));
+        }
+
+        return maxSize;
+    }
+
+    private record StaticPoiIndex(
+            SpatialGrid<Poi> grid, List<CustomPoiProvider> providers, int maxSize, int generation) {}
+
     private static class PlacesProfile {
         List<Label> labels;
     }
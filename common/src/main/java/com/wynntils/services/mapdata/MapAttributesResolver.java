@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.mapdata;
@@ -12,25 +12,41 @@ import com.wynntils.services.mapdata.attributes.type.ResolvedMapAttributes;
 import com.wynntils.services.mapdata.attributes.type.ResolvedMapVisibility;
 import com.wynntils.services.mapdata.type.MapCategory;
 import com.wynntils.services.mapdata.type.MapFeature;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
 /**
  * This will create a special type of MapAttributes that are a record with fixed values,
  * which are guarenteed to exist. It does this by extending the lookup for the
  * attribute first to the category hierarchy for the given feature, and
  * finally by going to the default value for each attribute.
+ * <p>
+ * The category hierarchy is resolved separately from features, so the result can be
+ * shared by all features of a category, and only needs to be merged with the feature's own attributes.
  */
 public final class MapAttributesResolver {
-    private final MapFeature feature;
-
-    private MapAttributesResolver(MapFeature feature) {
-        this.feature = feature;
+    // The attributes of all category levels, from the most specific to the least specific.
+    // Mulitple providers might provide MapAttributes to the same category, but not
+    // all of them might provide the attribute we're actually looking for, so
+    // check all (in the arbitrary order that Services.MapData gave them to us).
+    private final List<MapAttributes> categoryAttributes;
+
+    private MapAttributesResolver(List<MapAttributes> categoryAttributes) {
+        this.categoryAttributes = categoryAttributes;
     }
 
-    public static ResolvedMapAttributes resolve(MapFeature feature) {
-        MapAttributesResolver resolver = new MapAttributesResolver(feature);
+    public static ResolvedMapAttributes resolveCategory(String categoryId) {
+        List<MapAttributes> categoryAttributes = new ArrayList<>();
+        for (String id = categoryId; id != null; id = getParentCategoryId(id)) {
+            Services.MapData.getCategoryDefinitions(id)
+                    .map(MapCategory::getAttributes)
+                    .flatMap(Optional::stream)
+                    .forEach(categoryAttributes::add);
+        }
+
+        MapAttributesResolver resolver = new MapAttributesResolver(categoryAttributes);
 
         return new ResolvedMapAttributes(
                 resolver.getAttribute(MapAttributes::getLabel),
@@ -45,18 +61,44 @@ public final class MapAttributesResolver {
                 resolver.getAttribute(MapAttributes::getIconDecoration));
     }
 
-    private <T> T getAttribute(Function<MapAttributes, Optional<T>> attributeGetter) {
-        // Check if the feature has overridden this attribute
-        Optional<T> featureAttribute = getFromFeature(attributeGetter);
-        if (featureAttribute.isPresent()) {
-            return featureAttribute.get();
-        }
+    /**
+     * Resolves the attributes of a feature, by letting its own attributes override the attributes
+     * already resolved for its category.
+     */
+    public static ResolvedMapAttributes resolve(MapFeature feature, ResolvedMapAttributes category) {
+        Optional<MapAttributes> featureAttributes = feature.getAttributes();
+        if (featureAttributes.isEmpty()) return category;
 
-        // Then try to get it from the category
-        for (String id = getCategoryId(); id != null; id = getParentCategoryId(id)) {
-            Stream<T> attributes = getAttributesForCategoryId(attributeGetter, id);
+        MapAttributes attributes = featureAttributes.get();
 
-            Optional<T> attribute = attributes.findFirst();
+        return new ResolvedMapAttributes(
+                attributes.getLabel().orElse(category.label()),
+                attributes.getIconId().orElse(category.iconId()),
+                attributes.getPriority().orElse(category.priority()),
+                attributes.getLevel().orElse(category.level()),
+                mergeVisibility(attributes.getLabelVisibility(), category.labelVisibility()),
+                attributes.getLabelColor().orElse(category.labelColor()),
+                attributes.getLabelShadow().orElse(category.labelShadow()),
+                mergeVisibility(attributes.getIconVisibility(), category.iconVisibility()),
+                attributes.getIconColor().orElse(category.iconColor()),
+                attributes.getIconDecoration().orElse(category.iconDecoration()));
+    }
+
+    private static ResolvedMapVisibility mergeVisibility(
+            Optional<MapVisibility> featureVisibility, ResolvedMapVisibility category) {
+        if (featureVisibility.isEmpty()) return category;
+
+        // We got the attribute, but each value might still come from the category
+        MapVisibility visibility = featureVisibility.get();
+        return new ResolvedMapVisibility(
+                visibility.getMin().orElse(category.min()),
+                visibility.getMax().orElse(category.max()),
+                visibility.getFade().orElse(category.fade()));
+    }
+
+    private <T> T getAttribute(Function<MapAttributes, Optional<T>> attributeGetter) {
+        for (MapAttributes attributes : categoryAttributes) {
+            Optional<T> attribute = attributeGetter.apply(attributes);
             if (attribute.isPresent()) {
                 return attribute.get();
             }
@@ -77,28 +119,11 @@ public final class MapAttributesResolver {
     private float getVisibilityValue(
             Function<MapVisibility, Optional<Float>> valueGetter,
             Function<MapAttributes, Optional<MapVisibility>> attributeGetter) {
-        // Check if the feature has overridden this attribute
-        Optional<MapVisibility> featureVisibility = getFromFeature(attributeGetter);
-        if (featureVisibility.isPresent()) {
-            // We got the attribute, but do we got the value?
-            Optional<Float> featureValue = valueGetter.apply(featureVisibility.get());
-            if (featureValue.isPresent()) {
-                return featureValue.get();
-            }
-        }
-
-        // Otherwise try to get it from the category
-        for (String id = getCategoryId(); id != null; id = getParentCategoryId(id)) {
-            Stream<MapVisibility> attributes = getAttributesForCategoryId(attributeGetter, id);
-
-            // Then check each visibility in turn for the value we're looking for
-            Optional<Float> attribute = attributes
-                    .map(valueGetter)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .findFirst();
-            if (attribute.isPresent()) {
-                return attribute.get();
+        // Check each visibility in turn for the value we're looking for
+        for (MapAttributes attributes : categoryAttributes) {
+            Optional<Float> value = attributeGetter.apply(attributes).flatMap(valueGetter);
+            if (value.isPresent()) {
+                return value.get();
             }
         }
 
@@ -108,32 +133,7 @@ public final class MapAttributesResolver {
                 .get();
     }
 
-    private String getCategoryId() {
-        return feature.getCategoryId();
-    }
-
-    private <T> Optional<T> getFromFeature(Function<MapAttributes, Optional<T>> attributeGetter) {
-        Optional<MapAttributes> attributes = feature.getAttributes();
-        if (attributes.isEmpty()) return Optional.empty();
-
-        return attributeGetter.apply(attributes.get());
-    }
-
-    private <T> Stream<T> getAttributesForCategoryId(
-            Function<MapAttributes, Optional<T>> attributeGetter, String categoryId) {
-        // Find all provided MapAttributes for this category level
-        Stream<MapAttributes> allAttributes = Services.MapData.getCategoryDefinitions(categoryId)
-                .map(MapCategory::getAttributes)
-                .filter(Optional::isPresent)
-                .map(Optional::get);
-
-        // Mulitple providers might provide MapAttributes to the same category, but not
-        // all of them might provide the attribute we're actually looking for, so
-        // check all (in the arbitrary order that Services.MapData gave them to us).
-        return allAttributes.map(attributeGetter).filter(Optional::isPresent).map(Optional::get);
-    }
-
-    private String getParentCategoryId(String categoryId) {
+    static String getParentCategoryId(String categoryId) {
         int index = categoryId.lastIndexOf(':');
         if (index == -1) return null;
         return categoryId.substring(0, index);
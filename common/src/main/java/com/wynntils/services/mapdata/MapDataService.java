@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.mapdata;
@@ -23,12 +23,15 @@ import com.wynntils.services.mapdata.providers.json.JsonProvider;
 import com.wynntils.services.mapdata.type.MapCategory;
 import com.wynntils.services.mapdata.type.MapFeature;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class MapDataService extends Service {
@@ -42,6 +45,10 @@ public class MapDataService extends Service {
     private final Map<MapFeature, ResolvedMapAttributes> resolvedAttributesCache = new HashMap<>();
     private final Map<String, Optional<MapIcon>> iconCache = new HashMap<>();
 
+    // The category hierarchy, resolved per category id, and all category definitions by id, in provider order
+    private final Map<String, ResolvedMapAttributes> resolvedCategoryCache = new HashMap<>();
+    private Map<String, List<MapCategory>> categoryDefinitions;
+
     public MapDataService() {
         super(List.of());
 
@@ -59,12 +66,37 @@ public class MapDataService extends Service {
     // region Lookup features and resolve attributes
 
     public ResolvedMapAttributes resolveMapAttributes(MapFeature feature) {
-        return resolvedAttributesCache.computeIfAbsent(feature, k -> MapAttributesResolver.resolve(feature));
+        ResolvedMapAttributes attributes = resolvedAttributesCache.get(feature);
+        if (attributes == null) {
+            attributes = MapAttributesResolver.resolve(feature, resolveCategoryAttributes(feature.getCategoryId()));
+            resolvedAttributesCache.put(feature, attributes);
+        }
+
+        return attributes;
+    }
+
+    private ResolvedMapAttributes resolveCategoryAttributes(String categoryId) {
+        // Resolving looks up category definitions, so we can't use computeIfAbsent here
+        ResolvedMapAttributes attributes = resolvedCategoryCache.get(categoryId);
+        if (attributes == null) {
+            attributes = MapAttributesResolver.resolveCategory(categoryId);
+            resolvedCategoryCache.put(categoryId, attributes);
+        }
+
+        return attributes;
     }
 
     public Stream<MapCategory> getCategoryDefinitions(String categoryId) {
-        return getProviders().flatMap(MapDataProvider::getCategories).filter(p -> p.getCategoryId()
-                .equals(categoryId));
+        if (categoryDefinitions == null) {
+            categoryDefinitions = new HashMap<>();
+            getProviders()
+                    .flatMap(MapDataProvider::getCategories)
+                    .forEach(category -> categoryDefinitions
+                            .computeIfAbsent(category.getCategoryId(), k -> new ArrayList<>())
+                            .add(category));
+        }
+
+        return categoryDefinitions.getOrDefault(categoryId, List.of()).stream();
     }
 
     public String getCategoryName(String categoryId) {
@@ -116,6 +148,9 @@ public class MapDataService extends Service {
         if (providerOrder.remove(providerId)) {
             // If it existed, put it back first
             providerOrder.addFirst(providerId);
+
+            // Only the precedence of this provider has changed
+            invalidateProviderData(allProviders.get(providerId));
         }
     }
 
@@ -146,11 +181,37 @@ public class MapDataService extends Service {
             providerOrder.addFirst(providerId);
         }
         // Add or update the provider
-        allProviders.put(providerId, provider);
+        MapDataProvider oldProvider = allProviders.put(providerId, provider);
+
+        // Invalidate caches, for everything the old or new provider defines
+        if (oldProvider != null) {
+            invalidateProviderData(oldProvider);
+            oldProvider.getFeatures().forEach(resolvedAttributesCache::remove);
+        }
+        invalidateProviderData(provider);
+    }
+
+    private void invalidateProviderData(MapDataProvider provider) {
+        categoryDefinitions = null;
+        provider.getIcons().map(MapIcon::getIconId).forEach(iconCache::remove);
+
+        // A category definition affects the category itself, and all of its subcategories
+        Set<String> categoryIds =
+                provider.getCategories().map(MapCategory::getCategoryId).collect(Collectors.toSet());
+        if (categoryIds.isEmpty()) return;
+
+        resolvedCategoryCache.keySet().removeIf(categoryId -> isInCategories(categoryId, categoryIds));
+        resolvedAttributesCache
+                .keySet()
+                .removeIf(feature -> isInCategories(feature.getCategoryId(), categoryIds));
+    }
+
+    private boolean isInCategories(String categoryId, Set<String> categoryIds) {
+        for (String id = categoryId; id != null; id = MapAttributesResolver.getParentCategoryId(id)) {
+            if (categoryIds.contains(id)) return true;
+        }
 
-        // Invalidate caches
-        resolvedAttributesCache.clear();
-        iconCache.clear();
+        return false;
     }
 
     private Stream<MapDataProvider> getProviders() {
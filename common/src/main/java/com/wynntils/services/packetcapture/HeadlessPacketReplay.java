@@ -0,0 +1,94 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.packetcapture;
+
+import com.wynntils.services.packetcapture.type.CapturedPacket;
+import com.wynntils.services.packetcapture.type.ReplayResult;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.ProtocolInfo;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.GameProtocols;
+
+/**
+ * Replays a capture without a client or a world, for regression tests and profiling.
+ * <p>
+ * Unlike {@link PacketReplay}, time is not taken from the wall clock. The ticks between two packets are
+ * simulated from their captured timestamps, so every replay of a capture handles the same packets in the same
+ * ticks, no matter how fast it runs. The capture is read into memory once, so it can be replayed many times
+ * without reading the file again.
+ */
+public final class HeadlessPacketReplay {
+    private static final long MILLIS_PER_TICK = 50;
+
+    private final long startTime;
+    private final List<CapturedPacket> capturedPackets;
+    private final ProtocolInfo<ClientGamePacketListener> protocolInfo;
+
+    /**
+     * Reads all packets of the capture. The registries are used to decode the packets, captures made on
+     * Wynncraft only need the built-in ones.
+     */
+    public HeadlessPacketReplay(PacketCaptureReader reader, RegistryAccess registryAccess) throws IOException {
+        this.startTime = reader.getHeader().startTime();
+        this.protocolInfo = GameProtocols.CLIENTBOUND_TEMPLATE.bind(RegistryFriendlyByteBuf.decorator(registryAccess));
+
+        List<CapturedPacket> packets = new ArrayList<>();
+        CapturedPacket capturedPacket;
+        while ((capturedPacket = reader.next()) != null) {
+            packets.add(capturedPacket);
+        }
+        this.capturedPackets = List.copyOf(packets);
+    }
+
+    public int getPacketCount() {
+        return capturedPackets.size();
+    }
+
+    /**
+     * Decodes the packets and passes them to the packet handler in capture order. Before each packet,
+     * the tick handler is called once for every tick that started since the previous packet.
+     * Packets that fail to decode or to be handled are skipped, and their exceptions are returned with the result,
+     * as there is no mod logging without a client.
+     */
+    public ReplayResult replay(Consumer<Packet<? super ClientGamePacketListener>> packetHandler, Runnable tickHandler) {
+        int replayedCount = 0;
+        List<RuntimeException> failures = new ArrayList<>();
+        long tickCount = 0;
+        long handlingNanos = 0;
+
+        for (CapturedPacket capturedPacket : capturedPackets) {
+            long packetTick = (capturedPacket.timestamp() - startTime) / MILLIS_PER_TICK;
+            while (tickCount < packetTick) {
+                tickHandler.run();
+                tickCount++;
+            }
+
+            ByteBuf buf = Unpooled.wrappedBuffer(capturedPacket.packetData());
+            try {
+                Packet<? super ClientGamePacketListener> packet = protocolInfo.codec().decode(buf);
+
+                long handlingStartTime = System.nanoTime();
+                packetHandler.accept(packet);
+                handlingNanos += System.nanoTime() - handlingStartTime;
+
+                replayedCount++;
+            } catch (RuntimeException e) {
+                failures.add(e);
+            } finally {
+                buf.release();
+            }
+        }
+
+        return new ReplayResult(replayedCount, failures, tickCount, handlingNanos);
+    }
+}
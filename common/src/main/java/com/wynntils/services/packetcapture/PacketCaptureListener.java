@@ -0,0 +1,36 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.packetcapture;
+
+import com.wynntils.mc.event.PacketEvent.PacketReceivedEvent;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
+
+/**
+ * Passes the received packets to {@link PacketCaptureService}. It is only registered while capturing,
+ * so the packet received event does not need to be posted for it the rest of the time.
+ */
+public final class PacketCaptureListener {
+    private final PacketCaptureService captureService;
+
+    PacketCaptureListener(PacketCaptureService captureService) {
+        this.captureService = captureService;
+    }
+
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public void onPacketReceived(PacketReceivedEvent<?> event) {
+        // Entities are spawned with bundles of packets, which are captured one by one
+        if (event.getPacket() instanceof ClientboundBundlePacket bundlePacket) {
+            for (Packet<? super ClientGamePacketListener> packet : bundlePacket.subPackets()) {
+                captureService.capturePacket(packet);
+            }
+        } else {
+            captureService.capturePacket(event.getPacket());
+        }
+    }
+}
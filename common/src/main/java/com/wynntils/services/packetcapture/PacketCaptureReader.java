@@ -0,0 +1,91 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.packetcapture;
+
+import com.wynntils.services.packetcapture.type.CaptureHeader;
+import com.wynntils.services.packetcapture.type.CapturedPacket;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a packet capture written by {@link PacketCaptureWriter}, one packet at a time.
+ */
+public final class PacketCaptureReader implements Closeable {
+    // Larger than any packet the server is allowed to send
+    private static final int MAX_PACKET_SIZE = 8 * 1024 * 1024;
+
+    private final DataInputStream in;
+    private final CaptureHeader header;
+
+    private long lastTimestamp;
+
+    public PacketCaptureReader(InputStream inputStream) throws IOException {
+        this.in = new DataInputStream(inputStream);
+
+        if (in.readInt() != PacketCaptureWriter.MAGIC) {
+            throw new IOException("Not a packet capture");
+        }
+        int formatVersion = in.readInt();
+        if (formatVersion != PacketCaptureWriter.FORMAT_VERSION) {
+            throw new IOException("Unsupported packet capture format version " + formatVersion);
+        }
+
+        this.header = new CaptureHeader(in.readInt(), in.readUTF(), in.readLong());
+        this.lastTimestamp = header.startTime();
+    }
+
+    public CaptureHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns the next packet, or null at the end of the capture. A capture that was cut off in the middle
+     * of a packet (the game crashed while capturing) ends at the last complete packet.
+     */
+    public CapturedPacket next() throws IOException {
+        try {
+            long delay = readVarInt(true);
+            if (delay < 0) return null;
+
+            long length = readVarInt(false);
+            if (length > MAX_PACKET_SIZE) {
+                throw new IOException("Packet of " + length + " bytes is too large");
+            }
+
+            byte[] packetData = new byte[(int) length];
+            in.readFully(packetData);
+
+            lastTimestamp += delay;
+            return new CapturedPacket(lastTimestamp, packetData);
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private long readVarInt(boolean allowEnd) throws IOException {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b == -1) {
+                if (allowEnd && shift == 0) return -1;
+                throw new EOFException();
+            }
+
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+
+        throw new IOException("Variable sized integer is too long");
+    }
+}
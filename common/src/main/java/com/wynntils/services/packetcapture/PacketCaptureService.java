@@ -0,0 +1,295 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.packetcapture;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Managers;
+import com.wynntils.core.components.Service;
+import com.wynntils.core.mod.event.WynncraftConnectionEvent;
+import com.wynntils.mc.event.TickAlwaysEvent;
+import com.wynntils.services.packetcapture.type.CaptureHeader;
+import com.wynntils.utils.FileUtils;
+import com.wynntils.utils.mc.McUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import net.minecraft.ChatFormatting;
+import net.minecraft.SharedConstants;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.network.ProtocolInfo;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundAddEntityPacket;
+import net.minecraft.network.protocol.game.ClientboundBossEventPacket;
+import net.minecraft.network.protocol.game.ClientboundContainerClosePacket;
+import net.minecraft.network.protocol.game.ClientboundContainerSetContentPacket;
+import net.minecraft.network.protocol.game.ClientboundContainerSetDataPacket;
+import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
+import net.minecraft.network.protocol.game.ClientboundLevelParticlesPacket;
+import net.minecraft.network.protocol.game.ClientboundOpenScreenPacket;
+import net.minecraft.network.protocol.game.ClientboundPlayerChatPacket;
+import net.minecraft.network.protocol.game.ClientboundRemoveEntitiesPacket;
+import net.minecraft.network.protocol.game.ClientboundResetScorePacket;
+import net.minecraft.network.protocol.game.ClientboundSetActionBarTextPacket;
+import net.minecraft.network.protocol.game.ClientboundSetDisplayObjectivePacket;
+import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket;
+import net.minecraft.network.protocol.game.ClientboundSetEquipmentPacket;
+import net.minecraft.network.protocol.game.ClientboundSetExperiencePacket;
+import net.minecraft.network.protocol.game.ClientboundSetObjectivePacket;
+import net.minecraft.network.protocol.game.ClientboundSetPassengersPacket;
+import net.minecraft.network.protocol.game.ClientboundSetPlayerTeamPacket;
+import net.minecraft.network.protocol.game.ClientboundSetScorePacket;
+import net.minecraft.network.protocol.game.ClientboundSetSubtitleTextPacket;
+import net.minecraft.network.protocol.game.ClientboundSetTitleTextPacket;
+import net.minecraft.network.protocol.game.ClientboundSystemChatPacket;
+import net.minecraft.network.protocol.game.ClientboundTeleportEntityPacket;
+import net.minecraft.network.protocol.game.GameProtocols;
+import net.neoforged.bus.api.SubscribeEvent;
+
+/**
+ * Records the inbound game packets the handlers and models are built on to a capture file, and replays
+ * captures in a singleplayer world, so they can be debugged and profiled without a live server.
+ * Tests and profiling replay captures without a client using {@link HeadlessPacketReplay}.
+ */
+public final class PacketCaptureService extends Service {
+    private static final File CAPTURE_DIR = WynntilsMod.getModStorageDir("captures");
+    private static final String CAPTURE_FILE_EXTENSION = ".wpc";
+    private static final DateTimeFormatter CAPTURE_FILE_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+    // Chat, action bar, titles, scoreboard, containers, entities, particles and boss bars.
+    // Chunks, movement and other world updates are left out, they are most of the traffic but not used by us.
+    private static final Set<Class<? extends Packet<?>>> CAPTURED_PACKETS = Set.of(
+            ClientboundSystemChatPacket.class,
+            ClientboundPlayerChatPacket.class,
+            ClientboundSetActionBarTextPacket.class,
+            ClientboundSetTitleTextPacket.class,
+            ClientboundSetSubtitleTextPacket.class,
+            ClientboundSetObjectivePacket.class,
+            ClientboundSetScorePacket.class,
+            ClientboundResetScorePacket.class,
+            ClientboundSetDisplayObjectivePacket.class,
+            ClientboundSetPlayerTeamPacket.class,
+            ClientboundSetExperiencePacket.class,
+            ClientboundOpenScreenPacket.class,
+            ClientboundContainerSetContentPacket.class,
+            ClientboundContainerSetSlotPacket.class,
+            ClientboundContainerSetDataPacket.class,
+            ClientboundContainerClosePacket.class,
+            ClientboundAddEntityPacket.class,
+            ClientboundRemoveEntitiesPacket.class,
+            ClientboundSetEntityDataPacket.class,
+            ClientboundSetEquipmentPacket.class,
+            ClientboundSetPassengersPacket.class,
+            ClientboundTeleportEntityPacket.class,
+            ClientboundLevelParticlesPacket.class,
+            ClientboundBossEventPacket.class);
+
+    // Packets are captured on the netty thread, and the capture is started and stopped on the render thread
+    private final Object captureLock = new Object();
+    private volatile PacketCaptureWriter captureWriter = null;
+    private File captureFile = null;
+    private PacketCaptureListener captureListener = null;
+
+    private PacketReplay packetReplay = null;
+
+    // The game protocol is bound to the registries of a connection
+    private ClientPacketListener protocolPacketListener = null;
+    private ProtocolInfo<ClientGamePacketListener> protocolInfo = null;
+
+    public PacketCaptureService() {
+        super(List.of());
+    }
+
+    @SubscribeEvent
+    public void onTick(TickAlwaysEvent event) {
+        if (packetReplay == null) return;
+
+        try {
+            if (packetReplay.replayDuePackets()) return;
+
+            PacketReplay finishedReplay = packetReplay;
+            stopReplay();
+            McUtils.sendMessageToClient(Component.translatable(
+                            "command.wynntils.debug.replay.finished",
+                            finishedReplay.getReplayedCount(),
+                            finishedReplay.getFailedCount(),
+                            finishedReplay.getCapturedMillis(),
+                            finishedReplay.getReplayMillis(),
+                            String.format("%.1f", finishedReplay.getAverageHandlingMicros()))
+                    .withStyle(ChatFormatting.GREEN));
+        } catch (IOException e) {
+            WynntilsMod.error("Failed to read packet capture " + packetReplay.getName(), e);
+            stopReplay();
+            McUtils.sendMessageToClient(Component.translatable("command.wynntils.debug.replay.readFailed")
+                    .withStyle(ChatFormatting.RED));
+        }
+    }
+
+    @SubscribeEvent
+    public void onDisconnected(WynncraftConnectionEvent.Disconnected event) {
+        if (captureWriter != null) {
+            int packetCount = stopCapture();
+            WynntilsMod.info("Captured " + packetCount + " packets before disconnecting");
+        }
+
+        // Stopping the replay also disconnects, so this is only reached when leaving the world during a replay
+        if (packetReplay != null) {
+            packetReplay.close();
+            packetReplay = null;
+        }
+    }
+
+    public boolean isCapturing() {
+        return captureWriter != null;
+    }
+
+    public boolean isReplaying() {
+        return packetReplay != null;
+    }
+
+    /**
+     * Starts capturing the received packets to a new capture file, and returns the file.
+     */
+    public File startCapture() throws IOException {
+        FileUtils.mkdir(CAPTURE_DIR);
+        String fileName = "capture-" + LocalDateTime.now().format(CAPTURE_FILE_DATE_FORMAT) + CAPTURE_FILE_EXTENSION;
+        File file = new File(CAPTURE_DIR, fileName);
+
+        PacketCaptureWriter writer = new PacketCaptureWriter(
+                new BufferedOutputStream(new FileOutputStream(file)),
+                new CaptureHeader(
+                        SharedConstants.getProtocolVersion(), WynntilsMod.getVersion(), System.currentTimeMillis()));
+
+        synchronized (captureLock) {
+            captureWriter = writer;
+            captureFile = file;
+
+            // Only listen to packets while capturing, so they are not posted for nothing otherwise
+            captureListener = new PacketCaptureListener(this);
+            WynntilsMod.registerEventListener(captureListener);
+        }
+
+        WynntilsMod.info("Started capturing packets to " + file);
+        return file;
+    }
+
+    /**
+     * Stops capturing, and returns the number of captured packets.
+     */
+    public int stopCapture() {
+        synchronized (captureLock) {
+            if (captureWriter == null) return 0;
+
+            int packetCount = captureWriter.getPacketCount();
+            try {
+                captureWriter.close();
+            } catch (IOException e) {
+                WynntilsMod.error("Failed to close packet capture " + captureFile, e);
+            }
+
+            WynntilsMod.info("Captured " + packetCount + " packets to " + captureFile);
+            WynntilsMod.unregisterEventListener(captureListener);
+            captureWriter = null;
+            captureFile = null;
+            captureListener = null;
+            return packetCount;
+        }
+    }
+
+    /**
+     * Starts replaying a capture in the current world. The speed is relative to the captured timing,
+     * a speed of 0 replays the packets as fast as possible.
+     */
+    public void startReplay(File file, float speed) throws IOException {
+        ClientPacketListener packetListener = McUtils.mc().getConnection();
+        if (packetListener == null) {
+            throw new IllegalStateException("Can not replay packets without a world");
+        }
+
+        PacketCaptureReader reader = new PacketCaptureReader(new BufferedInputStream(new FileInputStream(file)));
+        int protocolVersion = reader.getHeader().protocolVersion();
+        if (protocolVersion != SharedConstants.getProtocolVersion()) {
+            reader.close();
+            throw new IOException("Capture was made with protocol version " + protocolVersion);
+        }
+
+        packetReplay = new PacketReplay(file.getName(), reader, getGameProtocol(packetListener), packetListener, speed);
+
+        // Handlers and models only process packets while connected to Wynncraft
+        Managers.Connection.beginReplay();
+        WynntilsMod.info("Started replaying " + file + " at " + speed + "x speed");
+    }
+
+    public void stopReplay() {
+        if (packetReplay == null) return;
+
+        packetReplay.close();
+        packetReplay = null;
+        Managers.Connection.endReplay();
+    }
+
+    public List<String> getCaptureFileNames() {
+        File[] files = CAPTURE_DIR.listFiles((dir, name) -> name.endsWith(CAPTURE_FILE_EXTENSION));
+        if (files == null) return List.of();
+
+        return Arrays.stream(files).map(File::getName).sorted().toList();
+    }
+
+    public File getCaptureFile(String fileName) {
+        // Only the capture directory can be replayed from
+        return new File(CAPTURE_DIR, new File(fileName).getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    void capturePacket(Packet<?> packet) {
+        if (!CAPTURED_PACKETS.contains(packet.getClass())) return;
+
+        ClientPacketListener packetListener = McUtils.mc().getConnection();
+        if (packetListener == null) return;
+
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            getGameProtocol(packetListener).codec().encode(buf, (Packet<? super ClientGamePacketListener>) packet);
+            byte[] packetData = ByteBufUtil.getBytes(buf);
+
+            synchronized (captureLock) {
+                if (captureWriter == null) return;
+                captureWriter.write(System.currentTimeMillis(), packetData);
+            }
+        } catch (RuntimeException e) {
+            WynntilsMod.warn("Failed to capture " + packet.getClass().getSimpleName(), e);
+        } catch (IOException e) {
+            WynntilsMod.error("Failed to write packet capture, stopping the capture", e);
+            stopCapture();
+        } finally {
+            buf.release();
+        }
+    }
+
+    private synchronized ProtocolInfo<ClientGamePacketListener> getGameProtocol(ClientPacketListener packetListener) {
+        // A new packet listener is created when the server reconfigures the client, possibly with new registries
+        if (packetListener != protocolPacketListener) {
+            protocolInfo = GameProtocols.CLIENTBOUND_TEMPLATE.bind(
+                    RegistryFriendlyByteBuf.decorator(packetListener.registryAccess()));
+            protocolPacketListener = packetListener;
+        }
+
+        return protocolInfo;
+    }
+}
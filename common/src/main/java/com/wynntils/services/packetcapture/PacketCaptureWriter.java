@@ -0,0 +1,72 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.packetcapture;
+
+import com.wynntils.services.packetcapture.type.CaptureHeader;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes a packet capture, in the format read by {@link PacketCaptureReader}.
+ * <p>
+ * The header is followed by one record per packet: the milliseconds since the previous packet and the length
+ * of the packet as variable sized integers, then the packet itself, as encoded by the game protocol.
+ */
+public final class PacketCaptureWriter implements Closeable {
+    static final int MAGIC = 0x57504346;
+    // Bump this when the layout of the file changes
+    static final int FORMAT_VERSION = 1;
+
+    private final DataOutputStream out;
+
+    private long lastTimestamp;
+    private int packetCount = 0;
+
+    public PacketCaptureWriter(OutputStream outputStream, CaptureHeader header) throws IOException {
+        this.out = new DataOutputStream(outputStream);
+        this.lastTimestamp = header.startTime();
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(header.protocolVersion());
+        out.writeUTF(header.modVersion());
+        out.writeLong(header.startTime());
+    }
+
+    /**
+     * Appends a packet. Timestamps are in milliseconds, and must not go backwards.
+     */
+    public void write(long timestamp, byte[] packetData) throws IOException {
+        writeVarInt(Math.max(0, timestamp - lastTimestamp));
+        writeVarInt(packetData.length);
+        out.write(packetData);
+
+        lastTimestamp = Math.max(lastTimestamp, timestamp);
+        packetCount++;
+    }
+
+    public int getPacketCount() {
+        return packetCount;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeVarInt(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.packetcapture;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.events.MixinHelper;
+import com.wynntils.mc.event.PacketEvent;
+import com.wynntils.services.packetcapture.type.CapturedPacket;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.network.ProtocolInfo;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+
+/**
+ * Feeds the packets of a capture to the client packet listener, as if they were received from the server.
+ * The packets are replayed on the render thread, so the listener, and our mixins into it, handle them
+ * the same way they handle live packets.
+ */
+final class PacketReplay {
+    // When replaying as fast as possible, leave the rest of the tick for rendering
+    private static final long MAX_NANOS_PER_TICK = TimeUnit.MILLISECONDS.toNanos(40);
+
+    private final String name;
+    private final PacketCaptureReader reader;
+    private final ProtocolInfo<ClientGamePacketListener> protocolInfo;
+    private final ClientPacketListener packetListener;
+    private final float speed;
+    private final long replayStartTime = System.nanoTime();
+
+    private CapturedPacket nextPacket = null;
+    private long lastTimestamp;
+    private int replayedCount = 0;
+    private int failedCount = 0;
+    private long handlingNanos = 0;
+
+    PacketReplay(
+            String name,
+            PacketCaptureReader reader,
+            ProtocolInfo<ClientGamePacketListener> protocolInfo,
+            ClientPacketListener packetListener,
+            float speed) {
+        this.name = name;
+        this.reader = reader;
+        this.protocolInfo = protocolInfo;
+        this.packetListener = packetListener;
+        this.speed = speed;
+        this.lastTimestamp = reader.getHeader().startTime();
+    }
+
+    /**
+     * Replays the packets that are due at the replay speed, or as many as fit in a tick if the speed is 0.
+     * Returns false once all packets were replayed.
+     */
+    boolean replayDuePackets() throws IOException {
+        long tickStartTime = System.nanoTime();
+        long replayedMillis = TimeUnit.NANOSECONDS.toMillis(tickStartTime - replayStartTime);
+
+        while (true) {
+            if (nextPacket == null) {
+                nextPacket = reader.next();
+                if (nextPacket == null) return false;
+            }
+
+            if (speed > 0) {
+                long packetMillis = nextPacket.timestamp() - reader.getHeader().startTime();
+                if (packetMillis / speed > replayedMillis) return true;
+            } else if (System.nanoTime() - tickStartTime > MAX_NANOS_PER_TICK) {
+                return true;
+            }
+
+            replayPacket(nextPacket);
+            lastTimestamp = nextPacket.timestamp();
+            nextPacket = null;
+        }
+    }
+
+    void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            WynntilsMod.warn("Failed to close packet capture " + name, e);
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getReplayedCount() {
+        return replayedCount;
+    }
+
+    int getFailedCount() {
+        return failedCount;
+    }
+
+    long getCapturedMillis() {
+        return lastTimestamp - reader.getHeader().startTime();
+    }
+
+    long getReplayMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - replayStartTime);
+    }
+
+    /**
+     * The average time the packet listener, and everything listening to the events it posts, spent per packet.
+     */
+    double getAverageHandlingMicros() {
+        return replayedCount == 0 ? 0 : handlingNanos / 1000.0 / replayedCount;
+    }
+
+    private void replayPacket(CapturedPacket capturedPacket) {
+        ByteBuf buf = Unpooled.wrappedBuffer(capturedPacket.packetData());
+
+        try {
+            Packet<? super ClientGamePacketListener> packet = protocolInfo.codec().decode(buf);
+
+            long startTime = System.nanoTime();
+
+            // Like ConnectionMixin, the packet listener then posts the events of the specific packets
+            PacketEvent.PacketReceivedEvent<? extends Packet<?>> event = new PacketEvent.PacketReceivedEvent<>(packet);
+            MixinHelper.postAlways(event);
+            if (!event.isCanceled()) {
+                packet.handle(packetListener);
+            }
+
+            handlingNanos += System.nanoTime() - startTime;
+            replayedCount++;
+        } catch (RuntimeException e) {
+            failedCount++;
+            WynntilsMod.warn("Failed to replay a packet of " + name, e);
+        } finally {
+            buf.release();
+        }
+    }
+}
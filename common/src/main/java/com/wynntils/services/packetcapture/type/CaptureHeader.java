@@ -0,0 +1,10 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.packetcapture.type;
+
+/**
+ * The packets of a capture can only be decoded by the game protocol version that captured them.
+ */
+public record CaptureHeader(int protocolVersion, String modVersion, long startTime) {}
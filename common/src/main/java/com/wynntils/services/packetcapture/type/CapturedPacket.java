@@ -0,0 +1,10 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.packetcapture.type;
+
+/**
+ * A packet as encoded by the game protocol (packet id and payload), and the time it was received at.
+ */
+public record CapturedPacket(long timestamp, byte[] packetData) {}
@@ -0,0 +1,14 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.packetcapture.type;
+
+import java.util.List;
+
+/**
+ * @param failures The exceptions of the packets that failed to decode or to be handled, in capture order
+ * @param tickCount The number of simulated ticks the captured packets spanned
+ * @param handlingNanos The time spent handling the packets, without decoding them
+ */
+public record ReplayResult(int replayedCount, List<RuntimeException> failures, long tickCount, long handlingNanos) {}
@@ -1,11 +1,12 @@
 /*
- * Copyright © Wynntils 2022-2023.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.utils;
 
 import com.wynntils.core.WynntilsMod;
 import java.io.File;
+import java.io.FileFilter;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -96,6 +97,14 @@ public final class FileUtils {
         }
     }
 
+    public static void copyDirectory(File sourceDir, File destDir, FileFilter filter) throws IOException {
+        if (sourceDir == null || destDir == null) {
+            throw new IllegalArgumentException("Argument files should not be null.");
+        }
+
+        org.apache.commons.io.FileUtils.copyDirectory(sourceDir, destDir, filter);
+    }
+
     private static void copyFileWindows(File sourceFile, File destFile) {
         try (FileInputStream inputStream = new FileInputStream(sourceFile);
                 FileChannel source = inputStream.getChannel();
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2021-2024.
+ * Copyright © Wynntils 2021-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.utils.mc;
@@ -8,9 +8,9 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 import com.wynntils.core.text.StyledText;
+import com.wynntils.mc.extension.ItemStackExtension;
 import com.wynntils.utils.StringUtils;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -26,15 +26,20 @@ import net.minecraft.world.item.component.ItemLore;
 public final class LoreUtils {
     /**
      * Returns the lore for the given itemStack as a list of {@link StyledText}.
+     * The lore is parsed once per lore component, and cached on the itemStack.
      *
-     * @return A list of {@link StyledText} representing the lore of the itemStack.
+     * @return An immutable list of {@link StyledText} representing the lore of the itemStack.
      */
-    public static LinkedList<StyledText> getLore(ItemStack itemStack) {
-        List<Component> lines =
-                itemStack.getOrDefault(DataComponents.LORE, ItemLore.EMPTY).lines();
-        return lines.stream()
-                .map(StyledText::fromComponent)
-                .collect(LinkedList::new, LinkedList::add, LinkedList::addAll);
+    public static List<StyledText> getLore(ItemStack itemStack) {
+        ItemLore itemLore = itemStack.getOrDefault(DataComponents.LORE, ItemLore.EMPTY);
+        ItemStackExtension itemStackExtension = (ItemStackExtension) itemStack;
+
+        List<StyledText> parsedLore = itemStackExtension.getParsedLore(itemLore);
+        if (parsedLore != null) return parsedLore;
+
+        parsedLore = itemLore.lines().stream().map(StyledText::fromComponent).toList();
+        itemStackExtension.setParsedLore(itemLore, parsedLore);
+        return parsedLore;
     }
 
     /**
@@ -43,7 +48,7 @@ public final class LoreUtils {
      * inserts additional lines at the top of the lore.)
      */
     public static Matcher matchLoreLine(ItemStack itemStack, int startLineNum, Pattern pattern) {
-        LinkedList<StyledText> lore = getLore(itemStack);
+        List<StyledText> lore = getLore(itemStack);
 
         Matcher matcher = StyledText.EMPTY.getMatcher(pattern);
         for (int i = startLineNum; i < Math.min(startLineNum + 6, lore.size()); i++) {
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.utils.render;
@@ -12,8 +12,11 @@ import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.Tesselator;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.blaze3d.vertex.VertexFormat;
+import com.wynntils.core.components.Services;
 import com.wynntils.services.lootrunpaths.LootrunPathInstance;
 import com.wynntils.services.map.MapTexture;
+import com.wynntils.services.map.MapTile;
+import com.wynntils.services.map.MapTileCache;
 import com.wynntils.services.map.pois.Poi;
 import com.wynntils.utils.MathUtils;
 import com.wynntils.utils.VectorUtils;
@@ -30,6 +33,7 @@ import java.util.Set;
 import net.minecraft.client.renderer.CoreShaders;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.ChunkPos;
 import org.joml.Matrix4f;
 import org.joml.Vector2d;
@@ -91,9 +95,12 @@ public final class MapRenderer {
             float width,
             float height,
             float scale) {
-        VertexConsumer buffer = bufferSource.getBuffer(CustomRenderType.getMapPositionTextureQuad(map.resource()));
+        Matrix4f matrix = poseStack.last().pose();
 
-        renderMap(map, poseStack, buffer, centerX, centerZ, textureX, textureZ, width, height, scale);
+        for (TileQuad quad : getTileQuads(map, centerX, centerZ, textureX, textureZ, width, height, scale)) {
+            VertexConsumer buffer = bufferSource.getBuffer(CustomRenderType.getMapPositionTextureQuad(quad.texture()));
+            renderTileQuad(matrix, buffer, quad);
+        }
     }
 
     public static void renderMapQuad(
@@ -106,30 +113,35 @@ public final class MapRenderer {
             float width,
             float height,
             float scale) {
+        Matrix4f matrix = poseStack.last().pose();
+
         RenderSystem.disableBlend();
 
         RenderSystem.setShader(CoreShaders.POSITION_TEX);
-        RenderSystem.setShaderTexture(0, map.resource());
 
-        RenderSystem.texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, GL11.GL_NEAREST);
-        RenderSystem.texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, GL11.GL_NEAREST);
+        for (TileQuad quad : getTileQuads(map, centerX, centerZ, textureX, textureZ, width, height, scale)) {
+            RenderSystem.setShaderTexture(0, quad.texture());
 
-        // clamp map rendering
-        RenderSystem.texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_T, GL13.GL_CLAMP_TO_BORDER);
-        RenderSystem.texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_S, GL13.GL_CLAMP_TO_BORDER);
+            RenderSystem.texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, GL11.GL_NEAREST);
+            RenderSystem.texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, GL11.GL_NEAREST);
 
-        BufferBuilder builder =
-                Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
+            // clamp map rendering
+            RenderSystem.texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_T, GL13.GL_CLAMP_TO_BORDER);
+            RenderSystem.texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_S, GL13.GL_CLAMP_TO_BORDER);
 
-        renderMap(map, poseStack, builder, centerX, centerZ, textureX, textureZ, width, height, scale);
+            BufferBuilder builder =
+                    Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
 
-        BufferUploader.drawWithShader(builder.build());
+            renderTileQuad(matrix, builder, quad);
+
+            BufferUploader.drawWithShader(builder.build());
+        }
     }
 
-    private static void renderMap(
+    // Splits the rendered area into one quad per visible tile, at the level of detail matching the scale.
+    // Tiles that are still loading are drawn from the closest loaded tile of a lower level of detail, if any.
+    private static List<TileQuad> getTileQuads(
             MapTexture map,
-            PoseStack poseStack,
-            VertexConsumer buffer,
             float centerX,
             float centerZ,
             float textureX,
@@ -137,24 +149,60 @@ public final class MapRenderer {
             float width,
             float height,
             float scale) {
-        float uScale = 1f / map.getTextureWidth();
-        float vScale = 1f / map.getTextureHeight();
-
-        float halfRenderedWidth = width / 2f;
-        float halfRenderedHeight = height / 2f;
-        float halfTextureWidth = halfRenderedWidth * scale;
-        float halfTextureHeight = halfRenderedHeight * scale;
+        float halfTextureWidth = width / 2f * scale;
+        float halfTextureHeight = height / 2f * scale;
+
+        float viewX1 = textureX - halfTextureWidth;
+        float viewZ1 = textureZ - halfTextureHeight;
+        float viewX2 = textureX + halfTextureWidth;
+        float viewZ2 = textureZ + halfTextureHeight;
+
+        MapTileCache tileCache = Services.Map.getTileCache();
+        // Pick the level of detail by the size of a real pixel, not a scaled GUI pixel
+        int level = map.getLevelForScale(scale / (float) McUtils.guiScale());
+        List<MapTile> tiles = map.getTiles(level, viewX1, viewZ1, viewX2, viewZ2);
+        List<TileQuad> quads = new ArrayList<>(tiles.size());
+
+        for (MapTile tile : tiles) {
+            MapTile renderedTile = tile;
+            ResourceLocation texture = tileCache.getTexture(tile);
+            while (texture == null) {
+                renderedTile = map.getParentTile(renderedTile);
+                if (renderedTile == null) break;
+
+                texture = tileCache.getLoadedTexture(renderedTile);
+            }
+            if (texture == null) continue;
+
+            float x1 = Math.max(viewX1, tile.getTextureX1());
+            float z1 = Math.max(viewZ1, tile.getTextureZ1());
+            float x2 = Math.min(viewX2, tile.getTextureX2());
+            float z2 = Math.min(viewZ2, tile.getTextureZ2());
+            if (x1 >= x2 || z1 >= z2) continue;
+
+            float uScale = 1f / (renderedTile.getTextureX2() - renderedTile.getTextureX1());
+            float vScale = 1f / (renderedTile.getTextureZ2() - renderedTile.getTextureZ1());
+
+            quads.add(new TileQuad(
+                    texture,
+                    centerX + (x1 - textureX) / scale,
+                    centerZ + (z1 - textureZ) / scale,
+                    centerX + (x2 - textureX) / scale,
+                    centerZ + (z2 - textureZ) / scale,
+                    (x1 - renderedTile.getTextureX1()) * uScale,
+                    (z1 - renderedTile.getTextureZ1()) * vScale,
+                    (x2 - renderedTile.getTextureX1()) * uScale,
+                    (z2 - renderedTile.getTextureZ1()) * vScale));
+        }
 
-        Matrix4f matrix = poseStack.last().pose();
+        return quads;
+    }
 
-        buffer.addVertex(matrix, (centerX - halfRenderedWidth), (centerZ + halfRenderedHeight), 0)
-                .setUv((textureX - halfTextureWidth) * uScale, (textureZ + halfTextureHeight) * vScale);
-        buffer.addVertex(matrix, (centerX + halfRenderedWidth), (centerZ + halfRenderedHeight), 0)
-                .setUv((textureX + halfTextureWidth) * uScale, (textureZ + halfTextureHeight) * vScale);
-        buffer.addVertex(matrix, (centerX + halfRenderedWidth), (centerZ - halfRenderedHeight), 0)
-                .setUv((textureX + halfTextureWidth) * uScale, (textureZ - halfTextureHeight) * vScale);
-        buffer.addVertex(matrix, (centerX - halfRenderedWidth), (centerZ - halfRenderedHeight), 0)
-                .setUv((textureX - halfTextureWidth) * uScale, (textureZ - halfTextureHeight) * vScale);
+    private static void renderTileQuad(Matrix4f matrix, VertexConsumer buffer, TileQuad quad) {
+        buffer.addVertex(matrix, quad.x1(), quad.z2(), 0).setUv(quad.u1(), quad.v2());
+        buffer.addVertex(matrix, quad.x2(), quad.z2(), 0).setUv(quad.u2(), quad.v2());
+        buffer.addVertex(matrix, quad.x2(), quad.z1(), 0).setUv(quad.u2(), quad.v1());
+        buffer.addVertex(matrix, quad.x1(), quad.z1(), 0).setUv(quad.u1(), quad.v1());
     }
 
     public static void renderCursor(
@@ -528,4 +576,7 @@ public final class MapRenderer {
         double distanceZ = worldZ - mapCenterZ;
         return (float) (centerZ + distanceZ * currentZoom);
     }
+
+    private record TileQuad(
+            ResourceLocation texture, float x1, float z1, float x2, float z2, float u1, float v1, float u2, float v2) {}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2025.
+ * Copyright © Wynntils 2022-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.utils.render.buffered;
@@ -22,11 +22,11 @@ import org.lwjgl.opengl.GL13;
 
 public class CustomRenderType extends RenderType {
     // Copied from RenderType.LINE_STRIP and changed the line width from the default
-    // to 3
+    // to 3, using separate line segments so a lootrun chunk can be drawn with a single call
     public static final RenderType LOOTRUN_LINE = RenderType.create(
             "wynntils_lootrun_line",
             DefaultVertexFormat.POSITION_COLOR_NORMAL,
-            Mode.LINE_STRIP,
+            Mode.LINES,
             256,
             false,
             false,
@@ -0,0 +1,66 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import java.util.Arrays;
+
+/**
+ * Reads unsigned bytes sequentially from a byte array.
+ * The array is not copied, so it must not be modified while it is being read.
+ */
+public final class ByteReader {
+    private final byte[] bytes;
+    private int index;
+
+    public ByteReader(byte[] bytes) {
+        this.bytes = bytes;
+        this.index = 0;
+    }
+
+    /**
+     * Returns the next byte, without advancing the reader.
+     * @return the value of the byte, in the range 0 to 255
+     */
+    public int peek() {
+        // Throw an exception if we try to read past the end of the array
+        if (index >= bytes.length) {
+            throw new ArrayIndexOutOfBoundsException("Tried to read past the end of the array");
+        }
+
+        return bytes[index] & 0xFF;
+    }
+
+    /**
+     * Reads the next byte.
+     * @return the value of the byte, in the range 0 to 255
+     */
+    public int read() {
+        // Throw an exception if we try to read past the end of the array
+        if (index >= bytes.length) {
+            throw new ArrayIndexOutOfBoundsException("Tried to read past the end of the array");
+        }
+
+        return bytes[index++] & 0xFF;
+    }
+
+    public byte[] read(int length) {
+        // Throw an exception if we try to read past the end of the array
+        if (index + length > bytes.length) {
+            throw new ArrayIndexOutOfBoundsException("Tried to read past the end of the array");
+        }
+
+        byte[] result = Arrays.copyOfRange(bytes, index, index + length);
+        index += length;
+        return result;
+    }
+
+    public byte[] readRemaining() {
+        return read(bytes.length - index);
+    }
+
+    public boolean hasRemaining() {
+        return index < bytes.length;
+    }
+}
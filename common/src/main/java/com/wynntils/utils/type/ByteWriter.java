@@ -0,0 +1,52 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of bytes, written sequentially.
+ */
+public final class ByteWriter {
+    private byte[] bytes;
+    private int size;
+
+    public ByteWriter() {
+        this(16);
+    }
+
+    public ByteWriter(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Writes the lowest 8 bits of the value as a byte.
+     */
+    public void write(int value) {
+        ensureCapacity(size + 1);
+        bytes[size++] = (byte) value;
+    }
+
+    public void write(byte[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, bytes, size, values.length);
+        size += values.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= bytes.length) return;
+
+        bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Finds which of a fixed set of strings occur in a text, in a single pass over the text (Aho-Corasick).
+ */
+public final class MultiStringMatcher {
+    private static final int[] NO_MATCHES = new int[0];
+
+    // Transitions of the trie, keyed by the node and the character
+    private final Long2IntMap transitions = new Long2IntOpenHashMap();
+    private final int[] failureLinks;
+    // The indices of the strings ending at a node, including those reached through failure links
+    private final int[][] matches;
+    private final int stringCount;
+
+    public MultiStringMatcher(List<String> strings) {
+        transitions.defaultReturnValue(-1);
+        stringCount = strings.size();
+
+        List<IntList> nodeMatches = new ArrayList<>();
+        nodeMatches.add(new IntArrayList());
+
+        for (int i = 0; i < strings.size(); i++) {
+            String string = strings.get(i);
+            if (string.isEmpty()) {
+                throw new IllegalArgumentException("Cannot match empty strings");
+            }
+
+            int node = 0;
+            for (int j = 0; j < string.length(); j++) {
+                long key = toKey(node, string.charAt(j));
+                int next = transitions.get(key);
+                if (next == -1) {
+                    next = nodeMatches.size();
+                    nodeMatches.add(new IntArrayList());
+                    transitions.put(key, next);
+                }
+                node = next;
+            }
+            nodeMatches.get(node).add(i);
+        }
+
+        failureLinks = new int[nodeMatches.size()];
+        matches = new int[nodeMatches.size()][];
+        matches[0] = NO_MATCHES;
+
+        // Collect the children of every node, so the failure links can be computed breadth first
+        List<IntList> children = new ArrayList<>(nodeMatches.size());
+        for (int i = 0; i < nodeMatches.size(); i++) {
+            children.add(new IntArrayList());
+        }
+        for (Long2IntMap.Entry entry : transitions.long2IntEntrySet()) {
+            children.get((int) (entry.getLongKey() >>> 16)).add((int) entry.getLongKey() & 0xFFFF);
+        }
+
+        IntArrayFIFOQueue queue = new IntArrayFIFOQueue();
+        queue.enqueue(0);
+        while (!queue.isEmpty()) {
+            int node = queue.dequeueInt();
+
+            IntList nodeChildren = children.get(node);
+            for (int i = 0; i < nodeChildren.size(); i++) {
+                char c = (char) nodeChildren.getInt(i);
+                int child = transitions.get(toKey(node, c));
+
+                failureLinks[child] = node == 0 ? 0 : step(failureLinks[node], c);
+
+                IntList childMatches = nodeMatches.get(child);
+                childMatches.addAll(IntArrayList.wrap(matches[failureLinks[child]]));
+                matches[child] = childMatches.isEmpty() ? NO_MATCHES : childMatches.toIntArray();
+
+                queue.enqueue(child);
+            }
+        }
+    }
+
+    /**
+     * Returns the indices of the strings that occur in the text.
+     */
+    public BitSet findAll(String text) {
+        BitSet found = new BitSet(stringCount);
+
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            node = step(node, text.charAt(i));
+            for (int match : matches[node]) {
+                found.set(match);
+            }
+        }
+
+        return found;
+    }
+
+    public int size() {
+        return stringCount;
+    }
+
+    private int step(int node, char c) {
+        while (true) {
+            int next = transitions.get(toKey(node, c));
+            if (next != -1) return next;
+            if (node == 0) return 0;
+
+            node = failureLinks[node];
+        }
+    }
+
+    private static long toKey(int node, char c) {
+        return ((long) node << 16) | c;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A uniform grid over the x/z plane, used to quickly find the items near a region of the world.
+ * The grid is not updated in place; build a new one when the items change.
+ * <p>
+ * Queries return every item in a cell overlapping the queried region, so callers still need to do exact
+ * bound checks. Items are always returned in the order they were added, and only once.
+ * Queries reuse internal state, so a grid must only be queried from a single thread.
+ */
+public final class SpatialGrid<T> {
+    private final int cellSize;
+    private final List<T> items = new ArrayList<>();
+    private final Long2ObjectMap<IntList> cells = new Long2ObjectOpenHashMap<>();
+
+    private final BitSet queryResult = new BitSet();
+
+    public SpatialGrid(int cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    public void add(T item, float x, float z) {
+        add(item, x, z, x, z);
+    }
+
+    /** Adds an item covering a region, which is returned by queries overlapping any part of it. */
+    public void add(T item, float x1, float z1, float x2, float z2) {
+        int index = items.size();
+        items.add(item);
+
+        for (int cellX = toCell(x1); cellX <= toCell(x2); cellX++) {
+            for (int cellZ = toCell(z1); cellZ <= toCell(z2); cellZ++) {
+                cells.computeIfAbsent(toKey(cellX, cellZ), k -> new IntArrayList())
+                        .add(index);
+            }
+        }
+    }
+
+    public List<T> query(BoundingBox box) {
+        return query(box.x1(), box.z1(), box.x2(), box.z2());
+    }
+
+    public List<T> query(float x1, float z1, float x2, float z2) {
+        int minCellX = toCell(x1);
+        int minCellZ = toCell(z1);
+        int maxCellX = toCell(x2);
+        int maxCellZ = toCell(z2);
+
+        queryResult.clear();
+
+        // When zoomed out, the region covers more cells than there are occupied ones,
+        // so visit the occupied cells instead
+        long queriedCells = ((long) maxCellX - minCellX + 1) * ((long) maxCellZ - minCellZ + 1);
+        if (queriedCells > cells.size()) {
+            for (Long2ObjectMap.Entry<IntList> cell : cells.long2ObjectEntrySet()) {
+                int cellX = (int) (cell.getLongKey() >> 32);
+                int cellZ = (int) cell.getLongKey();
+                if (cellX < minCellX || cellX > maxCellX || cellZ < minCellZ || cellZ > maxCellZ) continue;
+
+                markCell(cell.getValue());
+            }
+        } else {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                    IntList cell = cells.get(toKey(cellX, cellZ));
+                    if (cell != null) {
+                        markCell(cell);
+                    }
+                }
+            }
+        }
+
+        List<T> result = new ArrayList<>(queryResult.cardinality());
+        for (int i = queryResult.nextSetBit(0); i >= 0; i = queryResult.nextSetBit(i + 1)) {
+            result.add(items.get(i));
+        }
+        return result;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    private void markCell(IntList cell) {
+        for (int i = 0; i < cell.size(); i++) {
+            queryResult.set(cell.getInt(i));
+        }
+    }
+
+    private int toCell(float coordinate) {
+        return Math.floorDiv((int) Math.floor(coordinate), cellSize);
+    }
+
+    private static long toKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+}
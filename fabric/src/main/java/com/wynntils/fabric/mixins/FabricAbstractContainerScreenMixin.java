@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024-2025.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.fabric.mixins;
@@ -84,6 +84,8 @@ public abstract class FabricAbstractContainerScreenMixin {
                             target =
                                     "Lnet/minecraft/client/gui/GuiGraphics;renderItemDecorations(Lnet/minecraft/client/gui/Font;Lnet/minecraft/world/item/ItemStack;IILjava/lang/String;)V"))
     private void renderSlotPreCount(GuiGraphics guiGraphics, Slot slot, CallbackInfo info) {
+        if (!MixinHelper.hasListeners(SlotRenderEvent.CountPre.class)) return;
+
         MixinHelper.post(new SlotRenderEvent.CountPre(guiGraphics, (Screen) (Object) this, slot));
     }
 }
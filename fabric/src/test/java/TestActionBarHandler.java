@@ -0,0 +1,103 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.actionbar.ActionBarHandler;
+import com.wynntils.handlers.actionbar.ActionBarSegment;
+import com.wynntils.handlers.actionbar.ActionBarSegmentMatcher;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestActionBarHandler {
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    @Test
+    public void reusedSegments_matchNewParse() {
+        ActionBarHandler actionBarHandler = createHandler();
+
+        // Segments change one at a time, move, and disappear
+        List<String> actionBars = List.of(
+                "<10> [hp 5] {mp 3}",
+                "<10> [hp 5] {mp 3}",
+                "<10> [hp 4] {mp 3}",
+                "<11> [hp 4] {mp 2}",
+                "[hp 4] <11> {mp 2}",
+                "[hp 4] {mp 2}",
+                "<11> [hp 4] {mp 2} [hp 9]");
+
+        for (String actionBar : actionBars) {
+            List<ActionBarSegment> reused = actionBarHandler.parseActionBarSegments(StyledText.fromString(actionBar));
+            List<ActionBarSegment> parsed = createHandler().parseActionBarSegments(StyledText.fromString(actionBar));
+
+            Assertions.assertEquals(
+                    segmentTexts(parsed),
+                    segmentTexts(reused),
+                    "Reused segments differ from a new parse of \"" + actionBar + "\"");
+        }
+    }
+
+    @Test
+    public void unchangedSpan_reusesSegment() {
+        ActionBarHandler actionBarHandler = createHandler();
+
+        ActionBarSegment first =
+                actionBarHandler.parseActionBarSegments(StyledText.fromString("<10> [hp 5]")).getFirst();
+        ActionBarSegment second =
+                actionBarHandler.parseActionBarSegments(StyledText.fromString("<10> [hp 5]")).getFirst();
+
+        Assertions.assertSame(first, second, "Segment of an unchanged action bar was not reused");
+    }
+
+    @Test
+    public void matchers_doNotMatchAcrossSegments() {
+        ActionBarHandler actionBarHandler = new ActionBarHandler();
+        actionBarHandler.registerSegment(new PatternSegmentMatcher(Pattern.compile("XY")));
+        actionBarHandler.registerSegment(new PatternSegmentMatcher(Pattern.compile("ab")));
+
+        // Without the XY segment, the text around it would be "ab"
+        List<ActionBarSegment> segments = actionBarHandler.parseActionBarSegments(StyledText.fromString("aXYb"));
+
+        Assertions.assertEquals(
+                List.of("XY", "a", "b"),
+                segmentTexts(segments),
+                "A matcher matched text joined across a matched segment");
+    }
+
+    private static ActionBarHandler createHandler() {
+        ActionBarHandler actionBarHandler = new ActionBarHandler();
+        actionBarHandler.registerSegment(new PatternSegmentMatcher(Pattern.compile("<\\d+>")));
+        actionBarHandler.registerSegment(new PatternSegmentMatcher(Pattern.compile("\\[hp \\d+]")));
+        actionBarHandler.registerSegment(new PatternSegmentMatcher(Pattern.compile("\\{mp \\d+}")));
+        return actionBarHandler;
+    }
+
+    private static List<String> segmentTexts(List<ActionBarSegment> segments) {
+        return segments.stream().map(ActionBarSegment::getSegmentText).toList();
+    }
+
+    private record PatternSegmentMatcher(Pattern pattern) implements ActionBarSegmentMatcher {
+        @Override
+        public ActionBarSegment parse(String actionBar) {
+            Matcher matcher = pattern.matcher(actionBar);
+            if (!matcher.find()) return null;
+            return new PatternSegment(matcher.group());
+        }
+    }
+
+    private static final class PatternSegment extends ActionBarSegment {
+        private PatternSegment(String segmentText) {
+            super(segmentText);
+        }
+    }
+}
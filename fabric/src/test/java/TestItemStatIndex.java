@@ -0,0 +1,123 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.models.items.items.game.AmplifierItem;
+import com.wynntils.models.items.items.game.GatheringToolItem;
+import com.wynntils.models.profession.type.ToolProfile;
+import com.wynntils.services.itemfilter.ItemFilterService;
+import com.wynntils.services.itemfilter.ItemStatIndex;
+import com.wynntils.services.itemfilter.type.ItemProviderType;
+import com.wynntils.services.itemfilter.type.ItemSearchQuery;
+import com.wynntils.utils.type.CappedValue;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+// The service and the Wynncraft items are our own, as the registered Services and Models can't be created without
+// the game
+public class TestItemStatIndex {
+    private static final Map<ItemStack, WynnItem> wynnItems = new IdentityHashMap<>();
+    private static final ItemFilterService itemFilterService = new ItemFilterService();
+
+    private static List<ItemStack> items;
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        items = new ArrayList<>();
+        // Several tools share a tier, a durability or both, so sorting has ties to keep in order
+        items.add(tool("Pickaxe T2", ToolProfile.ToolType.PICKAXE, 2, 80));
+        items.add(tool("Axe T3", ToolProfile.ToolType.AXE, 3, 40));
+        items.add(tool("Scythe T2", ToolProfile.ToolType.SCYTHE, 2, 40));
+        items.add(tool("Rod T1", ToolProfile.ToolType.ROD, 1, 100));
+        items.add(tool("Pickaxe T3", ToolProfile.ToolType.PICKAXE, 3, 40));
+        items.add(tool("Axe T2", ToolProfile.ToolType.AXE, 2, 80));
+        items.add(tool("Pickaxe T4", ToolProfile.ToolType.PICKAXE, 4, 10));
+        // Items without some or all of the stats
+        items.add(wynnItem("Amplifier II", new AmplifierItem(2)));
+        items.add(named("Stone"));
+    }
+
+    @Test
+    public void filters_matchFilterAndSort() {
+        assertSameResults("");
+        assertSameResults("tier:2");
+        assertSameResults("tier:2-3");
+        assertSameResults("tier:1,4");
+        assertSameResults("tier:>=2 durability:<50");
+        assertSameResults("lvl:>10");
+        assertSameResults("pickaxe");
+        assertSameResults("axe tier:2");
+    }
+
+    @Test
+    public void sorts_keepTiesInOrder() {
+        assertSameResults("sort:tier");
+        assertSameResults("sort:^tier");
+        assertSameResults("sort:durability");
+        assertSameResults("tier:2-3 sort:^durability");
+    }
+
+    @Test
+    public void multiSort_matchesFilterAndSort() {
+        assertSameResults("sort:tier,durability");
+        assertSameResults("sort:^tier,^durability");
+        assertSameResults("sort:durability,^lvl");
+        assertSameResults("pickaxe sort:^durability,tier");
+    }
+
+    private static void assertSameResults(String queryString) {
+        ItemSearchQuery searchQuery =
+                itemFilterService.createSearchQuery(queryString, true, List.of(ItemProviderType.values()));
+        Assertions.assertTrue(searchQuery.errors().isEmpty(), "Query \"" + queryString + "\" has errors");
+
+        // A new index for each query, so every query also builds its columns
+        List<ItemStack> expected =
+                itemFilterService.filterAndSort(searchQuery, items, TestItemStatIndex::getWynnItem);
+        List<ItemStack> actual =
+                new ItemStatIndex<>(items, TestItemStatIndex::getWynnItem).filterAndSort(searchQuery);
+
+        Assertions.assertEquals(
+                names(expected), names(actual), "Index results differ from filterAndSort for \"" + queryString + "\"");
+    }
+
+    private static ItemStack tool(String name, ToolProfile.ToolType toolType, int tier, int durability) {
+        return wynnItem(
+                name, new GatheringToolItem(new ToolProfile(toolType, tier), new CappedValue(durability, 100)));
+    }
+
+    private static ItemStack wynnItem(String name, WynnItem wynnItem) {
+        ItemStack itemStack = named(name);
+        wynnItems.put(itemStack, wynnItem);
+        return itemStack;
+    }
+
+    private static Optional<WynnItem> getWynnItem(ItemStack itemStack) {
+        return Optional.ofNullable(wynnItems.get(itemStack));
+    }
+
+    private static ItemStack named(String name) {
+        ItemStack itemStack = new ItemStack(Items.STONE);
+        itemStack.set(DataComponents.CUSTOM_NAME, Component.literal(name));
+        return itemStack;
+    }
+
+    private static List<String> names(List<ItemStack> itemStacks) {
+        return itemStacks.stream().map(itemStack -> itemStack.getHoverName().getString()).toList();
+    }
+}
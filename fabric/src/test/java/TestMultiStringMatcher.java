@@ -0,0 +1,34 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.utils.type.MultiStringMatcher;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestMultiStringMatcher {
+    @Test
+    public void findAll_findsOverlappingStrings() {
+        MultiStringMatcher matcher = new MultiStringMatcher(List.of("he", "she", "his", "hers"));
+
+        BitSet found = matcher.findAll("ushers");
+
+        Assertions.assertEquals(BitSet.valueOf(new long[] {0b1011}), found, "findAll() did not find he, she and hers");
+    }
+
+    @Test
+    public void findAll_followsFailureLinks() {
+        MultiStringMatcher matcher =
+                new MultiStringMatcher(List.of("§4You have", "You have sold", " left the game."));
+
+        Assertions.assertTrue(
+                matcher.findAll("§5Blacksmith: §dYou have sold 2 items").get(1),
+                "findAll() did not find a string starting in the middle of a partial match");
+        Assertions.assertTrue(
+                matcher.findAll("§aFriend left the game.").get(2), "findAll() did not find a string at the end");
+        Assertions.assertTrue(
+                matcher.findAll("§4You hav").isEmpty(), "findAll() found a string that is not in the text");
+    }
+}
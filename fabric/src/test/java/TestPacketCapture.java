@@ -0,0 +1,169 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.services.packetcapture.HeadlessPacketReplay;
+import com.wynntils.services.packetcapture.PacketCaptureReader;
+import com.wynntils.services.packetcapture.PacketCaptureWriter;
+import com.wynntils.services.packetcapture.type.CaptureHeader;
+import com.wynntils.services.packetcapture.type.CapturedPacket;
+import com.wynntils.services.packetcapture.type.ReplayResult;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.ProtocolInfo;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundSetActionBarTextPacket;
+import net.minecraft.network.protocol.game.ClientboundSystemChatPacket;
+import net.minecraft.network.protocol.game.GameProtocols;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPacketCapture {
+    private static final CaptureHeader HEADER = new CaptureHeader(769, "3.0.0", 1_700_000_000_000L);
+
+    @Test
+    public void capture_readsBackPacketsAndTimestamps() throws IOException {
+        byte[] largePacket = new byte[70_000];
+        Arrays.fill(largePacket, (byte) 7);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (PacketCaptureWriter writer = new PacketCaptureWriter(outputStream, HEADER)) {
+            writer.write(HEADER.startTime() + 5, new byte[] {1, 2, 3});
+            writer.write(HEADER.startTime() + 5, new byte[0]);
+            writer.write(HEADER.startTime() + 200_000, largePacket);
+        }
+
+        try (PacketCaptureReader reader =
+                new PacketCaptureReader(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Assertions.assertEquals(HEADER, reader.getHeader(), "The header was not read back");
+
+            CapturedPacket first = reader.next();
+            Assertions.assertEquals(HEADER.startTime() + 5, first.timestamp(), "Wrong timestamp of the first packet");
+            Assertions.assertArrayEquals(new byte[] {1, 2, 3}, first.packetData(), "Wrong data of the first packet");
+
+            CapturedPacket second = reader.next();
+            Assertions.assertEquals(HEADER.startTime() + 5, second.timestamp(), "Wrong timestamp of the empty packet");
+            Assertions.assertEquals(0, second.packetData().length, "The empty packet was not empty");
+
+            CapturedPacket third = reader.next();
+            Assertions.assertEquals(
+                    HEADER.startTime() + 200_000, third.timestamp(), "Wrong timestamp of the large packet");
+            Assertions.assertArrayEquals(largePacket, third.packetData(), "Wrong data of the large packet");
+
+            Assertions.assertNull(reader.next(), "Expected the end of the capture");
+        }
+    }
+
+    @Test
+    public void truncatedCapture_endsAtLastCompletePacket() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (PacketCaptureWriter writer = new PacketCaptureWriter(outputStream, HEADER)) {
+            writer.write(HEADER.startTime() + 10, new byte[] {1, 2, 3});
+            writer.write(HEADER.startTime() + 20, new byte[] {4, 5, 6, 7, 8});
+        }
+
+        byte[] bytes = outputStream.toByteArray();
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 2);
+
+        try (PacketCaptureReader reader = new PacketCaptureReader(new ByteArrayInputStream(truncated))) {
+            Assertions.assertNotNull(reader.next(), "The complete packet was not read");
+            Assertions.assertNull(reader.next(), "The cut off packet should end the capture");
+        }
+    }
+
+    @Test
+    public void headlessReplay_simulatesTicksDeterministically() throws IOException {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        RegistryAccess registryAccess = RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY);
+        ProtocolInfo<ClientGamePacketListener> protocolInfo =
+                GameProtocols.CLIENTBOUND_TEMPLATE.bind(RegistryFriendlyByteBuf.decorator(registryAccess));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (PacketCaptureWriter writer = new PacketCaptureWriter(outputStream, HEADER)) {
+            writer.write(
+                    HEADER.startTime() + 10,
+                    encode(protocolInfo, new ClientboundSystemChatPacket(Component.literal("First"), false)));
+            writer.write(
+                    HEADER.startTime() + 120,
+                    encode(protocolInfo, new ClientboundSetActionBarTextPacket(Component.literal("Second"))));
+            // A packet id without its end, which can not be decoded
+            writer.write(HEADER.startTime() + 1_000, new byte[] {-1});
+            writer.write(
+                    HEADER.startTime() + 1_010,
+                    encode(protocolInfo, new ClientboundSystemChatPacket(Component.literal("Third"), false)));
+        }
+
+        HeadlessPacketReplay replay;
+        try (PacketCaptureReader reader =
+                new PacketCaptureReader(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            replay = new HeadlessPacketReplay(reader, registryAccess);
+        }
+
+        List<String> expected = new ArrayList<>();
+        expected.add("First");
+        expected.addAll(Collections.nCopies(2, "tick"));
+        expected.add("Second");
+        expected.addAll(Collections.nCopies(18, "tick"));
+        expected.add("Third");
+
+        // Every replay of the same capture must see the same packets in the same ticks
+        for (int i = 0; i < 2; i++) {
+            List<String> replayed = new ArrayList<>();
+            ReplayResult result = replay.replay(packet -> replayed.add(getText(packet)), () -> replayed.add("tick"));
+
+            Assertions.assertEquals(expected, replayed, "Packets and ticks were replayed in the wrong order");
+            Assertions.assertEquals(3, result.replayedCount(), "Wrong number of replayed packets");
+            Assertions.assertEquals(1, result.failures().size(), "The broken packet should have failed");
+            Assertions.assertEquals(20, result.tickCount(), "Wrong number of simulated ticks");
+        }
+    }
+
+    @Test
+    public void otherFile_isRejected() {
+        byte[] bytes = "{\"not\": \"a capture\"}".getBytes();
+
+        Assertions.assertThrows(
+                IOException.class,
+                () -> new PacketCaptureReader(new ByteArrayInputStream(bytes)),
+                "A file that is not a capture was accepted");
+    }
+
+    private static byte[] encode(
+            ProtocolInfo<ClientGamePacketListener> protocolInfo, Packet<? super ClientGamePacketListener> packet) {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            protocolInfo.codec().encode(buf, packet);
+            return ByteBufUtil.getBytes(buf);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static String getText(Packet<?> packet) {
+        if (packet instanceof ClientboundSystemChatPacket chatPacket) {
+            return chatPacket.content().getString();
+        }
+        if (packet instanceof ClientboundSetActionBarTextPacket actionBarPacket) {
+            return actionBarPacket.text().getString();
+        }
+
+        return packet.getClass().getSimpleName();
+    }
+}
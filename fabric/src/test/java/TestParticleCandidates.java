@@ -0,0 +1,157 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.handlers.particle.ParticleCandidates;
+import com.wynntils.handlers.particle.type.Particle;
+import com.wynntils.handlers.particle.type.ParticleType;
+import com.wynntils.models.lootrun.particle.LootrunTaskParticleVerifier;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestParticleCandidates {
+    private static final int EXPIRY_TICKS = 20;
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    @Test
+    public void lootrunTask_fullCircle() {
+        List<RecordedParticle> stream = new ArrayList<>();
+        addNoise(stream, 0);
+        addLootrunCircle(stream, 120.5, 64, -340, 1);
+        addNoise(stream, 2);
+
+        Assertions.assertEquals(
+                List.of(lootrunTask(120.5, 64, -340)), replay(stream), "Full lootrun task circle was not verified");
+    }
+
+    @Test
+    public void lootrunTask_particleLimit() {
+        List<RecordedParticle> stream = new ArrayList<>();
+        stream.add(new RecordedParticle(ParticleTypes.FIREWORK, 125.5, 64, -340, 0));
+        stream.add(new RecordedParticle(ParticleTypes.FIREWORK, 115.5, 64, -340, 0));
+
+        Assertions.assertEquals(
+                List.of(lootrunTask(120.5, 64, -340)),
+                replay(stream),
+                "Lootrun task circle cut off by the particle limit was not verified");
+    }
+
+    @Test
+    public void lootrunTask_interleavedCircles() {
+        List<RecordedParticle> first = new ArrayList<>();
+        addLootrunCircle(first, 120.5, 64, -340, 0);
+        List<RecordedParticle> second = new ArrayList<>();
+        addLootrunCircle(second, -50, 70, 12.5, 0);
+
+        List<RecordedParticle> stream = new ArrayList<>();
+        for (int i = 0; i < first.size(); i++) {
+            stream.add(first.get(i));
+            stream.add(second.get(i));
+        }
+
+        Assertions.assertEquals(
+                List.of(lootrunTask(120.5, 64, -340), lootrunTask(-50, 70, 12.5)),
+                replay(stream),
+                "Lootrun task circles received at the same time were not both verified");
+    }
+
+    @Test
+    public void lootrunTask_staleCandidateExpires() {
+        List<RecordedParticle> circle = new ArrayList<>();
+        addLootrunCircle(circle, 120.5, 64, -340, 0);
+
+        // The second half of the circle arrives long after the first, so it is not part of the same shape
+        List<RecordedParticle> stream = new ArrayList<>(circle.subList(0, 10));
+        for (RecordedParticle particle : circle.subList(10, 20)) {
+            stream.add(new RecordedParticle(particle.effect(), particle.x(), particle.y(), particle.z(), 40));
+        }
+
+        Assertions.assertEquals(List.of(), replay(stream), "Incomplete lootrun task circle was verified");
+    }
+
+    @Test
+    public void lootrunTask_imprecisePositions() {
+        List<RecordedParticle> stream = new ArrayList<>();
+        addLootrunCircle(stream, 120.3, 64, -340, 0);
+
+        Assertions.assertEquals(List.of(), replay(stream), "Lootrun task circle off the block grid was verified");
+    }
+
+    private static List<Particle> replay(List<RecordedParticle> stream) {
+        ParticleCandidates candidates = new ParticleCandidates();
+        candidates.registerVerifier(ParticleType.LOOTRUN_TASK, new LootrunTaskParticleVerifier());
+
+        List<Particle> verified = new ArrayList<>();
+        long tick = 0;
+        for (RecordedParticle particle : stream) {
+            while (tick < particle.tick()) {
+                tick++;
+                candidates.expire(tick - EXPIRY_TICKS);
+            }
+
+            candidates.addParticle(particle.effect(), particle.x(), particle.y(), particle.z(), tick, verified::add);
+        }
+
+        return verified;
+    }
+
+    // The circle is sent starting from the right particle, going around through the top, left and bottom particles
+    private static void addLootrunCircle(List<RecordedParticle> stream, double x, double y, double z, long tick) {
+        for (int i = 0; i < 20; i++) {
+            double offsetX;
+            double offsetZ;
+            switch (i) {
+                case 0 -> {
+                    offsetX = 5;
+                    offsetZ = 0;
+                }
+                case 5 -> {
+                    offsetX = 0;
+                    offsetZ = -5;
+                }
+                case 10 -> {
+                    offsetX = -5;
+                    offsetZ = 0;
+                }
+                case 15 -> {
+                    offsetX = 0;
+                    offsetZ = 5;
+                }
+                default -> {
+                    double angle = Math.toRadians(i * 18);
+                    offsetX = 5 * Math.cos(angle);
+                    offsetZ = -5 * Math.sin(angle);
+                }
+            }
+
+            stream.add(new RecordedParticle(ParticleTypes.FIREWORK, x + offsetX, y, z + offsetZ, tick));
+        }
+    }
+
+    // Spell and beacon particles, which are not part of any shape
+    private static void addNoise(List<RecordedParticle> stream, long tick) {
+        for (int i = 0; i < 50; i++) {
+            stream.add(new RecordedParticle(ParticleTypes.FLAME, 120 + i * 0.37, 65, -340 + i * 0.21, tick));
+            stream.add(new RecordedParticle(ParticleTypes.FIREWORK, 300 + i * 0.37, 65, 80 + i * 0.21, tick));
+        }
+    }
+
+    private static Particle lootrunTask(double x, double y, double z) {
+        return new Particle(new Vec3(x, y, z), ParticleType.LOOTRUN_TASK);
+    }
+
+    private record RecordedParticle(ParticleOptions effect, double x, double y, double z, long tick) {}
+}
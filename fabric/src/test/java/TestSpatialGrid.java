@@ -0,0 +1,56 @@
+/*
+ * Copyright © Wynntils 2026.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.utils.type.BoundingBox;
+import com.wynntils.utils.type.SpatialGrid;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestSpatialGrid {
+    @Test
+    public void query_returnsOnlyNearbyItemsInInsertionOrder() {
+        SpatialGrid<String> grid = new SpatialGrid<>(128);
+        grid.add("far", 5000, 5000);
+        grid.add("first", 10, 10);
+        grid.add("negative", -10, -300);
+        grid.add("second", 100, 20);
+
+        List<String> result = grid.query(new BoundingBox(0, 0, 120, 120));
+
+        Assertions.assertEquals(List.of("first", "second"), result, "query() did not return the nearby items");
+    }
+
+    @Test
+    public void query_returnsRegionsOnce() {
+        SpatialGrid<String> grid = new SpatialGrid<>(16);
+        grid.add("area", -100, -100, 100, 100);
+        grid.add("point", 0, 0);
+
+        Assertions.assertEquals(
+                List.of("area", "point"),
+                grid.query(new BoundingBox(-50, -50, 50, 50)),
+                "query() did not return the overlapping region exactly once");
+        Assertions.assertEquals(
+                List.of("area"),
+                grid.query(new BoundingBox(90, 90, 95, 95)),
+                "query() did not return the region overlapping the corner");
+    }
+
+    @Test
+    public void query_largeAreaVisitsOccupiedCells() {
+        SpatialGrid<String> grid = new SpatialGrid<>(128);
+        grid.add("west", -4000, 0);
+        grid.add("east", 4000, 0);
+
+        Assertions.assertEquals(
+                List.of("west", "east"),
+                grid.query(new BoundingBox(-10000, -10000, 10000, 10000)),
+                "query() did not return all items when zoomed out");
+        Assertions.assertEquals(
+                List.of("east"),
+                grid.query(new BoundingBox(0, -10000, 10000, 10000)),
+                "query() did not filter occupied cells by the queried area");
+    }
+}
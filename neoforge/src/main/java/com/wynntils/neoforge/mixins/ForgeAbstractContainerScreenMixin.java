@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2026.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.neoforge.mixins;
@@ -30,6 +30,8 @@ public abstract class ForgeAbstractContainerScreenMixin {
             remap = false)
     private void renderSlotPreCount(
             GuiGraphics guiGraphics, ItemStack itemstack, Slot slot, String countString, CallbackInfo ci) {
+        if (!MixinHelper.hasListeners(SlotRenderEvent.CountPre.class)) return;
+
         MixinHelper.post(new SlotRenderEvent.CountPre(guiGraphics, (Screen) (Object) this, slot));
     }
 }